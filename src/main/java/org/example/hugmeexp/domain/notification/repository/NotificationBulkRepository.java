@@ -0,0 +1,35 @@
+package org.example.hugmeexp.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.hugmeexp.domain.notification.enums.NotificationType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 다수의 유저에게 같은 알림을 한 번에 저장 (IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, type, content, is_read, target_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, false, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<Long> userIds, NotificationType type, String content, Long targetId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, type.name());
+            ps.setString(3, content);
+            ps.setLong(4, targetId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -8,15 +8,20 @@ import org.example.hugmeexp.domain.notification.entity.Notification;
 import org.example.hugmeexp.domain.notification.enums.NotificationType;
 import org.example.hugmeexp.domain.notification.exception.ForbiddenNotificationAccessException;
 import org.example.hugmeexp.domain.notification.exception.NotificationNotFoundException;
+import org.example.hugmeexp.domain.notification.repository.NotificationBulkRepository;
 import org.example.hugmeexp.domain.notification.repository.NotificationRepository;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.global.common.sse.SseService;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
 import org.example.hugmeexp.global.security.CustomUserDetails;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,6 +30,7 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
     private final SseService sseService;
 
     // 칭찬을 받았을 때 알림을 생성하고 SSE로 전송
@@ -34,6 +40,27 @@ public class NotificationService {
         createAndSend(user, NotificationType.PRAISE_RECEIVED, content, praiseId);
     }
 
+    // 여러 명이 칭찬을 받았을 때 알림을 한 번에 저장하고, 커밋 후 SSE로 비동기 전송
+    @Transactional
+    public void sendPraiseNotifications(List<User> users, Long praiseId) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        String content = NotificationType.PRAISE_RECEIVED.getDescription();
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        notificationBulkRepository.saveAll(userIds, NotificationType.PRAISE_RECEIVED, content, praiseId);
+
+        // 저장된 알림 ID 를 포함해서 전송하기 위해 한 번에 다시 조회
+        List<Notification> saved = notificationRepository.findByTargetIdAndType(praiseId, NotificationType.PRAISE_RECEIVED);
+        Map<Long, NotificationResponseDTO> messages = saved.stream()
+                .collect(Collectors.toMap(notification -> notification.getUser().getId(), NotificationResponseDTO::from,
+                        (first, second) -> second, LinkedHashMap::new));
+
+        // 받는 사람이 많아도 요청 스레드는 전송을 기다리지 않음
+        TransactionUtils.runAfterCommit(() -> sseService.sendNotifications(messages));
+    }
+
     // 배움일기에 댓글이 달렸을 때 알림을 생성하고 SSE로 전송
     @Transactional
     public void sendDiaryCommentNotification(User user, String diaryTitle, Long targetId) {
@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionRequestDTO;
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorPageResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorRequestDTO;
 import org.example.hugmeexp.domain.praise.service.CommentEmojiReactionService;
 import org.example.hugmeexp.global.common.response.Response;
 import org.example.hugmeexp.global.security.CustomUserDetails;
@@ -63,4 +65,26 @@ public class CommentEmojiReactionController {
 
         return ResponseEntity.ok(response);
     }
+
+    /* 댓글 이모지 반응자 목록 조회 */
+    // /api/v1/praises/{praiseId}/comments/{commentId}/reactions?emoji=OO&size=20&cursorId=...
+    @Operation(summary = "칭찬게시물의 댓글 이모지 반응자 목록 조회", description = "댓글에 특정 이모지로 반응한 유저를 먼저 반응한 순으로 조회합니다. 다음 페이지는 응답의 nextCursorId 를 전달합니다")
+    @GetMapping("/{praiseId}/comments/{commentId}/reactions")
+    public ResponseEntity<Response<PraiseReactorPageResponseDTO>> getCommentReactors(
+            @PathVariable Long praiseId,
+            @PathVariable Long commentId,
+            @Valid @ModelAttribute PraiseReactorRequestDTO praiseReactorRequestDTO){
+
+        log.info("댓글 반응자 목록 조회 요청 : praiseId={}, commentId={}, emoji={}, cursorId={}",
+                praiseId, commentId, praiseReactorRequestDTO.getEmoji(), praiseReactorRequestDTO.getCursorId());
+
+        PraiseReactorPageResponseDTO reactors = commentEmojiReactionService.getCommentReactors(praiseId, commentId, praiseReactorRequestDTO);
+
+        Response<PraiseReactorPageResponseDTO> response = Response.<PraiseReactorPageResponseDTO>builder()
+                .message("댓글 반응자 목록 조회 성공")
+                .data(reactors)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -6,15 +6,20 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.hugmeexp.domain.praise.dto.*;
+import org.example.hugmeexp.domain.praise.enums.PraiseStatPeriod;
 import org.example.hugmeexp.domain.praise.service.PraiseService;
 import org.example.hugmeexp.global.common.response.Response;
+import org.example.hugmeexp.global.common.sse.SseService;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.global.security.CustomUserDetails;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,6 +32,7 @@ import java.util.List;
 public class PraiseController {
 
     private final PraiseService praiseService;
+    private final SseService sseService;
 
     /* 칭찬 생성 */
     @Operation(summary = "칭찬 생성", description = "새로운 칭찬을 생성합니다")
@@ -53,6 +59,29 @@ public class PraiseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /* 미션 그룹 전체 칭찬 생성 */
+    @Operation(summary = "미션 그룹 전체 칭찬 생성", description = "미션 그룹에 속한 모든 유저에게 칭찬을 생성합니다")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('LECTURER')")
+    @PostMapping("/mission-groups/{missionGroupId}")
+    public ResponseEntity<Response<PraiseResponseDTO>> createMissionGroupPraise(
+            @PathVariable Long missionGroupId,
+            @RequestBody @Valid PraiseMissionGroupRequestDTO praiseMissionGroupRequestDTO,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        log.info("Mission group praise creation request - missionGroupId: {}, request: {}", missionGroupId, praiseMissionGroupRequestDTO);
+
+        PraiseResponseDTO result = praiseService.createMissionGroupPraise(missionGroupId, praiseMissionGroupRequestDTO, userDetails.getUser());
+
+        log.info("Mission group praise saved successfully - praiseId: {}, receivers: {}", result.getId(), result.getReceivers().size());
+
+        Response<PraiseResponseDTO> response = Response.<PraiseResponseDTO>builder()
+                .message("작성 완료")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /* 기본 - 날짜 조회 / ME / keyword */
     // /api/v1/praises/search?startDate=OOOO-OO-OO&endDate=OOOO-OO-OO
     @Operation(summary = "날짜 기준 칭찬 게시물 조회", description = "날짜, 로그인 유저 여부(me), 키워드(keyword)로 칭찬을 조회합니다")
@@ -100,6 +129,51 @@ public class PraiseController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /* 칭찬 피드 - 커서 기반 페이지 조회 */
+    // /api/v1/praises/feed?startDate=OOOO-OO-OO&endDate=OOOO-OO-OO&size=20&cursorCreatedAt=...&cursorId=...
+    @Operation(summary = "칭찬 피드 조회", description = "날짜, me, keyword 조건으로 칭찬을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursorCreatedAt, nextCursorId 를 전달합니다")
+    @GetMapping("/feed")
+    public ResponseEntity<Response<PraiseFeedResponseDTO>> getPraiseFeed(
+            @Valid @ModelAttribute PraiseFeedRequestDTO praiseFeedRequestDTO,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        LocalDate startDate = praiseFeedRequestDTO.getStartDate();
+        LocalDate endDate = praiseFeedRequestDTO.getEndDate();
+
+        log.info("Received praise feed request: startDate={}, endDate={}, cursorCreatedAt={}, cursorId={}",
+                startDate, endDate, praiseFeedRequestDTO.getCursorCreatedAt(), praiseFeedRequestDTO.getCursorId());
+
+        if (startDate.isAfter(endDate)) {
+            log.warn("Invalid date range in praise feed: startDate={} is after endDate={}", startDate, endDate);
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Response.<PraiseFeedResponseDTO>builder()
+                            .message("startDate 은 endDate 보다 이후일 수 없습니다.")
+                            .data(PraiseFeedResponseDTO.of(List.of(), false))
+                            .build());
+        }
+
+        PraiseFeedResponseDTO result = praiseService.getPraiseFeed(praiseFeedRequestDTO, userDetails.getUser());
+
+        log.info("Praise feed page size: {}, hasNext: {}", result.getPraises().size(), result.isHasNext());
+
+        Response<PraiseFeedResponseDTO> response = Response.<PraiseFeedResponseDTO>builder()
+                .message("칭찬 피드 조회 성공")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /* 칭찬 피드 실시간 구독 - 새 칭찬 / 반응 / 댓글 변경분을 SSE 로 전송 */
+    @Operation(summary = "칭찬 피드 실시간 구독", description = "칭찬 생성, 게시물 반응, 댓글 변경분을 praiseFeed 이벤트로 받습니다")
+    @GetMapping(value = "/feed/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePraiseFeed(@AuthenticationPrincipal CustomUserDetails userDetails){
+
+        log.info("Praise feed SSE subscribe request: userId={}", userDetails.getUser().getId());
+        return sseService.subscribePraiseFeed(userDetails.getUser().getId());
+    }
+
     /* 칭찬 반응 좋은 칭찬글 */
     @Operation(summary = "반응 좋은 칭찬 글 조회", description = "반응 수 기준으로 상위 5개 칭찬 글 조회합니다 ")
     @GetMapping("/popular")
@@ -132,17 +206,18 @@ public class PraiseController {
     }
 
 
-    /* 칭찬 칭찬 비율(한달동안 받은 칭찬 종류 각각 비율) */
-    @Operation(summary = "한 달간 받은 칭찬 비율 조회", description = "로그인된 사용자가 한 달 동안 받은 칭찬을 타입별로 비율 계산합니다 ")
+    /* 칭찬 칭찬 비율(기간 동안 받은 칭찬 종류 각각 비율, 기본 한 달) */
+    @Operation(summary = "기간별 받은 칭찬 비율 조회", description = "로그인된 사용자가 기간(WEEK, MONTH, YEAR) 동안 받은 칭찬을 타입별로 비율 계산합니다. 기본값은 MONTH 입니다 ")
     @GetMapping("/me/ratio")
     public ResponseEntity<Response<List<PraiseRatioResponseDTO>>> getPraiseRatio(
+            @RequestParam(defaultValue = "MONTH") PraiseStatPeriod period,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
-        log.debug("Received praise ratio request - username : {}", userDetails.getUser().getUsername());
+        log.debug("Received praise ratio request - username : {}, period : {}", userDetails.getUser().getUsername(), period);
 
         Long userId = userDetails.getUser().getId();
 
-        List<PraiseRatioResponseDTO> praiseRatio = praiseService.getPraiseRatioForLastMonth(userId);
+        List<PraiseRatioResponseDTO> praiseRatio = praiseService.getPraiseRatio(userId, period);
 
         log.info("Praise ratio result count: {}", praiseRatio.size());
 
@@ -191,4 +266,25 @@ public class PraiseController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /* 칭찬 이모지 반응자 목록 조회 */
+    // /api/v1/praises/{praiseId}/reactions?emoji=OO&size=20&cursorId=...
+    @Operation(summary = "칭찬 이모지 반응자 목록 조회", description = "칭찬 게시물에 특정 이모지로 반응한 유저를 먼저 반응한 순으로 조회합니다. 다음 페이지는 응답의 nextCursorId 를 전달합니다")
+    @GetMapping("/{praiseId}/reactions")
+    public ResponseEntity<Response<PraiseReactorPageResponseDTO>> getPraiseReactors(
+            @PathVariable Long praiseId,
+            @Valid @ModelAttribute PraiseReactorRequestDTO praiseReactorRequestDTO
+    ){
+        log.info("Received request for praise reactors: praiseId={}, emoji={}, cursorId={}",
+                praiseId, praiseReactorRequestDTO.getEmoji(), praiseReactorRequestDTO.getCursorId());
+
+        PraiseReactorPageResponseDTO reactors = praiseService.getPraiseReactors(praiseId, praiseReactorRequestDTO);
+
+        Response<PraiseReactorPageResponseDTO> response = Response.<PraiseReactorPageResponseDTO>builder()
+                .message("반응자 목록 조회 성공")
+                .data(reactors)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
 }
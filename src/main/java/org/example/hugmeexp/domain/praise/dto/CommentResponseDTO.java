@@ -8,6 +8,7 @@ import org.example.hugmeexp.domain.praise.entity.PraiseComment;
 import org.example.hugmeexp.domain.user.entity.User;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,10 +23,20 @@ public class CommentResponseDTO {
     private String commentProfile;
     private String commenterUsername;
     private String content;    // 댓글 내용
-    private Map<String, List<ReactionUserDTO>> emojiReactions;    // 이모지별 반응 수
+    private Map<String, List<ReactionUserDTO>> emojiReactions;    // 이모지별 반응한 유저 (일부)
+    private Map<String, Long> emojiReactionCounts;    // 이모지별 반응 수
     private LocalDateTime createdAt;    // 작성 시간
 
     public static CommentResponseDTO from(PraiseComment comment, Map<String, List<ReactionUserDTO>> emojiReactions){
+        Map<String, Long> emojiReactionCounts = new LinkedHashMap<>();
+        emojiReactions.forEach((emoji, users) -> emojiReactionCounts.put(emoji, (long) users.size()));
+        return from(comment, emojiReactions, emojiReactionCounts);
+    }
+
+    // 이모지별 반응자는 일부만, 반응 수는 전체 개수로 생성
+    public static CommentResponseDTO from(PraiseComment comment,
+                                          Map<String, List<ReactionUserDTO>> emojiReactions,
+                                          Map<String, Long> emojiReactionCounts){
 
         User commenter = comment.getCommentWriter();
         String profileImage = commenter.getPublicProfileImageUrl();
@@ -37,6 +48,7 @@ public class CommentResponseDTO {
                 .commenterUsername(commenter.getUsername())
                 .content(comment.getContent())
                 .emojiReactions(emojiReactions)
+                .emojiReactionCounts(emojiReactionCounts)
                 .createdAt(comment.getCreatedAt())
                 .build();
     }
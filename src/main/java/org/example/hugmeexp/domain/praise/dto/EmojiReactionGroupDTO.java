@@ -27,4 +27,22 @@ public class EmojiReactionGroupDTO {
                 .reactedBy(reactedBy)
                 .build();
     }
+
+    // 집계 쿼리로 미리 묶어둔 반응자 목록으로 생성
+    public static EmojiReactionGroupDTO of(String emoji, List<ReactionUserDTO> reactedBy){
+        return EmojiReactionGroupDTO.builder()
+                .emoji(emoji)
+                .count(reactedBy.size())
+                .reactedBy(reactedBy)
+                .build();
+    }
+
+    // 전체 반응 수 + 일부 반응자만으로 생성 (전체 반응자는 별도 페이지 조회)
+    public static EmojiReactionGroupDTO of(String emoji, long count, List<ReactionUserDTO> reactedBySample){
+        return EmojiReactionGroupDTO.builder()
+                .emoji(emoji)
+                .count((int) count)
+                .reactedBy(reactedBySample)
+                .build();
+    }
 }
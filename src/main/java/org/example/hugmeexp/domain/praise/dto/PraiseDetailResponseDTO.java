@@ -33,7 +33,8 @@ public class PraiseDetailResponseDTO {
                                                List<PraiseReceiver> receivers,
                                                List<PraiseComment> commentList,
                                                List<EmojiReactionGroupDTO> emojiReactions,
-                                               Map<Long, Map<String,List<ReactionUserDTO>>> commentEmojiMap){
+                                               Map<Long, Map<String,List<ReactionUserDTO>>> commentEmojiMap,
+                                               Map<Long, Map<String,Long>> commentEmojiCountMap){
 
         List<ReceiverResponseDTO> receiverDTO = receivers.stream()
                 .map(ReceiverResponseDTO::from)
@@ -41,7 +42,8 @@ public class PraiseDetailResponseDTO {
 
         List<CommentResponseDTO> commentResponse = commentList.stream()
                 .map(comment -> {Map<String,List<ReactionUserDTO>> emojiMap  = commentEmojiMap.getOrDefault(comment.getId(),Map.of());
-            return CommentResponseDTO.from(comment, emojiMap);
+            Map<String,Long> emojiCountMap = commentEmojiCountMap.getOrDefault(comment.getId(),Map.of());
+            return CommentResponseDTO.from(comment, emojiMap, emojiCountMap);
         }).toList();
 
 
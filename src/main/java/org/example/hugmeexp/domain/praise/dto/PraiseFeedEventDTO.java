@@ -0,0 +1,63 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.hugmeexp.domain.praise.enums.PraiseFeedEventType;
+
+/* 칭찬 피드 변경분 이벤트 - 클라이언트는 받은 변경분만 화면에 반영 (전체 목록 재조회 없음) */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PraiseFeedEventDTO {
+
+    private PraiseFeedEventType type;    // 이벤트 종류
+    private Long praiseId;    // 변경된 칭찬 ID
+    private PraiseResponseDTO praise;    // 새로 생성된 칭찬 (PRAISE_CREATED 만)
+    private String emoji;    // 반응 이모지 (REACTION_*, COMMENT_REACTION_* 만)
+    private ReactionUserDTO reactor;    // 반응한 유저 (REACTION_*, COMMENT_REACTION_* 만)
+    private Long commentId;    // 댓글 ID (COMMENT_*, COMMENT_REACTION_* 만)
+    private int delta;    // 반응 수 / 댓글 수 변화량
+
+    public static PraiseFeedEventDTO praiseCreated(PraiseResponseDTO praise) {
+        return PraiseFeedEventDTO.builder()
+                .type(PraiseFeedEventType.PRAISE_CREATED)
+                .praiseId(praise.getId())
+                .praise(praise)
+                .build();
+    }
+
+    public static PraiseFeedEventDTO reactionChanged(Long praiseId, String emoji, ReactionUserDTO reactor, boolean added) {
+        return PraiseFeedEventDTO.builder()
+                .type(added ? PraiseFeedEventType.REACTION_ADDED : PraiseFeedEventType.REACTION_REMOVED)
+                .praiseId(praiseId)
+                .emoji(emoji)
+                .reactor(reactor)
+                .delta(added ? 1 : -1)
+                .build();
+    }
+
+    public static PraiseFeedEventDTO commentReactionChanged(Long praiseId, Long commentId, String emoji, ReactionUserDTO reactor, boolean added) {
+        return PraiseFeedEventDTO.builder()
+                .type(added ? PraiseFeedEventType.COMMENT_REACTION_ADDED : PraiseFeedEventType.COMMENT_REACTION_REMOVED)
+                .praiseId(praiseId)
+                .commentId(commentId)
+                .emoji(emoji)
+                .reactor(reactor)
+                .delta(added ? 1 : -1)
+                .build();
+    }
+
+    public static PraiseFeedEventDTO commentChanged(Long praiseId, Long commentId, boolean added) {
+        return PraiseFeedEventDTO.builder()
+                .type(added ? PraiseFeedEventType.COMMENT_ADDED : PraiseFeedEventType.COMMENT_REMOVED)
+                .praiseId(praiseId)
+                .commentId(commentId)
+                .delta(added ? 1 : -1)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PraiseFeedRequestDTO {
+
+    @NotNull(message = "startDate 는 필수 입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @NotNull(message = "endDate 는 필수 입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private boolean me;
+
+    private String keyword;
+
+    // 이전 페이지 마지막 칭찬의 작성 시간 (첫 페이지는 비워서 요청)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorCreatedAt;
+
+    // 이전 페이지 마지막 칭찬의 ID (첫 페이지는 비워서 요청)
+    private Long cursorId;
+
+    @Builder.Default
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "size 는 50 이하여야 합니다.")
+    private int size = 20;
+}
@@ -0,0 +1,34 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PraiseFeedResponseDTO {
+
+    private List<PraiseResponseDTO> praises;    // 칭찬 목록 (최신순)
+    private boolean hasNext;    // 다음 페이지 존재 여부
+    private LocalDateTime nextCursorCreatedAt;    // 다음 페이지 요청 시 보낼 cursorCreatedAt
+    private Long nextCursorId;    // 다음 페이지 요청 시 보낼 cursorId
+
+    public static PraiseFeedResponseDTO of(List<PraiseResponseDTO> praises, boolean hasNext) {
+
+        // 다음 커서는 현재 페이지의 마지막 칭찬
+        PraiseResponseDTO last = praises.isEmpty() ? null : praises.get(praises.size() - 1);
+
+        return PraiseFeedResponseDTO.builder()
+                .praises(praises)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext && last != null ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext && last != null ? last.getId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+
+@Data
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PraiseMissionGroupRequestDTO {
+
+    @NotBlank(message = "칭찬 내용은 필수입니다.")
+    private String content;    // 칭찬 내용
+    @NotNull(message = "칭찬 타입은 필수입니다.")
+    private PraiseType type;    // 칭찬 타입
+
+}
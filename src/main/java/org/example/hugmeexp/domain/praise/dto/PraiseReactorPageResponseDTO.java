@@ -0,0 +1,33 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PraiseReactorPageResponseDTO {
+
+    private String emoji;    // 이모지
+    private List<ReactionUserDTO> reactedBy;    // 반응한 유저 목록 (먼저 반응한 순)
+    private boolean hasNext;    // 다음 페이지 존재 여부
+    private Long nextCursorId;    // 다음 페이지 요청 시 보낼 cursorId
+
+    public static PraiseReactorPageResponseDTO of(String emoji, List<ReactionUserDTO> reactedBy, boolean hasNext) {
+
+        // 다음 커서는 현재 페이지의 마지막 반응
+        ReactionUserDTO last = reactedBy.isEmpty() ? null : reactedBy.get(reactedBy.size() - 1);
+
+        return PraiseReactorPageResponseDTO.builder()
+                .emoji(emoji)
+                .reactedBy(reactedBy)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext && last != null ? last.getId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.hugmeexp.domain.praise.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@Data
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PraiseReactorRequestDTO {
+
+    @NotBlank(message = "emoji 는 필수 입니다.")
+    private String emoji;
+
+    // 이전 페이지 마지막 반응의 ID (첫 페이지는 비워서 요청)
+    private Long cursorId;
+
+    @Builder.Default
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "size 는 100 이하여야 합니다.")
+    private int size = 20;
+}
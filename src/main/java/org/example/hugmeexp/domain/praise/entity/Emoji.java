@@ -0,0 +1,28 @@
+package org.example.hugmeexp.domain.praise.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.hugmeexp.global.entity.BaseEntity;
+
+// 이모지 사전 - 정규화한 이모지 시퀀스를 작은 정수 코드로 매핑
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Table(name = "emoji", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_emoji_canonical_key", columnNames = "canonical_key")
+})
+public class Emoji extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer code;    // 이모지 코드 (PK)
+
+    @Column(name = "canonical_key", nullable = false, length = 32)
+    private String canonicalKey;    // Variation Selector 를 제거한 정규화 값
+
+    @Column(nullable = false, length = 32)
+    private String emoji;    // 화면에 보여줄 이모지 (처음 등록된 형태)
+}
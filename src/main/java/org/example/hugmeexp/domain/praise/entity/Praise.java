@@ -12,7 +12,10 @@ import org.example.hugmeexp.domain.user.entity.User;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "praise")
+@Table(name = "praise", indexes = {
+        @Index(name = "idx_praise_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_praise_created_at_reaction_count", columnList = "created_at, reaction_count")
+})
 public class Praise extends BaseEntity {
 
     @Id
@@ -35,4 +38,14 @@ public class Praise extends BaseEntity {
     @Column(name = "praise_type", nullable = false)
     private PraiseType praiseType;    // 칭찬 타입
 
+    // 반응/댓글 작성, 삭제 시 같은 트랜잭션에서 갱신되는 집계 컬럼
+    @Column(name = "reaction_count", nullable = false)
+    private long reactionCount;    // 게시물 이모지 반응 수
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;    // 댓글 수
+
+    @Column(name = "comment_reaction_count", nullable = false)
+    private long commentReactionCount;    // 댓글 이모지 반응 수
+
 }
@@ -0,0 +1,39 @@
+package org.example.hugmeexp.domain.praise.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+
+import java.time.LocalDate;
+
+// 유저가 하루 동안 받은 칭찬 타입별 개수 (칭찬 비율/통계용 집계 테이블)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(name = "praise_daily_stat", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_praise_daily_stat_receiver_date_type", columnNames = {"receiver_id", "stat_date", "praise_type"})
+}, indexes = {
+        @Index(name = "idx_praise_daily_stat_receiver_date", columnList = "receiver_id, stat_date")
+})
+public class PraiseDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;    // PK
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;    // 칭찬 받은 유저 ID
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;    // 집계 날짜
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "praise_type", nullable = false)
+    private PraiseType praiseType;    // 칭찬 타입
+
+    @Column(nullable = false)
+    private long count;    // 받은 칭찬 개수
+
+}
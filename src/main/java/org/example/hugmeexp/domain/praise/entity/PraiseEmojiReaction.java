@@ -2,6 +2,7 @@ package org.example.hugmeexp.domain.praise.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.hugmeexp.domain.praise.util.EmojiUtil;
 import org.example.hugmeexp.global.entity.BaseEntity;
 import org.example.hugmeexp.domain.user.entity.User;
 
@@ -12,7 +13,9 @@ import org.example.hugmeexp.domain.user.entity.User;
 @NoArgsConstructor
 @ToString
 @Builder(toBuilder = true)
-@Table(name = "praise_emoji_reaction")
+@Table(name = "praise_emoji_reaction", indexes = {
+        @Index(name = "idx_praise_emoji_reaction_praise_emoji_code", columnList = "praise_id, emoji_code")
+})
 public class PraiseEmojiReaction extends BaseEntity {
 
     @Id
@@ -27,7 +30,10 @@ public class PraiseEmojiReaction extends BaseEntity {
     @JoinColumn(name = "reaction_writer_id", nullable = false)
     private User reactorWriter;    // 반응한 사람 이름
 
-    @Column(nullable = false, length = 10)
-    private String emoji;    // 이모지 값
+    @Column(nullable = false, length = EmojiUtil.MAX_LENGTH)
+    private String emoji;    // 이모지 값 (요청 원본)
+
+    @Column(name = "emoji_code")
+    private Integer emojiCode;    // 이모지 사전 코드 (조회/그룹핑 기준)
 
 }
@@ -14,7 +14,9 @@ import org.example.hugmeexp.global.entity.BaseEntity;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "praiseReceiver")
+@Table(name = "praiseReceiver", indexes = {
+        @Index(name = "idx_praise_receiver_praise_receiver", columnList = "praise_id, receiver_id")
+})
 public class PraiseReceiver extends BaseEntity {
 
     @Id
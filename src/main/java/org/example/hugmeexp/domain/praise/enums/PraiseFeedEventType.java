@@ -0,0 +1,12 @@
+package org.example.hugmeexp.domain.praise.enums;
+
+// 칭찬 피드 실시간 이벤트 종류
+public enum PraiseFeedEventType {
+    PRAISE_CREATED,    // 칭찬 생성
+    REACTION_ADDED,    // 게시물 이모지 반응 추가
+    REACTION_REMOVED,    // 게시물 이모지 반응 삭제
+    COMMENT_ADDED,    // 댓글 작성
+    COMMENT_REMOVED,    // 댓글 삭제
+    COMMENT_REACTION_ADDED,    // 댓글 이모지 반응 추가
+    COMMENT_REACTION_REMOVED    // 댓글 이모지 반응 삭제
+}
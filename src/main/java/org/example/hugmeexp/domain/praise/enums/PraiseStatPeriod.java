@@ -0,0 +1,28 @@
+package org.example.hugmeexp.domain.praise.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public enum PraiseStatPeriod {
+
+    WEEK("일주일"),
+    MONTH("한 달"),
+    YEAR("일 년");
+
+    private final String label;
+
+    // 기간 시작일 (기준일 포함)
+    public LocalDate startDateFrom(LocalDate today) {
+        return switch (this) {
+            case WEEK -> today.minusWeeks(1);
+            case MONTH -> today.minusMonths(1);
+            case YEAR -> today.minusYears(1);
+        };
+    }
+}
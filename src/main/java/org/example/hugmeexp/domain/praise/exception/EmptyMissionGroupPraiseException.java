@@ -0,0 +1,11 @@
+package org.example.hugmeexp.domain.praise.exception;
+
+import org.example.hugmeexp.global.common.exception.BaseCustomException;
+import org.springframework.http.HttpStatus;
+
+public class EmptyMissionGroupPraiseException extends BaseCustomException {
+
+    public EmptyMissionGroupPraiseException(){
+        super(HttpStatus.BAD_REQUEST,"칭찬할 미션 그룹 멤버가 없습니다",400);
+    }
+}
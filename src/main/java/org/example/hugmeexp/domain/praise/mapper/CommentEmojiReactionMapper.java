@@ -13,11 +13,12 @@ import org.springframework.stereotype.Component;
 @Mapper(componentModel = "spring")
 public interface CommentEmojiReactionMapper {
 
-    default CommentEmojiReaction toEntity(CommentEmojiReactionRequestDTO commentEmojiReactionRequestDTO, PraiseComment comment, User user){
+    default CommentEmojiReaction toEntity(CommentEmojiReactionRequestDTO commentEmojiReactionRequestDTO, PraiseComment comment, User user, Integer emojiCode){
         return CommentEmojiReaction.builder()
                 .comment(comment)
                 .reactorWriter(user)
                 .emoji(commentEmojiReactionRequestDTO.getEmoji())
+                .emojiCode(emojiCode)
                 .build();
     }
 
@@ -11,11 +11,12 @@ import org.springframework.stereotype.Component;
 @Mapper(componentModel = "spring")
 public interface PraiseEmojiReactionMapper {
 
-    default PraiseEmojiReaction toEntity(Praise praise, User user, PraiseEmojiReactionRequestDTO praiseEmojiReactionRequestDTO){
+    default PraiseEmojiReaction toEntity(Praise praise, User user, PraiseEmojiReactionRequestDTO praiseEmojiReactionRequestDTO, Integer emojiCode){
         return PraiseEmojiReaction.builder()
                 .praise(praise)
                 .reactorWriter(user)
                 .emoji(praiseEmojiReactionRequestDTO.getEmoji())
+                .emojiCode(emojiCode)
                 .build();
     }
 }
@@ -4,7 +4,9 @@ import org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction;
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.praise.entity.PraiseComment;
 import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -13,25 +15,64 @@ import java.util.List;
 @Repository
 public interface CommentEmojiReactionRepository extends JpaRepository<CommentEmojiReaction, Long> {
 
-    /* 댓글에 달린 이모지를 종류별로 그룹핑하여 개수 반환 */
-    @Query("SELECT r.emoji, COUNT(r) FROM CommentEmojiReaction r " +
-            "WHERE r.comment = :comment GROUP BY r.emoji")
+    /* 댓글에 달린 이모지를 종류별로 그룹핑하여 개수 반환 (이모지, 개수 순으로 반환) */
+    @Query("SELECT COALESCE(e.emoji, r.emoji), COUNT(r) FROM CommentEmojiReaction r " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE r.comment = :comment GROUP BY r.emojiCode, COALESCE(e.emoji, r.emoji)")
     List<Object[]> countGroupedByEmoji(PraiseComment comment);
 
     /* 이모지 중복 되는지 확인 */
-    boolean existsByCommentAndReactorWriterAndEmoji(PraiseComment comment, User reactorWriter, String emoji);
+    boolean existsByCommentAndReactorWriterAndEmojiCode(PraiseComment comment, User reactorWriter, Integer emojiCode);
 
 //    @Query("SELECT r FROM CommentEmojiReaction r WHERE r.comment.praise = :praise")
 //    List<CommentEmojiReaction> findByPraise(Praise praise);
 
-    // 칭찬 게시물과 댓글 작성자 정보와 함께 조회 - 성능개선
-    @Query("SELECT r FROM CommentEmojiReaction r " +
-            "JOIN FETCH r.reactorWriter " +
+    /* 칭찬 게시물의 댓글별 이모지 반응 수 (댓글 ID, 이모지, 개수 순으로 반환, 댓글마다 먼저 달린 이모지 순)
+       이모지 코드가 채워지기 전의 반응도 빠지지 않도록 사전은 LEFT JOIN, 없으면 원본 이모지 사용 */
+    @Query("SELECT c.id, COALESCE(e.emoji, r.emoji), COUNT(r) FROM CommentEmojiReaction r " +
+            "JOIN r.comment c " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE c.praise.id = :praiseId " +
+            "GROUP BY c.id, r.emojiCode, COALESCE(e.emoji, r.emoji) " +
+            "ORDER BY c.id, MIN(r.id)")
+    List<Object[]> countByCommentAndEmojiOfPraise(Long praiseId);
+
+    /* 칭찬 게시물의 댓글 이모지별 먼저 반응한 유저 sampleSize 명 (댓글 ID, 이모지, 반응자 ID, 반응자 username, 반응자 이름 순으로 반환) */
+    @Query("SELECT t.commentId, t.emoji, t.userId, t.username, t.name FROM (" +
+            "SELECT c.id AS commentId, COALESCE(e.emoji, r.emoji) AS emoji, r.id AS reactionId, u.id AS userId, u.username AS username, u.name AS name, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.id, COALESCE(e.emoji, r.emoji) ORDER BY r.id) AS rn " +
+            "FROM CommentEmojiReaction r " +
             "JOIN r.comment c " +
-            "WHERE c.praise = :praise")
-    List<CommentEmojiReaction> findWithReactorByPraise(Praise praise);
+            "JOIN r.reactorWriter u " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE c.praise.id = :praiseId) t " +
+            "WHERE t.rn <= :sampleSize " +
+            "ORDER BY t.commentId, t.reactionId")
+    List<Object[]> findReactorSamplesByPraiseId(Long praiseId, long sampleSize);
+
+    /* 댓글의 한 이모지 반응자 - 반응 ID 커서 이후 (반응 ID, 반응자 username, 반응자 이름 순으로 반환) */
+    @Query("SELECT r.id, u.username, u.name FROM CommentEmojiReaction r " +
+            "JOIN r.reactorWriter u " +
+            "WHERE r.comment.id = :commentId AND r.emojiCode = :emojiCode AND r.id > :cursorId " +
+            "ORDER BY r.id")
+    List<Object[]> findReactorsByCommentIdAndEmojiCode(Long commentId, Integer emojiCode, Long cursorId, Pageable pageable);
+
+    long deleteByComment(PraiseComment comment);
+
+    /* 유저가 댓글에 남긴 이모지 반응 (이모지 코드가 채워지기 전의 반응은 원본 이모지로 찾음, 먼저 남긴 반응 순) */
+    @Query("SELECT r FROM CommentEmojiReaction r " +
+            "WHERE r.comment = :comment AND r.reactorWriter = :reactorWriter " +
+            "AND (r.emojiCode = :emojiCode OR (r.emojiCode IS NULL AND r.emoji = :emoji)) " +
+            "ORDER BY r.id")
+    List<CommentEmojiReaction> findByCommentAndReactorWriterAndEmoji(PraiseComment comment, User reactorWriter, Integer emojiCode, String emoji);
 
-    void deleteByComment(PraiseComment comment);
+    /* 이모지 코드가 비어 있는 기존 반응의 이모지 목록 */
+    @Query("SELECT DISTINCT r.emoji FROM CommentEmojiReaction r WHERE r.emojiCode IS NULL")
+    List<String> findEmojisWithoutCode();
 
-    CommentEmojiReaction findByCommentAndEmoji(PraiseComment comment, String emoji);
+    /* 기존 반응에 이모지 코드 채우기 */
+    @Modifying
+    @Query("UPDATE CommentEmojiReaction r SET r.emojiCode = :emojiCode " +
+            "WHERE r.emoji = :emoji AND r.emojiCode IS NULL")
+    int fillEmojiCode(String emoji, Integer emojiCode);
 }
@@ -0,0 +1,14 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import org.example.hugmeexp.domain.praise.entity.Emoji;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EmojiRepository extends JpaRepository<Emoji, Integer> {
+
+    /* 정규화 값으로 이모지 조회 */
+    Optional<Emoji> findByCanonicalKey(String canonicalKey);
+}
@@ -0,0 +1,46 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// 일별 칭찬 타입 집계 일괄 반영 ((받은 유저, 날짜, 칭찬 타입) unique 키 기준 upsert, MySQL 기준)
+@Repository
+@RequiredArgsConstructor
+public class PraiseDailyStatBulkRepository {
+
+    // 칭찬 받은 기록으로 집계를 다시 계산해서 덮어씀 (여러 번 실행해도 결과가 같음)
+    private static final String UPSERT_FROM_PRAISES_SQL =
+            "INSERT INTO praise_daily_stat (receiver_id, stat_date, praise_type, count) " +
+            "SELECT pr.receiver_id, DATE(p.created_at), p.praise_type, COUNT(*) " +
+            "FROM praise_receiver pr JOIN praise p ON p.id = pr.praise_id " +
+            "GROUP BY pr.receiver_id, DATE(p.created_at), p.praise_type " +
+            "ON DUPLICATE KEY UPDATE count = VALUES(count)";
+
+    // 받는 사람별 해당 날짜 집계 1 증가 (행이 없으면 개수 1 로 생성)
+    private static final String INCREASE_SQL =
+            "INSERT INTO praise_daily_stat (receiver_id, stat_date, praise_type, count) VALUES (?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE count = count + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용
+    public void increaseAll(List<Long> receiverIds, LocalDate statDate, PraiseType praiseType) {
+        Date date = Date.valueOf(statDate);
+
+        jdbcTemplate.batchUpdate(INCREASE_SQL, receiverIds, receiverIds.size(), (ps, receiverId) -> {
+            ps.setLong(1, receiverId);
+            ps.setDate(2, date);
+            ps.setString(3, praiseType.name());
+        });
+    }
+
+    public int upsertAllFromPraises() {
+        return jdbcTemplate.update(UPSERT_FROM_PRAISES_SQL);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import org.example.hugmeexp.domain.praise.entity.PraiseDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PraiseDailyStatRepository extends JpaRepository<PraiseDailyStat, Long> {
+
+    /* 기간 내 받은 칭찬 타입별 개수 */
+    @Query("SELECT s.praiseType, SUM(s.count) FROM PraiseDailyStat s " +
+            "WHERE s.receiverId = :receiverId " +
+            "AND s.statDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.praiseType")
+    List<Object[]> sumPraiseTypeByReceiverBetween(Long receiverId, LocalDate startDate, LocalDate endDate);
+}
@@ -4,7 +4,10 @@ import org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction;
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.praise.entity.PraiseEmojiReaction;
 import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,12 +23,55 @@ public interface PraiseEmojiReactionRepository extends JpaRepository<PraiseEmoji
 //            "WHERE r.praise = :praise GROUP BY r.emoji")
 //    List<Object[]> countGroupedByEmoji(@Param("praise") Praise praise);
 
-    /* 특정 칭찬 글에 달린 모든 이모지 반응을 조회 */
-    List<PraiseEmojiReaction> findByPraise(Praise praise);
+    /* 특정 칭찬 글의 이모지별 반응 수 (이모지 코드, 이모지, 개수 순으로 반환, 먼저 달린 이모지 순)
+       이모지 코드가 채워지기 전의 반응도 빠지지 않도록 사전은 LEFT JOIN, 없으면 원본 이모지 사용 */
+    @Query("SELECT r.emojiCode, COALESCE(e.emoji, r.emoji), COUNT(r) FROM PraiseEmojiReaction r " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE r.praise.id = :praiseId " +
+            "GROUP BY r.emojiCode, COALESCE(e.emoji, r.emoji) " +
+            "ORDER BY MIN(r.id)")
+    List<Object[]> countByEmojiOfPraise(Long praiseId);
+
+    /* 특정 칭찬 글의 이모지별 먼저 반응한 유저 sampleSize 명 (이모지, 반응 ID, 반응자 username, 반응자 이름 순으로 반환) */
+    @Query("SELECT t.emoji, t.reactionId, t.username, t.name FROM (" +
+            "SELECT COALESCE(e.emoji, r.emoji) AS emoji, r.id AS reactionId, u.username AS username, u.name AS name, " +
+            "ROW_NUMBER() OVER (PARTITION BY COALESCE(e.emoji, r.emoji) ORDER BY r.id) AS rn " +
+            "FROM PraiseEmojiReaction r " +
+            "JOIN r.reactorWriter u " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE r.praise.id = :praiseId) t " +
+            "WHERE t.rn <= :sampleSize " +
+            "ORDER BY t.reactionId")
+    List<Object[]> findReactorSamplesByPraiseId(Long praiseId, long sampleSize);
+
+    /* 특정 칭찬 글의 한 이모지 반응자 - 반응 ID 커서 이후 (반응 ID, 반응자 username, 반응자 이름 순으로 반환) */
+    @Query("SELECT r.id, u.username, u.name FROM PraiseEmojiReaction r " +
+            "JOIN r.reactorWriter u " +
+            "WHERE r.praise.id = :praiseId AND r.emojiCode = :emojiCode AND r.id > :cursorId " +
+            "ORDER BY r.id")
+    List<Object[]> findReactorsByPraiseIdAndEmojiCode(Long praiseId, Integer emojiCode, Long cursorId, Pageable pageable);
+
+    /* 여러 칭찬 글에 달린 이모지 반응을 한 번에 조회 (칭찬 ID, 이모지, 반응 ID, 반응자 username, 반응자 이름 순으로 반환) */
+    @Query("SELECT r.praise.id, COALESCE(e.emoji, r.emoji), r.id, u.username, u.name FROM PraiseEmojiReaction r " +
+            "JOIN r.reactorWriter u " +
+            "LEFT JOIN Emoji e ON e.code = r.emojiCode " +
+            "WHERE r.praise IN :praises " +
+            "ORDER BY r.praise.id, r.emojiCode, r.id")
+    List<Object[]> findReactionSummaryByPraiseIn(List<Praise> praises);
 
     /* 특정 칭찬 글에서 특정 이모지에 대한 반응만 조회 */
-    List<PraiseEmojiReaction> findByPraiseAndEmoji(Praise praise, String emoji);
+    List<PraiseEmojiReaction> findByPraiseAndEmojiCode(Praise praise, Integer emojiCode);
 
     /* 특정 이모지로 이미 반응한 적이 있는지 여부 반환 */
-    boolean existsByPraiseAndReactorWriterAndEmoji(Praise praise, User reactorWriter, String emoji);
+    boolean existsByPraiseAndReactorWriterAndEmojiCode(Praise praise, User reactorWriter, Integer emojiCode);
+
+    /* 이모지 코드가 비어 있는 기존 반응의 이모지 목록 */
+    @Query("SELECT DISTINCT r.emoji FROM PraiseEmojiReaction r WHERE r.emojiCode IS NULL")
+    List<String> findEmojisWithoutCode();
+
+    /* 기존 반응에 이모지 코드 채우기 */
+    @Modifying
+    @Query("UPDATE PraiseEmojiReaction r SET r.emojiCode = :emojiCode " +
+            "WHERE r.emoji = :emoji AND r.emojiCode IS NULL")
+    int fillEmojiCode(String emoji, Integer emojiCode);
 }
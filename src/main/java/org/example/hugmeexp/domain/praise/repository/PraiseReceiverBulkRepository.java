@@ -0,0 +1,31 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 칭찬 받는 사람 일괄 저장 (IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class PraiseReceiverBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO praise_receiver (praise_id, receiver_id, created_at, modified_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Long praiseId, List<Long> receiverIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, receiverIds, receiverIds.size(), (ps, receiverId) -> {
+            ps.setLong(1, praiseId);
+            ps.setLong(2, receiverId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
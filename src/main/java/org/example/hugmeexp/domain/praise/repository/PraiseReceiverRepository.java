@@ -2,12 +2,11 @@ package org.example.hugmeexp.domain.praise.repository;
 
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.praise.entity.PraiseReceiver;
-import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,33 +15,21 @@ public interface PraiseReceiverRepository extends JpaRepository<PraiseReceiver,
     /* 여러 칭찬에 대응하는 칭찬 받는 사람들을 한 번에 조회 */
     List<PraiseReceiver> findByPraiseIn(List<Praise> praiseList);
 
-    /* 내가 보낸 칭찬들 중 특정 날짜 범위에 해당하는 칭찬들 조회*/
-    List<PraiseReceiver> findByReceiverAndCreatedAtBetween(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime);
-
-    /* 칭찬 받은 유저 중 키워드가 포함된 유저들 조회 */
-    @Query("SELECT pr FROM PraiseReceiver pr " +
-            "WHERE pr.receiver = :currentUser " +
-            "AND pr.praise.createdAt BETWEEN :startDateTime AND :endDateTime " +
-            "AND (pr.praise.sender.name LIKE %:keyword% OR pr.receiver.name LIKE %:keyword%)")
-    List<PraiseReceiver> findRelatedPraiseByReceiverWithKeyword(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword);
-
-    /* 칭찬 칭찬 비율(한달동안 받은 칭찬 종류 count) */
-    @Query("SELECT pr.praise.praiseType, COUNT(pr) FROM PraiseReceiver pr " +
+    /* 최근 칭찬 보낸 유저 목록 재생성용 - [보낸 유저 ID, 마지막으로 보낸 시간], 최신순 */
+    @Query("SELECT pr.praise.sender.id, MAX(pr.praise.createdAt) FROM PraiseReceiver pr " +
             "WHERE pr.receiver.id = :userId " +
-            "AND pr.praise.createdAt BETWEEN :startDateTime AND :endDateTime " +
-            "GROUP BY pr.praise.praiseType")
-    List<Object[]> countPraiseTypeByUserInMonth(Long userId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+            "GROUP BY pr.praise.sender.id " +
+            "ORDER BY MAX(pr.praise.createdAt) DESC")
+    List<Object[]> findRecentSenderIdsByReceiver(Long userId, Pageable pageable);
 
-    /* 최근 칭찬 보낸 유저 조회 */
-    @Query("SELECT pr.praise FROM PraiseReceiver pr " +
-            "WHERE pr.receiver.id = :userId " +
-            "AND pr.praise.createdAt IN (" +
-            "   SELECT MAX(pr2.praise.createdAt) FROM PraiseReceiver pr2 " +
-            "   WHERE pr2.receiver.id = :userId " +
-            "   GROUP BY pr2.praise.sender.id) " +
-            "ORDER BY pr.praise.createdAt DESC")
-    List<Praise> findLatestPraisePerSender(Long userId);
+    /* 칭찬 받은 사람 ID 목록 (캐시 무효화용) */
+    @Query("SELECT pr.receiver.id FROM PraiseReceiver pr WHERE pr.praise.id = :praiseId")
+    List<Long> findReceiverIdsByPraiseId(Long praiseId);
 
-    /* 칭찬 상세 조회에 대한 칭찬 받은 사람 리스트 조회 */
-    List<PraiseReceiver> findByPraise(Praise praise);
+    /* 칭찬 상세 조회에 대한 칭찬 받은 사람 리스트 조회 - 받는 사람, 프로필 이미지 함께 조회 */
+    @Query("SELECT pr FROM PraiseReceiver pr " +
+            "JOIN FETCH pr.receiver u " +
+            "LEFT JOIN FETCH u.profileImage " +
+            "WHERE pr.praise = :praise")
+    List<PraiseReceiver> findWithReceiverByPraise(Praise praise);
 }
@@ -2,11 +2,14 @@ package org.example.hugmeexp.domain.praise.repository;
 
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,14 +32,6 @@ public interface PraiseRepository extends JpaRepository<Praise, Long> {
 //            "AND (p.sender.name LIKE %:keyword% OR pr.receiver.name LIKE %:keyword%)")
 //    List<Praise> findAllPraisesBySenderOrReceiverNameContaining(LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword);
 
-    // 칭찬 날짜 + 보낸 사람 + 받는 사람 keyword 포함 - 성능개선
-    @Query("SELECT DISTINCT p FROM Praise p " +
-            "JOIN FETCH p.sender " +
-            "JOIN PraiseReceiver pr ON pr.praise = p " +
-            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
-            "AND (p.sender.name LIKE %:keyword% OR pr.receiver.name LIKE %:keyword%)")
-    List<Praise> findALlPraisesWithSenderBySenderOrReceiverNameContaining(LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword);
-
     /* 내가 보낸 칭찬들 중 keyword 포함 */
 //    @Query("SELECT DISTINCT p FROM Praise p " +
 //            "JOIN PraiseReceiver pr ON pr.praise = p " +
@@ -45,18 +40,112 @@ public interface PraiseRepository extends JpaRepository<Praise, Long> {
 //            "AND (pr.receiver.name LIKE %:keyword% OR p.sender.name LIKE %:keyword%)")
 //    List<Praise> findMySentPraiseWithKeyword(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword);
 
-    // 내가 보낸 칭찬들 중 keyword 포함 - 성능개선
-    @Query("SELECT DISTINCT p FROM Praise p " +
+    /* 나와 관련된 칭찬 (내가 보냈거나 받은 칭찬) - 한 번의 쿼리로 조회 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.sender = :currentUser " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver = :currentUser))")
+    List<Praise> findRelatedToUser(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    /* 보낸 사람 또는 받는 사람이 userIds 에 포함된 칭찬 (keyword -> 이름 색인 -> 유저 ID) */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.sender.id IN :userIds " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver.id IN :userIds))")
+    List<Praise> findWithSenderBySenderOrReceiverIdIn(LocalDateTime startDateTime, LocalDateTime endDateTime, Collection<Long> userIds);
+
+    /* 나와 관련된 칭찬 중 보낸 사람 또는 받는 사람이 userIds 에 포함된 칭찬 - 한 번의 쿼리로 조회 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.sender = :currentUser " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver = :currentUser)) " +
+            "AND (p.sender.id IN :userIds " +
+            "   OR EXISTS (SELECT pr2 FROM PraiseReceiver pr2 WHERE pr2.praise = p AND pr2.receiver.id IN :userIds))")
+    List<Praise> findRelatedToUserWithSenderOrReceiverIdIn(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime, Collection<Long> userIds);
+
+    /* 칭찬 피드 - (createdAt, id) 커서 기준 다음 페이지, 최신순 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Praise> findFeedPage(LocalDateTime startDateTime, LocalDateTime endDateTime,
+                              LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
+
+    /* 칭찬 피드 + 보낸 사람 또는 받는 사람이 userIds 에 포함 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "AND (p.sender.id IN :userIds " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver.id IN :userIds)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Praise> findFeedPageWithSenderOrReceiverIdIn(LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                      LocalDateTime cursorCreatedAt, Long cursorId, Collection<Long> userIds, Pageable pageable);
+
+    /* 칭찬 피드 + 나와 관련된 칭찬 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "AND (p.sender = :currentUser " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver = :currentUser)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Praise> findMyFeedPage(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
+
+    /* 칭찬 피드 + 나와 관련된 칭찬 + 보낸 사람 또는 받는 사람이 userIds 에 포함 */
+    @Query("SELECT p FROM Praise p " +
             "JOIN FETCH p.sender " +
-            "JOIN PraiseReceiver pr ON pr.praise = p " +
-            "WHERE p.sender = :currentUser " +
-            "AND p.createdAt BETWEEN :startDateTime AND :endDateTime " +
-            "AND (pr.receiver.name LIKE %:keyword% OR p.sender.name LIKE %:keyword%)")
-    List<Praise> findMySentPraiseWithKeywordWithSender(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime, String keyword);
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "AND (p.sender = :currentUser " +
+            "   OR EXISTS (SELECT pr FROM PraiseReceiver pr WHERE pr.praise = p AND pr.receiver = :currentUser)) " +
+            "AND (p.sender.id IN :userIds " +
+            "   OR EXISTS (SELECT pr2 FROM PraiseReceiver pr2 WHERE pr2.praise = p AND pr2.receiver.id IN :userIds)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Praise> findMyFeedPageWithSenderOrReceiverIdIn(User currentUser, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                        LocalDateTime cursorCreatedAt, Long cursorId, Collection<Long> userIds, Pageable pageable);
 
     //
     @Query("SELECT p FROM Praise p " +
             "JOIN FETCH p.sender WHERE p.id = :praiseId")
     Optional<Praise> findWithSenderById(Long praiseId);
 
+    /* 반응 수 기준 상위 칭찬글 조회 - 집계 컬럼 인덱스 사용, limit 은 pageable 로 전달 */
+    @Query("SELECT p FROM Praise p " +
+            "JOIN FETCH p.sender " +
+            "WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "AND p.reactionCount > 0 " +
+            "ORDER BY p.reactionCount DESC, p.id ASC")
+    List<Praise> findPopularPraises(LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
+
+    /* 게시물 이모지 반응 수 증감 */
+    @Modifying
+    @Query("UPDATE Praise p SET p.reactionCount = p.reactionCount + :delta WHERE p.id = :praiseId")
+    int addReactionCount(Long praiseId, long delta);
+
+    /* 댓글 수 증감 */
+    @Modifying
+    @Query("UPDATE Praise p SET p.commentCount = p.commentCount + :delta WHERE p.id = :praiseId")
+    int addCommentCount(Long praiseId, long delta);
+
+    /* 댓글 이모지 반응 수 증감 */
+    @Modifying
+    @Query("UPDATE Praise p SET p.commentReactionCount = p.commentReactionCount + :delta WHERE p.id = :praiseId")
+    int addCommentReactionCount(Long praiseId, long delta);
+
+    /* 집계 컬럼을 원본 테이블 기준으로 다시 계산 (누락/오차 보정용, 값이 어긋난 칭찬글만 갱신) */
+    @Modifying
+    @Query("UPDATE Praise p SET " +
+            "p.reactionCount = (SELECT COUNT(r) FROM PraiseEmojiReaction r WHERE r.praise = p), " +
+            "p.commentCount = (SELECT COUNT(c) FROM PraiseComment c WHERE c.praise = p), " +
+            "p.commentReactionCount = (SELECT COUNT(cr) FROM CommentEmojiReaction cr WHERE cr.comment.praise = p) " +
+            "WHERE p.reactionCount <> (SELECT COUNT(r2) FROM PraiseEmojiReaction r2 WHERE r2.praise = p) " +
+            "OR p.commentCount <> (SELECT COUNT(c2) FROM PraiseComment c2 WHERE c2.praise = p) " +
+            "OR p.commentReactionCount <> (SELECT COUNT(cr2) FROM CommentEmojiReaction cr2 WHERE cr2.comment.praise = p)")
+    int syncDriftedEngagementCounts();
 }
@@ -4,6 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionRequestDTO;
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorPageResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorRequestDTO;
+import org.example.hugmeexp.domain.praise.dto.ReactionUserDTO;
 import org.example.hugmeexp.domain.praise.entity.PraiseComment;
 import org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction;
 import org.example.hugmeexp.domain.praise.exception.*;
@@ -13,9 +16,12 @@ import org.example.hugmeexp.domain.praise.repository.CommentRepository;
 import org.example.hugmeexp.domain.praise.repository.PraiseRepository;
 import org.example.hugmeexp.domain.praise.util.EmojiUtil;
 import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentEmojiReactionService {
@@ -24,6 +30,9 @@ public class CommentEmojiReactionService {
     private final PraiseRepository praiseRepository;
     private final CommentRepository commentRepository;
     private final CommentEmojiReactionMapper commentEmojiReactionMapper;
+    private final PraiseCacheService praiseCacheService;
+    private final EmojiDictionaryService emojiDictionaryService;
+    private final PraiseFeedEventService praiseFeedEventService;
 
     /* 이모지 유효성 검사 */
     private boolean isValidEmoji(String input) {
@@ -54,17 +63,29 @@ public class CommentEmojiReactionService {
             throw new MismatchedPraiseCommentException();
         }
 
+        // 이모지 사전 코드 조회 (처음 쓰이는 이모지면 등록)
+        int emojiCode = emojiDictionaryService.intern(emoji);
+
         // 반응 중복 확인
-        boolean alreadyExists = commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmoji(comment,user,commentEmojiReactionRequestDTO.getEmoji());
+        boolean alreadyExists = commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmojiCode(comment,user,emojiCode);
         if(alreadyExists){
             throw new DuplicateEmojiReactionException();
         }
 
         // 반응 생성 및 저장
-        CommentEmojiReaction commentEmojiReaction = commentEmojiReactionMapper.toEntity(commentEmojiReactionRequestDTO,comment,user);
+        CommentEmojiReaction commentEmojiReaction = commentEmojiReactionMapper.toEntity(commentEmojiReactionRequestDTO,comment,user,emojiCode);
 
         commentEmojiReactionRepository.save(commentEmojiReaction);
 
+        // 칭찬글의 댓글 반응 수 집계 증가
+        praiseRepository.addCommentReactionCount(praiseId, 1);
+
+        // 칭찬 상세 캐시 삭제
+        praiseCacheService.evictDetail(praiseId);
+
+        // 칭찬 피드 구독자에게 댓글 반응 추가 전송
+        praiseFeedEventService.publishCommentReactionAdded(praiseId, commentId, emojiDictionaryService.emojiOf(emojiCode), toReactor(user));
+
         return CommentEmojiReactionResponseDTO.from(commentEmojiReaction);
 
     }
@@ -76,11 +97,12 @@ public class CommentEmojiReactionService {
 
         PraiseComment comment = commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFoundException::new);
-        // 이모지 반응 존재 확인
-        CommentEmojiReaction commentEmojiReaction = commentEmojiReactionRepository.findByCommentAndEmoji(comment, emojiChar);
-        if(commentEmojiReaction == null){
-            throw new CommentEmojiReactionNotFoundException();
-        }
+        // 본인이 남긴 이모지 반응 존재 확인 (사전에 없거나 코드가 채워지기 전의 반응은 원본 이모지로 찾음)
+        Integer emojiCode = emojiDictionaryService.findCode(emojiChar).orElse(null);
+        CommentEmojiReaction commentEmojiReaction = commentEmojiReactionRepository
+                .findByCommentAndReactorWriterAndEmoji(comment, user, emojiCode, emojiChar).stream()
+                .findFirst()
+                .orElseThrow(CommentEmojiReactionNotFoundException::new);
 
         // 댓글과 반응 연결 확인
         if(!commentEmojiReaction.getComment().getId().equals(commentId)){
@@ -99,5 +121,60 @@ public class CommentEmojiReactionService {
 
         // 삭제
         commentEmojiReactionRepository.delete(commentEmojiReaction);
+
+        // 칭찬글의 댓글 반응 수 집계 감소
+        praiseRepository.addCommentReactionCount(praiseId, -1);
+
+        // 칭찬 상세 캐시 삭제
+        praiseCacheService.evictDetail(praiseId);
+
+        // 칭찬 피드 구독자에게 댓글 반응 삭제 전송
+        String removedEmoji = commentEmojiReaction.getEmojiCode() != null ? emojiDictionaryService.emojiOf(commentEmojiReaction.getEmojiCode()) : commentEmojiReaction.getEmoji();
+        praiseFeedEventService.publishCommentReactionRemoved(praiseId, commentId, removedEmoji, toReactor(user));
+    }
+
+    /* 댓글 반응자 (칭찬 상세의 댓글 반응자와 같이 유저 ID 사용) */
+    private ReactionUserDTO toReactor(User user) {
+        return ReactionUserDTO.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .name(user.getName())
+                .build();
+    }
+
+    /* 댓글 이모지 반응자 목록 - 반응 ID 커서 기준 페이지 조회 */
+    public PraiseReactorPageResponseDTO getCommentReactors(Long praiseId, Long commentId, PraiseReactorRequestDTO requestDTO) {
+
+        // 댓글 존재 여부 확인
+        PraiseComment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
+
+        // 댓글이 해당 칭찬에 속하는지 확인
+        if (!comment.getPraise().getId().equals(praiseId)) {
+            throw new MismatchedPraiseCommentException();
+        }
+
+        // 첫 페이지는 커서 없이 처음부터
+        long cursorId = requestDTO.getCursorId() != null ? requestDTO.getCursorId() : 0L;
+        int size = requestDTO.getSize();
+
+        // 사전에 없는 이모지면 반응자도 없음
+        Integer emojiCode = emojiDictionaryService.findCode(requestDTO.getEmoji()).orElse(null);
+        if (emojiCode == null) {
+            return PraiseReactorPageResponseDTO.of(requestDTO.getEmoji(), List.of(), false);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        // row : [반응 ID, 반응자 username, 반응자 이름]
+        List<ReactionUserDTO> reactors = commentEmojiReactionRepository
+                .findReactorsByCommentIdAndEmojiCode(commentId, emojiCode, cursorId, PageRequest.of(0, size + 1)).stream()
+                .map(row -> ReactionUserDTO.builder()
+                        .id((Long) row[0])
+                        .username((String) row[1])
+                        .name((String) row[2])
+                        .build())
+                .toList();
+        boolean hasNext = reactors.size() > size;
+
+        return PraiseReactorPageResponseDTO.of(requestDTO.getEmoji(), hasNext ? reactors.subList(0, size) : reactors, hasNext);
     }
 }
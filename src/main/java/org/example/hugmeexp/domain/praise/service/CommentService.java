@@ -26,6 +26,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PraiseRepository praiseRepository;
     private final CommentEmojiReactionRepository commentEmojiReactionRepository;
+    private final PraiseCacheService praiseCacheService;
+    private final PraiseFeedEventService praiseFeedEventService;
 
     /* 댓글 작성 */
     @Transactional
@@ -40,6 +42,15 @@ public class CommentService {
         // DB 저장
         PraiseComment saved = commentRepository.save(comment);
 
+        // 칭찬글 댓글 수 집계 증가
+        praiseRepository.addCommentCount(praiseId, 1);
+
+        // 칭찬 상세 / 피드 캐시 삭제
+        praiseCacheService.evictPraise(praise);
+
+        // 칭찬 피드 구독자에게 댓글 추가 전송
+        praiseFeedEventService.publishCommentAdded(praiseId, saved.getId());
+
         // Entity -> DTO 변환
         return commentMapper.toDTO(saved);
     }
@@ -55,9 +66,22 @@ public class CommentService {
             throw new ForbiddenCommentAccessException();
         }
 
-        commentEmojiReactionRepository.deleteByComment(comment);
+        long deletedReactions = commentEmojiReactionRepository.deleteByComment(comment);
 
         commentRepository.delete(comment);
+
+        // 칭찬글 댓글 수, 댓글 반응 수 집계 감소
+        Long praiseId = comment.getPraise().getId();
+        praiseRepository.addCommentCount(praiseId, -1);
+        if (deletedReactions > 0) {
+            praiseRepository.addCommentReactionCount(praiseId, -deletedReactions);
+        }
+
+        // 칭찬 상세 / 피드 캐시 삭제
+        praiseCacheService.evictPraise(comment.getPraise());
+
+        // 칭찬 피드 구독자에게 댓글 삭제 전송
+        praiseFeedEventService.publishCommentRemoved(praiseId, commentId);
     }
 
     /* 댓글 조회 */
@@ -0,0 +1,143 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.entity.Emoji;
+import org.example.hugmeexp.domain.praise.repository.CommentEmojiReactionRepository;
+import org.example.hugmeexp.domain.praise.repository.EmojiRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseEmojiReactionRepository;
+import org.example.hugmeexp.domain.praise.util.EmojiUtil;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 이모지 사전
+ * - 이모지 시퀀스(ZWJ 조합, 피부색 포함)를 정규화해서 작은 정수 코드로 등록
+ * - 반응 테이블은 이모지 코드로 저장/그룹핑하고, 화면에 보여줄 이모지는 사전에서 가져옴
+ * - 사전은 크기가 작고 거의 바뀌지 않으므로 메모리에 올려두고 사용
+ */
+@Slf4j
+@Service
+public class EmojiDictionaryService {
+
+    private final EmojiRepository emojiRepository;
+    private final PraiseEmojiReactionRepository praiseEmojiReactionRepository;
+    private final CommentEmojiReactionRepository commentEmojiReactionRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    // 정규화 값 -> 이모지 코드
+    private final Map<String, Integer> codeByKey = new ConcurrentHashMap<>();
+    // 이모지 코드 -> 화면 표시용 이모지
+    private final Map<Integer, String> emojiByCode = new ConcurrentHashMap<>();
+
+    public EmojiDictionaryService(EmojiRepository emojiRepository,
+                                  PraiseEmojiReactionRepository praiseEmojiReactionRepository,
+                                  CommentEmojiReactionRepository commentEmojiReactionRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.emojiRepository = emojiRepository;
+        this.praiseEmojiReactionRepository = praiseEmojiReactionRepository;
+        this.commentEmojiReactionRepository = commentEmojiReactionRepository;
+
+        // 사전 등록은 반응 저장 트랜잭션과 분리 (중복 등록 충돌이 반응 저장까지 롤백시키지 않도록)
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /* 이모지 코드 조회 - 사전에 없으면 새로 등록 (유효성 검사를 통과한 이모지만 전달할 것) */
+    public int intern(String emoji) {
+        String key = EmojiUtil.canonicalize(emoji);
+        Integer code = codeByKey.get(key);
+        if (code != null) {
+            return code;
+        }
+        return register(key, emoji);
+    }
+
+    /* 이모지 코드 조회 - 사전에 없으면 empty (조회/삭제용, 새로 등록하지 않음) */
+    public Optional<Integer> findCode(String emoji) {
+        if (!EmojiUtil.isOnlyEmoji(emoji)) {
+            return Optional.empty();
+        }
+
+        String key = EmojiUtil.canonicalize(emoji);
+        Integer code = codeByKey.get(key);
+        if (code != null) {
+            return Optional.of(code);
+        }
+        return emojiRepository.findByCanonicalKey(key).map(this::cache);
+    }
+
+    /* 이모지 코드 -> 화면 표시용 이모지 */
+    public String emojiOf(int code) {
+        String emoji = emojiByCode.get(code);
+        if (emoji != null) {
+            return emoji;
+        }
+        return emojiRepository.findById(code)
+                .map(entry -> {
+                    cache(entry);
+                    return entry.getEmoji();
+                })
+                .orElse(null);
+    }
+
+    // 신규 이모지 등록 - 같은 이모지가 동시에 들어오면 (서버가 여러 대여도) uk_emoji_canonical_key 에서 한 쪽만 성공하고
+    // 나머지는 등록된 값을 다시 조회하므로 잠금 없이 처리
+    private int register(String key, String emoji) {
+        Integer code = codeByKey.get(key);
+        if (code != null) {
+            return code;
+        }
+
+        Emoji entry;
+        try {
+            entry = requiresNewTransaction.execute(status -> emojiRepository.findByCanonicalKey(key)
+                    .orElseGet(() -> emojiRepository.saveAndFlush(Emoji.builder()
+                            .canonicalKey(key)
+                            .emoji(emoji)
+                            .build())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 같은 이모지를 먼저 등록한 경우 - 등록된 값을 다시 조회
+            entry = requiresNewTransaction.execute(status -> emojiRepository.findByCanonicalKey(key))
+                    .orElseThrow(() -> e);
+        }
+
+        log.info("Emoji registered - code: {}, emoji: {}", entry.getCode(), entry.getEmoji());
+        return cache(entry);
+    }
+
+    private int cache(Emoji entry) {
+        codeByKey.put(entry.getCanonicalKey(), entry.getCode());
+        emojiByCode.put(entry.getCode(), entry.getEmoji());
+        return entry.getCode();
+    }
+
+    // 서버 시작 시 사전을 메모리에 올리고, 이모지 코드가 없는 기존 반응에 코드 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUpAndBackfill() {
+        emojiRepository.findAll().forEach(this::cache);
+
+        int praiseReactions = 0;
+        for (String emoji : praiseEmojiReactionRepository.findEmojisWithoutCode()) {
+            praiseReactions += praiseEmojiReactionRepository.fillEmojiCode(emoji, intern(emoji));
+        }
+
+        int commentReactions = 0;
+        for (String emoji : commentEmojiReactionRepository.findEmojisWithoutCode()) {
+            commentReactions += commentEmojiReactionRepository.fillEmojiCode(emoji, intern(emoji));
+        }
+
+        log.info("Emoji dictionary loaded - emojis: {}, backfilled praise reactions: {}, comment reactions: {}",
+                emojiByCode.size(), praiseReactions, commentReactions);
+    }
+}
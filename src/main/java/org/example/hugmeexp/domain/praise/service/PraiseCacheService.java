@@ -0,0 +1,239 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.dto.PraiseDetailResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseResponseDTO;
+import org.example.hugmeexp.domain.praise.entity.Praise;
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/* 칭찬 조회 캐시
+ * - 피드 : (범위, 날짜) 단위 - 전체 칭찬은 "all", 나와 관련된 칭찬은 "user:{유저 ID}"
+ * - 상세 : 칭찬 ID 단위
+ * 칭찬 생성 / 댓글 / 반응 변경 시 해당 칭찬이 속한 날짜 버킷만 커밋 후 삭제
+ * 캐시 키마다 세대 번호를 두고 삭제 시 증가 - 조회 시작 전에 읽은 세대와 같을 때만 저장해서
+ * 커밋 전 데이터를 읽은 요청이 삭제 후에 이전 값을 다시 채우지 못하게 함 */
+@Slf4j
+@Service
+public class PraiseCacheService {
+
+    private static final String FEED_KEY_PREFIX = "praise:feed:";
+    private static final String DETAIL_KEY_PREFIX = "praise:detail:";
+    private static final String GENERATION_KEY_PREFIX = "praise:cache-gen:";
+    private static final String ALL_SCOPE = "all";
+
+    private static final Duration PAST_DAY_TTL = Duration.ofDays(1);    // 지난 날짜는 거의 바뀌지 않음
+    private static final Duration TODAY_TTL = Duration.ofMinutes(10);
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(10);
+    private static final Duration GENERATION_TTL = Duration.ofDays(2);    // 캐시 값보다 오래 유지
+
+    // 세대 번호가 조회 전에 읽은 값과 같을 때만 저장 (KEYS[1] : 캐시 키, KEYS[2] : 세대 키, ARGV : 세대, 값, TTL(ms))
+    private static final RedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0", Long.class);
+
+    // 세대 증가 후 캐시 삭제 (KEYS : 캐시 키, 세대 키 쌍의 목록, ARGV[1] : 세대 키 TTL(ms))
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "redis.call('INCR', KEYS[i + 1]) redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "redis.call('DEL', KEYS[i]) end return #KEYS / 2", Long.class);
+
+    private static final TypeReference<List<PraiseResponseDTO>> FEED_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PraiseReceiverRepository praiseReceiverRepository;
+
+    public PraiseCacheService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              PraiseReceiverRepository praiseReceiverRepository) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.praiseReceiverRepository = praiseReceiverRepository;
+    }
+
+    public static String allScope() {
+        return ALL_SCOPE;
+    }
+
+    public static String userScope(Long userId) {
+        return "user:" + userId;
+    }
+
+    /* 날짜별 피드 캐시 조회 - 캐시된 날짜만 담아서 리턴 */
+    public Map<LocalDate, List<PraiseResponseDTO>> getFeedBuckets(String scope, List<LocalDate> days) {
+
+        Map<LocalDate, List<PraiseResponseDTO>> hits = new HashMap<>();
+        if (days.isEmpty()) {
+            return hits;
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(days.stream().map(day -> feedKey(scope, day)).toList());
+            if (values == null) {
+                return hits;
+            }
+            for (int i = 0; i < days.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    hits.put(days.get(i), objectMapper.readValue(value, FEED_TYPE));
+                }
+            }
+        } catch (Exception e) {
+            // 캐시 조회 실패 시 전체 날짜를 DB 에서 조회
+            log.warn("Failed to read praise feed cache - scope: {}", scope, e);
+            return new HashMap<>();
+        }
+
+        return hits;
+    }
+
+    /* 날짜별 피드 캐시 세대 조회 - DB 조회 전에 읽어서 putFeedBuckets 에 전달 (읽기 실패 시 빈 맵 -> 저장하지 않음) */
+    public Map<LocalDate, String> getFeedGenerations(String scope, List<LocalDate> days) {
+
+        Map<LocalDate, String> generations = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(days.stream().map(day -> generationKey(feedKey(scope, day))).toList());
+            if (values == null) {
+                return generations;
+            }
+            for (int i = 0; i < days.size(); i++) {
+                generations.put(days.get(i), values.get(i) == null ? "0" : values.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read praise feed cache generation - scope: {}", scope, e);
+            return new HashMap<>();
+        }
+
+        return generations;
+    }
+
+    /* 날짜별 피드 캐시 저장 - 조회 전에 읽은 세대 이후 삭제된 날짜는 저장하지 않음 */
+    public void putFeedBuckets(String scope, Map<LocalDate, List<PraiseResponseDTO>> buckets, Map<LocalDate, String> generations) {
+
+        LocalDate today = LocalDate.now();
+        buckets.forEach((day, praises) -> {
+            String generation = generations.get(day);
+            if (generation == null) {
+                return;
+            }
+            try {
+                Duration ttl = day.isBefore(today) ? PAST_DAY_TTL : TODAY_TTL;
+                putIfGeneration(feedKey(scope, day), generation, objectMapper.writeValueAsString(praises), ttl);
+            } catch (Exception e) {
+                log.warn("Failed to write praise feed cache - scope: {}, day: {}", scope, day, e);
+            }
+        });
+    }
+
+    /* 칭찬 상세 캐시 조회 */
+    public Optional<PraiseDetailResponseDTO> getDetail(Long praiseId) {
+        try {
+            String value = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + praiseId);
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, PraiseDetailResponseDTO.class));
+        } catch (Exception e) {
+            log.warn("Failed to read praise detail cache - praiseId: {}", praiseId, e);
+            return Optional.empty();
+        }
+    }
+
+    /* 칭찬 상세 캐시 세대 조회 - DB 조회 전에 읽어서 putDetail 에 전달 (읽기 실패 시 null -> 저장하지 않음) */
+    public String getDetailGeneration(Long praiseId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(DETAIL_KEY_PREFIX + praiseId));
+            return generation == null ? "0" : generation;
+        } catch (Exception e) {
+            log.warn("Failed to read praise detail cache generation - praiseId: {}", praiseId, e);
+            return null;
+        }
+    }
+
+    /* 칭찬 상세 캐시 저장 - 조회 전에 읽은 세대 이후 삭제됐으면 저장하지 않음 */
+    public void putDetail(Long praiseId, PraiseDetailResponseDTO detail, String generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            putIfGeneration(DETAIL_KEY_PREFIX + praiseId, generation, objectMapper.writeValueAsString(detail), DETAIL_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write praise detail cache - praiseId: {}", praiseId, e);
+        }
+    }
+
+    /* 칭찬 생성 시 - 작성 날짜의 전체 버킷과 보낸 사람 / 받는 사람 버킷 삭제 */
+    public void evictFeed(LocalDate day, Collection<Long> userIds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(feedKey(ALL_SCOPE, day));
+        new LinkedHashSet<>(userIds).forEach(userId -> keys.add(feedKey(userScope(userId), day)));
+        deleteAfterCommit(keys);
+    }
+
+    /* 댓글 / 게시물 반응 변경 시 - 해당 칭찬의 상세와 칭찬이 속한 날짜 버킷 삭제 */
+    public void evictPraise(Praise praise) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(praise.getSender().getId());
+        userIds.addAll(praiseReceiverRepository.findReceiverIdsByPraiseId(praise.getId()));
+
+        List<String> keys = new ArrayList<>();
+        keys.add(DETAIL_KEY_PREFIX + praise.getId());
+        if (praise.getCreatedAt() != null) {
+            LocalDate day = praise.getCreatedAt().toLocalDate();
+            keys.add(feedKey(ALL_SCOPE, day));
+            userIds.forEach(userId -> keys.add(feedKey(userScope(userId), day)));
+        }
+        deleteAfterCommit(keys);
+    }
+
+    /* 댓글 반응 변경 시 - 피드에는 댓글 반응이 없으므로 상세만 삭제 */
+    public void evictDetail(Long praiseId) {
+        deleteAfterCommit(List.of(DETAIL_KEY_PREFIX + praiseId));
+    }
+
+    // 커밋 전에 지우면 다른 요청이 이전 데이터로 다시 채울 수 있으므로 커밋 후 삭제
+    private void deleteAfterCommit(List<String> keys) {
+        TransactionUtils.runAfterCommit(() -> delete(keys));
+    }
+
+    private void delete(List<String> keys) {
+        try {
+            List<String> scriptKeys = new ArrayList<>();
+            keys.forEach(key -> {
+                scriptKeys.add(key);
+                scriptKeys.add(generationKey(key));
+            });
+            redisTemplate.execute(EVICT_SCRIPT, scriptKeys, String.valueOf(GENERATION_TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to evict praise cache - keys: {}", keys, e);
+        }
+    }
+
+    private void putIfGeneration(String key, String generation, String value, Duration ttl) {
+        redisTemplate.execute(PUT_IF_GENERATION_SCRIPT, List.of(key, generationKey(key)), generation, value, String.valueOf(ttl.toMillis()));
+    }
+
+    private String feedKey(String scope, LocalDate day) {
+        return FEED_KEY_PREFIX + scope + ":" + day;
+    }
+
+    private String generationKey(String key) {
+        return GENERATION_KEY_PREFIX + key;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.hugmeexp.domain.praise.dto.PraiseEmojiReactionRequestDTO;
 import org.example.hugmeexp.domain.praise.dto.PraiseEmojiReactionResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.ReactionUserDTO;
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.praise.entity.PraiseEmojiReaction;
 import org.example.hugmeexp.domain.praise.exception.*;
@@ -26,6 +27,9 @@ public class PraiseEmojiReactionService {
     private final PraiseEmojiReactionRepository praiseEmojiReactionRepository;
     private final PraiseRepository praiseRepository;
     private final PraiseEmojiReactionMapper praiseEmojiReactionMapper;
+    private final PraiseCacheService praiseCacheService;
+    private final PraiseFeedEventService praiseFeedEventService;
+    private final EmojiDictionaryService emojiDictionaryService;
 
     /* 이모지 유효성 검사 */
     private boolean isValidEmoji(String input) {
@@ -45,20 +49,32 @@ public class PraiseEmojiReactionService {
             throw new InvalidEmojiException();
         }
 
+        // 이모지 사전 코드 조회 (처음 쓰이는 이모지면 등록)
+        int emojiCode = emojiDictionaryService.intern(emoji);
+
         // 동일 사용자 중복 반응 체크
-        boolean alreadyReacted = praiseEmojiReactionRepository.existsByPraiseAndReactorWriterAndEmoji(praise,user,praiseEmojiReactionRequestDTO.getEmoji());
+        boolean alreadyReacted = praiseEmojiReactionRepository.existsByPraiseAndReactorWriterAndEmojiCode(praise,user,emojiCode);
         if(alreadyReacted){
             throw new DuplicateEmojiReactionException();
         }
 
         // 이모지 생성
-        PraiseEmojiReaction praiseEmojiReaction = praiseEmojiReactionMapper.toEntity(praise,user,praiseEmojiReactionRequestDTO);
+        PraiseEmojiReaction praiseEmojiReaction = praiseEmojiReactionMapper.toEntity(praise,user,praiseEmojiReactionRequestDTO,emojiCode);
 
         // 저장
         PraiseEmojiReaction saved = praiseEmojiReactionRepository.save(praiseEmojiReaction);
 
+        // 칭찬글 반응 수 집계 증가
+        praiseRepository.addReactionCount(praiseId, 1);
+
+        // 칭찬 상세 / 피드 캐시 삭제
+        praiseCacheService.evictPraise(praise);
+
+        // 칭찬 피드 구독자에게 반응 추가 전송
+        praiseFeedEventService.publishReactionAdded(praiseId, emojiDictionaryService.emojiOf(emojiCode), ReactionUserDTO.from(saved));
+
         // 동일한 이모지 반응자 전체 조회
-        List<PraiseEmojiReaction> sameEmojiReactions = praiseEmojiReactionRepository.findByPraiseAndEmoji(praise,saved.getEmoji());
+        List<PraiseEmojiReaction> sameEmojiReactions = praiseEmojiReactionRepository.findByPraiseAndEmojiCode(praise,emojiCode);
 
         return PraiseEmojiReactionResponseDTO.from(saved, sameEmojiReactions);
     }
@@ -82,5 +98,15 @@ public class PraiseEmojiReactionService {
         }
 
         praiseEmojiReactionRepository.delete(reaction);
+
+        // 칭찬글 반응 수 집계 감소
+        praiseRepository.addReactionCount(praiseId, -1);
+
+        // 칭찬 상세 / 피드 캐시 삭제
+        praiseCacheService.evictPraise(reaction.getPraise());
+
+        // 칭찬 피드 구독자에게 반응 삭제 전송
+        String removedEmoji = reaction.getEmojiCode() != null ? emojiDictionaryService.emojiOf(reaction.getEmojiCode()) : reaction.getEmoji();
+        praiseFeedEventService.publishReactionRemoved(praiseId, removedEmoji, ReactionUserDTO.from(reaction));
     }
 }
@@ -0,0 +1,58 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.dto.PraiseFeedEventDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.ReactionUserDTO;
+import org.example.hugmeexp.global.common.sse.SseService;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.stereotype.Service;
+
+/* 칭찬 피드 구독자에게 변경분 이벤트 전송 (커밋 후, 비동기) */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PraiseFeedEventService {
+
+    private final SseService sseService;
+
+    public void publishPraiseCreated(PraiseResponseDTO praise) {
+        publish(PraiseFeedEventDTO.praiseCreated(praise));
+    }
+
+    public void publishReactionAdded(Long praiseId, String emoji, ReactionUserDTO reactor) {
+        publish(PraiseFeedEventDTO.reactionChanged(praiseId, emoji, reactor, true));
+    }
+
+    public void publishReactionRemoved(Long praiseId, String emoji, ReactionUserDTO reactor) {
+        publish(PraiseFeedEventDTO.reactionChanged(praiseId, emoji, reactor, false));
+    }
+
+    public void publishCommentReactionAdded(Long praiseId, Long commentId, String emoji, ReactionUserDTO reactor) {
+        publish(PraiseFeedEventDTO.commentReactionChanged(praiseId, commentId, emoji, reactor, true));
+    }
+
+    public void publishCommentReactionRemoved(Long praiseId, Long commentId, String emoji, ReactionUserDTO reactor) {
+        publish(PraiseFeedEventDTO.commentReactionChanged(praiseId, commentId, emoji, reactor, false));
+    }
+
+    public void publishCommentAdded(Long praiseId, Long commentId) {
+        publish(PraiseFeedEventDTO.commentChanged(praiseId, commentId, true));
+    }
+
+    public void publishCommentRemoved(Long praiseId, Long commentId) {
+        publish(PraiseFeedEventDTO.commentChanged(praiseId, commentId, false));
+    }
+
+    // 롤백된 변경이 전송되지 않도록 커밋 후 전송
+    private void publish(PraiseFeedEventDTO event) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                sseService.broadcastPraiseFeed(event);
+            } catch (Exception e) {
+                log.warn("Failed to publish praise feed event - type: {}, praiseId: {}", event.getType(), event.getPraiseId(), e);
+            }
+        });
+    }
+}
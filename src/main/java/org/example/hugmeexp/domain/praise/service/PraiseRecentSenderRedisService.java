@@ -0,0 +1,159 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 유저별 최근 칭찬 보낸 유저 목록 (Sorted Set - member: 보낸 유저 ID, score: 마지막으로 보낸 시간)
+@Slf4j
+@Service
+public class PraiseRecentSenderRedisService {
+
+    private static final String KEY_PREFIX = "praise:recent-senders:";
+    private static final int CAPACITY = 10;    // 유저별 최대 보관 개수
+    private static final Duration TTL = Duration.ofDays(30);
+
+    // 칭찬을 받은 적이 없는 유저도 조회마다 DB 를 읽지 않도록 빈 목록 표시용 member 를 저장 (score 0 이라 항상 가장 오래된 값)
+    private static final String EMPTY_MARKER = "none";
+    private static final Duration EMPTY_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PraiseReceiverRepository praiseReceiverRepository;
+
+    public PraiseRecentSenderRedisService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                          PraiseReceiverRepository praiseReceiverRepository) {
+        this.redisTemplate = redisTemplate;
+        this.praiseReceiverRepository = praiseReceiverRepository;
+    }
+
+    /* 칭찬 생성 시 받는 사람의 최근 보낸 유저 목록 갱신 (칭찬 생성 트랜잭션이 커밋된 후에 반영) */
+    public void recordSender(Long receiverId, Long senderId, LocalDateTime sentAt) {
+        recordSenders(List.of(receiverId), senderId, sentAt);
+    }
+
+    /* 여러 명에게 칭찬 생성 시 받는 사람들의 최근 보낸 유저 목록을 파이프라인으로 한 번에 갱신 (커밋된 후에 반영) */
+    public void recordSenders(Collection<Long> receiverIds, Long senderId, LocalDateTime sentAt) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> receivers = List.copyOf(receiverIds);
+        String member = String.valueOf(senderId);
+        double score = toScore(sentAt);
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        for (Long receiverId : receivers) {
+                            String key = KEY_PREFIX + receiverId;
+                            // 같은 유저가 다시 보내면 score 만 갱신되어 중복 없이 맨 앞으로 이동
+                            ops.opsForZSet().add(key, member, score);
+                            ops.opsForZSet().remove(key, EMPTY_MARKER);
+                            // 오래된 유저부터 잘라내서 CAPACITY 개만 유지
+                            ops.opsForZSet().removeRange(key, 0, -(CAPACITY + 1));
+                            ops.expire(key, TTL);
+                        }
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                // 캐시 갱신 실패는 칭찬 생성에 영향 주지 않음 (키 삭제 후 다음 조회 때 DB 로 재생성)
+                log.warn("Failed to record recent praise sender - receivers: {}, senderId: {}", receivers.size(), senderId, e);
+                receivers.forEach(this::evict);
+            }
+        });
+    }
+
+    /* 최근 칭찬 보낸 유저 ID 조회 (최신순) - 목록이 없으면 DB 로 재생성 */
+    public List<Long> getRecentSenderIds(Long receiverId, int limit) {
+        String key = KEY_PREFIX + receiverId;
+        try {
+            Set<String> cached = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+            if (cached != null && !cached.isEmpty()) {
+                return cached.stream()
+                        .filter(member -> !EMPTY_MARKER.equals(member))
+                        .map(Long::valueOf)
+                        .toList();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read recent praise senders - receiverId: {}", receiverId, e);
+            return findRecentSenderIdsFromDb(receiverId, limit);
+        }
+
+        return rebuild(receiverId).stream().limit(limit).toList();
+    }
+
+    /* DB 기준으로 최근 칭찬 보낸 유저 목록 재생성 */
+    public List<Long> rebuild(Long receiverId) {
+        String key = KEY_PREFIX + receiverId;
+
+        // row : [보낸 유저 ID, 마지막으로 보낸 시간]
+        List<Object[]> rows = praiseReceiverRepository.findRecentSenderIdsByReceiver(receiverId, PageRequest.of(0, CAPACITY));
+        if (rows.isEmpty()) {
+            cacheEmpty(key);
+            return List.of();
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Object[] row : rows) {
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(row[0]), toScore((LocalDateTime) row[1])));
+        }
+
+        try {
+            redisTemplate.delete(key);
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.expire(key, TTL);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild recent praise senders - receiverId: {}", receiverId, e);
+        }
+
+        return rows.stream().map(row -> (Long) row[0]).toList();
+    }
+
+    // 빈 목록 캐시 (칭찬을 받으면 recordSenders 에서 표시 member 를 지움)
+    private void cacheEmpty(String key) {
+        try {
+            redisTemplate.opsForZSet().add(key, EMPTY_MARKER, 0);
+            redisTemplate.expire(key, EMPTY_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to cache empty recent praise senders - key: {}", key, e);
+        }
+    }
+
+    public void evict(Long receiverId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + receiverId);
+        } catch (Exception e) {
+            log.warn("Failed to evict recent praise senders - receiverId: {}", receiverId, e);
+        }
+    }
+
+    private List<Long> findRecentSenderIdsFromDb(Long receiverId, int limit) {
+        return praiseReceiverRepository.findRecentSenderIdsByReceiver(receiverId, PageRequest.of(0, limit)).stream()
+                .map(row -> (Long) row[0])
+                .toList();
+    }
+
+    private double toScore(LocalDateTime sentAt) {
+        LocalDateTime time = sentAt != null ? sentAt : LocalDateTime.now();
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
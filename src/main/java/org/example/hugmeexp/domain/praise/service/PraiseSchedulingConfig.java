@@ -0,0 +1,154 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.repository.PraiseRepository;
+import org.example.hugmeexp.domain.praise.util.EmojiUtil;
+import org.example.hugmeexp.global.common.service.SchemaMigrationService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PraiseSchedulingConfig {
+
+    // 이모지 원본 컬럼이 있는 반응 테이블 (ZWJ / 피부색 조합 이모지를 담도록 VARCHAR(10) -> EmojiUtil.MAX_LENGTH)
+    private static final String[] EMOJI_REACTION_TABLES = {"praise_emoji_reaction", "comment_emoji_reaction"};
+
+    // 인기 칭찬글 조회 인덱스 (기간 조건 컬럼을 앞에 둠, 이전 (reaction_count, created_at) 인덱스는 삭제)
+    private static final String PRAISE_TABLE = "praise";
+    private static final String POPULAR_INDEX = "idx_praise_created_at_reaction_count";
+    private static final String LEGACY_POPULAR_INDEX = "idx_praise_reaction_count_created_at";
+    private static final List<String> POPULAR_INDEX_COLUMNS = List.of("created_at", "reaction_count");
+
+    // 반응 / 댓글이 있는데 집계 컬럼이 0 인 칭찬글 (집계 컬럼 추가 이전 데이터)
+    private static final String UNCOUNTED_PRAISE_SQL =
+            "SELECT p.id FROM praise p WHERE " +
+            "(p.reaction_count = 0 AND EXISTS (SELECT 1 FROM praise_emoji_reaction r WHERE r.praise_id = p.id)) " +
+            "OR (p.comment_count = 0 AND EXISTS (SELECT 1 FROM praise_comment c WHERE c.praise_id = p.id)) LIMIT 1";
+
+    private static final String DAILY_STAT_TABLE = "praise_daily_stat";
+    private static final String DAILY_STAT_UNIQUE_KEY = "uk_praise_daily_stat_receiver_date_type";
+
+    // (받은 유저, 날짜, 칭찬 타입) 별로 나뉜 집계 행의 개수를 가장 먼저 생긴 행에 합침
+    private static final String MERGE_DUPLICATE_DAILY_STATS_SQL =
+            "UPDATE praise_daily_stat s JOIN (" +
+            "SELECT MIN(id) AS id, SUM(count) AS total FROM praise_daily_stat " +
+            "GROUP BY receiver_id, stat_date, praise_type HAVING COUNT(*) > 1) d ON d.id = s.id " +
+            "SET s.count = d.total";
+
+    private static final String DELETE_DUPLICATE_DAILY_STATS_SQL =
+            "DELETE s FROM praise_daily_stat s JOIN praise_daily_stat k " +
+            "ON k.receiver_id = s.receiver_id AND k.stat_date = s.stat_date AND k.praise_type = s.praise_type AND k.id < s.id";
+
+    private static final String ADD_DAILY_STAT_UNIQUE_KEY_SQL =
+            "ALTER TABLE praise_daily_stat ADD CONSTRAINT " + DAILY_STAT_UNIQUE_KEY + " UNIQUE (receiver_id, stat_date, praise_type)";
+
+    private final PraiseRepository praiseRepository;
+    private final PraiseStatService praiseStatService;
+    private final SchemaMigrationService schemaMigrationService;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void init() {
+        log.info("==PraiseSchedulingConfig== initialized");
+    }
+
+    // 집계 컬럼 추가 이전의 칭찬글 반응/댓글 수 채우기 (서버 시작 시)
+    // 반응이나 댓글이 있는데 집계 값이 0 인 칭찬글이 있을 때만 어긋난 행만 보정 (한 번 채우고 나면 확인 쿼리만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillPraiseEngagementCounts() {
+        if (schemaMigrationService.findIds(UNCOUNTED_PRAISE_SQL).isEmpty()) {
+            return;
+        }
+        int updated = praiseRepository.syncDriftedEngagementCounts();
+        log.info("backfilled praise engagement counts: {} praises", updated);
+    }
+
+    // 반응/댓글 집계 컬럼을 원본 테이블 기준으로 보정 (매일 새벽 4시, 어긋난 행만)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void syncPraiseEngagementCounts() {
+        int updated = praiseRepository.syncDriftedEngagementCounts();
+        log.info("synced praise engagement counts: {} praises", updated);
+    }
+
+    // 인기 칭찬글 인덱스 컬럼 순서 변경 (서버 시작 시, ddl-auto 는 기존 인덱스의 컬럼 순서를 바꾸거나 이전 인덱스를 지우지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migratePopularPraiseIndex() {
+        try {
+            List<String> columns = schemaMigrationService.findIndexColumns(PRAISE_TABLE, POPULAR_INDEX);
+            if (!columns.isEmpty() && !POPULAR_INDEX_COLUMNS.equals(columns)) {
+                schemaMigrationService.update("ALTER TABLE " + PRAISE_TABLE + " DROP INDEX " + POPULAR_INDEX);
+            }
+            if (!POPULAR_INDEX_COLUMNS.equals(columns)) {
+                schemaMigrationService.update("CREATE INDEX " + POPULAR_INDEX + " ON " + PRAISE_TABLE +
+                        " (" + String.join(", ", POPULAR_INDEX_COLUMNS) + ")");
+                log.info("created {}: {} -> {}", POPULAR_INDEX, columns, POPULAR_INDEX_COLUMNS);
+            }
+            if (schemaMigrationService.hasIndex(PRAISE_TABLE, LEGACY_POPULAR_INDEX)) {
+                schemaMigrationService.update("ALTER TABLE " + PRAISE_TABLE + " DROP INDEX " + LEGACY_POPULAR_INDEX);
+                log.info("dropped {}", LEGACY_POPULAR_INDEX);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to migrate popular praise index", e);
+        }
+    }
+
+    // 반응 이모지 컬럼 길이 확장 (서버 시작 시, ddl-auto 는 기존 VARCHAR 길이를 늘리지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void widenEmojiColumns() {
+        for (String table : EMOJI_REACTION_TABLES) {
+            try {
+                Long length = schemaMigrationService.findColumnLength(table, "emoji");
+                if (length != null && length < EmojiUtil.MAX_LENGTH) {
+                    schemaMigrationService.update("ALTER TABLE " + table + " MODIFY emoji VARCHAR(" + EmojiUtil.MAX_LENGTH + ") NOT NULL");
+                    log.info("widened {}.emoji: {} -> {}", table, length, EmojiUtil.MAX_LENGTH);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to widen {}.emoji", table, e);
+            }
+        }
+    }
+
+    // 일별 칭찬 타입 집계 unique 키 적용 (서버 시작 시, 이미 있으면 건너뜀)
+    // 동시에 생성되어 나뉜 집계 행이 있으면 ddl-auto 의 키 추가가 실패하므로 개수를 합친 뒤 중복 행을 지우고 직접 추가
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migratePraiseDailyStatUniqueKey() {
+        try {
+            if (schemaMigrationService.hasIndex(DAILY_STAT_TABLE, DAILY_STAT_UNIQUE_KEY)) {
+                return;
+            }
+
+            // 합치기와 중복 삭제는 한 트랜잭션으로 실행 (중간에 실패한 뒤 다시 합치면 개수가 두 번 더해짐)
+            int deleted = new TransactionTemplate(transactionManager).execute(status -> {
+                schemaMigrationService.update(MERGE_DUPLICATE_DAILY_STATS_SQL);
+                return schemaMigrationService.update(DELETE_DUPLICATE_DAILY_STATS_SQL);
+            });
+            schemaMigrationService.update(ADD_DAILY_STAT_UNIQUE_KEY_SQL);
+            log.info("praise daily stat unique key added - duplicate rows merged: {}", deleted);
+        } catch (Exception e) {
+            log.warn("Failed to add praise daily stat unique key", e);
+        }
+    }
+
+    // 일별 칭찬 타입 집계가 비어 있으면 기존 데이터로 백필 (서버 시작 시, unique 키 기준 upsert 라 다시 실행해도 같은 결과)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPraiseDailyStats() {
+        praiseStatService.rebuildDailyStatsIfEmpty();
+    }
+}
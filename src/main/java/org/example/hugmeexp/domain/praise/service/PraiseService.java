@@ -2,29 +2,41 @@ package org.example.hugmeexp.domain.praise.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.missionGroup.entity.MissionGroup;
+import org.example.hugmeexp.domain.missionGroup.exception.MissionGroupNotFoundException;
+import org.example.hugmeexp.domain.missionGroup.repository.MissionGroupRepository;
+import org.example.hugmeexp.domain.missionGroup.repository.UserMissionGroupRepository;
 import org.example.hugmeexp.domain.notification.service.NotificationService;
 import org.example.hugmeexp.domain.praise.dto.*;
 import org.example.hugmeexp.domain.praise.entity.*;
+import org.example.hugmeexp.domain.praise.enums.PraiseStatPeriod;
 import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.praise.exception.EmptyMissionGroupPraiseException;
 import org.example.hugmeexp.domain.praise.exception.PraiseNotFoundException;
 import org.example.hugmeexp.domain.praise.exception.UserNotFoundInPraiseException;
 import org.example.hugmeexp.domain.praise.mapper.PraiseMapper;
 import org.example.hugmeexp.domain.praise.repository.*;
 import org.example.hugmeexp.domain.user.dto.response.UserProfileResponse;
 import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.service.UserNameIndexService;
 import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -37,9 +49,21 @@ public class PraiseService {
     private final PraiseEmojiReactionRepository praiseEmojiReactionRepository;
     private final UserRepository userRepository;
     private final PraiseReceiverRepository praiseReceiverRepository;
+    private final PraiseReceiverBulkRepository praiseReceiverBulkRepository;
     private final CommentEmojiReactionRepository commentEmojiReactionRepository;
     private final CommentService commentService;
     private final NotificationService notificationService;
+    private final UserNameIndexService userNameIndexService;
+    private final PraiseStatService praiseStatService;
+    private final PraiseDailyStatRepository praiseDailyStatRepository;
+    private final PraiseRecentSenderRedisService praiseRecentSenderRedisService;
+    private final MissionGroupRepository missionGroupRepository;
+    private final UserMissionGroupRepository userMissionGroupRepository;
+    private final PraiseCacheService praiseCacheService;
+    private final PraiseFeedEventService praiseFeedEventService;
+    private final EmojiDictionaryService emojiDictionaryService;
+
+    private static final int REACTOR_SAMPLE_SIZE = 5;    // 상세 조회 시 이모지별로 보여줄 반응자 수
 
 
     /* 칭찬 생성 */
@@ -47,37 +71,91 @@ public class PraiseService {
     public PraiseResponseDTO createPraise(PraiseRequestDTO praiseRequestDTO, User sender) {
 
 
-        List<User> receiverUsers = praiseRequestDTO.getReceiverUsername().stream()
-                .map(username -> userRepository.findByUsername(username)
-                        .orElseThrow(UserNotFoundInPraiseException::new)).toList();
+        // 받는 사람 한 번에 조회 (중복 username 제거, 요청 순서 유지)
+        List<String> receiverUsernames = praiseRequestDTO.getReceiverUsername().stream().distinct().toList();
+        Map<String, User> userByUsername = userRepository.findByUsernameIn(receiverUsernames).stream()
+                .collect(Collectors.toMap(User::getUsername, user -> user));
+
+        if (userByUsername.size() != receiverUsernames.size()) {
+            throw new UserNotFoundInPraiseException();
+        }
+
+        List<User> receiverUsers = receiverUsernames.stream().map(userByUsername::get).toList();
 
         // DTO -> Entity
          Praise praise = praiseMapper.toEntity(praiseRequestDTO, sender);
 
+        return savePraiseWithReceivers(praise, receiverUsers, sender);
+    }
+
+    /* 미션 그룹 전체 칭찬 생성 */
+    @Transactional
+    public PraiseResponseDTO createMissionGroupPraise(Long missionGroupId, PraiseMissionGroupRequestDTO requestDTO, User sender) {
+
+        MissionGroup missionGroup = missionGroupRepository.findById(missionGroupId)
+                .orElseThrow(MissionGroupNotFoundException::new);
+
+        // 그룹 멤버 한 번에 조회
+        List<User> members = userMissionGroupRepository.findUsersByMissionGroup(missionGroup);
+        if (members.isEmpty()) {
+            throw new EmptyMissionGroupPraiseException();
+        }
+
+        Praise praise = Praise.builder()
+                .sender(sender)
+                .content(requestDTO.getContent())
+                .praiseType(requestDTO.getType())
+                .build();
+
+        log.info("Mission group praise - missionGroupId: {}, members: {}", missionGroupId, members.size());
+
+        return savePraiseWithReceivers(praise, members, sender);
+    }
+
+    /* 칭찬 + 받는 사람 저장, 집계 갱신, 알림 (받는 사람 수와 관계 없이 일괄 처리) */
+    private PraiseResponseDTO savePraiseWithReceivers(Praise praise, List<User> receiverUsers, User sender) {
+
         // DB 에 저장
         Praise saved = praiseRepository.save(praise);
 
-        // PraiseReceiver 저장
+        // PraiseReceiver 일괄 저장 (응답 DTO 용 엔티티는 저장하지 않고 그대로 사용)
         List<PraiseReceiver> praiseReceivers = receiverUsers.stream()
                 .map(receiver -> PraiseReceiver.builder()
                         .praise(saved)
                         .receiver(receiver)
                         .build())
                 .toList();
-        praiseReceiverRepository.saveAll(praiseReceivers);
+        List<Long> receiverIds = receiverUsers.stream().map(User::getId).toList();
+        praiseReceiverBulkRepository.saveAll(saved.getId(), receiverIds);
 
-        // 알림 전송 시 자기 자신에게 보낸 칭찬은 제외
-        for (User receiver : receiverUsers) {
-            if (!receiver.getId().equals(sender.getId())) {
-                notificationService.sendPraiseNotification(receiver, saved.getId());
-            }
-        }
+        // 받는 사람별 일별 칭찬 타입 집계 증가
+        LocalDate statDate = saved.getCreatedAt() != null ? saved.getCreatedAt().toLocalDate() : LocalDate.now();
+        praiseStatService.increaseDailyStats(receiverUsers, saved.getPraiseType(), statDate);
+
+        // 받는 사람별 최근 칭찬 보낸 유저 목록 갱신
+        praiseRecentSenderRedisService.recordSenders(receiverIds, sender.getId(), saved.getCreatedAt());
+
+        // 작성 날짜의 피드 캐시 삭제 (커밋 후)
+        List<Long> relatedUserIds = new ArrayList<>(receiverIds);
+        relatedUserIds.add(sender.getId());
+        praiseCacheService.evictFeed(statDate, relatedUserIds);
+
+        // 알림 일괄 저장, SSE 전송은 커밋 후 (자기 자신에게 보낸 칭찬은 제외)
+        List<User> notifyUsers = receiverUsers.stream()
+                .filter(receiver -> !receiver.getId().equals(sender.getId()))
+                .toList();
+        notificationService.sendPraiseNotifications(notifyUsers, saved.getId());
 
         List<UserProfileResponse> commentPro = Collections.emptyList();
         List<EmojiReactionGroupDTO> emojis = Collections.emptyList();
 
         // Entity -> DTO
-        return PraiseResponseDTO.from(saved, praiseReceivers, 0L, emojis, commentPro);
+        PraiseResponseDTO response = PraiseResponseDTO.from(saved, praiseReceivers, 0L, emojis, commentPro);
+
+        // 칭찬 피드 구독자에게 새 칭찬 전송
+        praiseFeedEventService.publishPraiseCreated(response);
+
+        return response;
 
 
     }
@@ -85,63 +163,45 @@ public class PraiseService {
     /* 날짜 조회 + 나와 관련된 칭찬 조건 */
     public List<PraiseResponseDTO> findByDateRange(LocalDate startDate, LocalDate endDate, User currentUser, boolean me) {
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();    // 2025-06-01 00:00:00
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);    // 2025-06-18 23:59:59.999
-        List<Praise> praiseList;
-
-        if(me){
-            // 내가 받은 칭찬
-            List<PraiseReceiver> received = praiseReceiverRepository.findByReceiverAndCreatedAtBetween(currentUser,startDateTime,endDateTime);
-            // 여러 명에게 칭찬 보냈을 경우 중복되어 보이는 칭찬 중복 제거
-            List<Praise> receivedPraises = received.stream().map(PraiseReceiver::getPraise).distinct().toList();
-
-            // 내가 보낸 칭찬
-            List<Praise> sent = praiseRepository.findWithSenderBySenderAndCreatedAtBetween(currentUser,startDateTime,endDateTime);
+        // 날짜 단위로 캐시 조회 (전체 / 나와 관련된 칭찬 범위 별로 따로 캐시)
+        String scope = me ? PraiseCacheService.userScope(currentUser.getId()) : PraiseCacheService.allScope();
+        List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+        Map<LocalDate, List<PraiseResponseDTO>> buckets = new HashMap<>(praiseCacheService.getFeedBuckets(scope, days));
+
+        List<LocalDate> missedDays = days.stream().filter(day -> !buckets.containsKey(day)).toList();
+        if (!missedDays.isEmpty()) {
+            // DB 조회 전 캐시 세대 - 조회 도중 삭제된 날짜는 이전 데이터일 수 있으므로 저장하지 않음
+            Map<LocalDate, String> generations = praiseCacheService.getFeedGenerations(scope, missedDays);
+
+            // 캐시에 없는 날짜 구간만 한 번에 조회 후 날짜별로 나눠서 저장
+            LocalDate missedStart = missedDays.get(0);
+            LocalDate missedEnd = missedDays.get(missedDays.size() - 1);
+            LocalDateTime startDateTime = missedStart.atStartOfDay();    // 2025-06-01 00:00:00
+            LocalDateTime endDateTime = missedEnd.atTime(LocalTime.MAX);    // 2025-06-18 23:59:59.999
+            List<Praise> praiseList;
+
+            if(me){
+                // 내가 받았거나 보낸 칭찬 - 한 번의 쿼리로 조회
+                praiseList = praiseRepository.findRelatedToUser(currentUser, startDateTime, endDateTime);
+
+            }else {
+                // 전체 칭찬 조회
+                praiseList = praiseRepository.findByCreatedAtBetween(startDateTime, endDateTime);
+            }
 
-            // 둘을 합치고 중복 제거
-            praiseList = Stream.concat(receivedPraises.stream(),sent.stream()).distinct().toList();
+            Map<LocalDate, List<PraiseResponseDTO>> loaded = toPraiseResponseDTOs(praiseList).stream()
+                    .collect(Collectors.groupingBy(dto -> dto.getCreatedAt().toLocalDate()));
 
-        }else {
-            // 전체 칭찬 조회
-            praiseList = praiseRepository.findByCreatedAtBetween(startDateTime, endDateTime);
+            // 칭찬이 없는 날짜도 빈 목록으로 캐시
+            Map<LocalDate, List<PraiseResponseDTO>> missedBuckets = new HashMap<>();
+            missedDays.forEach(day -> missedBuckets.put(day, loaded.getOrDefault(day, List.of())));
+            praiseCacheService.putFeedBuckets(scope, missedBuckets, generations);
+            buckets.putAll(missedBuckets);
         }
 
-        // 칭찬 받는 사람 리스트 매핑
-        Map<Long, List<PraiseReceiver>> receiverMap = praiseReceiverRepository.findByPraiseIn(praiseList).stream()
-                .collect(Collectors.groupingBy(pr -> pr.getPraise().getId()));
-
-        List<PraiseComment> allComments = commentRepository.findWithWriterByPraiseIn(praiseList);
-        Map<Long, List<PraiseComment>> commentMap = allComments.stream()
-                .collect(Collectors.groupingBy(comment -> comment.getPraise().getId()));
-
-        return praiseList.stream()
-                .map(praise -> {
-//                    long commentCount = commentRepository.countByPraise(praise);
-                    long commentCount = commentMap.getOrDefault(praise.getId(), List.of()).size();
-
-                    List<PraiseEmojiReaction> reactions = praiseEmojiReactionRepository.findByPraise(praise);
-
-                    // 이모지 그룹핑
-                    Map<String, List<PraiseEmojiReaction>> grouped = reactions.stream()
-                            .collect(Collectors.groupingBy(PraiseEmojiReaction::getEmoji));
-
-                    // 이모지 그룹 DTO 변환
-                    List<EmojiReactionGroupDTO> emojiGroups = grouped.entrySet().stream().map(entry -> EmojiReactionGroupDTO.from(entry.getKey(), entry.getValue())).toList();
-
-                    List<PraiseReceiver> receivers = receiverMap.getOrDefault(praise.getId(),List.of());
-
-//                    List<PraiseComment> comments = commentService.getCommentsByPraise(praise);
-
-                    List<UserProfileResponse> commentProfiles = commentMap.getOrDefault(praise.getId(),List.of()).stream()
-                            .map(c -> {
-                                User user = c.getCommentWriter();
-                                String url = user.getPublicProfileImageUrl();
-                                return new UserProfileResponse(url, user.getUsername(), user.getName());
-                            }).toList();
-
-                    return PraiseResponseDTO.from(praise,receivers,commentCount, emojiGroups,commentProfiles);
-
-                }).collect(Collectors.toList());
+        return days.stream()
+                .flatMap(day -> buckets.get(day).stream())
+                .collect(Collectors.toList());
     }
 
     /* 날짜 조회 + 나와 관련된 칭찬 조건 + keyword 조건 */
@@ -149,45 +209,87 @@ public class PraiseService {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
 
+        // keyword 가 이름에 포함된 유저 ID 를 이름 색인에서 조회
+        List<Long> userIds = userNameIndexService.findUserIdsByKeyword(keyword);
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         List<Praise> praiseList;
 
         if (me) {
-            List<PraiseReceiver> received = praiseReceiverRepository.findRelatedPraiseByReceiverWithKeyword(currentUser, startDateTime, endDateTime, keyword);
-            List<Praise> receivedPraises = received.stream()
-                    .map(PraiseReceiver::getPraise)
-                    .distinct()
-                    .toList();
+            // 내가 받았거나 보낸 칭찬 중 보낸 사람 / 받는 사람이 검색된 유저인 칭찬 - 한 번의 쿼리로 조회
+            praiseList = praiseRepository.findRelatedToUserWithSenderOrReceiverIdIn(currentUser, startDateTime, endDateTime, userIds);
+        } else {
+            praiseList = praiseRepository.findWithSenderBySenderOrReceiverIdIn(startDateTime, endDateTime, userIds);
+        }
+
+        return toPraiseResponseDTOs(praiseList);
+    }
+
+    /* 칭찬 피드 - (createdAt, id) 커서 기반 페이지 조회 */
+    public PraiseFeedResponseDTO getPraiseFeed(PraiseFeedRequestDTO request, User currentUser) {
+
+        LocalDateTime startDateTime = request.getStartDate().atStartOfDay();
+        LocalDateTime endDateTime = request.getEndDate().atTime(LocalTime.MAX);
+
+        // 첫 페이지는 조회 범위의 끝을 커서로 사용
+        LocalDateTime cursorCreatedAt = request.getCursorCreatedAt() != null ? request.getCursorCreatedAt() : endDateTime;
+        Long cursorId = request.getCursorId() != null ? request.getCursorId() : Long.MAX_VALUE;
 
-            List<Praise> sent = praiseRepository.findMySentPraiseWithKeywordWithSender(currentUser, startDateTime, endDateTime, keyword);
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+        int size = request.getSize();
+        Pageable pageable = PageRequest.of(0, size + 1);
+        String keyword = request.getKeyword();
 
-            praiseList = Stream.concat(receivedPraises.stream(), sent.stream())
-                    .distinct()
-                    .toList();
+        List<Praise> praiseList;
+        if (StringUtils.hasText(keyword)) {
+            // keyword 가 이름에 포함된 유저 ID 를 이름 색인에서 조회
+            List<Long> userIds = userNameIndexService.findUserIdsByKeyword(keyword);
+            if (userIds.isEmpty()) {
+                return PraiseFeedResponseDTO.of(List.of(), false);
+            }
+
+            praiseList = request.isMe()
+                    ? praiseRepository.findMyFeedPageWithSenderOrReceiverIdIn(currentUser, startDateTime, endDateTime, cursorCreatedAt, cursorId, userIds, pageable)
+                    : praiseRepository.findFeedPageWithSenderOrReceiverIdIn(startDateTime, endDateTime, cursorCreatedAt, cursorId, userIds, pageable);
         } else {
-            praiseList = praiseRepository.findALlPraisesWithSenderBySenderOrReceiverNameContaining(startDateTime, endDateTime, keyword);
+            praiseList = request.isMe()
+                    ? praiseRepository.findMyFeedPage(currentUser, startDateTime, endDateTime, cursorCreatedAt, cursorId, pageable)
+                    : praiseRepository.findFeedPage(startDateTime, endDateTime, cursorCreatedAt, cursorId, pageable);
         }
 
-        // 칭찬 받는 사람 매핑
+        boolean hasNext = praiseList.size() > size;
+        List<Praise> page = hasNext ? praiseList.subList(0, size) : praiseList;
+
+        return PraiseFeedResponseDTO.of(toPraiseResponseDTOs(page), hasNext);
+    }
+
+    /* 칭찬 목록 -> 응답 DTO 변환 (받는 사람, 댓글 작성자, 이모지 반응을 한 번에 조회) */
+    private List<PraiseResponseDTO> toPraiseResponseDTOs(List<Praise> praiseList) {
+
+        // 칭찬 받는 사람 리스트 매핑
         Map<Long, List<PraiseReceiver>> receiverMap = praiseReceiverRepository.findByPraiseIn(praiseList).stream()
                 .collect(Collectors.groupingBy(pr -> pr.getPraise().getId()));
 
         // 댓글 정보 한 번에 가져와서 매핑
         List<PraiseComment> allComments = commentRepository.findWithWriterByPraiseIn(praiseList);
         Map<Long, List<PraiseComment>> commentMap = allComments.stream()
-                .collect(Collectors.groupingBy(c -> c.getPraise().getId()));
+                .collect(Collectors.groupingBy(comment -> comment.getPraise().getId()));
+
+        // 이모지 반응 한 번에 조회 후 칭찬 별로 그룹핑
+        Map<Long, List<EmojiReactionGroupDTO>> emojiGroupMap = getEmojiGroupMap(praiseList);
 
         return praiseList.stream()
                 .map(praise -> {
-                    long commentCount = commentMap.getOrDefault(praise.getId(), List.of()).size();
+                    // 댓글 수는 칭찬글의 집계 컬럼 사용
+                    long commentCount = praise.getCommentCount();
 
-                    List<PraiseEmojiReaction> reactions = praiseEmojiReactionRepository.findByPraise(praise);
-                    Map<String, List<PraiseEmojiReaction>> grouped = reactions.stream()
-                            .collect(Collectors.groupingBy(PraiseEmojiReaction::getEmoji));
-                    List<EmojiReactionGroupDTO> emojiGroups = grouped.entrySet().stream()
-                            .map(entry -> EmojiReactionGroupDTO.from(entry.getKey(), entry.getValue()))
-                            .toList();
+                    // 이모지 그룹 DTO
+                    List<EmojiReactionGroupDTO> emojiGroups = emojiGroupMap.getOrDefault(praise.getId(), List.of());
 
                     List<PraiseReceiver> receivers = receiverMap.getOrDefault(praise.getId(), List.of());
+
                     List<UserProfileResponse> commentProfiles = commentMap.getOrDefault(praise.getId(), List.of()).stream()
                             .map(c -> {
                                 User user = c.getCommentWriter();
@@ -199,64 +301,57 @@ public class PraiseService {
                 }).collect(Collectors.toList());
     }
 
-
-
     /* 칭찬 반응 좋은 칭찬글 */
     public List<PraiseResponseDTO> findPopularPraises(LocalDate startDate, LocalDate endDate, int i) {
 
+        // 조회 개수가 0 이하면 조회할 칭찬글 없음 (PageRequest 는 1 미만 크기를 허용하지 않음)
+        if (i < 1) {
+            return List.of();
+        }
+
         LocalDateTime startDateTime = startDate.atStartOfDay();    // 2025-06-01 00:00:00
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);    // 2025-06-18 23:59:59.999
 
-        // 해당 기간 내 칭찬글 전체 조회
-        List<Praise> praiseList = praiseRepository.findByCreatedAtBetween(startDateTime, endDateTime);
+        // 반응 수 집계 컬럼 기준 상위 i개만 조회 (반응 0개인 칭찬글 제외, 동률이면 먼저 작성된 순)
+        List<Praise> praiseList = praiseRepository.findPopularPraises(startDateTime, endDateTime, PageRequest.of(0, i));
 
         // 받는 사람들 매핑
         Map<Long, List<PraiseReceiver>> receiverMap = praiseReceiverRepository.findByPraiseIn(praiseList).stream()
                 .collect(Collectors.groupingBy(praiseReceiver -> praiseReceiver.getPraise().getId()));
 
-        // DTO 변환 + 이모지 반응 수 기준 정렬
+        // 이모지 반응 한 번에 조회 후 칭찬 별로 그룹핑
+        Map<Long, List<EmojiReactionGroupDTO>> emojiGroupMap = getEmojiGroupMap(praiseList);
+
+        // DTO 변환 (정렬은 쿼리에서 처리)
         return praiseList.stream()
                 .map(praise -> {
-                    long commentCount = commentRepository.countByPraise(praise);
-
-                    // 이모지 전체 가져오기
-                    List<PraiseEmojiReaction> reactions = praiseEmojiReactionRepository.findByPraise(praise);
-
-                    // 이모지 기준 그룹핑
-                    Map<String, List<PraiseEmojiReaction>> grouped = reactions.stream()
-                            .collect(Collectors.groupingBy(PraiseEmojiReaction::getEmoji));
-
-                    // DTO 변환
-                    List<EmojiReactionGroupDTO> emojiGroups = grouped.entrySet().stream()
-                            .map(entry -> EmojiReactionGroupDTO.from(entry.getKey(),entry.getValue())).toList();
+                    // 이모지 그룹 DTO
+                    List<EmojiReactionGroupDTO> emojiGroups = emojiGroupMap.getOrDefault(praise.getId(), List.of());
 
                     // 수신자 리스트
                     List<PraiseReceiver> receivers = receiverMap.getOrDefault(praise.getId(), List.of());
 
-                    return PraiseResponseDTO.from(praise,receivers,commentCount,emojiGroups,List.of());
+                    return PraiseResponseDTO.from(praise,receivers,praise.getCommentCount(),emojiGroups,List.of());
 
                 })
-                .filter(praiseResponseDTO -> praiseResponseDTO.getEmojis() != null &&
-                        praiseResponseDTO.getEmojis().stream().mapToInt(EmojiReactionGroupDTO::getCount).sum()>0)
-
-                // 이모지 반응 수 총합 기준 내림차순 정렬
-                .sorted(Comparator.comparingInt((PraiseResponseDTO p) ->
-                        p.getEmojis() == null ? 0 : p.getEmojis().stream().mapToInt(EmojiReactionGroupDTO::getCount).sum()
-                ).reversed())
-                .limit(i)
                 .collect(Collectors.toList());
 
     }
 
     /* 칭찬 칭찬 비율(한달동안 받은 칭찬 종류 각각 비율) */
     public List<PraiseRatioResponseDTO> getPraiseRatioForLastMonth(Long userId) {
+        return getPraiseRatio(userId, PraiseStatPeriod.MONTH);
+    }
+
+    /* 기간(일주일/한 달/일 년) 동안 받은 칭찬 종류 각각 비율 - 일별 집계 테이블 사용 */
+    public List<PraiseRatioResponseDTO> getPraiseRatio(Long userId, PraiseStatPeriod period) {
 
-        // 한 달 날짜 범위 설정
-        LocalDateTime endDateTime = LocalDateTime.now();
-        LocalDateTime startDateTime = endDateTime.minusMonths(1);
+        // 날짜 범위 설정 (오늘 포함)
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = period.startDateFrom(endDate);
 
         // 칭찬 타입 별로 count
-        List<Object[]> result = praiseReceiverRepository.countPraiseTypeByUserInMonth(userId,startDateTime,endDateTime);
+        List<Object[]> result = praiseDailyStatRepository.sumPraiseTypeByReceiverBetween(userId, startDate, endDate);
 
         // 총 받은 칭찬 개수 계산
         int total = result.stream()
@@ -282,20 +377,22 @@ public class PraiseService {
     /* 최근 칭찬 보낸 유저 조회 */
     public List<RecentPraiseSenderResponseDTO> getRecentPraiseSenders(Long userId) {
 
-        List<Praise> latestPraises = praiseReceiverRepository.findLatestPraisePerSender(userId);
+        // 최근 칭찬 보낸 유저 목록(Redis)에서 최신순 3명 조회
+        List<Long> senderIds = praiseRecentSenderRedisService.getRecentSenderIds(userId, 3);
 
         // 칭찬 받은게 없을 경우
-        if (latestPraises.isEmpty()) {
+        if (senderIds.isEmpty()) {
             log.info("No recent praises found for user: {}", userId);
             return Collections.emptyList();
         }
 
-        // 중복 제거된 보낸 유저 3명만 추출
-        return latestPraises.stream()
-                .sorted(Comparator.comparing(Praise::getCreatedAt).reversed())
-                .map(Praise::getSender)
-                .distinct()
-                .limit(3)
+        Map<Long, User> senderMap = userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, sender -> sender));
+
+        // 최신순 유지 (탈퇴한 유저는 제외)
+        return senderIds.stream()
+                .map(senderMap::get)
+                .filter(Objects::nonNull)
                 .map(sender -> {
                     String url = sender.getPublicProfileImageUrl();
                     UserProfileResponse profile = new UserProfileResponse(url, sender.getUsername(), sender.getName());
@@ -309,6 +406,17 @@ public class PraiseService {
     /* 칭찬 상세 조회 */
     public PraiseDetailResponseDTO getPraiseDetail(Long praiseId) {
 
+        // 칭찬 ID 단위 캐시 - 댓글 / 반응 변경 시 삭제됨
+        return praiseCacheService.getDetail(praiseId).orElseGet(() -> {
+            String generation = praiseCacheService.getDetailGeneration(praiseId);
+            PraiseDetailResponseDTO detail = loadPraiseDetail(praiseId);
+            praiseCacheService.putDetail(praiseId, detail, generation);
+            return detail;
+        });
+    }
+
+    private PraiseDetailResponseDTO loadPraiseDetail(Long praiseId) {
+
         // 칭찬 엔티티 조회
 //        Praise praise = praiseRepository.findById(praiseId).orElseThrow(() -> new PraiseNotFoundException());
 
@@ -316,40 +424,123 @@ public class PraiseService {
         Praise praise = praiseRepository.findWithSenderById(praiseId).orElseThrow(PraiseNotFoundException::new);
 
         // 칭찬 받은 사람 리스트 조회
-        List<PraiseReceiver> receiverList = praiseReceiverRepository.findByPraise(praise);
+        List<PraiseReceiver> receiverList = praiseReceiverRepository.findWithReceiverByPraise(praise);
 
         // 댓글 목록 조회
         List<PraiseComment> commentList = commentService.getCommentsByPraise(praise);
 
-        // 게시물 이모지 반응 가져오기
-        List<PraiseEmojiReaction> reactions = praiseEmojiReactionRepository.findByPraise(praise);
+        // 게시물 이모지 반응 - 이모지별 전체 개수 + 먼저 반응한 유저 일부만 (전체 목록은 getPraiseReactors 로 조회)
+        // row : [이모지, 반응 ID, 반응자 username, 반응자 이름] (반응 순 정렬)
+        Map<String, List<ReactionUserDTO>> emojiSampleMap = new HashMap<>();
+        for (Object[] row : praiseEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, REACTOR_SAMPLE_SIZE)) {
+            emojiSampleMap.computeIfAbsent((String) row[0], e -> new ArrayList<>())
+                    .add(ReactionUserDTO.builder()
+                            .id((Long) row[1])
+                            .username((String) row[2])
+                            .name((String) row[3])
+                            .build());
+        }
+
+        // row : [이모지 코드, 이모지, 개수]
+        List<EmojiReactionGroupDTO> emojiGroups = praiseEmojiReactionRepository.countByEmojiOfPraise(praiseId).stream()
+                .map(row -> EmojiReactionGroupDTO.of((String) row[1], (Long) row[2], emojiSampleMap.getOrDefault((String) row[1], List.of())))
+                .toList();
+
+        // 댓글 별 이모지 반응 - 개수는 쿼리에서 묶어서 조회, 반응자는 댓글 / 이모지별로 먼저 반응한 유저 일부만 (전체 목록은 CommentEmojiReactionService.getCommentReactors 로 조회)
+        // row : [댓글 ID, 이모지, 개수] (댓글마다 먼저 달린 이모지 순)
+        Map<Long, Map<String, Long>> commentEmojiCountMap = new HashMap<>();
+        for (Object[] row : commentEmojiReactionRepository.countByCommentAndEmojiOfPraise(praiseId)) {
+            commentEmojiCountMap.computeIfAbsent((Long) row[0], id -> new LinkedHashMap<>())
+                    .merge((String) row[1], (Long) row[2], Long::sum);
+        }
+
+        // row : [댓글 ID, 이모지, 반응자 ID, 반응자 username, 반응자 이름] (댓글, 반응 순 정렬)
+        Map<Long, Map<String, List<ReactionUserDTO>>> commentEmojiMap = new HashMap<>();
+        for (Object[] row : commentEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, REACTOR_SAMPLE_SIZE)) {
+            commentEmojiMap.computeIfAbsent((Long) row[0], id -> new LinkedHashMap<>())
+                    .computeIfAbsent((String) row[1], e -> new ArrayList<>())
+                    .add(ReactionUserDTO.builder()
+                            .id((Long) row[2])
+                            .username((String) row[3])
+                            .name((String) row[4])
+                            .build());
+        }
+
+        return PraiseDetailResponseDTO.from(praise,receiverList,commentList,emojiGroups,commentEmojiMap,commentEmojiCountMap);
+    }
+
+    /* 칭찬 게시물 이모지 반응자 목록 - 반응 ID 커서 기준 페이지 조회 */
+    public PraiseReactorPageResponseDTO getPraiseReactors(Long praiseId, PraiseReactorRequestDTO requestDTO) {
 
-        Map<String, List<PraiseEmojiReaction>> grouped = reactions.stream()
-                .collect(Collectors.groupingBy(PraiseEmojiReaction::getEmoji));
+        if (!praiseRepository.existsById(praiseId)) {
+            throw new PraiseNotFoundException();
+        }
+
+        // 첫 페이지는 커서 없이 처음부터
+        long cursorId = requestDTO.getCursorId() != null ? requestDTO.getCursorId() : 0L;
+        int size = requestDTO.getSize();
+
+        // 사전에 없는 이모지면 반응자도 없음
+        Integer emojiCode = emojiDictionaryService.findCode(requestDTO.getEmoji()).orElse(null);
+        if (emojiCode == null) {
+            return PraiseReactorPageResponseDTO.of(requestDTO.getEmoji(), List.of(), false);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<ReactionUserDTO> reactors = findReactors(praiseId, emojiCode, cursorId, size + 1);
+        boolean hasNext = reactors.size() > size;
+
+        return PraiseReactorPageResponseDTO.of(requestDTO.getEmoji(), hasNext ? reactors.subList(0, size) : reactors, hasNext);
+    }
 
-        List<EmojiReactionGroupDTO> emojiGroups = grouped.entrySet().stream()
-                .map(entry -> EmojiReactionGroupDTO.from(entry.getKey(), entry.getValue()))
+    /* 한 이모지의 반응자를 반응 ID 순으로 limit 개 조회 */
+    private List<ReactionUserDTO> findReactors(Long praiseId, Integer emojiCode, long cursorId, int limit) {
+
+        // row : [반응 ID, 반응자 username, 반응자 이름]
+        return praiseEmojiReactionRepository.findReactorsByPraiseIdAndEmojiCode(praiseId, emojiCode, cursorId, PageRequest.of(0, limit)).stream()
+                .map(row -> ReactionUserDTO.builder()
+                        .id((Long) row[0])
+                        .username((String) row[1])
+                        .name((String) row[2])
+                        .build())
                 .toList();
+    }
 
-        List<CommentEmojiReaction> commentReactions = commentEmojiReactionRepository.findWithReactorByPraise(praise);
+    /* 여러 칭찬의 이모지 반응을 한 번의 쿼리로 조회해서 칭찬 ID 별 이모지 그룹으로 매핑 */
+    private Map<Long, List<EmojiReactionGroupDTO>> getEmojiGroupMap(List<Praise> praiseList) {
 
-        // 댓글 별 이모지 반응 수 조회
-        Map<Long, Map<String, List<ReactionUserDTO>>> commentEmojiMap = commentReactions.stream()
+        if (praiseList.isEmpty()) {
+            return Map.of();
+        }
+
+        // row : [칭찬 ID, 이모지, 반응 ID, 반응자 username, 반응자 이름]
+        List<Object[]> rows = praiseEmojiReactionRepository.findReactionSummaryByPraiseIn(praiseList);
+
+        // 칭찬 ID -> 이모지 -> 반응자 리스트 (쿼리 정렬 순서 유지)
+        Map<Long, Map<String, List<ReactionUserDTO>>> grouped = rows.stream()
                 .collect(Collectors.groupingBy(
-                        r -> r.getComment().getId(),
+                        row -> (Long) row[0],
+                        LinkedHashMap::new,
                         Collectors.groupingBy(
-                                CommentEmojiReaction::getEmoji,
+                                row -> (String) row[1],
+                                LinkedHashMap::new,
                                 Collectors.mapping(
-                                        r -> ReactionUserDTO.builder()
-                                                .id(r.getReactorWriter().getId())
-                                                .username(r.getReactorWriter().getUsername())
-                                                .name(r.getReactorWriter().getName())
+                                        row -> ReactionUserDTO.builder()
+                                                .id((Long) row[2])
+                                                .username((String) row[3])
+                                                .name((String) row[4])
                                                 .build(),
                                         Collectors.toList()
                                 )
                         )
                 ));
 
-        return PraiseDetailResponseDTO.from(praise,receiverList,commentList,emojiGroups,commentEmojiMap);
+        return grouped.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().entrySet().stream()
+                                .map(emojiEntry -> EmojiReactionGroupDTO.of(emojiEntry.getKey(), emojiEntry.getValue()))
+                                .toList()
+                ));
     }
 }
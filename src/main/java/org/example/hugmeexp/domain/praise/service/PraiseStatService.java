@@ -0,0 +1,58 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.praise.repository.PraiseDailyStatBulkRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseDailyStatRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PraiseStatService {
+
+    private final PraiseDailyStatRepository praiseDailyStatRepository;
+    private final PraiseDailyStatBulkRepository praiseDailyStatBulkRepository;
+    private final PraiseReceiverRepository praiseReceiverRepository;
+
+    /* 칭찬 생성 시 받는 사람별 일별 집계 증가 */
+    @Transactional
+    public void increaseDailyStats(List<User> receivers, PraiseType praiseType, LocalDate statDate) {
+
+        List<Long> receiverIds = receivers.stream().map(User::getId).distinct().toList();
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        // 집계 행이 있으면 1 증가, 없으면 생성 (받는 사람 수만큼 한 번의 JDBC 배치로 실행, 동시에 생성되어도 unique 키 기준으로 합쳐짐)
+        praiseDailyStatBulkRepository.increaseAll(receiverIds, statDate, praiseType);
+    }
+
+    /* 기존 칭찬 데이터로 일별 집계 전체 재생성 */
+    @Transactional
+    public int rebuildDailyStats() {
+
+        praiseDailyStatRepository.deleteAllInBatch();
+        int affected = praiseDailyStatBulkRepository.upsertAllFromPraises();
+
+        log.info("Praise daily stats rebuilt - affected rows: {}", affected);
+        return affected;
+    }
+
+    /* 집계 테이블이 비어 있으면 백필 */
+    // 여러 서버가 동시에 백필해도 unique 키 기준으로 같은 값을 덮어쓰므로 중복 행이 생기지 않음
+    @Transactional
+    public void rebuildDailyStatsIfEmpty() {
+        if (praiseDailyStatRepository.count() == 0 && praiseReceiverRepository.count() > 0) {
+            int affected = praiseDailyStatBulkRepository.upsertAllFromPraises();
+            log.info("Praise daily stats backfilled - affected rows: {}", affected);
+        }
+    }
+}
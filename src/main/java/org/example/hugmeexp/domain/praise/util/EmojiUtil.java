@@ -2,37 +2,79 @@ package org.example.hugmeexp.domain.praise.util;
 
 public class EmojiUtil {
 
+    // 이모지 시퀀스 최대 길이 (UTF-16 char 기준, ZWJ + 피부색 조합 포함)
+    public static final int MAX_LENGTH = 32;
+
+    private static final int VARIATION_SELECTOR_TEXT = 0xFE0E;
+    private static final int VARIATION_SELECTOR_EMOJI = 0xFE0F;
+
+    // 검사 대상 최대 코드 포인트
+    private static final int MAX_CODE_POINT = 0x1FAFF;
+
+    // 코드 포인트 -> 이모지 구성 문자 여부 비트 테이블 (클래스 로딩 시 한 번만 생성)
+    private static final long[] EMOJI_TABLE = new long[(MAX_CODE_POINT >>> 6) + 1];
+
+    static {
+        mark(0x1F600, 0x1F64F);   // Emoticons
+        mark(0x1F300, 0x1F5FF);   // Misc Symbols and Pictographs
+        mark(0x1F680, 0x1F6FF);   // Transport and Map
+        mark(0x1F1E6, 0x1F1FF);   // Regional Indicator
+        mark(0x2600, 0x26FF);     // Misc symbols
+        mark(0x2700, 0x27BF);     // Dingbats
+        mark(0xFE00, 0xFE0F);     // Variation Selectors
+        mark(0x1F900, 0x1F9FF);   // Supplemental Symbols
+        mark(0x1FA70, 0x1FAFF);   // Extended-A
+        mark(0x1F3FB, 0x1F3FF);   // Skin tone
+        mark(0x200D, 0x200D);     // ZWJ
+        mark(0x20E3, 0x20E3);     // Keycap
+        mark(0x1F004, 0x1F004);   // Mahjong
+        mark(0x1F0CF, 0x1F0CF);   // Playing card
+        mark(0x1F18E, 0x1F18E);
+        mark(0x1F191, 0x1F19A);
+        mark(0x1F201, 0x1F202);
+        mark(0x1F21A, 0x1F21A);
+        mark(0x1F22F, 0x1F23A);
+        mark(0x1F250, 0x1F251);
+    }
+
+    private static void mark(int from, int to) {
+        for (int codePoint = from; codePoint <= to; codePoint++) {
+            EMOJI_TABLE[codePoint >>> 6] |= 1L << codePoint;
+        }
+    }
+
+    /* 이모지로만 이루어진 문자열인지 검사 - 배열 생성 없이 코드 포인트 순회 + 비트 테이블 조회 */
     public static boolean isOnlyEmoji(String input) {
-        if (input == null || input.isBlank()) return false;
+        if (input == null || input.isBlank() || input.length() > MAX_LENGTH) return false;
 
-        int[] codePoints = input.codePoints().toArray();
-        for (int cp : codePoints) {
-            if (!isEmojiRelated(cp)) return false;
+        for (int i = 0; i < input.length(); ) {
+            int codePoint = input.codePointAt(i);
+            if (!isEmojiRelated(codePoint)) return false;
+            i += Character.charCount(codePoint);
         }
         return true;
     }
 
+    /*
+     * 이모지 사전 키로 쓰는 정규화 형태
+     * - 표시 방식만 바꾸는 Variation Selector(FE0E, FE0F)는 제거 ("❤" 와 "❤️" 는 같은 이모지)
+     * - ZWJ, 피부색 등 모양이 달라지는 문자는 그대로 유지
+     */
+    public static String canonicalize(String emoji) {
+        StringBuilder sb = new StringBuilder(emoji.length());
+        for (int i = 0; i < emoji.length(); ) {
+            int codePoint = emoji.codePointAt(i);
+            if (codePoint != VARIATION_SELECTOR_TEXT && codePoint != VARIATION_SELECTOR_EMOJI) {
+                sb.appendCodePoint(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return sb.toString();
+    }
+
     private static boolean isEmojiRelated(int codePoint) {
-        return (codePoint >= 0x1F600 && codePoint <= 0x1F64F)   // Emoticons
-                || (codePoint >= 0x1F300 && codePoint <= 0x1F5FF)   // Misc Symbols and Pictographs
-                || (codePoint >= 0x1F680 && codePoint <= 0x1F6FF)   // Transport and Map
-                || (codePoint >= 0x1F1E6 && codePoint <= 0x1F1FF)   // Regional Indicator
-                || (codePoint >= 0x2600 && codePoint <= 0x26FF)     // Misc symbols
-                || (codePoint >= 0x2700 && codePoint <= 0x27BF)     // Dingbats
-                || (codePoint >= 0xFE00 && codePoint <= 0xFE0F)     // Variation Selectors
-                || (codePoint >= 0x1F900 && codePoint <= 0x1F9FF)   // Supplemental Symbols
-                || (codePoint >= 0x1FA70 && codePoint <= 0x1FAFF)   // Extended-A
-                || (codePoint >= 0x1F3FB && codePoint <= 0x1F3FF)   // Skin tone
-                || (codePoint == 0x200D)                            // ZWJ
-                || (codePoint == 0x20E3)                            // Keycap
-                || (codePoint == 0x1F004)                           // Mahjong
-                || (codePoint == 0x1F0CF)                           // Playing card
-                || (codePoint == 0x1F18E)
-                || (codePoint >= 0x1F191 && codePoint <= 0x1F19A)
-                || (codePoint >= 0x1F201 && codePoint <= 0x1F202)
-                || (codePoint == 0x1F21A)
-                || (codePoint >= 0x1F22F && codePoint <= 0x1F23A)
-                || (codePoint >= 0x1F250 && codePoint <= 0x1F251);
+        return codePoint <= MAX_CODE_POINT
+                && (EMOJI_TABLE[codePoint >>> 6] & (1L << codePoint)) != 0;
     }
 
     private EmojiUtil() {
@@ -10,6 +10,7 @@ import org.example.hugmeexp.domain.studydiary.dto.request.StudyDiaryUpdateReques
 import org.example.hugmeexp.domain.studydiary.dto.request.CommentCreateRequest;
 import org.example.hugmeexp.domain.studydiary.dto.request.MarkdownPreviewRequest;
 import org.example.hugmeexp.domain.studydiary.dto.response.MarkdownPreviewResponse;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySliceResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryWeekStatusResponse;
 import org.example.hugmeexp.domain.studydiary.service.StudyDiaryRedisService;
 import org.example.hugmeexp.domain.studydiary.service.StudyDiaryService;
@@ -18,10 +19,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @RestController
@@ -87,7 +96,9 @@ public class StudyDiaryController {
     
 
     @SecurityRequirement(name = "JWT")
-    @Operation(summary = "배움일기 검색")
+    @Operation(summary = "배움일기 검색", description = "응답 항목이 StudyDiaryFindAllResponse 에서 StudyDiarySearchResponse 로 변경됨. " +
+            "본문 전체(content) 대신 검색어 주변 본문(snippet, 검색어는 <em> 강조, HTML 이스케이프)과 검색 점수(score)를 응답함. " +
+            "결과는 관련도 순으로 정렬되며 sort 파라미터는 사용하지 않음")
     @GetMapping("/search")
     public ResponseEntity<Response<Object>> searchStudyDiaries(
             @RequestParam String keyword,
@@ -106,6 +117,19 @@ public class StudyDiaryController {
                 .build());
     }
 
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "배움일기 검색 색인 재생성", description = "전체 배움일기로 검색 색인을 다시 만듭니다. (관리자)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Response<Object>> rebuildSearchIndex() {
+
+        int indexed = studyDiaryService.rebuildSearchIndex();
+        return ResponseEntity.ok(Response.<Object>builder()
+                .message("검색 색인을 성공적으로 재생성했습니다.")
+                .data(indexed)
+                .build());
+    }
+
     
 
     @SecurityRequirement(name = "JWT")
@@ -115,7 +139,7 @@ public class StudyDiaryController {
             @PathVariable Long id,
             @AuthenticationPrincipal UserDetails userDetails) {
         
-        Object studyDiary = studyDiaryService.getStudyDiary(id);
+        Object studyDiary = studyDiaryService.getStudyDiary(id, userDetails);
         return ResponseEntity.ok(Response.<Object>builder()
                 .message("배움일기를 성공적으로 조회했습니다.")
                 .data(studyDiary)
@@ -123,11 +147,14 @@ public class StudyDiaryController {
     }
 
     @SecurityRequirement(name = "JWT")
-    @Operation(summary = "사용자 배움일기 목록 조회")
+    @Operation(summary = "사용자 배움일기 목록 조회", description = "다음 페이지는 응답의 nextCursorCreatedAt, nextCursorId 를 cursorCreatedAt, cursorId 로 보내서 조회합니다. " +
+            "cursorCreatedAt, cursorId 는 함께 보내야 하며 page 는 사용할 수 없습니다 (0 이외의 값은 400).")
     @GetMapping("/user/{user-id}")
     public ResponseEntity<Response<Object>> getUserStudyDiaries(
             @PathVariable("user-id") Long userId,
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
             @PageableDefault(
                     size = 10,              // 기본 페이지 크기
                     page = 0,               // 기본 페이지 번호 (0부터 시작)
@@ -135,23 +162,24 @@ public class StudyDiaryController {
                     direction = Sort.Direction.DESC  // 기본 정렬 방향
             ) Pageable pageable) {
         
-        Object userStudyDiaries = studyDiaryService.getUserStudyDiaries(userId, pageable);
+        Object userStudyDiaries = StudyDiarySliceResponse.of(studyDiaryService.getUserStudyDiaries(userId, cursorCreatedAt, cursorId, pageable));
         return ResponseEntity.ok(Response.<Object>builder()
                 .message("사용자 배움일기 목록을 성공적으로 조회했습니다.")
                 .data(userStudyDiaries)
                 .build());
     }
 
-//    @Operation(summary = "비슷한 배움일기 추천")
-//    @GetMapping("/{id}/similar")
-//    public ResponseEntity<Response<Object>> getSimilarStudyDiaries(@PathVariable Long id) {
-//
-//        Object similarStudyDiaries = studyDiaryService.getSimilarStudyDiaries(id);
-//        return ResponseEntity.ok(Response.<Object>builder()
-//                .message("비슷한 배움일기를 성공적으로 조회했습니다.")
-//                .data(similarStudyDiaries)
-//                .build());
-//    }
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "비슷한 배움일기 추천")
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<Response<Object>> getSimilarStudyDiaries(@PathVariable Long id) {
+
+        Object similarStudyDiaries = studyDiaryService.getSimilarStudyDiaries(id);
+        return ResponseEntity.ok(Response.<Object>builder()
+                .message("비슷한 배움일기를 성공적으로 조회했습니다.")
+                .data(similarStudyDiaries)
+                .build());
+    }
 
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "배움일기 생성")
@@ -210,6 +238,35 @@ public class StudyDiaryController {
                 .build());
     }
 
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "배움일기 임시저장 자동 저장")
+    @PutMapping("/draft/{id}")
+    public ResponseEntity<Response<Object>> autosaveDraft(
+            @PathVariable Long id,
+            @Valid @RequestBody StudyDiaryCreateRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long draftId = studyDiaryService.autosaveDraft(id, request, userDetails);
+        return ResponseEntity.ok(Response.<Object>builder()
+                .message("성공적으로 자동 저장되었습니다.")
+                .data(draftId)
+                .build());
+    }
+
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "배움일기 임시저장 발행")
+    @PostMapping("/draft/{id}/publish")
+    public ResponseEntity<Response<Object>> publishDraft(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long studyDiaryId = studyDiaryService.publishDraft(id, userDetails);
+        return ResponseEntity.ok(Response.<Object>builder()
+                .message("성공적으로 발행되었습니다.")
+                .data(studyDiaryId)
+                .build());
+    }
+
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "이번 주 작성 상태 조회")
     @GetMapping("/user/{user-id}/week-status")
@@ -224,19 +281,22 @@ public class StudyDiaryController {
                 .build());
     }
 
-//    @SecurityRequirement(name = "JWT")
-//    @Operation(summary = "배움일기 내보내기")
-//    @GetMapping("/user/{user-id}/export")
-//    public ResponseEntity<Response<Object>> exportStudyDiaries(
-//            @PathVariable("user-id") Long userId,
-//            @AuthenticationPrincipal UserDetails userDetails) {
-//
-//        Object exportData = studyDiaryService.exportStudyDiaries(userId);
-//        return ResponseEntity.ok(Response.<Object>builder()
-//                .message("배움일기를 성공적으로 내보냈습니다.")
-//                .data(exportData)
-//                .build());
-//    }
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "배움일기 내보내기 (마크다운 ZIP)")
+    @GetMapping("/user/{user-id}/export")
+    public ResponseEntity<StreamingResponseBody> exportStudyDiaries(
+            @PathVariable("user-id") Long userId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        StreamingResponseBody body = studyDiaryService.exportStudyDiaries(userId, userDetails);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("study-diaries-" + userId + ".zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
 
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "댓글 등록")
@@ -282,6 +342,20 @@ public class StudyDiaryController {
                 .build());
     }
 
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "배움일기 좋아요 여부 조회", description = "현재 로그인한 사용자가 좋아요를 눌렀는지 조회합니다.")
+    @GetMapping("/{id}/like")
+    public ResponseEntity<Response<Object>> isLiked(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Object liked = Boolean.valueOf(studyDiaryService.isLiked(id, userDetails));
+        return ResponseEntity.ok(Response.<Object>builder()
+                .message("좋아요 여부를 성공적으로 조회했습니다.")
+                .data(liked)
+                .build());
+    }
+
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "나의 주간 활동 상황", description = "현재 로그인한 사용자의 주간 활동 상황을 불러옵니다.")
     @GetMapping("/my/weeklyStatus")
@@ -295,10 +369,13 @@ public class StudyDiaryController {
     }
 
     @SecurityRequirement(name = "JWT")
-    @Operation(summary = "나의 글 목록 조회")
+    @Operation(summary = "나의 글 목록 조회", description = "다음 페이지는 응답의 nextCursorCreatedAt, nextCursorId 를 cursorCreatedAt, cursorId 로 보내서 조회합니다. " +
+            "cursorCreatedAt, cursorId 는 함께 보내야 하며 page 는 사용할 수 없습니다 (0 이외의 값은 400).")
     @GetMapping("/my/studyDiaries")
     public ResponseEntity<Response<Object>> getMyStudyDiaries(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
             @PageableDefault(
                     size = 10,              // 기본 페이지 크기
                     page = 0,               // 기본 페이지 번호 (0부터 시작)
@@ -306,7 +383,7 @@ public class StudyDiaryController {
                     direction = Sort.Direction.DESC  // 기본 정렬 방향
             ) Pageable pageable) {
 
-        Object userStudyDiaries = studyDiaryService.getMyStudyDiaries(userDetails, pageable);
+        Object userStudyDiaries = StudyDiarySliceResponse.of(studyDiaryService.getMyStudyDiaries(userDetails, cursorCreatedAt, cursorId, pageable));
         return ResponseEntity.ok(Response.<Object>builder()
                 .message("현재 로그인한 사용자의 배움일기 목록을 성공적으로 조회했습니다.")
                 .data(userStudyDiaries)
@@ -24,8 +24,14 @@ public class StudyDiaryDetailResponse {
 
     private String content;
 
+    private String renderedHtml;
+
     private int likeNum;
 
+    private long viewNum;
+
+    private long uniqueViewerNum;
+
     List<CommentDetailResponse> commentList;
 
     private LocalDateTime createdAt;
@@ -23,6 +23,8 @@ public class StudyDiaryFindAllResponse {
 
     private String title;
 
+    // 목록 조회에서는 본문 전체가 아닌 요약 (마크다운 문법을 제거한 앞부분 최대 150자, MarkdownExcerptUtil)
+    // 필드 이름은 기존 클라이언트 호환을 위해 유지 - 본문 전체는 상세 조회(StudyDiaryDetailResponse)로 조회
     private String content;
 
     private int likeNum;
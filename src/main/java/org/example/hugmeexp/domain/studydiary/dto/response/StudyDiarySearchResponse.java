@@ -0,0 +1,48 @@
+package org.example.hugmeexp.domain.studydiary.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+
+import java.time.LocalDateTime;
+
+// 배움일기 검색 응답 - 기존 검색 응답(StudyDiaryFindAllResponse)의 content(본문 전체)는 snippet(검색어 주변 본문)으로 대체되고 score 가 추가됨
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDiarySearchResponse {
+
+    private Long id;
+
+    private String name;
+
+    private String title;
+
+    // 검색어 주변 본문 (검색어는 <em> 으로 강조, HTML 이스케이프 처리됨)
+    private String snippet;
+
+    private int likeNum;
+
+    private int commentNum;
+
+    // 검색 점수 (높을수록 관련도 높음)
+    private double score;
+
+    private LocalDateTime createdAt;
+
+    public static StudyDiarySearchResponse of(StudyDiary studyDiary, double score, String snippet) {
+        return StudyDiarySearchResponse.builder()
+                .id(studyDiary.getId())
+                .name(studyDiary.getUser().getName())
+                .title(studyDiary.getTitle())
+                .snippet(snippet)
+                .likeNum(studyDiary.getLikeCount())
+                .commentNum(studyDiary.getCommentCount())
+                .score(score)
+                .createdAt(studyDiary.getCreatedAt())
+                .build();
+    }
+}
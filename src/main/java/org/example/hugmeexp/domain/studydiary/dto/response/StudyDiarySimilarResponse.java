@@ -0,0 +1,40 @@
+package org.example.hugmeexp.domain.studydiary.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDiarySimilarResponse {
+
+    private Long id;
+
+    private String name;
+
+    private String title;
+
+    private int likeNum;
+
+    // 추정 유사도 (0 ~ 1)
+    private double similarity;
+
+    private LocalDateTime createdAt;
+
+    public static StudyDiarySimilarResponse of(StudyDiary studyDiary, double similarity) {
+        return StudyDiarySimilarResponse.builder()
+                .id(studyDiary.getId())
+                .name(studyDiary.getUser().getName())
+                .title(studyDiary.getTitle())
+                .likeNum(studyDiary.getLikeCount())
+                .similarity(similarity)
+                .createdAt(studyDiary.getCreatedAt())
+                .build();
+    }
+}
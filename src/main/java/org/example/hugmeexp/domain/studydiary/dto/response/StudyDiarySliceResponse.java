@@ -0,0 +1,39 @@
+package org.example.hugmeexp.domain.studydiary.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDiarySliceResponse {
+
+    private List<StudyDiaryFindAllResponse> studyDiaries;    // 배움일기 목록 (최신순)
+
+    private boolean hasNext;    // 다음 페이지 존재 여부
+
+    private LocalDateTime nextCursorCreatedAt;    // 다음 페이지 요청 시 보낼 cursorCreatedAt
+
+    private Long nextCursorId;    // 다음 페이지 요청 시 보낼 cursorId
+
+    public static StudyDiarySliceResponse of(Slice<StudyDiaryFindAllResponse> slice) {
+
+        // 다음 커서는 현재 페이지의 마지막 배움일기
+        List<StudyDiaryFindAllResponse> content = slice.getContent();
+        StudyDiaryFindAllResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return StudyDiarySliceResponse.builder()
+                .studyDiaries(content)
+                .hasNext(slice.hasNext())
+                .nextCursorCreatedAt(slice.hasNext() && last != null ? last.getCreatedAt() : null)
+                .nextCursorId(slice.hasNext() && last != null ? last.getId() : null)
+                .build();
+    }
+}
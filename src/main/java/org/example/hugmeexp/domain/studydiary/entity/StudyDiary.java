@@ -2,18 +2,18 @@ package org.example.hugmeexp.domain.studydiary.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.example.hugmeexp.domain.studydiary.exception.LikeNotFoundException;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownExcerptUtil;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.global.entity.BaseEntity;
 
 import java.util.List;
-import java.util.Optional;
 
 @Getter
 @Entity
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "study_diary", indexes = @Index(name = "idx_study_diary_user_created", columnList = "user_id, created_at"))
 public class StudyDiary extends BaseEntity {
 
     @Id
@@ -33,50 +33,58 @@ public class StudyDiary extends BaseEntity {
 
     private String title;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String content;
+    // 본문 / 변환된 HTML (지연 로딩 - getContent(), getRenderedHtml() 호출 시에만 조회)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "studydiary_content_id")
+    private StudyDiaryContent body;
+
+    // 목록용 본문 요약 (마크다운 제거, 앞부분만) - 목록 조회는 content 대신 이 컬럼만 읽음
+    @Column(length = MarkdownExcerptUtil.MAX_LENGTH)
+    private String excerpt;
 
     private boolean isCreated;
 
     private int likeCount;
 
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;    // 댓글 수 (목록 조회 시 comments 컬렉션 로딩 없이 사용)
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;    // 조회수 (StudyDiaryViewCountService 에서 주기적으로 일괄 반영)
+
+    @Column(name = "unique_viewer_count", nullable = false)
+    private long uniqueViewerCount;    // 순 방문자 수 추정치 (Redis HyperLogLog)
+
     public void updateTitle(String title) {
         this.title = title;
     }
 
-    public void updateContent(String content) {
-        this.content = content;
+    public String getContent() {
+        return body != null ? body.getContent() : null;
     }
 
-    public void updateLikeCount(int likeCount) {
-        this.likeCount = likeCount;
+    // 본문을 HTML 로 변환한 결과 (저장 시 한 번만 변환, 상세 조회는 변환 없이 사용)
+    public String getRenderedHtml() {
+        return body != null ? body.getRenderedHtml() : null;
     }
 
-    public int deleteLike(Long userId) {
-        Optional<StudyDiaryLike> existingLike = this.likes.stream()
-                .filter(like -> like.getUser().getId().equals(userId))
-                .findFirst();
-
-        if (existingLike.isPresent()) {
-            StudyDiaryLike toRemove = existingLike.get();
-            this.likes.remove(toRemove);
-            this.likeCount--;
-            return this.likeCount;
-        } else {
-            throw new LikeNotFoundException();
-        }
+    public void updateContent(String content) {
+        ensureBody().updateContent(content);
+        this.excerpt = MarkdownExcerptUtil.excerpt(content);
     }
 
-    public int addLike(User user) {
-        StudyDiaryLike newLike = StudyDiaryLike.builder()
-                .studyDiary(this)
-                .user(user)
-                .build();
+    public void updateRenderedHtml(String renderedHtml) {
+        ensureBody().updateRenderedHtml(renderedHtml);
+    }
 
-        this.likes.add(newLike);
-        this.likeCount++;
+    private StudyDiaryContent ensureBody() {
+        if (body == null) {
+            body = StudyDiaryContent.of(null, null);
+        }
+        return body;
+    }
 
-        return likeCount;
+    public void updateLikeCount(int likeCount) {
+        this.likeCount = likeCount;
     }
 }
-
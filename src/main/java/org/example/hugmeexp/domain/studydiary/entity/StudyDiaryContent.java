@@ -0,0 +1,46 @@
+package org.example.hugmeexp.domain.studydiary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.hibernate.annotations.BatchSize;
+
+// 배움일기 본문 / 변환된 HTML (압축 저장)
+// study_diary 에서 분리해서 목록, 통계, 스케줄러 조회는 좁은 행만 읽고 본문은 상세 / 수정 시에만 지연 로딩
+@Getter
+@Entity
+@BatchSize(size = 100)    // 색인 재생성 등 여러 건 접근 시 IN 조회로 묶어서 로딩
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "study_diary_content")
+public class StudyDiaryContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "studydiary_content_id")
+    private Long id;
+
+    @Convert(converter = CompressedStringConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String content;
+
+    @Convert(converter = CompressedStringConverter.class)
+    @Column(name = "rendered_html", columnDefinition = "LONGBLOB")
+    private String renderedHtml;
+
+    public static StudyDiaryContent of(String content, String renderedHtml) {
+        StudyDiaryContent studyDiaryContent = new StudyDiaryContent();
+        studyDiaryContent.content = content;
+        studyDiaryContent.renderedHtml = renderedHtml;
+        return studyDiaryContent;
+    }
+
+    public void updateContent(String content) {
+        this.content = content;
+    }
+
+    public void updateRenderedHtml(String renderedHtml) {
+        this.renderedHtml = renderedHtml;
+    }
+}
@@ -10,6 +10,7 @@ import org.example.hugmeexp.global.entity.BaseEntity;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_studydiary_like_diary_user", columnNames = {"studydiary_id", "user_id"}))
 public class StudyDiaryLike extends BaseEntity {
 
     @Id
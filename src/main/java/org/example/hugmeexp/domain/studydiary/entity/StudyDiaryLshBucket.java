@@ -0,0 +1,34 @@
+package org.example.hugmeexp.domain.studydiary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 배움일기 LSH bucket (같은 bucket 에 들어간 배움일기가 유사 후보)
+@Getter
+@Entity
+@Table(name = "study_diary_lsh_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_study_diary_lsh_bucket_diary_key", columnNames = {"studydiary_id", "bucket_key"}),
+        indexes = @Index(name = "idx_study_diary_lsh_bucket_key_diary", columnList = "bucket_key, studydiary_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyDiaryLshBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "studydiary_id", nullable = false)
+    private Long studyDiaryId;
+
+    // 상위 32비트 band 번호 + 하위 32비트 band 해시
+    @Column(name = "bucket_key", nullable = false)
+    private long bucketKey;
+
+    @Builder
+    private StudyDiaryLshBucket(Long studyDiaryId, long bucketKey) {
+        this.studyDiaryId = studyDiaryId;
+        this.bucketKey = bucketKey;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.hugmeexp.domain.studydiary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 배움일기 MinHash 서명 (유사 배움일기 추천용)
+@Getter
+@Entity
+@Table(name = "study_diary_signature")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyDiarySignature {
+
+    // 배움일기 삭제 시 FK 제약에 걸리지 않도록 ID 만 저장
+    @Id
+    @Column(name = "studydiary_id")
+    private Long studyDiaryId;
+
+    // int 64개 (256 byte)
+    @Column(name = "min_hash", nullable = false, length = 256)
+    private byte[] minHash;
+
+    @Builder
+    private StudyDiarySignature(Long studyDiaryId, byte[] minHash) {
+        this.studyDiaryId = studyDiaryId;
+        this.minHash = minHash;
+    }
+}
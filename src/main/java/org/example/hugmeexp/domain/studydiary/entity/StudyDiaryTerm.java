@@ -0,0 +1,39 @@
+package org.example.hugmeexp.domain.studydiary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 배움일기 검색 색인 (term -> 배움일기 ID, 출현 횟수, (배움일기, term) 당 한 행)
+@Getter
+@Entity
+@Table(name = "study_diary_term",
+        uniqueConstraints = @UniqueConstraint(name = "uk_study_diary_term_diary_term", columnNames = {"studydiary_id", "term"}),
+        indexes = @Index(name = "idx_study_diary_term_term_diary", columnList = "term, studydiary_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyDiaryTerm {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 배움일기 삭제 시 FK 제약에 걸리지 않도록 ID 만 저장
+    @Column(name = "studydiary_id", nullable = false)
+    private Long studyDiaryId;
+
+    @Column(nullable = false, length = 32)
+    private String term;
+
+    // 제목 출현은 가중치를 곱해서 저장
+    @Column(nullable = false)
+    private int frequency;
+
+    @Builder
+    private StudyDiaryTerm(Long studyDiaryId, String term, int frequency) {
+        this.studyDiaryId = studyDiaryId;
+        this.term = term;
+        this.frequency = frequency;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.hugmeexp.domain.studydiary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.hugmeexp.global.entity.BaseEntity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 사용자별 배움일기 통계 (주간 활동 상황 조회용) - 작성/삭제/좋아요 시 갱신
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "study_diary_user_stat")
+public class StudyDiaryUserStat extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_like_count", nullable = false)
+    private int totalLikeCount;    // 작성한 배움일기가 받은 좋아요 수 합계
+
+    @Column(name = "total_diary_count", nullable = false)
+    private int totalDiaryCount;    // 작성한 배움일기 수
+
+    @Column(name = "week_start")
+    private LocalDate weekStart;    // weekBitmap 기준 주의 월요일
+
+    @Column(name = "week_bitmap", nullable = false)
+    private int weekBitmap;    // 요일별 작성 여부 (bit 0 월요일 ~ bit 6 일요일)
+
+    @Column(name = "today_date")
+    private LocalDate todayDate;    // todayDiaryCount 기준 날짜
+
+    @Column(name = "today_diary_count", nullable = false)
+    private int todayDiaryCount;
+
+    public void recordWritten(LocalDateTime createdAt, LocalDate currentWeekStart, LocalDate today) {
+        rollOver(currentWeekStart, today);
+
+        this.totalDiaryCount++;
+        LocalDate createdDate = createdAt.toLocalDate();
+        if (!createdDate.isBefore(currentWeekStart)) {
+            this.weekBitmap |= dayBit(createdDate.getDayOfWeek());
+        }
+        if (createdDate.equals(today)) {
+            this.todayDiaryCount++;
+        }
+    }
+
+    public void recordDeleted(int likeCount) {
+        this.totalDiaryCount = Math.max(0, this.totalDiaryCount - 1);
+        this.totalLikeCount = Math.max(0, this.totalLikeCount - likeCount);
+    }
+
+    // 이번 주 작성일 목록으로 요일 / 오늘 작성 수 다시 계산
+    public void resetWeek(List<LocalDateTime> weekCreatedAts, LocalDate currentWeekStart, LocalDate today) {
+        this.weekStart = currentWeekStart;
+        this.todayDate = today;
+        this.weekBitmap = 0;
+        this.todayDiaryCount = 0;
+        for (LocalDateTime createdAt : weekCreatedAts) {
+            this.weekBitmap |= dayBit(createdAt.getDayOfWeek());
+            if (createdAt.toLocalDate().equals(today)) {
+                this.todayDiaryCount++;
+            }
+        }
+    }
+
+    public boolean isWritten(DayOfWeek dayOfWeek, LocalDate currentWeekStart) {
+        return currentWeekStart.equals(this.weekStart) && (this.weekBitmap & dayBit(dayOfWeek)) != 0;
+    }
+
+    public int getTodayDiaryCount(LocalDate today) {
+        return today.equals(this.todayDate) ? this.todayDiaryCount : 0;
+    }
+
+    // 주 / 날짜가 바뀌었으면 이전 값 초기화
+    private void rollOver(LocalDate currentWeekStart, LocalDate today) {
+        if (!currentWeekStart.equals(this.weekStart)) {
+            this.weekStart = currentWeekStart;
+            this.weekBitmap = 0;
+        }
+        if (!today.equals(this.todayDate)) {
+            this.todayDate = today;
+            this.todayDiaryCount = 0;
+        }
+    }
+
+    private static int dayBit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.hugmeexp.domain.studydiary.exception;
+
+import org.example.hugmeexp.global.common.exception.BaseCustomException;
+import org.springframework.http.HttpStatus;
+
+public class DuplicateLikeException extends BaseCustomException {
+    public DuplicateLikeException() {
+        super(HttpStatus.CONFLICT, "이미 좋아요를 누른 배움일기입니다.", 409);
+    }
+}
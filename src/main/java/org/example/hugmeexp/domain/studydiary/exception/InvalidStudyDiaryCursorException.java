@@ -0,0 +1,11 @@
+package org.example.hugmeexp.domain.studydiary.exception;
+
+import org.example.hugmeexp.global.common.exception.BaseCustomException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidStudyDiaryCursorException extends BaseCustomException {
+
+    public InvalidStudyDiaryCursorException(String message) {
+        super(HttpStatus.BAD_REQUEST, message, 400);
+    }
+}
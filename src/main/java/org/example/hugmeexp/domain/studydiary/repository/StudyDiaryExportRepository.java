@@ -0,0 +1,47 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+// 배움일기 내보내기용 조회 - 결과를 메모리에 모으지 않고 한 행씩 넘겨줌
+// MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 인 forward-only 조회만 행 단위 스트리밍으로 읽음
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryExportRepository {
+
+    private static final String MANIFEST_SQL =
+            "SELECT studydiary_id, title, like_count, comment_count, created_at, modified_at " +
+            "FROM study_diary WHERE user_id = ? AND is_created = true ORDER BY created_at, studydiary_id";
+
+    // content 는 압축된 바이트 (CompressedStringConverter.decompress 로 복원)
+    private static final String CONTENT_SQL =
+            "SELECT s.studydiary_id, s.title, c.content, s.created_at " +
+            "FROM study_diary s LEFT JOIN study_diary_content c ON c.studydiary_content_id = s.studydiary_content_id " +
+            "WHERE s.user_id = ? AND s.is_created = true ORDER BY s.created_at, s.studydiary_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 본문 제외 목록 (manifest 용)
+    public void streamManifestRows(Long userId, RowCallbackHandler handler) {
+        stream(MANIFEST_SQL, userId, handler);
+    }
+
+    // 본문 포함 목록
+    public void streamContentRows(Long userId, RowCallbackHandler handler) {
+        stream(CONTENT_SQL, userId, handler);
+    }
+
+    private void stream(String sql, Long userId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, userId);
+            return ps;
+        }, handler);
+    }
+}
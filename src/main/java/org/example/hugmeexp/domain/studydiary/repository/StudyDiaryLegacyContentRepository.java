@@ -0,0 +1,42 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 본문 분리 이전 study_diary.content / rendered_html 컬럼 조회 (엔티티에서 매핑을 제거해서 JDBC 로 직접 조회)
+// 새로 생성된 스키마에는 컬럼이 없으므로 빈 목록 반환
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryLegacyContentRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT studydiary_id, content, rendered_html FROM study_diary " +
+            "WHERE studydiary_content_id IS NULL AND studydiary_id > ? ORDER BY studydiary_id LIMIT ?";
+
+    private static final String CLEAR_SQL =
+            "UPDATE study_diary SET content = NULL, rendered_html = NULL WHERE studydiary_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 배움일기 ID, 본문, HTML 순으로 반환
+    public List<Object[]> findLegacyContents(Long lastId, int limit) {
+        try {
+            return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Object[]{
+                    rs.getLong("studydiary_id"), rs.getString("content"), rs.getString("rendered_html")
+            }, lastId, limit);
+        } catch (BadSqlGrammarException e) {
+            return List.of();
+        }
+    }
+
+    // 옮긴 뒤 기존 컬럼 비우기 (study_diary 행 크기 축소)
+    public void clearLegacyContents(List<Long> studyDiaryIds) {
+        if (studyDiaryIds.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(CLEAR_SQL, studyDiaryIds, studyDiaryIds.size(), (ps, id) -> ps.setLong(1, id));
+    }
+}
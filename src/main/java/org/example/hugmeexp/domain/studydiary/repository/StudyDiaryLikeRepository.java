@@ -2,9 +2,26 @@ package org.example.hugmeexp.domain.studydiary.repository;
 
 import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 
 @Repository
 public interface StudyDiaryLikeRepository extends JpaRepository<StudyDiaryLike, Long> {
+
+    // 좋아요 여부 확인 (배움일기, 사용자 unique 인덱스 사용)
+    boolean existsByStudyDiaryIdAndUserId(Long studyDiaryId, Long userId);
+
+    // 좋아요 취소 - 삭제된 행 수 반환 (0 이면 좋아요 상태가 아니었음)
+    @Modifying
+    @Query("DELETE FROM StudyDiaryLike l WHERE l.studyDiary.id = :studyDiaryId AND l.user.id = :userId")
+    int deleteByStudyDiaryIdAndUserId(@Param("studyDiaryId") Long studyDiaryId, @Param("userId") Long userId);
+
+    // 배움일기에 좋아요를 누른 사용자 ID 목록 (Redis 좋아요 Set 생성용)
+    @Query("SELECT l.user.id FROM StudyDiaryLike l WHERE l.studyDiary.id = :studyDiaryId")
+    List<Long> findUserIdsByStudyDiaryId(@Param("studyDiaryId") Long studyDiaryId);
 }
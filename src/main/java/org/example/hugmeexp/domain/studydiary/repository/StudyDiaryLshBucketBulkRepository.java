@@ -0,0 +1,30 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 배움일기 LSH bucket 일괄 저장 (IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryLshBucketBulkRepository {
+
+    // 같은 배움일기를 동시에 등록해도 (배움일기, bucket) unique 키 기준으로 한 행만 남음 (MySQL 기준)
+    private static final String INSERT_SQL =
+            "INSERT INTO study_diary_lsh_bucket (studydiary_id, bucket_key) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE bucket_key = VALUES(bucket_key)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Long studyDiaryId, long[] bucketKeys) {
+        List<Long> keys = Arrays.stream(bucketKeys).boxed().toList();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, keys, keys.size(), (ps, bucketKey) -> {
+            ps.setLong(1, studyDiaryId);
+            ps.setLong(2, bucketKey);
+        });
+    }
+}
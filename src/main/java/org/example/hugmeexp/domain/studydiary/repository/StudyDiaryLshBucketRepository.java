@@ -0,0 +1,27 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryLshBucket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyDiaryLshBucketRepository extends JpaRepository<StudyDiaryLshBucket, Long> {
+
+    // 같은 bucket 에 들어간 다른 배움일기 ID (겹치는 band 가 많은 순, 배움일기 ID, 겹친 band 수 순으로 반환)
+    @Query("SELECT b.studyDiaryId, COUNT(b) FROM StudyDiaryLshBucket b " +
+            "WHERE b.bucketKey IN :bucketKeys AND b.studyDiaryId <> :studyDiaryId " +
+            "GROUP BY b.studyDiaryId " +
+            "ORDER BY COUNT(b) DESC, b.studyDiaryId DESC")
+    List<Object[]> findCandidates(Collection<Long> bucketKeys, Long studyDiaryId, Pageable pageable);
+
+    // 배움일기의 bucket 전체 삭제
+    @Modifying
+    @Query("DELETE FROM StudyDiaryLshBucket b WHERE b.studyDiaryId = :studyDiaryId")
+    void deleteByStudyDiaryId(Long studyDiaryId);
+}
@@ -1,41 +1,49 @@
 package org.example.hugmeexp.domain.studydiary.repository;
 
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
 import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudyDiaryRepository extends JpaRepository<StudyDiary, Long> {
 
+    // 목록 조회용 projection - 본문(content) 대신 요약(excerpt) 만 조회
+    String FIND_ALL_RESPONSE_SELECT = "SELECT new org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse(" +
+            "s.id, u.name, s.title, s.excerpt, s.likeCount, s.commentCount, s.createdAt) " +
+            "FROM StudyDiary s JOIN s.user u ";
+
     // 사용자별 배움일기 조회 (페이징)
     Page<StudyDiary> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
-    // 사용자별 배움일기 조회 (페이징)
-    Page<StudyDiary> findByUser_IdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    // 검색 결과 페이지의 배움일기를 작성자와 함께 조회
+    @Query("SELECT s FROM StudyDiary s JOIN FETCH s.user WHERE s.id IN :ids")
+    List<StudyDiary> findAllWithUserByIdIn(Collection<Long> ids);
 
-    // 제목이나 내용으로 검색 (페이징)
-    @Query("SELECT s FROM StudyDiary s WHERE s.title LIKE %:keyword% OR s.content LIKE %:keyword% ORDER BY s.createdAt DESC")
-    Page<StudyDiary> findByTitleOrContentContaining(@Param("keyword") String keyword, Pageable pageable);
+    // 검색 결과 페이지의 배움일기를 작성자, 본문과 함께 조회 (본문 일부를 검색 결과에 표시)
+    @Query("SELECT s FROM StudyDiary s JOIN FETCH s.user LEFT JOIN FETCH s.body WHERE s.id IN :ids")
+    List<StudyDiary> findAllWithUserAndBodyByIdIn(Collection<Long> ids);
 
-    // 최신순 정렬 조회 (페이징)
-    Page<StudyDiary> findByIsCreatedTrueOrderByCreatedAtDesc(Pageable pageable);
+    // 검색 색인 재생성용 - ID 순으로 배치 조회
+    List<StudyDiary> findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
-    // 임시저장 목록 조회 (페이징)
-    @Query("SELECT s FROM StudyDiary s WHERE s.user.id = :userId AND s.isCreated = false")
-    List<StudyDiary> findByIsCreatedFalse(@Param("userId") Long userId);
+    // 발행된 배움일기 수 (검색 점수 계산용 전체 문서 수)
+    long countByIsCreatedTrue();
 
-
-    // 좋아요순 정렬 조회 (페이징)  
-    Page<StudyDiary> findAllByOrderByLikeCountDesc(Pageable pageable);
+    // 최신순 정렬 조회 (페이징)
+    Page<StudyDiary> findByIsCreatedTrueOrderByCreatedAtDesc(Pageable pageable);
 
     // 특정 사용자의 이번 주 작성한 일기 조회
     @Query("SELECT s FROM StudyDiary s WHERE s.user.id = :userId AND s.createdAt BETWEEN :startOfWeek AND :endOfWeek")
@@ -43,36 +51,130 @@ public interface StudyDiaryRepository extends JpaRepository<StudyDiary, Long> {
                                                     @Param("startOfWeek") LocalDateTime startOfWeek, 
                                                     @Param("endOfWeek") LocalDateTime endOfWeek);
 
-    // 사용자의 전체 일기 개수
-    long countByUser_Id(Long userId);
-
-    //사용자가 쓴 전체일기 조회
-    @Query("SELECT s FROM StudyDiary s WHERE s.user.id = :findUserId ORDER BY s.createdAt DESC")
-    List<StudyDiary> findByUser(Long findUserId);
-
-    // 댓글과 함께 조회
-
-    @Query("SELECT s FROM StudyDiary s LEFT JOIN FETCH s.comments WHERE s.id = :id")
-    Optional<StudyDiary> findByIdWithComments(@Param("id") Long id);
-    // 인기 일기 조회 (좋아요 많은 순)
-
-    @Query("SELECT s FROM StudyDiary s WHERE s.likeCount >= :minLikes ORDER BY s.likeCount DESC")
-    List<StudyDiary> findPopularStudyDiaries(@Param("minLikes") int minLikes, Pageable pageable);
-
-    // 오늘 하루 인기 일기 조회 (오늘 작성된 글 중 좋아요 많은 순)
-    @Query("SELECT s FROM StudyDiary s WHERE s.isCreated = true AND s.createdAt BETWEEN :startOfDay AND :endOfDay ORDER BY s.likeCount DESC")
-    Page<StudyDiary> findTodayPopularStudyDiaries(@Param("startOfDay") LocalDateTime startOfDay, 
-                                                  @Param("endOfDay") LocalDateTime endOfDay, 
-                                                  Pageable pageable);
-
-    // 이번 주 인기 일기 조회 (이번 주 작성된 글 중 좋아요 많은 순)
-    @Query("SELECT s FROM StudyDiary s LEFT JOIN FETCH s.user LEFT JOIN FETCH s.comments WHERE s.isCreated = true AND s.createdAt BETWEEN :startOfWeek AND :endOfWeek ORDER BY s.likeCount DESC LIMIT 50")
-    List<StudyDiary> findWeeklyPopularStudyDiaries(@Param("startOfWeek") LocalDateTime startOfWeek,
-                                                   @Param("endOfWeek") LocalDateTime endOfWeek);
+    // 최신순 목록 (projection)
+    @Query(value = FIND_ALL_RESPONSE_SELECT + "WHERE s.isCreated = true ORDER BY s.createdAt DESC",
+            countQuery = "SELECT COUNT(s) FROM StudyDiary s WHERE s.isCreated = true")
+    Page<StudyDiaryFindAllResponse> findSummariesByIsCreatedTrue(Pageable pageable);
+
+    // 오늘 하루 인기 목록 (projection)
+    @Query(value = FIND_ALL_RESPONSE_SELECT + "WHERE s.isCreated = true AND s.createdAt BETWEEN :startOfDay AND :endOfDay ORDER BY s.likeCount DESC",
+            countQuery = "SELECT COUNT(s) FROM StudyDiary s WHERE s.isCreated = true AND s.createdAt BETWEEN :startOfDay AND :endOfDay")
+    Page<StudyDiaryFindAllResponse> findTodayPopularSummaries(@Param("startOfDay") LocalDateTime startOfDay,
+                                                              @Param("endOfDay") LocalDateTime endOfDay,
+                                                              Pageable pageable);
+
+    // 기간 내 인기 목록 (projection, [start, end) - 이번 주 인기 순위 Redis 장애 시 사용)
+    @Query(value = FIND_ALL_RESPONSE_SELECT + "WHERE s.isCreated = true AND s.createdAt >= :start AND s.createdAt < :end " +
+            "ORDER BY s.likeCount DESC, s.createdAt DESC",
+            countQuery = "SELECT COUNT(s) FROM StudyDiary s WHERE s.isCreated = true AND s.createdAt >= :start AND s.createdAt < :end")
+    Page<StudyDiaryFindAllResponse> findPopularSummariesBetween(@Param("start") LocalDateTime start,
+                                                                @Param("end") LocalDateTime end,
+                                                                Pageable pageable);
+
+    // ID 목록으로 목록 조회 (projection, 순서는 호출하는 쪽에서 정렬)
+    @Query(FIND_ALL_RESPONSE_SELECT + "WHERE s.id IN :ids")
+    List<StudyDiaryFindAllResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 이번 주 인기 순위 생성용 (배움일기 ID, 좋아요 수, 작성일 순으로 반환)
+    @Query("SELECT s.id, s.likeCount, s.createdAt FROM StudyDiary s WHERE s.isCreated = true AND s.createdAt >= :startOfWeek AND s.createdAt < :endOfWeek")
+    List<Object[]> findWeeklyRankingScores(@Param("startOfWeek") LocalDateTime startOfWeek,
+                                           @Param("endOfWeek") LocalDateTime endOfWeek);
+
+    // 임시저장 목록 (projection)
+    @Query(FIND_ALL_RESPONSE_SELECT + "WHERE u.id = :userId AND s.isCreated = false ORDER BY s.createdAt DESC")
+    List<StudyDiaryFindAllResponse> findDraftSummariesByUserId(@Param("userId") Long userId);
+
+    // 사용자가 쓴 목록 (projection, (작성일, ID) 커서 기반 - count 쿼리 없음)
+    @Query(FIND_ALL_RESPONSE_SELECT + "WHERE u.id = :userId " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.id < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<StudyDiaryFindAllResponse> findSummarySliceByUserId(@Param("userId") Long userId,
+                                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Pageable pageable);
+
+    // 요약이 비어 있는 기존 배움일기 (배움일기 ID, 본문 순으로 반환)
+    @Query("SELECT s.id, b.content FROM StudyDiary s LEFT JOIN s.body b WHERE s.excerpt IS NULL AND s.id > :lastId ORDER BY s.id")
+    List<Object[]> findContentsWithoutExcerpt(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 변환된 HTML 이 비어 있는 기존 본문 (본문 ID, 본문 순으로 반환 - 엔티티로 조회하지 않음)
+    @Query("SELECT b.id, b.content FROM StudyDiaryContent b WHERE b.renderedHtml IS NULL AND b.id > :lastId ORDER BY b.id")
+    List<Object[]> findBodiesWithoutRenderedHtml(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 변환된 HTML 저장 (HTML 은 압축해서 전달)
+    @Modifying
+    @Query(value = "UPDATE study_diary_content SET rendered_html = :renderedHtml WHERE studydiary_content_id = :bodyId", nativeQuery = true)
+    int updateRenderedHtml(@Param("bodyId") Long bodyId, @Param("renderedHtml") byte[] renderedHtml);
+
+    // 본문 분리 이전에 작성된 배움일기 (본문 연결 전)
+    List<StudyDiary> findByBodyIsNullAndIdInOrderByIdAsc(Collection<Long> ids);
+
+    // 임시저장 자동 저장 반영 (발행된 배움일기는 변경하지 않음, 본문 / HTML 은 압축해서 전달)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE study_diary s JOIN study_diary_content c ON c.studydiary_content_id = s.studydiary_content_id " +
+            "SET s.title = :title, s.excerpt = :excerpt, s.modified_at = NOW(), c.content = :content, c.rendered_html = :renderedHtml " +
+            "WHERE s.studydiary_id = :id AND s.is_created = false", nativeQuery = true)
+    int updateDraft(@Param("id") Long id,
+                    @Param("title") String title,
+                    @Param("content") byte[] content,
+                    @Param("excerpt") String excerpt,
+                    @Param("renderedHtml") byte[] renderedHtml);
+
+    // 임시저장 발행 - 작성일을 발행 시각으로 바꿔서 이번 주 순위 / 주간 통계가 발행한 주로 집계되도록 함 (이미 발행됐으면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE study_diary SET is_created = true, created_at = :publishedAt, modified_at = :publishedAt " +
+            "WHERE studydiary_id = :id AND is_created = false", nativeQuery = true)
+    int publishDraft(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 임시저장 작성자 ID
+    @Query("SELECT s.user.id FROM StudyDiary s WHERE s.id = :id AND s.isCreated = false")
+    Optional<Long> findDraftOwnerId(@Param("id") Long id);
+
+    // 사용자의 임시저장 ID 목록
+    @Query("SELECT s.id FROM StudyDiary s WHERE s.user.id = :userId AND s.isCreated = false")
+    List<Long> findDraftIdsByUserId(@Param("userId") Long userId);
+
+    // 요약 저장
+    @Modifying
+    @Query("UPDATE StudyDiary s SET s.excerpt = :excerpt WHERE s.id = :id")
+    void updateExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
 
     // 최근 한달간 특정 사용자의 배움일기 조회 (생성일 내림차순)
     @Query("SELECT s FROM StudyDiary s WHERE s.user.id = :userId AND s.isCreated = true AND s.createdAt >= :oneMonthAgo ORDER BY s.createdAt DESC")
     Page<StudyDiary> findByUserIdAndCreatedAtAfterOrderByCreatedAtDesc(@Param("userId") Long userId, 
                                                                       @Param("oneMonthAgo") LocalDateTime oneMonthAgo, 
                                                                       Pageable pageable);
-}
\ No newline at end of file
+
+    // 댓글 수 증감
+    @Modifying
+    @Query("UPDATE StudyDiary s SET s.commentCount = s.commentCount + :delta WHERE s.id = :studyDiaryId")
+    int addCommentCount(@Param("studyDiaryId") Long studyDiaryId, @Param("delta") int delta);
+
+    // 댓글 수 컬럼이 댓글 테이블과 다른 배움일기만 다시 계산 (누락/오차 보정용, 맞는 행은 쓰지 않음)
+    @Modifying
+    @Query("UPDATE StudyDiary s SET s.commentCount = " +
+            "(SELECT CAST(COUNT(c) AS Integer) FROM StudyDiaryComment c WHERE c.studyDiary = s) " +
+            "WHERE s.commentCount <> (SELECT CAST(COUNT(c2) AS Integer) FROM StudyDiaryComment c2 WHERE c2.studyDiary = s)")
+    int syncDriftedCommentCounts();
+
+    // 좋아요 수 증감
+    @Modifying
+    @Query("UPDATE StudyDiary s SET s.likeCount = s.likeCount + :delta WHERE s.id = :studyDiaryId")
+    int addLikeCount(@Param("studyDiaryId") Long studyDiaryId, @Param("delta") int delta);
+
+    // 좋아요 수 조회
+    @Query("SELECT s.likeCount FROM StudyDiary s WHERE s.id = :studyDiaryId")
+    int findLikeCountById(@Param("studyDiaryId") Long studyDiaryId);
+
+    // 사용자별 통계 생성용 (작성한 배움일기 수, 받은 좋아요 수 합계 순으로 반환)
+    @Query("SELECT COUNT(s), COALESCE(SUM(s.likeCount), 0) FROM StudyDiary s WHERE s.user.id = :userId AND s.isCreated = true")
+    List<Object[]> sumStatsByUserId(@Param("userId") Long userId);
+
+    // 기간 내 사용자가 작성한 배움일기 작성일 (excludedId 배움일기 제외)
+    @Query("SELECT s.createdAt FROM StudyDiary s WHERE s.user.id = :userId AND s.isCreated = true " +
+            "AND s.createdAt >= :start AND s.createdAt < :end AND s.id <> :excludedId")
+    List<LocalDateTime> findCreatedAtsByUserIdBetween(@Param("userId") Long userId,
+                                                      @Param("start") LocalDateTime start,
+                                                      @Param("end") LocalDateTime end,
+                                                      @Param("excludedId") Long excludedId);
+}
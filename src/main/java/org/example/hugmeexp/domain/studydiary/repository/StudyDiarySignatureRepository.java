@@ -0,0 +1,23 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiarySignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudyDiarySignatureRepository extends JpaRepository<StudyDiarySignature, Long> {
+
+    // 배움일기 서명 저장 (이미 있으면 덮어씀 - 여러 서버가 동시에 재생성해도 키 중복으로 실패하지 않음, MySQL 기준)
+    @Modifying
+    @Query(value = "INSERT INTO study_diary_signature (studydiary_id, min_hash) VALUES (:studyDiaryId, :minHash) " +
+            "ON DUPLICATE KEY UPDATE min_hash = VALUES(min_hash)", nativeQuery = true)
+    void upsert(@Param("studyDiaryId") Long studyDiaryId, @Param("minHash") byte[] minHash);
+
+    // 배움일기 서명 삭제 (없으면 무시)
+    @Modifying
+    @Query("DELETE FROM StudyDiarySignature s WHERE s.studyDiaryId = :studyDiaryId")
+    void deleteByStudyDiaryId(Long studyDiaryId);
+}
@@ -0,0 +1,31 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+// 배움일기 검색 색인 일괄 저장 (IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryTermBulkRepository {
+
+    // 같은 배움일기를 동시에 색인해도 (배움일기, term) unique 키 기준으로 한 행만 남음 (MySQL 기준)
+    private static final String INSERT_SQL =
+            "INSERT INTO study_diary_term (studydiary_id, term, frequency) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE frequency = VALUES(frequency)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Long studyDiaryId, Map<String, Integer> termFrequencies) {
+        if (termFrequencies.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(termFrequencies.entrySet()), termFrequencies.size(), (ps, entry) -> {
+            ps.setLong(1, studyDiaryId);
+            ps.setString(2, entry.getKey());
+            ps.setInt(3, entry.getValue());
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyDiaryTermRepository extends JpaRepository<StudyDiaryTerm, Long> {
+
+    // term 별 문서 수 (term, 문서 수 순으로 반환)
+    @Query("SELECT t.term, COUNT(t) FROM StudyDiaryTerm t " +
+            "WHERE t.term IN :terms " +
+            "GROUP BY t.term")
+    List<Object[]> countDocumentsByTerm(Collection<String> terms);
+
+    // 배움일기의 term 전체 삭제
+    @Modifying
+    @Query("DELETE FROM StudyDiaryTerm t WHERE t.studyDiaryId = :studyDiaryId")
+    void deleteByStudyDiaryId(Long studyDiaryId);
+}
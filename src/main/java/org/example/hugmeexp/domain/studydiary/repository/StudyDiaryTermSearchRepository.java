@@ -0,0 +1,72 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 검색 점수(BM25) 합산 / 정렬 / 페이지 자르기를 DB 에서 처리 (GROUP BY 배움일기 ORDER BY 점수 LIMIT)
+// postings 전체를 애플리케이션으로 가져오지 않고 현재 페이지의 배움일기 ID 와 점수만 가져옴
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryTermSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ScoredDiary(Long studyDiaryId, int matched, double score) {
+    }
+
+    // term 을 minMatched 개 이상 포함한 배움일기를 (포함한 term 수, 점수, ID) 내림차순으로 offset 부터 limit 개
+    // idf : term -> idf (호출하는 쪽에서 계산), k1 : BM25 파라미터
+    public List<ScoredDiary> findTopScored(Map<String, Double> idf, double k1, int minMatched, long offset, int limit) {
+        if (idf.isEmpty()) return List.of();
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder termIdf = new StringBuilder("CASE term");
+        for (Map.Entry<String, Double> entry : idf.entrySet()) {
+            termIdf.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        termIdf.append(" ELSE 0 END");
+        args.add(k1 + 1);
+        args.add(k1);
+        args.addAll(idf.keySet());
+        args.add(minMatched);
+        args.add(limit);
+        args.add(offset);
+
+        String sql = "SELECT studydiary_id, COUNT(*) AS matched, " +
+                "SUM(" + termIdf + " * frequency * ? / (frequency + ?)) AS score " +
+                "FROM study_diary_term WHERE term IN (" + placeholders(idf.size()) + ") " +
+                "GROUP BY studydiary_id HAVING COUNT(*) >= ? " +
+                "ORDER BY matched DESC, score DESC, studydiary_id DESC LIMIT ? OFFSET ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ScoredDiary(
+                rs.getLong("studydiary_id"), rs.getInt("matched"), rs.getDouble("score")), args.toArray());
+    }
+
+    // term 을 minMatched 개 이상 포함한 배움일기 수
+    public long countMatched(Collection<String> terms, int minMatched) {
+        if (terms.isEmpty()) return 0;
+
+        List<Object> args = new ArrayList<>(terms);
+        args.add(minMatched);
+
+        String sql = "SELECT COUNT(*) FROM (SELECT studydiary_id FROM study_diary_term " +
+                "WHERE term IN (" + placeholders(terms.size()) + ") " +
+                "GROUP BY studydiary_id HAVING COUNT(*) >= ?) matched_diary";
+
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryUserStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StudyDiaryUserStatRepository extends JpaRepository<StudyDiaryUserStat, Long> {
+
+    // 작성 / 삭제 시 동시에 같은 사용자 통계를 고치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StudyDiaryUserStat s WHERE s.userId = :userId")
+    Optional<StudyDiaryUserStat> findForUpdate(Long userId);
+
+    // 통계 행 생성 - 동시에 처음 생성하는 요청이 있으면 먼저 생성된 행을 그대로 두고 0 반환
+    // (없는 행을 잠금 조회하면 gap lock 끼리 교착이 생길 수 있어 잠금 없이 생성)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO study_diary_user_stat " +
+            "(user_id, total_like_count, total_diary_count, week_start, week_bitmap, today_date, today_diary_count, created_at, modified_at) " +
+            "VALUES (:#{#stat.userId}, :#{#stat.totalLikeCount}, :#{#stat.totalDiaryCount}, :#{#stat.weekStart}, " +
+            ":#{#stat.weekBitmap}, :#{#stat.todayDate}, :#{#stat.todayDiaryCount}, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("stat") StudyDiaryUserStat stat);
+
+    // 받은 좋아요 수 증감
+    @Modifying
+    @Query("UPDATE StudyDiaryUserStat s SET s.totalLikeCount = s.totalLikeCount + :delta WHERE s.userId = :userId")
+    int addTotalLikeCount(Long userId, int delta);
+}
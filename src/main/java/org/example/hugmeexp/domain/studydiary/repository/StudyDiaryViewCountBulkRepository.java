@@ -0,0 +1,30 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+// 배움일기 조회수 일괄 반영 (조회마다 UPDATE 하지 않고 모아둔 증가분을 JDBC 배치로 한 번에 반영)
+@Repository
+@RequiredArgsConstructor
+public class StudyDiaryViewCountBulkRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE study_diary SET view_count = view_count + ?, unique_viewer_count = GREATEST(unique_viewer_count, ?) WHERE studydiary_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // value: {조회수 증가분, 순 방문자 추정치}
+    public void addViewCounts(Map<Long, long[]> viewCounts) {
+        if (viewCounts.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, new ArrayList<>(viewCounts.entrySet()), viewCounts.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue()[0]);
+            ps.setLong(2, entry.getValue()[1]);
+            ps.setLong(3, entry.getKey());
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+// 마크다운 -> HTML 변환 결과 캐시 (key: 본문 SHA-256)
+// 미리보기를 반복해서 요청하거나, 미리보기 후 같은 본문으로 저장할 때 다시 변환하지 않음
+@Slf4j
+@Service
+public class MarkdownHtmlCacheService {
+
+    private static final String KEY_PREFIX = "study_diary:html:";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public MarkdownHtmlCacheService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+
+        String key = KEY_PREFIX + MarkdownRenderer.contentHash(markdown);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read markdown html cache", e);
+        }
+
+        String html = MarkdownRenderer.render(markdown);
+        try {
+            redisTemplate.opsForValue().set(key, html, TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write markdown html cache", e);
+        }
+        return html;
+    }
+}
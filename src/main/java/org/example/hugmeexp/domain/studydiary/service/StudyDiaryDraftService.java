@@ -0,0 +1,190 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownExcerptUtil;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// 임시저장 자동 저장 버퍼 (Hash - 배움일기별 최신 제목/본문, Set - DB 에 아직 반영 안 된 배움일기 ID)
+// 자동 저장 요청은 Redis 만 덮어쓰고, DB 는 주기적으로(또는 발행/목록 조회 시) 마지막 값만 한 번 반영
+@Slf4j
+@Service
+public class StudyDiaryDraftService {
+
+    private static final String KEY_PREFIX = "study_diary:draft:";
+    private static final String DIRTY_KEY = "study_diary:draft:dirty";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_VERSION = "version";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StudyDiaryRepository studyDiaryRepository;
+    private final MarkdownHtmlCacheService markdownHtmlCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyDiaryDraftService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                  StudyDiaryRepository studyDiaryRepository,
+                                  MarkdownHtmlCacheService markdownHtmlCacheService,
+                                  PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.studyDiaryRepository = studyDiaryRepository;
+        this.markdownHtmlCacheService = markdownHtmlCacheService;
+        // 스케줄러에서는 임시저장마다 별도 트랜잭션, 임시저장 목록 조회에서는 조회 트랜잭션에 참여
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record BufferedDraft(String title, String content) {
+    }
+
+    /* 임시저장 작성자 조회 - 버퍼에 있으면 DB 조회 없음, 임시저장이 아니면 empty */
+    public Optional<Long> findOwnerId(Long draftId) {
+        try {
+            Object userId = redisTemplate.opsForHash().get(KEY_PREFIX + draftId, FIELD_USER_ID);
+            if (userId != null) {
+                return Optional.of(Long.valueOf(userId.toString()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read study diary draft owner - draftId: {}", draftId, e);
+        }
+        return studyDiaryRepository.findDraftOwnerId(draftId);
+    }
+
+    /* 자동 저장 - 최신 값만 Redis 에 덮어쓰고 반영 대상으로 표시 */
+    @Transactional
+    public void buffer(Long draftId, Long userId, String title, String content) {
+        String key = KEY_PREFIX + draftId;
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put(FIELD_USER_ID, String.valueOf(userId));
+            fields.put(FIELD_TITLE, title);
+            fields.put(FIELD_CONTENT, content);
+
+            HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+            hashOps.putAll(key, fields);
+            hashOps.increment(key, FIELD_VERSION, 1);
+            redisTemplate.expire(key, TTL);
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(draftId));
+        } catch (Exception e) {
+            // Redis 장애 시 DB 에 바로 저장
+            log.warn("Failed to buffer study diary draft - draftId: {}", draftId, e);
+            write(draftId, title, content);
+        }
+    }
+
+    /* 버퍼에 있는 최신 값 조회 (상세 조회 시 DB 반영 전 값 표시용) */
+    public Optional<BufferedDraft> getBuffered(Long draftId) {
+        try {
+            HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+            List<String> values = hashOps.multiGet(KEY_PREFIX + draftId, List.of(FIELD_TITLE, FIELD_CONTENT));
+            if (values.get(0) != null || values.get(1) != null) {
+                return Optional.of(new BufferedDraft(values.get(0), values.get(1)));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read study diary draft - draftId: {}", draftId, e);
+        }
+        return Optional.empty();
+    }
+
+    /* 반영 대상 전체를 DB 에 반영 (스케줄러) - 한 임시저장의 실패가 나머지 반영을 막지 않도록 하나씩 커밋 */
+    public int flushDirty() {
+        Set<String> dirtyIds = redisTemplate.opsForSet().members(DIRTY_KEY);
+        if (dirtyIds == null || dirtyIds.isEmpty()) {
+            return 0;
+        }
+
+        int flushed = 0;
+        for (String draftId : dirtyIds) {
+            try {
+                if (flush(Long.valueOf(draftId))) {
+                    flushed++;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to flush study diary draft - draftId: {}", draftId, e);
+            }
+        }
+        return flushed;
+    }
+
+    /* 지정한 임시저장 중 반영 대상만 DB 에 반영 (임시저장 목록 조회 전) */
+    public void flushIfDirty(Collection<Long> draftIds) {
+        try {
+            for (Long draftId : draftIds) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(draftId)))) {
+                    flush(draftId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush study diary drafts - draftIds: {}", draftIds, e);
+        }
+    }
+
+    /* 발행 / 수정 / 삭제 시 버퍼 삭제 (롤백되면 버퍼에 남은 값을 잃지 않도록 커밋 후 삭제) */
+    public void discard(Long draftId) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(draftId));
+                redisTemplate.delete(KEY_PREFIX + draftId);
+            } catch (Exception e) {
+                log.warn("Failed to discard study diary draft - draftId: {}", draftId, e);
+            }
+        });
+    }
+
+    // 반영이 커밋된 뒤에 반영 대상 표시를 지움
+    private boolean flush(Long draftId) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        Map<String, String> fields = hashOps.entries(KEY_PREFIX + draftId);
+        if (fields.isEmpty()) {
+            redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(draftId));
+            return false;
+        }
+
+        String flushedVersion = fields.get(FIELD_VERSION);
+        transactionTemplate.executeWithoutResult(status -> {
+            write(draftId, fields.get(FIELD_TITLE), fields.get(FIELD_CONTENT));
+            TransactionUtils.runAfterCommit(() -> clearDirty(draftId, flushedVersion));
+        });
+        return true;
+    }
+
+    // 반영 중에 새 자동 저장이 들어오면(version 변경) 다음 주기에 다시 반영되도록 반영 대상으로 남겨둠
+    private void clearDirty(Long draftId, String flushedVersion) {
+        String member = String.valueOf(draftId);
+        try {
+            redisTemplate.opsForSet().remove(DIRTY_KEY, member);
+            Object version = redisTemplate.opsForHash().get(KEY_PREFIX + draftId, FIELD_VERSION);
+            if (version != null && !Objects.equals(version.toString(), flushedVersion)) {
+                redisTemplate.opsForSet().add(DIRTY_KEY, member);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to clear study diary draft dirty mark - draftId: {}", draftId, e);
+        }
+    }
+
+    // 발행된 배움일기는 변경하지 않음 (발행과 동시에 반영돼도 UPDATE 의 is_created 조건으로 막음)
+    private void write(Long draftId, String title, String content) {
+        studyDiaryRepository.updateDraft(draftId, title,
+                CompressedStringConverter.compress(content),
+                MarkdownExcerptUtil.excerpt(content),
+                CompressedStringConverter.compress(markdownHtmlCacheService.render(content)));
+    }
+}
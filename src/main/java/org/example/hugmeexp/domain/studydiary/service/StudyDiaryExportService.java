@@ -0,0 +1,173 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryExportRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 배움일기 내보내기 - manifest.json + 배움일기별 마크다운 파일을 ZIP 으로 바로 스트리밍
+// DB 커서에서 한 행씩 읽어서 바로 ZIP 에 쓰므로 배움일기 수와 관계없이 메모리 사용량 일정
+// manifest 와 본문을 두 번 나눠 조회하므로, 두 조회가 같은 스냅샷을 보도록 하나의 읽기 전용 REPEATABLE_READ 트랜잭션에서 실행
+@Slf4j
+@Service
+public class StudyDiaryExportService {
+
+    private static final String MANIFEST_ENTRY = "manifest.json";
+    private static final String DIARY_DIRECTORY = "diaries/";
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final StudyDiaryExportRepository studyDiaryExportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudyDiaryExportService(StudyDiaryExportRepository studyDiaryExportRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.studyDiaryExportRepository = studyDiaryExportRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public StreamingResponseBody export(Long userId) {
+        return outputStream -> {
+            try (ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try {
+                        writeManifest(userId, zip);
+                        writeDiaries(userId, zip);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.warn("Study diary export failed - userId: {}", userId, e);
+                throw e.getCause();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Study diary export failed - userId: {}", userId, e);
+                throw e;
+            }
+        };
+    }
+
+    // manifest.json - 본문 없이 목록만 (두 번째 조회의 파일 이름과 같은 규칙)
+    private void writeManifest(Long userId, ZipOutputStream zip) throws IOException {
+        zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(nonClosing(zip));
+        generator.writeStartObject();
+        generator.writeNumberField("userId", userId);
+        generator.writeStringField("exportedAt", LocalDateTime.now().toString());
+        generator.writeArrayFieldStart("diaries");
+        try {
+            studyDiaryExportRepository.streamManifestRows(userId, rs -> {
+                try {
+                    long id = rs.getLong("studydiary_id");
+                    LocalDateTime createdAt = toLocalDateTime(rs.getTimestamp("created_at"));
+                    LocalDateTime modifiedAt = toLocalDateTime(rs.getTimestamp("modified_at"));
+
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", id);
+                    generator.writeStringField("title", rs.getString("title"));
+                    generator.writeStringField("file", fileName(id, createdAt));
+                    generator.writeNumberField("likeCount", rs.getInt("like_count"));
+                    generator.writeNumberField("commentCount", rs.getInt("comment_count"));
+                    generator.writeStringField("createdAt", createdAt != null ? createdAt.toString() : null);
+                    generator.writeStringField("modifiedAt", modifiedAt != null ? modifiedAt.toString() : null);
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+
+        zip.closeEntry();
+    }
+
+    // diaries/{작성일}-{ID}.md
+    private void writeDiaries(Long userId, ZipOutputStream zip) throws IOException {
+        Writer writer = new OutputStreamWriter(nonClosing(zip), StandardCharsets.UTF_8);
+        try {
+            studyDiaryExportRepository.streamContentRows(userId, rs -> {
+                try {
+                    long id = rs.getLong("studydiary_id");
+                    LocalDateTime createdAt = toLocalDateTime(rs.getTimestamp("created_at"));
+                    String title = rs.getString("title");
+                    String content = CompressedStringConverter.decompress(rs.getBytes("content"));
+
+                    zip.putNextEntry(new ZipEntry(fileName(id, createdAt)));
+                    writer.write("# ");
+                    writer.write(title != null ? title : "");
+                    writer.write("\n\n");
+                    if (content != null) {
+                        writer.write(content);
+                    }
+                    writer.flush();
+                    zip.closeEntry();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String fileName(long id, LocalDateTime createdAt) {
+        String date = createdAt != null ? createdAt.format(FILE_DATE_FORMAT) : "00000000";
+        return DIARY_DIRECTORY + date + "-" + id + ".md";
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    // JsonGenerator / Writer 를 닫아도 ZIP 스트림은 닫히지 않도록
+    private static OutputStream nonClosing(OutputStream out) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.flush();
+            }
+        };
+    }
+}
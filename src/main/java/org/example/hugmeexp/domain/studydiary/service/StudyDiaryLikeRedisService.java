@@ -0,0 +1,92 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLikeRepository;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+// 배움일기별 좋아요 누른 사용자 목록 (Set - member: 사용자 ID)
+// "내가 좋아요 눌렀는지" 확인을 MySQL 조회 없이 처리
+@Slf4j
+@Service
+public class StudyDiaryLikeRedisService {
+
+    private static final String KEY_PREFIX = "study_diary:likers:";
+    private static final String EMPTY_MEMBER = "0";    // 좋아요가 없는 배움일기도 키가 생성되도록 넣는 값 (사용자 ID 는 1 부터)
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StudyDiaryLikeRepository studyDiaryLikeRepository;
+
+    public StudyDiaryLikeRedisService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                      StudyDiaryLikeRepository studyDiaryLikeRepository) {
+        this.redisTemplate = redisTemplate;
+        this.studyDiaryLikeRepository = studyDiaryLikeRepository;
+    }
+
+    /* 좋아요 여부 조회 - 키가 없으면 DB 로 Set 생성 */
+    public boolean isLiked(Long studyDiaryId, Long userId) {
+        String key = KEY_PREFIX + studyDiaryId;
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.expire(key, TTL);
+                return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, String.valueOf(userId)));
+            }
+
+            List<Long> userIds = studyDiaryLikeRepository.findUserIdsByStudyDiaryId(studyDiaryId);
+            String[] members = new String[userIds.size() + 1];
+            members[0] = EMPTY_MEMBER;
+            for (int i = 0; i < userIds.size(); i++) {
+                members[i + 1] = String.valueOf(userIds.get(i));
+            }
+            redisTemplate.opsForSet().add(key, members);
+            redisTemplate.expire(key, TTL);
+            return userIds.contains(userId);
+        } catch (Exception e) {
+            // Redis 장애 시 DB 로 조회
+            log.warn("Failed to read study diary likers - studyDiaryId: {}", studyDiaryId, e);
+            return studyDiaryLikeRepository.existsByStudyDiaryIdAndUserId(studyDiaryId, userId);
+        }
+    }
+
+    /* 좋아요 추가 - 이미 생성된 Set 에만 반영 (없으면 다음 조회 때 DB 로 생성), 롤백된 좋아요가 남지 않도록 커밋 후 반영 */
+    public void recordLike(Long studyDiaryId, Long userId) {
+        TransactionUtils.runAfterCommit(() -> {
+            String key = KEY_PREFIX + studyDiaryId;
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                    redisTemplate.opsForSet().add(key, String.valueOf(userId));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to record study diary like - studyDiaryId: {}, userId: {}", studyDiaryId, userId, e);
+                evict(studyDiaryId);
+            }
+        });
+    }
+
+    /* 좋아요 취소 (커밋 후 반영) */
+    public void removeLike(Long studyDiaryId, Long userId) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().remove(KEY_PREFIX + studyDiaryId, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("Failed to remove study diary like - studyDiaryId: {}, userId: {}", studyDiaryId, userId, e);
+                evict(studyDiaryId);
+            }
+        });
+    }
+
+    /* 배움일기 삭제 시 Set 삭제 */
+    public void evict(Long studyDiaryId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + studyDiaryId);
+        } catch (Exception e) {
+            log.warn("Failed to evict study diary likers - studyDiaryId: {}", studyDiaryId, e);
+        }
+    }
+}
@@ -1,88 +1,238 @@
 package org.example.hugmeexp.domain.studydiary.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+// 이번 주 인기 배움일기 순위 (Sorted Set - member: 배움일기 ID, score: 좋아요 수 + 작성 시각 소수부)
+// 작성/좋아요/좋아요 취소/삭제 시 바로 반영하고, 목록은 조회 시점에 ID 로 DB 에서 가져옴
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class StudyDiaryRedisService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-
     private static final String CACHE_KEY_PREFIX = "study_diary:popular:weekly:";
-    private static final String WEEKLY_POPULAR_KEY = "sorted";
-    private static final Duration CACHE_DURATION = Duration.ofMinutes(35);
+    private static final String READY_KEY_PREFIX = "study_diary:popular:weekly:ready:";    // 해당 주 순위가 DB 로 생성되었는지 표시
+    private static final String TEMP_KEY_SUFFIX = ":rebuild:";    // 순위 생성 중 임시 키
+    private static final Duration RANKING_TTL = Duration.ofDays(8);
+    // 좋아요 수가 같으면 최신 글이 위로 오도록 score 소수부에 작성 시각(epoch 초)을 넣음
+    private static final double CREATED_AT_SCALE = 1e10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StudyDiaryRepository studyDiaryRepository;
+
+    public StudyDiaryRedisService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                  StudyDiaryRepository studyDiaryRepository) {
+        this.redisTemplate = redisTemplate;
+        this.studyDiaryRepository = studyDiaryRepository;
+    }
 
-    // 캐싱 로직
-    public void cacheWeeklyPopularDiaries(List<StudyDiaryFindAllResponse> diaries) {
-        if (diaries == null || diaries.isEmpty()) {
-            log.info("다이어리가 비어있어 캐싱을 건너뜁니다");
+    /* 배움일기 작성 시 이번 주 순위에 추가 (롤백된 배움일기가 순위에 남지 않도록 커밋 후 반영) */
+    public void addToWeeklyRanking(StudyDiary studyDiary) {
+        LocalDate weekStart = currentWeekStart();
+        if (!isInWeek(studyDiary, weekStart)) {
             return;
         }
-        //저장 방법은 크게 3개로 나뉨 : 전체 리스트 직렬화, Redis 리스트, Sorted Set
-        //여기서는 Sorted Set을 활용
-        String key = WEEKLY_POPULAR_KEY;
-        //diaries가 비어있으면 return
-        if(diaries.isEmpty()){
+        Long studyDiaryId = studyDiary.getId();
+        double score = toScore(studyDiary.getLikeCount(), studyDiary.getCreatedAt());
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                // 순위가 아직 생성되지 않았으면 다음 조회 때 DB 로 생성되므로 건너뜀
+                if (isReady(weekStart)) {
+                    redisTemplate.opsForZSet().add(rankingKey(weekStart), String.valueOf(studyDiaryId), score);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to add study diary to weekly ranking - studyDiaryId: {}", studyDiaryId, e);
+                evictWeeklyRanking(weekStart);
+            }
+        });
+    }
+
+    /* 좋아요 / 좋아요 취소 시 이번 주 순위 score 증감 (커밋 후 반영) */
+    public void incrementWeeklyScore(StudyDiary studyDiary, int delta) {
+        LocalDate weekStart = currentWeekStart();
+        if (!studyDiary.isCreated() || !isInWeek(studyDiary, weekStart)) {
             return;
         }
-        // 기존 데이터 삭제
-        redisTemplate.delete(CACHE_KEY_PREFIX + key);
-
-        // Sorted Set에 저장 (score는 역순 인덱스)
-        // 좋아요가 가장 많은 Dairy가 가장 높은 score
-        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
-        for (int i = 0; i < diaries.size(); i++) {
-            tuples.add(ZSetOperations.TypedTuple.of(diaries.get(i),
-                    (double)(diaries.size() - i)));
-        }
+        Long studyDiaryId = studyDiary.getId();
+        LocalDateTime createdAt = studyDiary.getCreatedAt();
+        TransactionUtils.runAfterCommit(() -> {
+            String key = rankingKey(weekStart);
+            String member = String.valueOf(studyDiaryId);
+            try {
+                if (!isReady(weekStart)) {
+                    return;
+                }
+                if (redisTemplate.opsForZSet().score(key, member) != null) {
+                    redisTemplate.opsForZSet().incrementScore(key, member, delta);
+                } else {
+                    // 순위에서 빠져 있으면 DB 좋아요 수로 다시 추가
+                    int likeCount = studyDiaryRepository.findLikeCountById(studyDiaryId);
+                    redisTemplate.opsForZSet().add(key, member, toScore(likeCount, createdAt));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to update weekly ranking score - studyDiaryId: {}", studyDiaryId, e);
+                evictWeeklyRanking(weekStart);
+            }
+        });
+    }
 
-        redisTemplate.opsForZSet().add(CACHE_KEY_PREFIX + key, tuples);
-        redisTemplate.expire(CACHE_KEY_PREFIX + key, CACHE_DURATION);
+    /* 배움일기 삭제 시 이번 주 순위에서 제거 (삭제가 롤백되면 순위에 남아 있도록 커밋 후 반영) */
+    public void removeFromWeeklyRanking(Long studyDiaryId) {
+        LocalDate weekStart = currentWeekStart();
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(rankingKey(weekStart), String.valueOf(studyDiaryId));
+            } catch (Exception e) {
+                log.warn("Failed to remove study diary from weekly ranking - studyDiaryId: {}", studyDiaryId, e);
+                evictWeeklyRanking(weekStart);
+            }
+        });
     }
 
+    /* 이번 주 인기 배움일기 페이지 조회 - 순위에서 ID 만 가져온 뒤 해당 ID 들만 DB 에서 조회 */
     public Page<StudyDiaryFindAllResponse> getCachedWeeklyPopularDiaries(Pageable pageable) {
-        // 캐시 조회 로직
-        String key = CACHE_KEY_PREFIX + WEEKLY_POPULAR_KEY;
-        
-        // 전체 개수 조회, 주간 일기가 없을 시에 빈 페이지 return
-        Long totalElements = redisTemplate.opsForZSet().size(key);
-        if (totalElements == null || totalElements == 0) {
-            return Page.empty(pageable);
+        LocalDate weekStart = currentWeekStart();
+        String key = rankingKey(weekStart);
+
+        List<Long> ids;
+        long totalElements;
+        try {
+            if (!isReady(weekStart)) {
+                rebuildWeeklyRanking(weekStart);
+            }
+            Long size = redisTemplate.opsForZSet().size(key);
+            totalElements = size == null ? 0 : size;
+            if (totalElements == 0 || pageable.getOffset() >= totalElements) {
+                return new PageImpl<>(List.of(), pageable, totalElements);
+            }
+
+            // 높은 점수부터 pageable 크기만큼 (end 는 포함 범위)
+            long start = pageable.getOffset();
+            long end = start + pageable.getPageSize() - 1;
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+            if (members == null || members.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, totalElements);
+            }
+            ids = members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            // Redis 장애 시 DB 로 조회
+            log.warn("Failed to read weekly popular ranking, falling back to DB", e);
+            LocalDateTime startOfWeek = weekStart.atStartOfDay();
+            return studyDiaryRepository.findPopularSummariesBetween(startOfWeek, startOfWeek.plusWeeks(1),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
         }
-        // 페이지 계산
-        long start = pageable.getOffset();
-        long end = Math.min(start + 9,  totalElements);  //start부터 10개 or 전체 항목 갯수(max)
-        // 해당 범위의 데이터 조회 (높은 점수부터)
-        //LinkedHashSet return(Set인데 순서보장)
-        Set<Object> results = redisTemplate.opsForZSet()
-                .reverseRange(key, start, end);
-
-        //혹시 모르니 한번 더 예외처리
-        if (results == null || results.isEmpty()) {
-            return Page.empty(pageable);
+
+        // 순위 순서대로 정렬
+        Map<Long, StudyDiaryFindAllResponse> byId = studyDiaryRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(StudyDiaryFindAllResponse::getId, Function.identity()));
+        List<StudyDiaryFindAllResponse> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StudyDiaryFindAllResponse response = byId.get(id);
+            if (response != null) {
+                content.add(response);
+            }
         }
-        
-        // Object를 StudyDiaryFindAllResponse로 변환
-        List<StudyDiaryFindAllResponse> content = results.stream()
-                .map(obj -> objectMapper.convertValue(obj, StudyDiaryFindAllResponse.class))
-                .toList();
-        // Page 객체 생성
         return new PageImpl<>(content, pageable, totalElements);
     }
-}
\ No newline at end of file
+
+    /* 이번 주 작성된 배움일기로 순위 생성
+       임시 키에 모두 채운 뒤 RENAME 으로 교체해서 조회 중에 절반만 채워진 순위가 보이지 않도록 함
+       (ready 표시 전에는 좋아요 증감을 반영하지 않으므로 생성 중인 순위와 섞이지 않음) */
+    public void rebuildWeeklyRanking(LocalDate weekStart) {
+        LocalDateTime startOfWeek = weekStart.atStartOfDay();
+        List<Object[]> rows = studyDiaryRepository.findWeeklyRankingScores(startOfWeek, startOfWeek.plusWeeks(1));
+
+        String key = rankingKey(weekStart);
+        String tempKey = key + TEMP_KEY_SUFFIX + UUID.randomUUID();
+        String readyKey = READY_KEY_PREFIX + weekStart;
+
+        if (!rows.isEmpty()) {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Object[] row : rows) {
+                        ops.opsForZSet().add(tempKey, String.valueOf(row[0]), toScore((Integer) row[1], (LocalDateTime) row[2]));
+                    }
+                    ops.expire(tempKey, RANKING_TTL);
+                    return null;
+                }
+            });
+        }
+
+        // 교체와 ready 표시를 한 번에 (MULTI / EXEC)
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                if (rows.isEmpty()) {
+                    ops.delete(key);
+                } else {
+                    ops.rename(tempKey, key);
+                }
+                ops.opsForValue().set(readyKey, "1", RANKING_TTL);
+                return ops.exec();
+            }
+        });
+        log.info("weekly popular ranking rebuilt - week: {}, diaries: {}", weekStart, rows.size());
+    }
+
+    private void evictWeeklyRanking(LocalDate weekStart) {
+        try {
+            redisTemplate.delete(READY_KEY_PREFIX + weekStart);
+        } catch (Exception e) {
+            log.warn("Failed to evict weekly popular ranking - week: {}", weekStart, e);
+        }
+    }
+
+    private boolean isReady(LocalDate weekStart) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY_PREFIX + weekStart));
+    }
+
+    private static String rankingKey(LocalDate weekStart) {
+        return CACHE_KEY_PREFIX + weekStart;
+    }
+
+    // 이번 주 월요일
+    private static LocalDate currentWeekStart() {
+        return LocalDate.now().with(DayOfWeek.MONDAY);
+    }
+
+    private static boolean isInWeek(StudyDiary studyDiary, LocalDate weekStart) {
+        LocalDateTime createdAt = studyDiary.getCreatedAt();
+        return createdAt != null
+                && !createdAt.isBefore(weekStart.atStartOfDay())
+                && createdAt.isBefore(weekStart.plusWeeks(1).atStartOfDay());
+    }
+
+    private static double toScore(int likeCount, LocalDateTime createdAt) {
+        return likeCount + createdAt.atZone(ZoneId.systemDefault()).toEpochSecond() / CREATED_AT_SCALE;
+    }
+}
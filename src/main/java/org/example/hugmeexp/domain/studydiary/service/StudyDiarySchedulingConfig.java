@@ -3,54 +3,187 @@ package org.example.hugmeexp.domain.studydiary.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
-import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
 import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
-import org.springframework.data.domain.Page;
+import org.example.hugmeexp.global.common.service.SchemaMigrationService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StudyDiarySchedulingConfig {
+
+    private static final String LIKE_TABLE = "study_diary_like";
+    private static final String LIKE_UNIQUE_KEY = "uk_studydiary_like_diary_user";
+
+    private static final String DUPLICATE_LIKE_DIARY_IDS_SQL =
+            "SELECT DISTINCT studydiary_id FROM study_diary_like GROUP BY studydiary_id, user_id HAVING COUNT(*) > 1";
+
+    // (배움일기, 사용자) 별로 가장 먼저 누른 좋아요만 남김
+    private static final String DELETE_DUPLICATE_LIKES_SQL =
+            "DELETE l FROM study_diary_like l JOIN study_diary_like k " +
+            "ON k.studydiary_id = l.studydiary_id AND k.user_id = l.user_id AND k.studydiary_like_id < l.studydiary_like_id";
+
+    private static final String SYNC_LIKE_COUNT_SQL =
+            "UPDATE study_diary SET like_count = (SELECT COUNT(*) FROM study_diary_like WHERE studydiary_id = ?) WHERE studydiary_id = ?";
+
+    private static final String ADD_LIKE_UNIQUE_KEY_SQL =
+            "ALTER TABLE study_diary_like ADD CONSTRAINT " + LIKE_UNIQUE_KEY + " UNIQUE (studydiary_id, user_id)";
+
+    private static final String TERM_TABLE = "study_diary_term";
+    private static final String TERM_UNIQUE_KEY = "uk_study_diary_term_diary_term";
+    private static final String LEGACY_TERM_DIARY_INDEX = "idx_study_diary_term_diary";
+
+    // (배움일기, term) 별로 가장 먼저 저장된 행만 남김 (동시 재생성으로 생긴 중복은 같은 출현 횟수)
+    private static final String DELETE_DUPLICATE_TERMS_SQL =
+            "DELETE t FROM study_diary_term t JOIN study_diary_term k " +
+            "ON k.studydiary_id = t.studydiary_id AND k.term = t.term AND k.id < t.id";
+
+    private static final String ADD_TERM_UNIQUE_KEY_SQL =
+            "ALTER TABLE study_diary_term ADD CONSTRAINT " + TERM_UNIQUE_KEY + " UNIQUE (studydiary_id, term)";
+
+    // unique 키가 studydiary_id 로 시작하므로 배움일기 ID 단독 인덱스는 필요 없음
+    private static final String DROP_LEGACY_TERM_DIARY_INDEX_SQL =
+            "ALTER TABLE study_diary_term DROP INDEX " + LEGACY_TERM_DIARY_INDEX;
+
+    private static final String LSH_BUCKET_TABLE = "study_diary_lsh_bucket";
+    private static final String LSH_BUCKET_UNIQUE_KEY = "uk_study_diary_lsh_bucket_diary_key";
+    private static final String LEGACY_LSH_BUCKET_DIARY_INDEX = "idx_study_diary_lsh_bucket_diary";
+
+    // (배움일기, bucket) 별로 가장 먼저 저장된 행만 남김
+    private static final String DELETE_DUPLICATE_LSH_BUCKETS_SQL =
+            "DELETE b FROM study_diary_lsh_bucket b JOIN study_diary_lsh_bucket k " +
+            "ON k.studydiary_id = b.studydiary_id AND k.bucket_key = b.bucket_key AND k.id < b.id";
+
+    private static final String ADD_LSH_BUCKET_UNIQUE_KEY_SQL =
+            "ALTER TABLE study_diary_lsh_bucket ADD CONSTRAINT " + LSH_BUCKET_UNIQUE_KEY + " UNIQUE (studydiary_id, bucket_key)";
+
+    // unique 키가 studydiary_id 로 시작하므로 배움일기 ID 단독 인덱스는 필요 없음
+    private static final String DROP_LEGACY_LSH_BUCKET_DIARY_INDEX_SQL =
+            "ALTER TABLE study_diary_lsh_bucket DROP INDEX " + LEGACY_LSH_BUCKET_DIARY_INDEX;
+
+    private static final String UNCOUNTED_COMMENT_DIARY_SQL =
+            "SELECT s.studydiary_id FROM study_diary s WHERE s.comment_count = 0 " +
+            "AND EXISTS (SELECT 1 FROM study_diary_comment c WHERE c.studydiary_id = s.studydiary_id) LIMIT 1";
+
     private final StudyDiaryService studyDiaryService;
     private final StudyDiaryRepository studyDiaryRepository;
     private final StudyDiaryRedisService studyDiaryRedisService;
+    private final StudyDiaryDraftService studyDiaryDraftService;
+    private final StudyDiaryViewCountService studyDiaryViewCountService;
+    private final SchemaMigrationService schemaMigrationService;
 
     @PostConstruct
     public void init() {
         log.info("==StudyDiarySchedulingConfig== initialized");
     }
 
-    @Scheduled(fixedRate = 1800000) // 30분 = 1800000ms
-    public void cacheTodayPopularStudyDiaries() {
-        log.info("caching weekly studyDiaries");
+    // 좋아요 (배움일기, 사용자) unique 키 적용 (서버 시작 시, 이미 있으면 건너뜀)
+    // 기존 테이블에 중복 좋아요가 있으면 ddl-auto 의 키 추가가 실패하므로 중복 정리 + 좋아요 수 보정 후 직접 추가
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateStudyDiaryLikeUniqueKey() {
+        try {
+            if (schemaMigrationService.hasIndex(LIKE_TABLE, LIKE_UNIQUE_KEY)) {
+                return;
+            }
+
+            List<Long> studyDiaryIds = schemaMigrationService.findIds(DUPLICATE_LIKE_DIARY_IDS_SQL);
+            int deleted = schemaMigrationService.update(DELETE_DUPLICATE_LIKES_SQL);
+            for (Long studyDiaryId : studyDiaryIds) {
+                schemaMigrationService.update(SYNC_LIKE_COUNT_SQL, studyDiaryId, studyDiaryId);
+            }
+            schemaMigrationService.update(ADD_LIKE_UNIQUE_KEY_SQL);
+            log.info("study diary like unique key added - duplicate likes removed: {}, diaries: {}", deleted, studyDiaryIds.size());
+        } catch (Exception e) {
+            log.warn("Failed to add study diary like unique key", e);
+        }
+    }
+
+    // 검색 색인 (배움일기, term) unique 키 적용 (서버 시작 시, 이미 있으면 건너뜀)
+    // 여러 서버가 동시에 색인을 재생성해서 중복 행이 있으면 ddl-auto 의 키 추가가 실패하므로 중복 정리 후 직접 추가
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateStudyDiaryTermUniqueKey() {
+        try {
+            if (!schemaMigrationService.hasIndex(TERM_TABLE, TERM_UNIQUE_KEY)) {
+                int deleted = schemaMigrationService.update(DELETE_DUPLICATE_TERMS_SQL);
+                schemaMigrationService.update(ADD_TERM_UNIQUE_KEY_SQL);
+                log.info("study diary term unique key added - duplicate terms removed: {}", deleted);
+            }
+            if (schemaMigrationService.hasIndex(TERM_TABLE, LEGACY_TERM_DIARY_INDEX)) {
+                schemaMigrationService.update(DROP_LEGACY_TERM_DIARY_INDEX_SQL);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to add study diary term unique key", e);
+        }
+    }
+
+    // 유사 배움일기 LSH bucket (배움일기, bucket) unique 키 적용 (서버 시작 시, 이미 있으면 건너뜀)
+    // 중복 bucket 이 있으면 겹친 band 수가 부풀려지므로 중복 정리 후 직접 추가
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateStudyDiaryLshBucketUniqueKey() {
+        try {
+            if (!schemaMigrationService.hasIndex(LSH_BUCKET_TABLE, LSH_BUCKET_UNIQUE_KEY)) {
+                int deleted = schemaMigrationService.update(DELETE_DUPLICATE_LSH_BUCKETS_SQL);
+                schemaMigrationService.update(ADD_LSH_BUCKET_UNIQUE_KEY_SQL);
+                log.info("study diary lsh bucket unique key added - duplicate buckets removed: {}", deleted);
+            }
+            if (schemaMigrationService.hasIndex(LSH_BUCKET_TABLE, LEGACY_LSH_BUCKET_DIARY_INDEX)) {
+                schemaMigrationService.update(DROP_LEGACY_LSH_BUCKET_DIARY_INDEX_SQL);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to add study diary lsh bucket unique key", e);
+        }
+    }
 
-        // 이번 주 월요일~일요일 범위 계산
-        LocalDateTime startOfWeek = LocalDateTime.now().with(DayOfWeek.MONDAY).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfWeek = startOfWeek.plusDays(6).withHour(23).withMinute(59).withSecond(59);
+    // 댓글 수 컬럼 추가 이전의 배움일기 댓글 수 채우기 (서버 시작 시)
+    // 댓글이 있는데 댓글 수가 0 인 배움일기가 있을 때만 어긋난 행만 보정 (한 번 채우고 나면 확인 쿼리만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillStudyDiaryCommentCounts() {
+        if (schemaMigrationService.findIds(UNCOUNTED_COMMENT_DIARY_SQL).isEmpty()) {
+            return;
+        }
+        int updated = studyDiaryRepository.syncDriftedCommentCounts();
+        log.info("backfilled study diary comment counts: {} diaries", updated);
+    }
 
-        //일주일간 인기 배움일기 50개 조회
-        List<StudyDiary> studyDiaries = studyDiaryRepository.findWeeklyPopularStudyDiaries(startOfWeek, endOfWeek);
+    // 댓글 수 집계 컬럼을 댓글 테이블 기준으로 보정 (매일 새벽 4시 30분, 어긋난 행만)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void syncStudyDiaryCommentCounts() {
+        int updated = studyDiaryRepository.syncDriftedCommentCounts();
+        log.info("synced study diary comment counts: {} diaries", updated);
+    }
 
-        //response로 전환
-        List<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaries.stream().map(studyDiary -> {
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        }).toList();
+    // 자동 저장 버퍼에 쌓인 임시저장을 DB 에 반영 (서버 시작 시, 이후 30초마다)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void flushStudyDiaryDrafts() {
+        try {
+            int flushed = studyDiaryDraftService.flushDirty();
+            if (flushed > 0) {
+                log.info("flushed study diary drafts: {} drafts", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush study diary drafts", e);
+        }
+    }
 
-        studyDiaryRedisService.cacheWeeklyPopularDiaries(studyDiaryFindAllResponsePage);
+    // 메모리에 모아둔 조회수를 DB 에 일괄 반영 (1분마다)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void flushStudyDiaryViewCounts() {
+        try {
+            int flushed = studyDiaryViewCountService.flush();
+            if (flushed > 0) {
+                log.info("flushed study diary view counts: {} diaries", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to flush study diary view counts", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySearchResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermBulkRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermSearchRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermSearchRepository.ScoredDiary;
+import org.example.hugmeexp.domain.studydiary.util.StudyDiaryTokenizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 배움일기 전문 검색 색인 관리
+ * - 제목/본문을 term 으로 나눠서 study_diary_term 에 저장 (역색인)
+ * - 배움일기 저장/수정/삭제와 같은 트랜잭션에서 색인을 갱신하므로 여러 서버에서도 색인이 어긋나지 않음
+ * - 검색은 BM25 점수로 정렬하고, 현재 페이지의 배움일기만 조회해서 스니펫 생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyDiarySearchService {
+
+    // 제목에 나온 term 은 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+
+    // BM25 파라미터 (문서 길이 보정은 하지 않음)
+    private static final double K1 = 1.2;
+
+    // 검색어에서 사용하는 최대 term 수 (긴 검색어로 쿼리가 커지지 않도록)
+    private static final int MAX_QUERY_TERMS = 32;
+
+    // 전체 색인 재생성 시 한 번에 읽는 배움일기 수
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    // 전체 문서 수 재사용 시간 (idf 는 로그 스케일이라 조금 늦게 반영돼도 순위에 영향이 거의 없음)
+    private static final long DOCUMENT_COUNT_TTL_MILLIS = 60_000L;
+
+    private final StudyDiaryTermRepository studyDiaryTermRepository;
+    private final StudyDiaryTermBulkRepository studyDiaryTermBulkRepository;
+    private final StudyDiaryTermSearchRepository studyDiaryTermSearchRepository;
+    private final StudyDiaryRepository studyDiaryRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    // 발행된 배움일기 수 캐시 (검색마다 세지 않도록 서버별로 DOCUMENT_COUNT_TTL_MILLIS 동안 재사용)
+    private volatile long documentCount;
+    private volatile long documentCountExpiresAt;
+
+    // 배움일기 색인 (작성, 수정 시 호출) - 임시저장 글은 검색 대상이 아니므로 색인하지 않음
+    @Transactional
+    public void index(StudyDiary studyDiary) {
+        studyDiaryTermRepository.deleteByStudyDiaryId(studyDiary.getId());
+        if (!studyDiary.isCreated()) return;
+
+        studyDiaryTermBulkRepository.saveAll(studyDiary.getId(), toTermFrequencies(studyDiary));
+    }
+
+    // 배움일기 색인 삭제 (삭제 시 호출)
+    @Transactional
+    public void remove(Long studyDiaryId) {
+        studyDiaryTermRepository.deleteByStudyDiaryId(studyDiaryId);
+    }
+
+    // 전체 배움일기 색인 재생성
+    @Transactional
+    public int rebuildAll() {
+        studyDiaryTermRepository.deleteAllInBatch();
+
+        int indexed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<StudyDiary> batch = studyDiaryRepository.findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+
+            for (StudyDiary studyDiary : batch) {
+                studyDiaryTermBulkRepository.saveAll(studyDiary.getId(), toTermFrequencies(studyDiary));
+            }
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+
+            // 본문이 큰 엔티티가 영속성 컨텍스트에 쌓이지 않도록 배치마다 비움
+            entityManager.clear();
+        }
+
+        log.info("Study diary search index rebuilt - diaries: {}", indexed);
+        return indexed;
+    }
+
+    // 색인이 비어 있으면 기존 배움일기로 색인 생성
+    // 여러 서버가 동시에 시작해서 같이 재생성해도 (배움일기, term) unique 키 + upsert 로 postings 가 중복되지 않음
+    // 동시 재생성이 충돌해서 실패해도 다른 서버의 재생성이 남으므로 서버 시작은 막지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty() {
+        try {
+            if (studyDiaryTermRepository.count() == 0 && studyDiaryRepository.count() > 0) {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> rebuildAll());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to rebuild study diary search index", e);
+        }
+    }
+
+    // 검색 - 검색어 term 을 절반 이상 포함한 배움일기를 (포함한 term 수, BM25 점수) 순으로 정렬
+    // 점수 합산 / 정렬 / 페이지 자르기는 DB 에서 처리하고 현재 페이지의 배움일기만 가져옴
+    @Transactional(readOnly = true)
+    public Page<StudyDiarySearchResponse> search(String keyword, Pageable pageable) {
+        Set<String> terms = StudyDiaryTokenizer.queryTerms(keyword).stream()
+                .limit(MAX_QUERY_TERMS)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // term 별 idf (색인에 없는 term 은 매칭되는 배움일기가 없으므로 제외)
+        long totalDiaries = Math.max(1, documentCount());
+        Map<String, Double> idf = new LinkedHashMap<>();
+        for (Object[] row : studyDiaryTermRepository.countDocumentsByTerm(terms)) {
+            long documentFrequency = (Long) row[1];
+            idf.put((String) row[0], Math.log(1 + (totalDiaries - documentFrequency + 0.5) / (documentFrequency + 0.5)));
+        }
+
+        int minMatched = (terms.size() + 1) / 2;
+        if (idf.size() < minMatched) {
+            return Page.empty(pageable);
+        }
+
+        List<ScoredDiary> pageHits = studyDiaryTermSearchRepository.findTopScored(
+                idf, K1, minMatched, pageable.getOffset(), pageable.getPageSize());
+
+        // 첫 페이지가 다 차지 않으면 전체 개수를 따로 세지 않음
+        long total = pageable.getOffset() == 0 && pageHits.size() < pageable.getPageSize()
+                ? pageHits.size()
+                : studyDiaryTermSearchRepository.countMatched(idf.keySet(), minMatched);
+        if (pageHits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 현재 페이지 배움일기만 작성자, 본문과 함께 조회
+        Map<Long, StudyDiary> diaries = studyDiaryRepository.findAllWithUserAndBodyByIdIn(
+                        pageHits.stream().map(ScoredDiary::studyDiaryId).toList()).stream()
+                .collect(Collectors.toMap(StudyDiary::getId, Function.identity()));
+
+        List<StudyDiarySearchResponse> content = pageHits.stream()
+                .filter(hit -> diaries.containsKey(hit.studyDiaryId()))
+                .map(hit -> StudyDiarySearchResponse.of(diaries.get(hit.studyDiaryId()), hit.score(),
+                        StudyDiaryTokenizer.snippet(diaries.get(hit.studyDiaryId()).getContent(), keyword)))
+                .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private long documentCount() {
+        long now = System.currentTimeMillis();
+        if (now >= documentCountExpiresAt) {
+            documentCount = studyDiaryRepository.countByIsCreatedTrue();
+            documentCountExpiresAt = now + DOCUMENT_COUNT_TTL_MILLIS;
+        }
+        return documentCount;
+    }
+
+    private Map<String, Integer> toTermFrequencies(StudyDiary studyDiary) {
+        Map<String, Integer> frequencies = StudyDiaryTokenizer.termFrequencies(studyDiary.getContent());
+        StudyDiaryTokenizer.termFrequencies(studyDiary.getTitle())
+                .forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        return frequencies;
+    }
+}
@@ -13,30 +13,51 @@ import org.example.hugmeexp.domain.studydiary.dto.response.CommentDetailResponse
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryDetailResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryMyHomeResponse;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySearchResponse;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySimilarResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryWeekStatusResponse;
 import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
 import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryComment;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryContent;
 import org.example.hugmeexp.domain.studydiary.exception.StudyDiaryNotFoundException;
+import org.example.hugmeexp.domain.studydiary.exception.InvalidStudyDiaryCursorException;
 import org.example.hugmeexp.domain.studydiary.exception.UnauthorizedAccessException;
 import org.example.hugmeexp.domain.studydiary.exception.UserNotFoundForStudyDiaryException;
 import org.example.hugmeexp.domain.studydiary.exception.CommentNotFoundException;
+import org.example.hugmeexp.domain.studydiary.exception.DuplicateLikeException;
 import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryCommentRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLegacyContentRepository;
 import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
 import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLikeRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownExcerptUtil;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownRenderer;
 import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryLike;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.domain.user.enums.UserRole;
 import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -45,11 +66,31 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class StudyDiaryService {
 
+    // 상세 페이지에 보여줄 유사 배움일기 수
+    private static final int SIMILAR_DIARY_LIMIT = 5;
+
+    // 사용자 배움일기 목록 첫 페이지 커서 (DATETIME 최댓값)
+    private static final LocalDateTime FIRST_PAGE_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // 요약(excerpt) / HTML 백필 시 한 번에 처리할 배움일기 수
+    private static final int EXCERPT_BACKFILL_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
     private final StudyDiaryRepository studyDiaryRepository;
     private final StudyDiaryCommentRepository studyDiaryCommentRepository;
     private final StudyDiaryLikeRepository studyDiaryLikeRepository;
     private final NotificationService notificationService;
+    private final StudyDiarySearchService studyDiarySearchService;
+    private final StudyDiarySimilarityService studyDiarySimilarityService;
+    private final StudyDiaryLikeRedisService studyDiaryLikeRedisService;
+    private final StudyDiaryRedisService studyDiaryRedisService;
+    private final StudyDiaryUserStatService studyDiaryUserStatService;
+    private final MarkdownHtmlCacheService markdownHtmlCacheService;
+    private final StudyDiaryExportService studyDiaryExportService;
+    private final StudyDiaryDraftService studyDiaryDraftService;
+    private final StudyDiaryViewCountService studyDiaryViewCountService;
+    private final StudyDiaryLegacyContentRepository studyDiaryLegacyContentRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public Long createStudyDiary(StudyDiaryCreateRequest createRequest, UserDetails userDetails){
@@ -57,13 +98,24 @@ public class StudyDiaryService {
 
         StudyDiary createdStudyDiary = StudyDiary.builder()
                 .title(createRequest.getTitle())
-                .content(createRequest.getContent())
+                .body(StudyDiaryContent.of(createRequest.getContent(), markdownHtmlCacheService.render(createRequest.getContent())))
+                .excerpt(MarkdownExcerptUtil.excerpt(createRequest.getContent()))
                 .likeCount(0)
                 .isCreated(true)
                 .user(user)
                 .build();
         StudyDiary saved = studyDiaryRepository.save(createdStudyDiary);
 
+        // 검색 색인 / 유사 배움일기 서명 추가
+        studyDiarySearchService.index(saved);
+        studyDiarySimilarityService.index(saved);
+
+        // 이번 주 인기 순위 추가
+        studyDiaryRedisService.addToWeeklyRanking(saved);
+
+        // 사용자 통계 반영
+        studyDiaryUserStatService.recordCreated(saved);
+
         return saved.getId();
     }
 
@@ -77,8 +129,16 @@ public class StudyDiaryService {
 
         checkUser(user, studyDiary);
 
+        // 자동 저장 버퍼에 남은 값보다 수정 요청이 최신이므로 버퍼 삭제
+        studyDiaryDraftService.discard(studyDiary.getId());
+
         studyDiary.updateTitle(updateRequest.getTitle());
         studyDiary.updateContent(updateRequest.getContent());
+        studyDiary.updateRenderedHtml(markdownHtmlCacheService.render(updateRequest.getContent()));
+
+        // 검색 색인 / 유사 배움일기 서명 갱신
+        studyDiarySearchService.index(studyDiary);
+        studyDiarySimilarityService.index(studyDiary);
 
         return studyDiary.getId();
     }
@@ -106,26 +166,30 @@ public class StudyDiaryService {
         // 알림 제거 추가
         notificationService.deleteAllByDiaryId(studyDiary.getUser(),studyDiary.getId());
 
+        // 검색 색인 / 유사 배움일기 서명 삭제
+        studyDiarySearchService.remove(studyDiary.getId());
+        studyDiarySimilarityService.remove(studyDiary.getId());
+
+        // 좋아요 Set 삭제
+        studyDiaryLikeRedisService.evict(studyDiary.getId());
+
+        // 이번 주 인기 순위에서 제거
+        studyDiaryRedisService.removeFromWeeklyRanking(studyDiary.getId());
+
+        // 사용자 통계 반영
+        studyDiaryUserStatService.recordDeleted(studyDiary);
+
+        // 자동 저장 버퍼 삭제
+        studyDiaryDraftService.discard(studyDiary.getId());
+
+        // 조회수 / 순 방문자 삭제
+        studyDiaryViewCountService.evict(studyDiary.getId());
+
         studyDiaryRepository.delete(studyDiary);
     }
 
     public Page<StudyDiaryFindAllResponse> getStudyDiaries(Pageable pageable) {
-        Page<StudyDiary> studyDiaries = studyDiaryRepository.findByIsCreatedTrueOrderByCreatedAtDesc(pageable);
-
-        //response로 전환
-        Page<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaries.map(studyDiary -> {    //Page map으로 조작할때에는 stream 없이
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        });
-
-        return studyDiaryFindAllResponsePage;
+        return studyDiaryRepository.findSummariesByIsCreatedTrue(pageable);
     }
 
     public Page<StudyDiaryFindAllResponse> getTodayPopularStudyDiaries(Pageable pageable) {
@@ -134,97 +198,167 @@ public class StudyDiaryService {
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.plusDays(1).atStartOfDay();
 
-        Page<StudyDiary> studyDiaries = studyDiaryRepository.findTodayPopularStudyDiaries(startOfDay, endOfDay, pageable);
-
-        //response로 전환
-        Page<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaries.map(studyDiary -> {
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        });
-
-        return studyDiaryFindAllResponsePage;
-    }
-
-//    public Page<StudyDiaryFindAllResponse> getWeeklyPopularStudyDiaries(Pageable pageable) {
-//        // 이번 주 월요일~일요일 범위 계산
-//        LocalDateTime startOfWeek = LocalDateTime.now().with(DayOfWeek.MONDAY).withHour(0).withMinute(0).withSecond(0);
-//        LocalDateTime endOfWeek = startOfWeek.plusDays(6).withHour(23).withMinute(59).withSecond(59);
-//
-//        List<StudyDiary> studyDiaries = studyDiaryRepository.findWeeklyPopularStudyDiaries(startOfWeek, endOfWeek);
-//
-//        //response로 전환
-//        Page<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaries.map(studyDiary -> {
-//            return StudyDiaryFindAllResponse.builder()
-//                    .id(studyDiary.getId())
-//                    .name(studyDiary.getUser().getName())
-//                    .title(studyDiary.getTitle())
-//                    .content(studyDiary.getContent())
-//                    .likeNum(studyDiary.getLikeCount())
-//                    .commentNum(studyDiary.getComments().size())
-//                    .createdAt(studyDiary.getCreatedAt())
-//                    .build();
-//        });
-//
-//        return studyDiaryFindAllResponsePage;
-//    }
+        return studyDiaryRepository.findTodayPopularSummaries(startOfDay, endOfDay, pageable);
+    }
 
+    @Transactional
     public List<StudyDiaryFindAllResponse> getStudyDiaryDafts(Pageable pageable, UserDetails userDetails) {
         User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
-        List<StudyDiary> studyDiaryDraftList = studyDiaryRepository.findByIsCreatedFalse(user.getId());
 
-        //response로 전환
-        List<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaryDraftList.stream().map(studyDiary -> {    //Page map으로 조작할때에는 stream 없이
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        }).toList();
+        // 자동 저장 버퍼에만 있는 최신 값 먼저 반영
+        studyDiaryDraftService.flushIfDirty(studyDiaryRepository.findDraftIdsByUserId(user.getId()));
+
+        return studyDiaryRepository.findDraftSummariesByUserId(user.getId());
+    }
 
-        return studyDiaryFindAllResponsePage;
+    // 검색 결과는 관련도 순 정렬 (pageable 의 정렬 조건은 사용하지 않음)
+    public Page<StudyDiarySearchResponse> searchStudyDiaries(String keyword, Pageable pageable) {
+        return studyDiarySearchService.search(keyword, pageable);
     }
 
-    public Page<StudyDiaryFindAllResponse> searchStudyDiaries(String keyword, Pageable pageable) {
-        Page<StudyDiary> studyDiaries = studyDiaryRepository.findByTitleOrContentContaining(keyword, pageable);
+    @Transactional
+    public int rebuildSearchIndex() {
+        studyDiarySimilarityService.rebuildAll();
+        return studyDiarySearchService.rebuildAll();
+    }
 
-        //response로 전환
-        Page<StudyDiaryFindAllResponse> studyDiaryFindAllResponsePage = studyDiaries.map(studyDiary -> {    //Page map으로 조작할때에는 stream 없이
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        });
+    // 요약(excerpt) 컬럼 추가 이전에 작성된 배움일기의 요약 채우기 (배치마다 별도 트랜잭션으로 커밋)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillExcerpts() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int filled = 0;
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = studyDiaryRepository.findContentsWithoutExcerpt(lastId, PageRequest.of(0, EXCERPT_BACKFILL_BATCH_SIZE));
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = rows;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Object[] row : batch) {
+                    studyDiaryRepository.updateExcerpt((Long) row[0], MarkdownExcerptUtil.excerpt((String) row[1]));
+                }
+            });
+
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            filled += rows.size();
+        } while (rows.size() == EXCERPT_BACKFILL_BATCH_SIZE);
+
+        if (filled > 0) {
+            log.info("study diary excerpts backfilled: {}", filled);
+        }
+        return filled;
+    }
 
-        return studyDiaryFindAllResponsePage;
+    // 본문 분리 이전에 작성된 배움일기의 본문 / HTML 을 study_diary_content 로 옮기기 (다른 시작 작업보다 먼저 실행)
+    // 배치마다 별도 트랜잭션으로 커밋 (전체를 한 트랜잭션으로 묶으면 undo log / 잠금이 배움일기 수만큼 쌓임)
+    // 중간에 실패해도 커밋된 배치는 study_diary_content 로 옮겨졌으므로 다음 시작 시 남은 배움일기부터 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int migrateLegacyContents() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int migrated = 0;
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = studyDiaryLegacyContentRepository.findLegacyContents(lastId, EXCERPT_BACKFILL_BATCH_SIZE);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = rows;
+            transactionTemplate.executeWithoutResult(status -> moveLegacyContents(batch));
+
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            migrated += rows.size();
+        } while (rows.size() == EXCERPT_BACKFILL_BATCH_SIZE);
+
+        if (migrated > 0) {
+            log.info("study diary contents moved to study_diary_content: {}", migrated);
+        }
+        return migrated;
     }
 
-    public StudyDiaryDetailResponse getStudyDiary(Long id) {
+    private void moveLegacyContents(List<Object[]> rows) {
+        Map<Long, Object[]> rowsById = new HashMap<>();
+        for (Object[] row : rows) {
+            rowsById.put((Long) row[0], row);
+        }
+        for (StudyDiary studyDiary : studyDiaryRepository.findByBodyIsNullAndIdInOrderByIdAsc(rowsById.keySet())) {
+            Object[] row = rowsById.get(studyDiary.getId());
+            studyDiary.updateContent((String) row[1]);
+            studyDiary.updateRenderedHtml((String) row[2]);
+        }
+        studyDiaryRepository.flush();
+
+        studyDiaryLegacyContentRepository.clearLegacyContents(List.copyOf(rowsById.keySet()));
+    }
+
+    // rendered_html 컬럼 추가 이전에 작성된 배움일기의 HTML 채우기
+    // 본문은 (ID, 내용) 으로만 읽고 HTML 은 UPDATE 로 저장 (엔티티를 영속 상태로 쌓아두지 않음), 배치마다 별도 트랜잭션으로 커밋
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillRenderedHtml() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int filled = 0;
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = studyDiaryRepository.findBodiesWithoutRenderedHtml(lastId, PageRequest.of(0, EXCERPT_BACKFILL_BATCH_SIZE));
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = rows;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Object[] row : batch) {
+                    studyDiaryRepository.updateRenderedHtml((Long) row[0],
+                            CompressedStringConverter.compress(MarkdownRenderer.render((String) row[1])));
+                }
+            });
+
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            filled += rows.size();
+        } while (rows.size() == EXCERPT_BACKFILL_BATCH_SIZE);
+
+        if (filled > 0) {
+            log.info("study diary rendered html backfilled: {}", filled);
+        }
+        return filled;
+    }
+
+    public StudyDiaryDetailResponse getStudyDiary(Long id, UserDetails userDetails) {
         StudyDiary studyDiary = studyDiaryRepository.findById(id)
                 .orElseThrow(StudyDiaryNotFoundException::new);
 
+        // 조회수는 메모리에 모았다가 일괄 반영, 순 방문자는 사용자 아이디 기준
+        if (studyDiary.isCreated()) {
+            studyDiaryViewCountService.recordView(id, userDetails != null ? userDetails.getUsername() : null);
+        }
+
+        // 임시저장은 DB 반영 전 자동 저장 값이 있으면 그 값으로 표시
+        String title = studyDiary.getTitle();
+        String content = studyDiary.getContent();
+        String renderedHtml = studyDiary.getRenderedHtml();
+        if (!studyDiary.isCreated()) {
+            Optional<StudyDiaryDraftService.BufferedDraft> buffered = studyDiaryDraftService.getBuffered(id);
+            if (buffered.isPresent()) {
+                title = buffered.get().title();
+                content = buffered.get().content();
+                renderedHtml = null;
+            }
+        }
+
         StudyDiaryDetailResponse studyDiaryDetailResponse = StudyDiaryDetailResponse.builder()
                 .id(studyDiary.getId())
                 .userId(studyDiary.getUser().getId())
                 .name(studyDiary.getUser().getName())
-                .title(studyDiary.getTitle())
-                .content(studyDiary.getContent())
+                .title(title)
+                .content(content)
+                .renderedHtml(renderedHtml != null
+                        ? renderedHtml
+                        : markdownHtmlCacheService.render(content))
                 .likeNum(studyDiary.getLikeCount())
+                .viewNum(studyDiary.getViewCount() + studyDiaryViewCountService.getPendingViews(id))
+                .uniqueViewerNum(Math.max(studyDiary.getUniqueViewerCount(), studyDiaryViewCountService.getUniqueViewers(id)))
                 .createdAt(studyDiary.getCreatedAt())
                 .commentList(studyDiary.getComments().stream()
                         .map(CommentDetailResponse::buildToResponse)
@@ -234,42 +368,33 @@ public class StudyDiaryService {
         return studyDiaryDetailResponse;
     }
 
-    public List<StudyDiaryFindAllResponse> getUserStudyDiaries(Long userId, Pageable pageable) {
+    public Slice<StudyDiaryFindAllResponse> getUserStudyDiaries(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        validateCursor(cursorCreatedAt, cursorId, pageable);
         User findUser = userRepository.findById(userId).orElseThrow(UserNotFoundForStudyDiaryException::new);
-        List<StudyDiary> byUser = studyDiaryRepository.findByUser(findUser.getId());
-
-        List<StudyDiaryFindAllResponse> studyDiaryFindAllResponses = byUser.stream().map(studyDiary -> {    //Page map으로 조작할때에는 stream 없이
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        }).toList();
-
-        return studyDiaryFindAllResponses;
+        return findUserStudyDiarySlice(findUser.getId(), cursorCreatedAt, cursorId, pageable);
     }
 
-    public List<StudyDiaryFindAllResponse> getMyStudyDiaries(UserDetails userDetails, Pageable pageable) {
+    public Slice<StudyDiaryFindAllResponse> getMyStudyDiaries(UserDetails userDetails, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        validateCursor(cursorCreatedAt, cursorId, pageable);
         User findUser = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
-        List<StudyDiary> byUser = studyDiaryRepository.findByUser(findUser.getId());
+        return findUserStudyDiarySlice(findUser.getId(), cursorCreatedAt, cursorId, pageable);
+    }
 
-        List<StudyDiaryFindAllResponse> studyDiaryFindAllResponses = byUser.stream().map(studyDiary -> {    //Page map으로 조작할때에는 stream 없이
-            return StudyDiaryFindAllResponse.builder()
-                    .id(studyDiary.getId())
-                    .name(studyDiary.getUser().getName())
-                    .title(studyDiary.getTitle())
-                    .content(studyDiary.getContent())
-                    .likeNum(studyDiary.getLikeCount())
-                    .commentNum(studyDiary.getComments().size())
-                    .createdAt(studyDiary.getCreatedAt())
-                    .build();
-        }).toList();
+    // 커서는 (작성일, ID) 를 함께 보내야 하고, 다음 페이지는 page 번호가 아닌 커서로 조회
+    private void validateCursor(LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new InvalidStudyDiaryCursorException("cursorCreatedAt 과 cursorId 는 함께 보내야 합니다.");
+        }
+        if (pageable.getPageNumber() > 0) {
+            throw new InvalidStudyDiaryCursorException("page 는 사용할 수 없습니다. 다음 페이지는 cursorCreatedAt, cursorId 로 조회합니다.");
+        }
+    }
 
-        return studyDiaryFindAllResponses;
+    // 커서가 없으면 첫 페이지 (정렬은 작성일, ID 내림차순 고정이라 pageable 의 정렬 조건은 사용하지 않음)
+    private Slice<StudyDiaryFindAllResponse> findUserStudyDiarySlice(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        LocalDateTime createdAt = cursorCreatedAt != null ? cursorCreatedAt : FIRST_PAGE_CURSOR_CREATED_AT;
+        Long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        return studyDiaryRepository.findSummarySliceByUserId(userId, createdAt, id, PageRequest.of(0, pageable.getPageSize()));
     }
 
     public Page<StudyDiaryMyHomeResponse> getMyRecentStudyDiaries(UserDetails userDetails, Pageable pageable) {
@@ -303,17 +428,21 @@ public class StudyDiaryService {
         return responsePages;
     }
 
-    //추후 구현(elastic search 필요)
-
-//    public List<StudyDiary> getSimilarStudyDiaries(Long id) {
-//    }
+    // MinHash 서명 + LSH bucket 으로 구현
+    public List<StudyDiarySimilarResponse> getSimilarStudyDiaries(Long id) {
+        if (!studyDiaryRepository.existsById(id)) {
+            throw new StudyDiaryNotFoundException();
+        }
+        return studyDiarySimilarityService.findSimilar(id, SIMILAR_DIARY_LIMIT);
+    }
     @Transactional
     public Long saveDraft(StudyDiaryCreateRequest request, UserDetails userDetails) {
         User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
 
         StudyDiary createdStudyDiary = StudyDiary.builder()
                 .title(request.getTitle())
-                .content(request.getContent())
+                .body(StudyDiaryContent.of(request.getContent(), markdownHtmlCacheService.render(request.getContent())))
+                .excerpt(MarkdownExcerptUtil.excerpt(request.getContent()))
                 .isCreated(false)
                 .user(user)
                 .build();
@@ -323,110 +452,80 @@ public class StudyDiaryService {
         return saved.getId();
     }
 
-    public StudyDiaryWeekStatusResponse getWeekStatus(Long userId) {
-        //이번주 날짜 구하기
-        LocalDateTime startOfWeek = LocalDateTime.now().with(DayOfWeek.MONDAY).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfWeek = startOfWeek.plusDays(6).withHour(23).withMinute(59).withSecond(59);
-        //초기 response 객체 생성
-        StudyDiaryWeekStatusResponse response = StudyDiaryWeekStatusResponse.builder()
-                .sunday(false)
-                .monday(false)
-                .tuesday(false)
-                .wednesday(false)
-                .thursday(false)
-                .friday(false)
-                .saturday(false)
-                .todayStudyDiaryNum(0)
-                .totalLike(0)
-                .build();
-
-        List<StudyDiary> weekStudyDiaries = studyDiaryRepository.findByUserIdAndCreatedAtBetween(userId, startOfWeek, endOfWeek);
-
-        //주간 작성상황 작성
-        weekStudyDiaries.stream().forEach(studyDiary -> {
-            switch (studyDiary.getCreatedAt().getDayOfWeek()){
-                case SUNDAY -> response.setSunday(true);
-                case MONDAY -> response.setMonday(true);
-                case TUESDAY -> response.setTuesday(true);
-                case WEDNESDAY -> response.setWednesday(true);
-                case THURSDAY -> response.setThursday(true);
-                case FRIDAY -> response.setFriday(true);
-                case SATURDAY -> response.setSaturday(true);
-            }
-        });
-
-        //오늘 쓴 일기 갯수
-        weekStudyDiaries.stream().forEach(studyDiary -> {
-            if(studyDiary.getCreatedAt().toLocalDate().equals(LocalDate.now()))
-                response.setTodayStudyDiaryNum(response.getTodayStudyDiaryNum() + 1);
-        });
+    // 임시저장 자동 저장 - Redis 버퍼만 갱신하고 DB 는 StudyDiarySchedulingConfig 에서 주기적으로 반영
+    public Long autosaveDraft(Long draftId, StudyDiaryCreateRequest request, UserDetails userDetails) {
+        User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
 
-        //총 Like 갯수 계산
-        List<StudyDiary> byUserAllStudyDiaryList = studyDiaryRepository.findByUser(userId);
-        //stream 내부에서는 외부 변수 수정 불가, 아래와 같은 방법이 정석이라고 함
-        int likeCount = byUserAllStudyDiaryList.stream()
-                .mapToInt(StudyDiary::getLikeCount)
-                .sum();
-        response.setTotalLike(likeCount);
+        Long ownerId = studyDiaryDraftService.findOwnerId(draftId).orElseThrow(StudyDiaryNotFoundException::new);
+        if (!ownerId.equals(user.getId())) {
+            throw new UnauthorizedAccessException();
+        }
 
-        return response;
+        studyDiaryDraftService.buffer(draftId, user.getId(), request.getTitle(), request.getContent());
+        return draftId;
     }
 
-    public StudyDiaryWeekStatusResponse getMyWeekStatus(UserDetails userDetails) {
+    // 임시저장 발행 - 작성 완료 처리 후 버퍼에 남은 최신 값 반영 (버퍼는 커밋 후 삭제)
+    @Transactional
+    public Long publishDraft(Long draftId, UserDetails userDetails) {
         User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
-        //이번주 날짜 구하기
-        LocalDateTime startOfWeek = LocalDateTime.now().with(DayOfWeek.MONDAY).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfWeek = startOfWeek.plusDays(6).withHour(23).withMinute(59).withSecond(59);
-        //초기 response 객체 생성
-        StudyDiaryWeekStatusResponse response = StudyDiaryWeekStatusResponse.builder()
-                .sunday(false)
-                .monday(false)
-                .tuesday(false)
-                .wednesday(false)
-                .thursday(false)
-                .friday(false)
-                .saturday(false)
-                .todayStudyDiaryNum(0)
-                .totalLike(0)
-                .build();
+        StudyDiary draft = studyDiaryRepository.findById(draftId).orElseThrow(StudyDiaryNotFoundException::new);
 
-        log.info("start {} end {}", startOfWeek, endOfWeek);
-        List<StudyDiary> weekStudyDiaries = studyDiaryRepository.findByUserIdAndCreatedAtBetween(user.getId(), startOfWeek, endOfWeek);
-        log.info("week diaries {}", weekStudyDiaries.size());
-
-        //주간 작성상황 작성
-        weekStudyDiaries.stream().forEach(studyDiary -> {
-            switch (studyDiary.getCreatedAt().getDayOfWeek()){
-                case SUNDAY -> response.setSunday(true);
-                case MONDAY -> response.setMonday(true);
-                case TUESDAY -> response.setTuesday(true);
-                case WEDNESDAY -> response.setWednesday(true);
-                case THURSDAY -> response.setThursday(true);
-                case FRIDAY -> response.setFriday(true);
-                case SATURDAY -> response.setSaturday(true);
-            }
-        });
+        checkUser(user, draft);
+        if (draft.isCreated()) {
+            return draft.getId();
+        }
 
-        //오늘 쓴 일기 갯수
-        weekStudyDiaries.stream().forEach(studyDiary -> {
-            if(studyDiary.getCreatedAt().toLocalDate().equals(LocalDate.now()))
-                response.setTodayStudyDiaryNum(response.getTodayStudyDiaryNum() + 1);
+        // 동시에 발행된 경우 한 번만 반영 (작성일은 발행 시각으로 변경)
+        if (studyDiaryRepository.publishDraft(draftId, LocalDateTime.now()) == 0) {
+            return draftId;
+        }
+        StudyDiary studyDiary = studyDiaryRepository.findById(draftId).orElseThrow(StudyDiaryNotFoundException::new);
+
+        studyDiaryDraftService.getBuffered(draftId).ifPresent(buffered -> {
+            studyDiary.updateTitle(buffered.title());
+            studyDiary.updateContent(buffered.content());
+            studyDiary.updateRenderedHtml(markdownHtmlCacheService.render(buffered.content()));
         });
+        studyDiaryDraftService.discard(draftId);
+
+        // 검색 색인 / 유사 배움일기 서명 추가
+        studyDiarySearchService.index(studyDiary);
+        studyDiarySimilarityService.index(studyDiary);
+
+        // 이번 주 인기 순위 추가
+        studyDiaryRedisService.addToWeeklyRanking(studyDiary);
 
-        //총 Like 갯수 계산
-        List<StudyDiary> byUserAllStudyDiaryList = studyDiaryRepository.findByUser(user.getId());
-        //stream 내부에서는 외부 변수 수정 불가, 아래와 같은 방법이 정석이라고 함
-        int likeCount = byUserAllStudyDiaryList.stream()
-                .mapToInt(StudyDiary::getLikeCount)
-                .sum();
-        response.setTotalLike(likeCount);
+        // 사용자 통계 반영
+        studyDiaryUserStatService.recordCreated(studyDiary);
 
-        return response;
+        return studyDiary.getId();
+    }
+
+    public StudyDiaryWeekStatusResponse getWeekStatus(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundForStudyDiaryException();
+        }
+        return studyDiaryUserStatService.getWeekStatus(userId);
+    }
+
+    public StudyDiaryWeekStatusResponse getMyWeekStatus(UserDetails userDetails) {
+        User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
+        return studyDiaryUserStatService.getWeekStatus(user.getId());
     }
-    //추후구현
-//    public Object exportStudyDiaries(Long userId) {
 
-//    }
+    // 배움일기 내보내기 - 본인 또는 관리자만 가능, 실제 ZIP 은 응답 스트림에 쓰일 때 DB 커서로 읽음
+    public StreamingResponseBody exportStudyDiaries(Long userId, UserDetails userDetails) {
+        User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(UserNotFoundForStudyDiaryException::new);
+        if (!user.getId().equals(userId)) {
+            checkAdmin(user);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundForStudyDiaryException();
+        }
+
+        return studyDiaryExportService.export(userId);
+    }
 
     @Transactional
     public Long createComment(Long studyDiaryId, CommentCreateRequest request, UserDetails userDetails) {
@@ -439,6 +538,9 @@ public class StudyDiaryService {
                 .build();
         studyDiaryCommentRepository.save(comment);
 
+        // 배움일기 댓글 수 증가
+        studyDiaryRepository.addCommentCount(studyDiaryId, 1);
+
         // 알림 전송: 댓글 작성자가 글 작성자와 다를 경우에만 알림 전송
         if(!studyDiary.getUser().getId().equals(user.getId())) {
             notificationService.sendDiaryCommentNotification(
@@ -476,6 +578,9 @@ public class StudyDiaryService {
         notificationService.deleteDiaryCommentNotification(studyDiary.getUser(), commentId);
 
         studyDiaryCommentRepository.delete(comment);
+
+        // 배움일기 댓글 수 감소
+        studyDiaryRepository.addCommentCount(studyDiaryId, -1);
     }
 
     @Transactional
@@ -486,26 +591,31 @@ public class StudyDiaryService {
         StudyDiary studyDiary = studyDiaryRepository.findById(studyDiaryId)
                 .orElseThrow(StudyDiaryNotFoundException::new);
 
-        // 이미 좋아요를 눌렀는지 확인
-        Optional<StudyDiaryLike> existingLike = studyDiary.getLikes()
-                .stream().filter(like -> like.getUser().getId().equals(user.getId()))
-                .findFirst();
-//        log.info("Log userDetails {}, Like present {}", userDetails.getUsername(), existingLike.isPresent());
-//        log.info("Log user {}, Like present {}", user.getId(), existingLike.isPresent());
-
-        if (existingLike.isPresent()) {
-//            log.info("Like {}", existingLike.get().getId());
+        // 좋아요 취소 시도 - 삭제된 행이 있으면 이미 좋아요를 누른 상태였음
+        if (studyDiaryLikeRepository.deleteByStudyDiaryIdAndUserId(studyDiaryId, user.getId()) > 0) {
+            studyDiaryRepository.addLikeCount(studyDiaryId, -1);
+            studyDiaryLikeRedisService.removeLike(studyDiaryId, user.getId());
+            studyDiaryRedisService.incrementWeeklyScore(studyDiary, -1);
+            studyDiaryUserStatService.addLikes(studyDiary, -1);
 
             // 알림 제거 추가
             if(!studyDiary.getUser().getId().equals(user.getId())){
                 notificationService.deleteDiaryLikeNotification(studyDiary.getUser(), studyDiary.getId());
             }
-
-            // 좋아요 취소
-            return studyDiary.deleteLike(user.getId());
         } else {
-            // 좋아요 추가
-            int likeCount = studyDiary.addLike(user);
+            // 좋아요 추가 (동시 요청으로 이미 추가된 경우 unique 제약에서 걸림)
+            try {
+                studyDiaryLikeRepository.saveAndFlush(StudyDiaryLike.builder()
+                        .studyDiary(studyDiary)
+                        .user(user)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                throw new DuplicateLikeException();
+            }
+            studyDiaryRepository.addLikeCount(studyDiaryId, 1);
+            studyDiaryLikeRedisService.recordLike(studyDiaryId, user.getId());
+            studyDiaryRedisService.incrementWeeklyScore(studyDiary, 1);
+            studyDiaryUserStatService.addLikes(studyDiary, 1);
 
             // 알림 전송: 좋아요를 누른 사용자가 글 작성자와 다를 경우에만 알림 전송
             if (!studyDiary.getUser().getId().equals(user.getId())){
@@ -515,9 +625,21 @@ public class StudyDiaryService {
                         studyDiary.getId() // 배움일기 ID
                 );
             }
-            return likeCount;
         }
+
         //return 값으로 최신 좋아요 갯수
+        return studyDiaryRepository.findLikeCountById(studyDiaryId);
+    }
+
+    public boolean isLiked(Long studyDiaryId, UserDetails userDetails) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(UserNotFoundForStudyDiaryException::new);
+
+        if (!studyDiaryRepository.existsById(studyDiaryId)) {
+            throw new StudyDiaryNotFoundException();
+        }
+
+        return studyDiaryLikeRedisService.isLiked(studyDiaryId, user.getId());
     }
 
     private void checkUser(User user, StudyDiary studyDiary) {
@@ -571,7 +693,7 @@ public class StudyDiaryService {
         String markdownContent = request.getMarkdownContent();
         
         // 간단한 마크다운 -> HTML 변환 (실제 구현시에는 마크다운 라이브러리 사용 권장)
-        String htmlContent = convertMarkdownToHtml(markdownContent);
+        String htmlContent = markdownHtmlCacheService.render(markdownContent);
         
         // 글자 수 계산
         int characterCount = markdownContent.length();
@@ -586,45 +708,4 @@ public class StudyDiaryService {
                 .wordCount(wordCount)
                 .build();
     }
-
-    /**
-     * 간단한 마크다운 -> HTML 변환
-     * 실제 운영시에는 commonmark, flexmark 등의 라이브러리 사용 권장
-     */
-    private String convertMarkdownToHtml(String markdown) {
-        if (markdown == null || markdown.trim().isEmpty()) {
-            return "";
-        }
-        
-        String html = markdown;
-        
-        // 헤딩 변환
-        html = html.replaceAll("^### (.*$)", "<h3>$1</h3>");
-        html = html.replaceAll("^## (.*$)", "<h2>$1</h2>");
-        html = html.replaceAll("^# (.*$)", "<h1>$1</h1>");
-        
-        // 굵은 글씨
-        html = html.replaceAll("\\*\\*(.*?)\\*\\*", "<strong>$1</strong>");
-        
-        // 기울임 글씨
-        html = html.replaceAll("\\*(.*?)\\*", "<em>$1</em>");
-        
-        // 코드 블록 (간단한 버전)
-        html = html.replaceAll("```java([\\s\\S]*?)```", "<pre><code class=\"language-java\">$1</code></pre>");
-        html = html.replaceAll("```([\\s\\S]*?)```", "<pre><code>$1</code></pre>");
-        
-        // 인라인 코드
-        html = html.replaceAll("`(.*?)`", "<code>$1</code>");
-        
-        // 이미지
-        html = html.replaceAll("!\\[(.*?)\\]\\((.*?)\\)", "<img src=\"$2\" alt=\"$1\" />");
-        
-        // 링크
-        html = html.replaceAll("\\[(.*?)\\]\\((.*?)\\)", "<a href=\"$2\">$1</a>");
-        
-        // 줄바꿈 처리
-        html = html.replace("\n", "<br/>");
-        
-        return html;
-    }
 }
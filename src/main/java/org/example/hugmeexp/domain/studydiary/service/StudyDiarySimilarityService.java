@@ -0,0 +1,169 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySimilarResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiarySignature;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLshBucketBulkRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLshBucketRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiarySignatureRepository;
+import org.example.hugmeexp.domain.studydiary.util.MinHashUtil;
+import org.example.hugmeexp.domain.studydiary.util.StudyDiaryTokenizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 유사 배움일기 추천
+ * - 저장 시 제목/본문 term 집합으로 MinHash 서명을 만들고 band 별 LSH bucket 에 등록
+ * - 조회 시 같은 bucket 에 들어간 배움일기만 후보로 가져와서 서명으로 유사도 계산 (전체 배움일기와 비교하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyDiarySimilarityService {
+
+    // 유사도를 계산해볼 최대 후보 수 (겹치는 band 가 많은 순)
+    private static final int CANDIDATE_LIMIT = 100;
+
+    // 이보다 유사도가 낮으면 추천하지 않음
+    private static final double MIN_SIMILARITY = 0.1;
+
+    // 전체 재생성 시 한 번에 읽는 배움일기 수
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final StudyDiarySignatureRepository studyDiarySignatureRepository;
+    private final StudyDiaryLshBucketRepository studyDiaryLshBucketRepository;
+    private final StudyDiaryLshBucketBulkRepository studyDiaryLshBucketBulkRepository;
+    private final StudyDiaryRepository studyDiaryRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    // 배움일기 서명 등록 (작성, 수정 시 호출) - 임시저장 글은 추천 대상이 아니므로 등록하지 않음
+    @Transactional
+    public void index(StudyDiary studyDiary) {
+        remove(studyDiary.getId());
+        if (!studyDiary.isCreated()) return;
+
+        save(studyDiary);
+    }
+
+    // 배움일기 서명 삭제 (삭제 시 호출)
+    @Transactional
+    public void remove(Long studyDiaryId) {
+        studyDiaryLshBucketRepository.deleteByStudyDiaryId(studyDiaryId);
+        studyDiarySignatureRepository.deleteByStudyDiaryId(studyDiaryId);
+    }
+
+    // 유사 배움일기 조회 (유사도 높은 순)
+    @Transactional(readOnly = true)
+    public List<StudyDiarySimilarResponse> findSimilar(Long studyDiaryId, int limit) {
+        StudyDiarySignature signature = studyDiarySignatureRepository.findById(studyDiaryId).orElse(null);
+        if (signature == null) {
+            return List.of();
+        }
+
+        int[] minHash = MinHashUtil.fromBytes(signature.getMinHash());
+        List<Long> bucketKeys = Arrays.stream(MinHashUtil.bucketKeys(minHash)).boxed().toList();
+
+        // row : [배움일기 ID, 겹친 band 수]
+        List<Long> candidateIds = studyDiaryLshBucketRepository
+                .findCandidates(bucketKeys, studyDiaryId, PageRequest.of(0, CANDIDATE_LIMIT)).stream()
+                .map(row -> (Long) row[0])
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 후보 서명으로 유사도 계산 후 상위 limit 개
+        Map<Long, Double> similarities = studyDiarySignatureRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(
+                        StudyDiarySignature::getStudyDiaryId,
+                        candidate -> MinHashUtil.similarity(minHash, MinHashUtil.fromBytes(candidate.getMinHash()))));
+
+        List<Long> topIds = similarities.entrySet().stream()
+                .filter(entry -> entry.getValue() >= MIN_SIMILARITY)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (topIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StudyDiary> diaries = studyDiaryRepository.findAllWithUserByIdIn(topIds).stream()
+                .collect(Collectors.toMap(StudyDiary::getId, Function.identity()));
+
+        return topIds.stream()
+                .filter(diaries::containsKey)
+                .map(id -> StudyDiarySimilarResponse.of(diaries.get(id), similarities.get(id)))
+                .toList();
+    }
+
+    // 전체 배움일기 서명 재생성
+    @Transactional
+    public int rebuildAll() {
+        studyDiaryLshBucketRepository.deleteAllInBatch();
+        studyDiarySignatureRepository.deleteAllInBatch();
+
+        int indexed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<StudyDiary> batch = studyDiaryRepository.findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+
+            batch.forEach(this::save);
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+
+            // 본문이 영속성 컨텍스트에 쌓이지 않도록 배치마다 비움
+            entityManager.clear();
+        }
+
+        log.info("Study diary signatures rebuilt - diaries: {}", indexed);
+        return indexed;
+    }
+
+    // 서명이 비어 있으면 기존 배움일기로 생성
+    // 여러 서버가 동시에 시작해서 같이 재생성해도 서명 / bucket 은 upsert 라 키 중복으로 실패하지 않음
+    // 재생성이 실패해도 서버 시작은 막지 않음 (다른 서버의 재생성이 남거나 다음 시작 시 다시 시도)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty() {
+        try {
+            if (studyDiarySignatureRepository.count() == 0 && studyDiaryRepository.count() > 0) {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> rebuildAll());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to rebuild study diary signatures", e);
+        }
+    }
+
+    private void save(StudyDiary studyDiary) {
+        Set<String> terms = new HashSet<>(StudyDiaryTokenizer.termFrequencies(studyDiary.getTitle()).keySet());
+        terms.addAll(StudyDiaryTokenizer.termFrequencies(studyDiary.getContent()).keySet());
+        if (terms.isEmpty()) return;
+
+        int[] minHash = MinHashUtil.signature(terms);
+        studyDiarySignatureRepository.upsert(studyDiary.getId(), MinHashUtil.toBytes(minHash));
+        studyDiaryLshBucketBulkRepository.saveAll(studyDiary.getId(), MinHashUtil.bucketKeys(minHash));
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryWeekStatusResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryUserStat;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryUserStatRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 사용자별 배움일기 통계 관리 - 주간 활동 상황은 사용자 통계 한 행만 읽음
+@Service
+@RequiredArgsConstructor
+public class StudyDiaryUserStatService {
+
+    // 통계 생성 시 제외할 배움일기가 없을 때 사용
+    private static final Long NO_EXCLUDED_ID = -1L;
+
+    private final StudyDiaryUserStatRepository studyDiaryUserStatRepository;
+    private final StudyDiaryRepository studyDiaryRepository;
+
+    /* 배움일기 작성 */
+    @Transactional
+    public void recordCreated(StudyDiary studyDiary) {
+        Long userId = studyDiary.getUser().getId();
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+
+        // 통계가 없으면 방금 작성한 배움일기까지 포함해서 DB 로 생성
+        // 동시에 다른 요청이 먼저 생성했으면(0 반환) 그 행은 이 배움일기를 볼 수 없었으므로 아래에서 반영
+        if (!studyDiaryUserStatRepository.existsById(userId)
+                && studyDiaryUserStatRepository.insertIfAbsent(build(userId, weekStart, today)) > 0) {
+            return;
+        }
+
+        studyDiaryUserStatRepository.findForUpdate(userId)
+                .ifPresent(stat -> stat.recordWritten(studyDiary.getCreatedAt(), weekStart, today));
+    }
+
+    /* 배움일기 삭제 (삭제 전 호출) */
+    @Transactional
+    public void recordDeleted(StudyDiary studyDiary) {
+        if (!studyDiary.isCreated()) {
+            return;
+        }
+        // 통계가 없으면 다음 조회 / 작성 때 DB 로 생성되므로 반영할 것 없음 (없는 행 잠금 조회 방지)
+        Long userId = studyDiary.getUser().getId();
+        if (!studyDiaryUserStatRepository.existsById(userId)) {
+            return;
+        }
+        StudyDiaryUserStat stat = studyDiaryUserStatRepository.findForUpdate(userId).orElse(null);
+        if (stat == null) {
+            return;
+        }
+        stat.recordDeleted(studyDiary.getLikeCount());
+
+        // 이번 주에 작성한 배움일기면 요일 / 오늘 작성 수를 삭제할 배움일기를 빼고 다시 계산
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+        if (!studyDiary.getCreatedAt().toLocalDate().isBefore(weekStart)) {
+            stat.resetWeek(findWeekCreatedAts(stat.getUserId(), weekStart, studyDiary.getId()), weekStart, today);
+        }
+    }
+
+    /* 배움일기 좋아요 / 좋아요 취소 */
+    @Transactional
+    public void addLikes(StudyDiary studyDiary, int delta) {
+        if (studyDiary.isCreated()) {
+            studyDiaryUserStatRepository.addTotalLikeCount(studyDiary.getUser().getId(), delta);
+        }
+    }
+
+    /* 주간 활동 상황 - 통계가 아직 없으면 저장하지 않고 DB 로 계산만 (행 생성은 작성 시) */
+    @Transactional(readOnly = true)
+    public StudyDiaryWeekStatusResponse getWeekStatus(Long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+
+        StudyDiaryUserStat stat = studyDiaryUserStatRepository.findById(userId)
+                .orElseGet(() -> build(userId, weekStart, today));
+
+        return StudyDiaryWeekStatusResponse.builder()
+                .sunday(stat.isWritten(DayOfWeek.SUNDAY, weekStart))
+                .monday(stat.isWritten(DayOfWeek.MONDAY, weekStart))
+                .tuesday(stat.isWritten(DayOfWeek.TUESDAY, weekStart))
+                .wednesday(stat.isWritten(DayOfWeek.WEDNESDAY, weekStart))
+                .thursday(stat.isWritten(DayOfWeek.THURSDAY, weekStart))
+                .friday(stat.isWritten(DayOfWeek.FRIDAY, weekStart))
+                .saturday(stat.isWritten(DayOfWeek.SATURDAY, weekStart))
+                .todayStudyDiaryNum(stat.getTodayDiaryCount(today))
+                .totalLike(stat.getTotalLikeCount())
+                .build();
+    }
+
+    // 기존 배움일기로 사용자 통계 생성 (사용자당 한 번)
+    private StudyDiaryUserStat build(Long userId, LocalDate weekStart, LocalDate today) {
+        Object[] row = studyDiaryRepository.sumStatsByUserId(userId).get(0);
+
+        StudyDiaryUserStat stat = StudyDiaryUserStat.builder()
+                .userId(userId)
+                .totalDiaryCount(((Number) row[0]).intValue())
+                .totalLikeCount(((Number) row[1]).intValue())
+                .build();
+        stat.resetWeek(findWeekCreatedAts(userId, weekStart, NO_EXCLUDED_ID), weekStart, today);
+        return stat;
+    }
+
+    private List<LocalDateTime> findWeekCreatedAts(Long userId, LocalDate weekStart, Long excludedId) {
+        LocalDateTime startOfWeek = weekStart.atStartOfDay();
+        return studyDiaryRepository.findCreatedAtsByUserIdBetween(userId, startOfWeek, startOfWeek.plusWeeks(1), excludedId);
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryViewCountBulkRepository;
+import org.example.hugmeexp.global.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 배움일기 조회수 집계
+// 조회수는 서버 메모리의 배움일기별 카운터에 모았다가 주기적으로 DB 에 일괄 반영하고,
+// 순 방문자 수는 Redis HyperLogLog(study_diary:viewers:{id})로 추정 - 조회 요청마다 DB 쓰기가 생기지 않음
+@Slf4j
+@Service
+public class StudyDiaryViewCountService {
+
+    private static final String VIEWERS_KEY_PREFIX = "study_diary:viewers:";
+    private static final Duration VIEWERS_TTL = Duration.ofDays(90);
+
+    // 반영 전 조회수 증가분 (증가 / 차감 모두 항목 단위 원자 연산 - 반영 중에 들어온 조회도 누락되지 않음)
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StudyDiaryViewCountBulkRepository studyDiaryViewCountBulkRepository;
+
+    public StudyDiaryViewCountService(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                      StudyDiaryViewCountBulkRepository studyDiaryViewCountBulkRepository) {
+        this.redisTemplate = redisTemplate;
+        this.studyDiaryViewCountBulkRepository = studyDiaryViewCountBulkRepository;
+    }
+
+    /* 조회 기록 */
+    public void recordView(Long studyDiaryId, String viewer) {
+        pendingViews.merge(studyDiaryId, 1L, Long::sum);
+
+        if (viewer == null) return;
+        try {
+            redisTemplate.opsForHyperLogLog().add(VIEWERS_KEY_PREFIX + studyDiaryId, viewer);
+        } catch (Exception e) {
+            log.warn("Failed to record study diary viewer - studyDiaryId: {}", studyDiaryId, e);
+        }
+    }
+
+    /* 아직 DB 에 반영되지 않은 조회수 (상세 조회 응답에 더해서 표시) */
+    public long getPendingViews(Long studyDiaryId) {
+        return pendingViews.getOrDefault(studyDiaryId, 0L);
+    }
+
+    /* 순 방문자 수 추정치 */
+    public long getUniqueViewers(Long studyDiaryId) {
+        try {
+            Long count = redisTemplate.opsForHyperLogLog().size(VIEWERS_KEY_PREFIX + studyDiaryId);
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read study diary viewers - studyDiaryId: {}", studyDiaryId, e);
+            return 0L;
+        }
+    }
+
+    /* 모아둔 조회수를 DB 에 일괄 반영 (StudyDiarySchedulingConfig) */
+    public int flush() {
+        Map<Long, long[]> viewCounts = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : pendingViews.entrySet()) {
+            long views = entry.getValue();
+            if (views > 0) {
+                viewCounts.put(entry.getKey(), new long[]{views, 0L});
+            }
+        }
+        if (viewCounts.isEmpty()) {
+            return 0;
+        }
+
+        for (Map.Entry<Long, long[]> entry : viewCounts.entrySet()) {
+            entry.getValue()[1] = getUniqueViewers(entry.getKey());
+        }
+
+        studyDiaryViewCountBulkRepository.addViewCounts(viewCounts);
+
+        // 반영한 만큼만 차감하고 0 이 된 항목은 제거 (반영 중에 들어온 조회가 있으면 남은 증가분은 다음 반영 때 처리)
+        for (Map.Entry<Long, long[]> entry : viewCounts.entrySet()) {
+            long flushed = entry.getValue()[0];
+            pendingViews.computeIfPresent(entry.getKey(), (id, views) -> views > flushed ? views - flushed : null);
+        }
+        return viewCounts.size();
+    }
+
+    /* 배움일기 삭제 시 (삭제 트랜잭션이 커밋된 후에 정리) */
+    public void evict(Long studyDiaryId) {
+        TransactionUtils.runAfterCommit(() -> {
+            pendingViews.remove(studyDiaryId);
+            try {
+                redisTemplate.delete(VIEWERS_KEY_PREFIX + studyDiaryId);
+            } catch (Exception e) {
+                log.warn("Failed to evict study diary viewers - studyDiaryId: {}", studyDiaryId, e);
+            }
+        });
+    }
+
+    /* 서버 종료 전 남은 조회수 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush study diary view counts on shutdown", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 문자열 <-> deflate 압축 바이트 변환 (배움일기 본문 / HTML 저장용)
+// 마크다운, HTML 은 반복이 많아 보통 원래 크기의 1/3 ~ 1/4 정도로 줄어듦
+@Converter
+public class CompressedStringConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return decompress(dbData);
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null) return null;
+
+        byte[] input = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 3));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decompress(byte[] data) {
+        if (data == null) return null;
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed study diary content");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed study diary content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import java.util.regex.Pattern;
+
+// 배움일기 목록용 본문 요약 (마크다운 문법 제거 후 앞부분만)
+public class MarkdownExcerptUtil {
+
+    // 요약 최대 길이 (study_diary.excerpt 컬럼 길이)
+    public static final int MAX_LENGTH = 150;
+
+    // 요약에 필요한 앞부분만 처리 (긴 본문 전체에 정규식을 돌리지 않도록)
+    private static final int SOURCE_LIMIT = MAX_LENGTH * 20;
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("```.*?(```|$)", Pattern.DOTALL);
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern LINE_MARKER = Pattern.compile("^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+", Pattern.MULTILINE);
+    private static final Pattern INLINE_MARKER = Pattern.compile("[*_~`]+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private MarkdownExcerptUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String excerpt(String markdown) {
+        if (markdown == null || markdown.isBlank()) return "";
+
+        String text = markdown.length() > SOURCE_LIMIT ? markdown.substring(0, SOURCE_LIMIT) : markdown;
+        text = CODE_BLOCK.matcher(text).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = LINE_MARKER.matcher(text).replaceAll("");
+        text = INLINE_MARKER.matcher(text).replaceAll("");
+        text = WHITESPACES.matcher(text).replaceAll(" ").trim();
+
+        if (text.length() <= MAX_LENGTH) return text;
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록
+        int end = Character.isHighSurrogate(text.charAt(MAX_LENGTH - 1)) ? MAX_LENGTH - 1 : MAX_LENGTH;
+        return text.substring(0, end);
+    }
+}
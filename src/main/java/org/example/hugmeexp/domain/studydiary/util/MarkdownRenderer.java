@@ -0,0 +1,419 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 배움일기 마크다운 -> HTML 변환
+// 줄 단위로 한 번만 훑으면서 블록(제목, 코드 블록, 인용, 목록, 구분선, 문단)을 나누고,
+// 블록 안의 인라인 요소(굵게, 기울임, 취소선, 코드, 링크, 이미지)는 문자 단위로 한 번만 훑어서 변환
+// 원문 텍스트는 모두 HTML 이스케이프 (저장된 HTML 을 그대로 내려주므로 스크립트 삽입 방지)
+public class MarkdownRenderer {
+
+    private static final Pattern FENCE = Pattern.compile("^ {0,3}(`{3,}|~{3,})\\s*([\\w+#.-]*).*$");
+    private static final Pattern THEMATIC_BREAK = Pattern.compile("^ {0,3}([-*_])(?:[ \\t]*\\1){2,}[ \\t]*$");
+    private static final Pattern UNORDERED_ITEM = Pattern.compile("^ {0,3}[-*+][ \\t]+(.*)$");
+    private static final Pattern ORDERED_ITEM = Pattern.compile("^ {0,3}\\d{1,9}[.)][ \\t]+(.*)$");
+    private static final Pattern QUOTE = Pattern.compile("^ {0,3}>[ \\t]?(.*)$");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n|\\r");
+    private static final Pattern SAFE_URL = Pattern.compile("^(https?://|mailto:|/|#|\\./|\\.\\./)|^[^:]*$", Pattern.CASE_INSENSITIVE);
+
+    private MarkdownRenderer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) return "";
+
+        StringBuilder html = new StringBuilder(markdown.length() + (markdown.length() >> 2));
+        renderBlocks(LINE_BREAK.split(markdown, -1), html);
+        return html.toString();
+    }
+
+    // 캐시 키용 본문 해시 (SHA-256)
+    public static String contentHash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((markdown == null ? "" : markdown).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /* 블록 */
+
+    private static void renderBlocks(String[] lines, StringBuilder html) {
+        List<String> paragraph = new ArrayList<>();
+        List<String> quote = new ArrayList<>();
+        String listTag = null;
+
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+
+            // 인용은 연속된 '>' 줄을 모아서 안쪽을 다시 블록 단위로 변환
+            Matcher quoteMatcher = QUOTE.matcher(line);
+            if (quoteMatcher.matches()) {
+                flushParagraph(paragraph, html);
+                listTag = closeList(listTag, html);
+                quote.add(quoteMatcher.group(1));
+                continue;
+            }
+            flushQuote(quote, html);
+
+            if (line.isBlank()) {
+                flushParagraph(paragraph, html);
+                listTag = closeList(listTag, html);
+                continue;
+            }
+
+            // 코드 블록 - 닫는 펜스까지 그대로 이스케이프
+            Matcher fenceMatcher = FENCE.matcher(line);
+            if (fenceMatcher.matches()) {
+                flushParagraph(paragraph, html);
+                listTag = closeList(listTag, html);
+                i = renderFencedCode(lines, i, fenceMatcher.group(1), fenceMatcher.group(2), html);
+                continue;
+            }
+
+            int headingLevel = headingLevel(line);
+            if (headingLevel > 0) {
+                flushParagraph(paragraph, html);
+                listTag = closeList(listTag, html);
+                html.append("<h").append(headingLevel).append('>');
+                renderInline(headingText(line, headingLevel), html);
+                html.append("</h").append(headingLevel).append(">\n");
+                continue;
+            }
+
+            if (THEMATIC_BREAK.matcher(line).matches()) {
+                flushParagraph(paragraph, html);
+                listTag = closeList(listTag, html);
+                html.append("<hr/>\n");
+                continue;
+            }
+
+            Matcher unorderedMatcher = UNORDERED_ITEM.matcher(line);
+            Matcher orderedMatcher = ORDERED_ITEM.matcher(line);
+            String itemTag = unorderedMatcher.matches() ? "ul" : orderedMatcher.matches() ? "ol" : null;
+            if (itemTag != null) {
+                flushParagraph(paragraph, html);
+                if (!itemTag.equals(listTag)) {
+                    closeList(listTag, html);
+                    html.append('<').append(itemTag).append(">\n");
+                    listTag = itemTag;
+                }
+                html.append("<li>");
+                renderInline("ul".equals(itemTag) ? unorderedMatcher.group(1) : orderedMatcher.group(1), html);
+                html.append("</li>\n");
+                continue;
+            }
+
+            listTag = closeList(listTag, html);
+            paragraph.add(line.strip());
+        }
+
+        flushQuote(quote, html);
+        flushParagraph(paragraph, html);
+        closeList(listTag, html);
+    }
+
+    // 닫는 펜스 줄 번호 반환 (없으면 마지막 줄까지 코드 블록)
+    private static int renderFencedCode(String[] lines, int start, String fence, String language, StringBuilder html) {
+        html.append("<pre><code");
+        if (!language.isEmpty()) {
+            html.append(" class=\"language-");
+            escape(language, 0, language.length(), html);
+            html.append('"');
+        }
+        html.append('>');
+
+        int i = start + 1;
+        for (; i < lines.length; i++) {
+            String stripped = lines[i].strip();
+            if (stripped.length() >= fence.length() && isRepeated(stripped, fence.charAt(0))) {
+                break;
+            }
+            escape(lines[i], 0, lines[i].length(), html);
+            html.append('\n');
+        }
+        html.append("</code></pre>\n");
+        return i;
+    }
+
+    private static void flushParagraph(List<String> paragraph, StringBuilder html) {
+        if (paragraph.isEmpty()) return;
+
+        html.append("<p>");
+        for (int i = 0; i < paragraph.size(); i++) {
+            if (i > 0) html.append("<br/>");
+            renderInline(paragraph.get(i), html);
+        }
+        html.append("</p>\n");
+        paragraph.clear();
+    }
+
+    private static void flushQuote(List<String> quote, StringBuilder html) {
+        if (quote.isEmpty()) return;
+
+        html.append("<blockquote>\n");
+        renderBlocks(quote.toArray(new String[0]), html);
+        html.append("</blockquote>\n");
+        quote.clear();
+    }
+
+    private static String closeList(String listTag, StringBuilder html) {
+        if (listTag != null) {
+            html.append("</").append(listTag).append(">\n");
+        }
+        return null;
+    }
+
+    // '#' 1~6 개 뒤에 공백이 있으면 제목
+    private static int headingLevel(String line) {
+        int i = 0;
+        while (i < line.length() && i < 3 && line.charAt(i) == ' ') i++;
+        int level = 0;
+        while (i < line.length() && line.charAt(i) == '#') {
+            level++;
+            i++;
+        }
+        if (level == 0 || level > 6) return 0;
+        return i == line.length() || line.charAt(i) == ' ' || line.charAt(i) == '\t' ? level : 0;
+    }
+
+    // 앞의 '#' 와 뒤에 붙은 닫는 '#' 제거
+    private static String headingText(String line, int level) {
+        String text = line.strip().substring(level).strip();
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '#') end--;
+        if (end < text.length() && (end == 0 || text.charAt(end - 1) == ' ' || text.charAt(end - 1) == '\t')) {
+            text = text.substring(0, end).strip();
+        }
+        return text;
+    }
+
+    private static boolean isRepeated(String text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != c) return false;
+        }
+        return true;
+    }
+
+    /* 인라인 */
+
+    private static void renderInline(String text, StringBuilder html) {
+        new InlineScanner(text).render(0, text.length(), html);
+    }
+
+    // 닫는 기호 위치를 기호별로 기억해서 같은 구간을 반복해서 찾지 않음 (닫는 기호가 없는 입력도 선형 시간)
+    private static final class InlineScanner {
+
+        private final String text;
+        private final Map<String, int[]> nextIndexCache = new HashMap<>();    // marker -> {검색 시작 위치, 찾은 위치}
+
+        private InlineScanner(String text) {
+            this.text = text;
+        }
+
+        private void render(int from, int to, StringBuilder html) {
+            int i = from;
+            while (i < to) {
+                char c = text.charAt(i);
+                int next = switch (c) {
+                    case '\\' -> renderEscaped(i, to, html);
+                    case '`' -> renderCode(i, to, html);
+                    case '!' -> i + 1 < to && text.charAt(i + 1) == '[' ? renderLink(i + 1, to, true, html) : -1;
+                    case '[' -> renderLink(i, to, false, html);
+                    case '*', '_' -> renderEmphasis(i, to, c, html);
+                    case '~' -> renderStrikethrough(i, to, html);
+                    default -> -1;
+                };
+                if (next < 0) {
+                    escape(c, html);
+                    i++;
+                } else {
+                    i = next;
+                }
+            }
+        }
+
+        private int renderEscaped(int i, int to, StringBuilder html) {
+            if (i + 1 >= to || !isPunctuation(text.charAt(i + 1))) return -1;
+            escape(text.charAt(i + 1), html);
+            return i + 2;
+        }
+
+        private int renderCode(int i, int to, StringBuilder html) {
+            int run = runLength(i, to, '`');
+            String marker = "`".repeat(run);
+            int close = indexOf(marker, i + run, to);
+            // 길이가 같은 닫는 backtick 이 나올 때까지
+            while (close >= 0 && runLength(close, to, '`') != run) {
+                close = indexOf(marker, close + runLength(close, to, '`'), to);
+            }
+            if (close < 0) {
+                html.append(marker);
+                return i + run;
+            }
+            html.append("<code>");
+            escape(text, i + run, close, html);
+            html.append("</code>");
+            return close + run;
+        }
+
+        private int renderLink(int open, int to, boolean image, StringBuilder html) {
+            int closeBracket = indexOf("]", open + 1, to);
+            if (closeBracket < 0 || closeBracket + 1 >= to || text.charAt(closeBracket + 1) != '(') return -1;
+            int closeParen = closingParen(closeBracket + 2, to);
+            if (closeParen < 0) return -1;
+
+            String url = safeUrl(text.substring(closeBracket + 2, closeParen).strip());
+            if (image) {
+                html.append("<img src=\"");
+                escape(url, 0, url.length(), html);
+                html.append("\" alt=\"");
+                escape(text, open + 1, closeBracket, html);
+                html.append("\" />");
+            } else {
+                html.append("<a href=\"");
+                escape(url, 0, url.length(), html);
+                html.append("\">");
+                render(open + 1, closeBracket, html);
+                html.append("</a>");
+            }
+            return closeParen + 1;
+        }
+
+        private int renderEmphasis(int i, int to, char c, StringBuilder html) {
+            // snake_case 같은 단어 중간의 '_' 는 그대로
+            if (c == '_' && i > 0 && Character.isLetterOrDigit(text.charAt(i - 1))) return -1;
+
+            int run = Math.min(runLength(i, to, c), 3);
+            if (i + run >= to || Character.isWhitespace(text.charAt(i + run))) return -1;
+
+            // ***굵게 기울임*** - 같은 길이로 닫히지 않으면 기울임 안의 굵게(***a** b*), 아니면 굵게 안의 기울임(***a* b**)
+            if (run == 3) {
+                int close = closingEmphasis(i + 3, to, c, 3);
+                if (close > i + 3) {
+                    html.append("<em><strong>");
+                    render(i + 3, close, html);
+                    html.append("</strong></em>");
+                    return close + 3;
+                }
+                run = closingEmphasis(i + 1, to, c, 1) > i + 1 ? 1 : 2;
+            }
+
+            int close = closingEmphasis(i + run, to, c, run);
+            if (close < 0 || close == i + run) return -1;
+
+            String tag = run == 2 ? "strong" : "em";
+            html.append('<').append(tag).append('>');
+            render(i + run, close, html);
+            html.append("</").append(tag).append('>');
+            return close + run;
+        }
+
+        // 닫는 기호 위치 - 닫는 쪽 기호가 더 길면(**굵게 *기울임***) 뒤쪽 run 개로 닫고,
+        // 단어 앞에 붙은 다른 길이의 기호(*a **b** c*)는 안쪽 강조이므로 그 닫는 기호 다음부터 다시 찾음
+        private int closingEmphasis(int from, int to, char c, int run) {
+            String marker = String.valueOf(c).repeat(run);
+            int close = indexOf(marker, from, to);
+            while (close >= 0) {
+                int closeRun = runLength(close, to, c);
+                if (closeRun == run) return close;
+                int end = close + closeRun;
+                if (end >= to || !Character.isLetterOrDigit(text.charAt(end))) {
+                    return closeRun > run ? end - run : -1;
+                }
+                int innerRun = Math.min(closeRun, 3);
+                int innerClose = closingEmphasis(end, to, c, innerRun);
+                if (innerClose < 0) return -1;
+                close = indexOf(marker, innerClose + innerRun, to);
+            }
+            return -1;
+        }
+
+        private int renderStrikethrough(int i, int to, StringBuilder html) {
+            if (i + 1 >= to || text.charAt(i + 1) != '~') return -1;
+            int close = indexOf("~~", i + 2, to);
+            if (close < 0 || close == i + 2) return -1;
+
+            html.append("<del>");
+            render(i + 2, close, html);
+            html.append("</del>");
+            return close + 2;
+        }
+
+        // to 이전에서 marker 위치 (없으면 -1)
+        private int indexOf(String marker, int from, int to) {
+            // 이전 검색 구간 [시작 위치, 찾은 위치] 안에서 시작하면 결과가 같음
+            int[] cached = nextIndexCache.get(marker);
+            int found;
+            if (cached != null && cached[0] <= from && (cached[1] < 0 || cached[1] >= from)) {
+                found = cached[1];
+            } else {
+                found = text.indexOf(marker, from);
+                nextIndexCache.put(marker, new int[]{from, found});
+            }
+            return found >= 0 && found + marker.length() <= to ? found : -1;
+        }
+
+        // 링크 주소를 닫는 ')' 위치 - 주소 안의 괄호 쌍(a_(b))은 주소에 포함 (없으면 -1)
+        private int closingParen(int from, int to) {
+            // 대부분은 주소 안에 괄호가 없으므로 첫 ')' 까지 '(' 가 없으면 바로 사용
+            int first = indexOf(")", from, to);
+            if (first < 0 || text.lastIndexOf('(', first) < from) return first;
+
+            int depth = 0;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    if (depth == 0) return i;
+                    depth--;
+                }
+            }
+            return -1;
+        }
+
+        private int runLength(int i, int to, char c) {
+            int end = i;
+            while (end < to && text.charAt(end) == c) end++;
+            return end - i;
+        }
+    }
+
+    private static String safeUrl(String url) {
+        return SAFE_URL.matcher(url).find() ? url : "#";
+    }
+
+    private static boolean isPunctuation(char c) {
+        return c < 128 && !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder html) {
+        for (int i = from; i < to; i++) {
+            escape(text.charAt(i), html);
+        }
+    }
+
+    private static void escape(char c, StringBuilder html) {
+        switch (c) {
+            case '<' -> html.append("&lt;");
+            case '>' -> html.append("&gt;");
+            case '&' -> html.append("&amp;");
+            case '"' -> html.append("&quot;");
+            case '\'' -> html.append("&#39;");
+            default -> html.append(c);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+// 배움일기 유사도 계산용 MinHash / LSH 유틸
+public class MinHashUtil {
+
+    // 서명 길이 = BANDS * ROWS (band 하나에 ROWS 개 값이 모두 같으면 후보, 유사도 0.3 이면 후보가 될 확률 약 95%)
+    public static final int BANDS = 32;
+    public static final int ROWS = 2;
+    public static final int SIGNATURE_LENGTH = BANDS * ROWS;
+
+    // 서버, 재시작과 무관하게 같은 해시 함수를 쓰도록 시드 고정
+    private static final long SEED = 0x5EED_D1A7L;
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] INCREMENTS = new long[SIGNATURE_LENGTH];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private MinHashUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /* term 집합의 MinHash 서명 */
+    public static int[] signature(Collection<String> terms) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (String term : terms) {
+            long base = term.hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) (mix(base * MULTIPLIERS[i] + INCREMENTS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /* 두 서명의 추정 Jaccard 유사도 (같은 위치 값이 일치하는 비율) */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / SIGNATURE_LENGTH;
+    }
+
+    /* LSH bucket 키 - 상위 32비트는 band 번호, 하위 32비트는 band 값들의 해시 */
+    public static long[] bucketKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            int hash = 1;
+            for (int row = 0; row < ROWS; row++) {
+                hash = 31 * hash + signature[band * ROWS + row];
+            }
+            keys[band] = ((long) band << 32) | (hash & 0xFFFFFFFFL);
+        }
+        return keys;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_LENGTH * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
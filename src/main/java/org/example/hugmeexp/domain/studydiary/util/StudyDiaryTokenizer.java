@@ -0,0 +1,162 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 배움일기 검색 색인용 토크나이저 (한글은 음절 2-gram, 영문/숫자는 단어 단위)
+public class StudyDiaryTokenizer {
+
+    // 색인 term 최대 길이 (study_diary_term.term 컬럼 길이)
+    public static final int MAX_TERM_LENGTH = 32;
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    // 스니펫 길이와 매칭 위치 앞쪽 여유
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int SNIPPET_LEADING = 30;
+
+    // 스니펫에서 제거할 마크다운 기호
+    private static final Pattern MARKDOWN_SYMBOLS = Pattern.compile("[#*`>_~|]+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private StudyDiaryTokenizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /* 색인용 term -> 출현 횟수 */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /* 검색어 term (중복 제거, 입력 순서 유지) */
+    public static Set<String> queryTerms(String keyword) {
+        return new LinkedHashSet<>(tokenize(keyword));
+    }
+
+    /*
+     * 문자열을 term 목록으로 분리
+     * - 한글 음절 연속 구간: 2-gram (한 글자면 1-gram) -> 조사/어미가 붙어도 앞부분 gram 이 매칭됨
+     * - 영문/숫자 연속 구간: 소문자 단어 (한 글자는 제외)
+     * - 그 외 문자(공백, 마크다운 기호 등)는 구분자
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) return terms;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            boolean hangul = cp >= HANGUL_BASE && cp <= HANGUL_LAST;
+            boolean word = !hangul && Character.isLetterOrDigit(cp);
+
+            if ((!hangul && !word) || (run.length() > 0 && hangul != hangulRun)) {
+                flush(terms, run, hangulRun);
+            }
+            if (hangul || word) {
+                hangulRun = hangul;
+                run.appendCodePoint(Character.toLowerCase(cp));
+            }
+        }
+        flush(terms, run, hangulRun);
+        return terms;
+    }
+
+    private static void flush(List<String> terms, StringBuilder run, boolean hangulRun) {
+        if (run.length() == 0) return;
+
+        if (hangulRun) {
+            // 한글 음절은 모두 BMP 문자라 char 단위로 자를 수 있음
+            if (run.length() == 1) {
+                terms.add(run.toString());
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        } else if (run.codePointCount(0, run.length()) > 1) {
+            terms.add(run.length() > MAX_TERM_LENGTH ? run.substring(0, MAX_TERM_LENGTH) : run.toString());
+        }
+        run.setLength(0);
+    }
+
+    /*
+     * 검색 결과 스니펫 - 검색어가 처음 나오는 위치 주변을 잘라서 검색어를 <em> 으로 강조
+     * 본문은 HTML 이스케이프 처리
+     */
+    public static String snippet(String content, String keyword) {
+        if (content == null || content.isBlank()) return "";
+
+        String plain = WHITESPACES.matcher(MARKDOWN_SYMBOLS.matcher(content).replaceAll(" ")).replaceAll(" ").trim();
+        String lower = lowerCasePreservingLength(plain);
+
+        // 검색어 단어들 (공백 기준) 을 강조 대상으로 사용
+        List<String> targets = new ArrayList<>();
+        for (String word : WHITESPACES.split(lowerCasePreservingLength(Normalizer.normalize(keyword == null ? "" : keyword, Normalizer.Form.NFC)).trim())) {
+            if (!word.isEmpty()) targets.add(word);
+        }
+
+        int first = -1;
+        for (String target : targets) {
+            int index = lower.indexOf(target);
+            if (index >= 0 && (first < 0 || index < first)) first = index;
+        }
+
+        int start = first < 0 ? 0 : Math.max(0, first - SNIPPET_LEADING);
+        int end = Math.min(plain.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder sb = new StringBuilder();
+        if (start > 0) sb.append("...");
+
+        int cursor = start;
+        while (cursor < end) {
+            int matchStart = -1;
+            String matched = null;
+            for (String target : targets) {
+                int index = lower.indexOf(target, cursor);
+                if (index >= 0 && index < end && (matchStart < 0 || index < matchStart)) {
+                    matchStart = index;
+                    matched = target;
+                }
+            }
+            if (matched == null) {
+                sb.append(HtmlUtils.htmlEscape(plain.substring(cursor, end)));
+                break;
+            }
+            int matchEnd = Math.min(end, matchStart + matched.length());
+            sb.append(HtmlUtils.htmlEscape(plain.substring(cursor, matchStart)))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(plain.substring(matchStart, matchEnd)))
+                    .append("</em>");
+            cursor = matchEnd;
+        }
+
+        if (end < plain.length()) sb.append("...");
+        return sb.toString();
+    }
+
+    // String.toLowerCase 는 일부 문자에서 길이가 바뀌므로 char 단위로 변환 (원문과 인덱스를 맞추기 위함)
+    private static String lowerCasePreservingLength(String input) {
+        char[] chars = input.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.hugmeexp.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 유저 이름 검색 색인 (이름의 n-gram -> 유저 ID)
+@Getter
+@Entity
+@Table(name = "user_name_gram", indexes = {
+        @Index(name = "idx_user_name_gram_gram_user", columnList = "gram, user_id"),
+        @Index(name = "idx_user_name_gram_user", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserNameGram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 유저 삭제 시 FK 제약에 걸리지 않도록 ID 만 저장
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 8)
+    private String gram;
+
+    @Builder
+    private UserNameGram(Long userId, String gram) {
+        this.userId = userId;
+        this.gram = gram;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.hugmeexp.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.hugmeexp.domain.user.entity.UserNameGram;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 유저 이름 색인 일괄 저장 (IDENTITY 전략은 JPA 배치 insert 가 되지 않아 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class UserNameGramBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user_name_gram (user_id, gram) VALUES (?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<UserNameGram> grams) {
+        if (grams.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, grams, BATCH_SIZE, (ps, gram) -> {
+            ps.setLong(1, gram.getUserId());
+            ps.setString(2, gram.getGram());
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.hugmeexp.domain.user.repository;
+
+import org.example.hugmeexp.domain.user.entity.UserNameGram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserNameGramRepository extends JpaRepository<UserNameGram, Long> {
+
+    // 주어진 gram 을 모두 가진 유저 ID 리턴
+    @Query("SELECT g.userId FROM UserNameGram g " +
+            "WHERE g.gram IN :grams " +
+            "GROUP BY g.userId " +
+            "HAVING COUNT(DISTINCT g.gram) = :gramCount")
+    List<Long> findUserIdsHavingAllGrams(Collection<String> grams, long gramCount);
+
+    // 유저의 gram 전체 삭제
+    @Modifying
+    @Query("DELETE FROM UserNameGram g WHERE g.userId = :userId")
+    void deleteByUserId(Long userId);
+}
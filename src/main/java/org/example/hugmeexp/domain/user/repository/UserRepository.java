@@ -4,6 +4,7 @@ import org.example.hugmeexp.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // username을 바탕으로 User 리턴
     Optional<User> findByUsername(String username);
 
+    // username 목록을 바탕으로 User 한 번에 리턴
+    List<User> findByUsernameIn(Collection<String> usernames);
+
     // username을 바탕으로 User 삭제
     Integer deleteByUsername(String username);
 
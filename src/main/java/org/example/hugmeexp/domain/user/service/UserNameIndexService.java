@@ -0,0 +1,93 @@
+package org.example.hugmeexp.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.example.hugmeexp.domain.user.entity.UserNameGram;
+import org.example.hugmeexp.domain.user.repository.UserNameGramBulkRepository;
+import org.example.hugmeexp.domain.user.repository.UserNameGramRepository;
+import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.util.NameNGramUtil;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+// 유저 이름 n-gram 검색 색인 관리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserNameIndexService {
+
+    private final UserNameGramRepository userNameGramRepository;
+    private final UserNameGramBulkRepository userNameGramBulkRepository;
+    private final UserRepository userRepository;
+
+    // 유저 이름 색인 (회원가입, 이름 변경 시 호출)
+    @Transactional
+    public void indexUser(User user) {
+        userNameGramRepository.deleteByUserId(user.getId());
+        userNameGramBulkRepository.saveAll(toGrams(user));
+    }
+
+    // 유저 이름 색인 삭제 (회원 탈퇴 시 호출)
+    @Transactional
+    public void removeUser(Long userId) {
+        userNameGramRepository.deleteByUserId(userId);
+    }
+
+    // keyword 가 이름에 포함된 유저 ID 리턴
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsByKeyword(String keyword) {
+        Set<String> grams = NameNGramUtil.queryGrams(keyword);
+        if (grams.isEmpty()) return List.of();
+
+        List<Long> candidates = userNameGramRepository.findUserIdsHavingAllGrams(grams, grams.size());
+
+        // gram 이 하나면 색인 결과가 정확하므로 그대로 리턴
+        if (grams.size() == 1 || candidates.isEmpty()) return candidates;
+
+        // 2-gram 여러 개는 순서를 보장하지 않으므로 후보 유저 이름으로 최종 확인
+        return userRepository.findAllById(candidates).stream()
+                .filter(user -> NameNGramUtil.matches(user.getName(), keyword))
+                .map(User::getId)
+                .toList();
+    }
+
+    // 전체 유저 이름 색인 재생성
+    @Transactional
+    public int rebuildAll() {
+        userNameGramRepository.deleteAllInBatch();
+
+        // 전체 유저의 gram 을 모아서 JDBC 배치로 한 번에 저장
+        List<User> users = userRepository.findAll();
+        List<UserNameGram> grams = users.stream()
+                .flatMap(user -> toGrams(user).stream())
+                .toList();
+        userNameGramBulkRepository.saveAll(grams);
+
+        log.info("User name index rebuilt - users: {}, grams: {}", users.size(), grams.size());
+        return users.size();
+    }
+
+    // 색인이 비어 있으면 기존 유저로 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (userNameGramRepository.count() == 0 && userRepository.count() > 0) {
+            rebuildAll();
+        }
+    }
+
+    private List<UserNameGram> toGrams(User user) {
+        return NameNGramUtil.indexGrams(user.getName()).stream()
+                .map(gram -> UserNameGram.builder()
+                        .userId(user.getId())
+                        .gram(gram)
+                        .build())
+                .toList();
+    }
+}
@@ -27,6 +27,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final UserNameIndexService userNameIndexService;
 
     private static final int MAX_LEVEL = 50;
     private static final int MAX_EXP = 122_500;
@@ -126,8 +127,14 @@ public class UserService {
         }
 
         // User 업데이트 및 결과 리턴
+        boolean nameChanged = !findUser.getName().equals(request.getName());
         findUser.updateUserInfo(request.getName(), request.getDescription(), request.getPhoneNumber());
 
+        // 이름이 바뀐 경우 이름 검색 색인 갱신
+        if (nameChanged) {
+            userNameIndexService.indexUser(findUser);
+        }
+
         // 경험치 직접 설정 (요청된 경우)
         if (request.getExp() != null) {
             findUser.setExp(request.getExp());
@@ -200,6 +207,8 @@ public class UserService {
     // username을 바탕으로 삭제
     @Transactional
     public void deleteByUsername(String username){
+        userRepository.findByUsername(username)
+                .ifPresent(user -> userNameIndexService.removeUser(user.getId()));
         long deletedCount = userRepository.deleteByUsername(username);
         if(deletedCount == 0) throw new UserNotFoundException();
     }
@@ -0,0 +1,60 @@
+package org.example.hugmeexp.domain.user.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// 유저 이름 검색 색인을 위한 한글 n-gram 유틸
+public class NameNGramUtil {
+
+    private NameNGramUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /* 이름/검색어 정규화 - 자모 분리 입력은 NFC 로 결합, 공백 제거, 영문 소문자 */
+    public static String normalize(String input) {
+        if (input == null) return "";
+
+        String composed = Normalizer.normalize(input, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        composed.codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .map(Character::toLowerCase)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /* 색인용 gram - 음절 1-gram, 2-gram */
+    public static Set<String> indexGrams(String name) {
+        int[] cps = normalize(name).codePoints().toArray();
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < cps.length; i++) {
+            grams.add(new String(cps, i, 1));
+            if (i + 1 < cps.length) {
+                grams.add(new String(cps, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /* 검색용 gram - 1글자면 1-gram, 2글자 이상이면 2-gram */
+    public static Set<String> queryGrams(String keyword) {
+        int[] cps = normalize(keyword).codePoints().toArray();
+
+        Set<String> grams = new LinkedHashSet<>();
+        if (cps.length == 1) {
+            grams.add(new String(cps, 0, 1));
+            return grams;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            grams.add(new String(cps, i, 2));
+        }
+        return grams;
+    }
+
+    /* 후보 유저의 이름이 검색어를 실제로 포함하는지 확인 (2-gram 조합은 순서를 보장하지 않음) */
+    public static boolean matches(String name, String keyword) {
+        return normalize(name).contains(normalize(keyword));
+    }
+}
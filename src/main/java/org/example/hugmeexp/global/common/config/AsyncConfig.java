@@ -0,0 +1,27 @@
+package org.example.hugmeexp.global.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String SSE_TASK_EXECUTOR = "sseTaskExecutor";
+
+    // SSE 일괄 전송용 스레드 풀 (요청 스레드가 전송 완료를 기다리지 않도록 분리)
+    @Bean(name = SSE_TASK_EXECUTOR)
+    public Executor sseTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.hugmeexp.global.common.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// ddl-auto(update) 로 처리되지 않는 스키마 변경 (중복 정리 후 unique 키 추가, 컬럼 길이 변경, 인덱스 컬럼 순서 변경 등)
+// 서버 시작 시 information_schema 로 현재 스키마를 확인하고 아직 적용되지 않은 경우에만 실행 (MySQL 기준)
+@Service
+@RequiredArgsConstructor
+public class SchemaMigrationService {
+
+    private static final String INDEX_COLUMNS_SQL =
+            "SELECT column_name FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? ORDER BY seq_in_index";
+
+    private static final String COLUMN_LENGTH_SQL =
+            "SELECT character_maximum_length FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 인덱스 컬럼 목록 (인덱스 순서대로, 인덱스가 없으면 빈 목록)
+    public List<String> findIndexColumns(String table, String index) {
+        return jdbcTemplate.queryForList(INDEX_COLUMNS_SQL, String.class, table, index);
+    }
+
+    public boolean hasIndex(String table, String index) {
+        return !findIndexColumns(table, index).isEmpty();
+    }
+
+    // 문자열 컬럼 최대 길이 (컬럼이 없으면 null)
+    public Long findColumnLength(String table, String column) {
+        List<Long> lengths = jdbcTemplate.queryForList(COLUMN_LENGTH_SQL, Long.class, table, column);
+        return lengths.isEmpty() ? null : lengths.get(0);
+    }
+
+    // 중복 행 ID 등 정리 대상 조회
+    public List<Long> findIds(String sql, Object... args) {
+        return jdbcTemplate.queryForList(sql, Long.class, args);
+    }
+
+    // 데이터 정리 / DDL 실행 (문장 단위 자동 커밋)
+    public int update(String sql, Object... args) {
+        return jdbcTemplate.update(sql, args);
+    }
+}
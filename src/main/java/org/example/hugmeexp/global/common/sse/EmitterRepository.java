@@ -14,6 +14,9 @@ public class EmitterRepository {
     // 사용자 Id 기준으로 emitter를 저장하는 맵
     private final Map<Long, SseEmitter> emitterMap = new ConcurrentHashMap<>();
 
+    // 칭찬 피드 구독 emitter 맵 (알림 연결과 별도)
+    private final Map<Long, SseEmitter> praiseFeedEmitterMap = new ConcurrentHashMap<>();
+
     // 사용자 id 로 Emitter 저장하기
     public void save(Long userId, SseEmitter emitter) {
         emitterMap.put(userId, emitter);
@@ -36,9 +39,26 @@ public class EmitterRepository {
         return emitterMap.containsKey(userId);
     }
 
+    // 칭찬 피드 구독 Emitter 저장하기 (같은 유저가 다시 구독하면 이전 연결 교체)
+    public void savePraiseFeed(Long userId, SseEmitter emitter) {
+        praiseFeedEmitterMap.put(userId, emitter);
+    }
+
+    // 칭찬 피드 구독 Emitter 전체 조회 (유저 Id -> Emitter)
+    public Map<Long, SseEmitter> findAllPraiseFeed() {
+        return Map.copyOf(praiseFeedEmitterMap);
+    }
+
+    // 칭찬 피드 구독 Emitter 삭제
+    // 이미 새 연결로 교체된 경우 새 연결은 지우지 않도록 같은 Emitter 일 때만 삭제
+    public void deletePraiseFeed(Long userId, SseEmitter emitter) {
+        praiseFeedEmitterMap.remove(userId, emitter);
+    }
+
     // 전체 연결 초기화
     // 테스트나 서버 재시작 시 모든 Emitter를 초기화할 때 사용
     public void clear() {
         emitterMap.clear();
+        praiseFeedEmitterMap.clear();
     }
 }
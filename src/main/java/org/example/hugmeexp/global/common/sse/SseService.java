@@ -4,10 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.hugmeexp.domain.notification.dto.NotificationDeleteDTO;
 import org.example.hugmeexp.domain.notification.dto.NotificationResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseFeedEventDTO;
+import org.example.hugmeexp.global.common.config.AsyncConfig;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -55,6 +59,68 @@ public class SseService {
         return emitter;
     }
 
+    /** 칭찬 피드 SSE 구독 - 새 칭찬, 반응, 댓글 변경분을 실시간으로 받음
+        * @param userId 구독할 사용자 ID
+     */
+    public SseEmitter subscribePraiseFeed(Long userId) {
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        emitterRepository.savePraiseFeed(userId, emitter);
+
+        emitter.onCompletion(() -> emitterRepository.deletePraiseFeed(userId, emitter));
+        emitter.onTimeout(() -> {
+            log.info("Praise feed SSE connection timed out for userId: {}", userId);
+            emitterRepository.deletePraiseFeed(userId, emitter);
+        });
+        emitter.onError(e -> {
+            log.warn("Praise feed SSE connection error for userId: {}", userId, e);
+            emitterRepository.deletePraiseFeed(userId, emitter);
+        });
+
+        // 연결 확인 용 더미 이벤트 전송
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("connected")
+                    .data("Praise feed SSE connection established for userId: " + userId));
+        } catch (IOException e) {
+            log.warn("Praise feed SSE connection error for userId: {}", userId, e);
+        }
+
+        return emitter;
+    }
+
+    /** 칭찬 피드 변경분 전송 - 칭찬 피드 구독자 전체에게 별도 스레드에서 전송
+        * @param event 전송할 변경분 이벤트
+     */
+    @Async(AsyncConfig.SSE_TASK_EXECUTOR)
+    public void broadcastPraiseFeed(PraiseFeedEventDTO event) {
+        emitterRepository.findAllPraiseFeed().forEach((userId, emitter) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("praiseFeed")
+                        .data(event));
+            } catch (Exception e) {
+                log.debug("Failed to send praise feed event to userId: {}", userId, e);
+                // 전송 실패 시 Emitter 삭제
+                emitterRepository.deletePraiseFeed(userId, emitter);
+            }
+        });
+    }
+
+    /** SSE 알림 일괄 전송 - 여러 사용자에게 별도 스레드에서 알림을 전송
+        * 한 사용자의 전송 실패가 나머지 사용자 전송에 영향을 주지 않음
+        * @param notifications 사용자 ID 별 전송할 알림 객체
+     */
+    @Async(AsyncConfig.SSE_TASK_EXECUTOR)
+    public void sendNotifications(Map<Long, NotificationResponseDTO> notifications) {
+        notifications.forEach((userId, notification) -> {
+            try {
+                sendNotification(userId, notification);
+            } catch (Exception e) {
+                log.warn("Failed to send SSE notification to userId: {}", userId, e);
+            }
+        });
+    }
+
     /** SSE 알림 전송 - 특정 사용자에게 알림을 전송
         * @param userId 알림을 받을 사용자 ID
         * @param notification 전송할 알림 객체
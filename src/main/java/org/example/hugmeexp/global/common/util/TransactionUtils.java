@@ -0,0 +1,27 @@
+package org.example.hugmeexp.global.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행, 아니면 바로 실행
+    // (알림 전송, 캐시 삭제처럼 롤백된 데이터가 밖으로 나가면 안 되는 작업용)
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
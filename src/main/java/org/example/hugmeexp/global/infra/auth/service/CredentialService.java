@@ -5,6 +5,7 @@ import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.domain.user.exception.PhoneNumberDuplicatedException;
 import org.example.hugmeexp.domain.user.exception.UsernameDuplicatedException;
 import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.service.UserNameIndexService;
 import org.example.hugmeexp.global.infra.auth.dto.request.LoginRequest;
 import org.example.hugmeexp.global.infra.auth.dto.request.RegisterRequest;
 import org.example.hugmeexp.global.infra.auth.exception.LoginFailedException;
@@ -18,6 +19,7 @@ public class CredentialService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNameIndexService userNameIndexService;
 
     // 회원가입
     @Transactional
@@ -33,6 +35,9 @@ public class CredentialService {
         User user = User.createUser(request.getUsername(), encodedPassword, request.getName(), request.getPhoneNumber());
         userRepository.save(user);
 
+        // 이름 검색 색인 등록
+        userNameIndexService.indexUser(user);
+
         return user;
     }
 
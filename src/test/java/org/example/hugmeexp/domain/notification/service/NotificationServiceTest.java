@@ -4,11 +4,13 @@ import org.example.hugmeexp.domain.notification.dto.NotificationDeleteDTO;
 import org.example.hugmeexp.domain.notification.dto.NotificationResponseDTO;
 import org.example.hugmeexp.domain.notification.entity.Notification;
 import org.example.hugmeexp.domain.notification.enums.NotificationType;
+import org.example.hugmeexp.domain.notification.repository.NotificationBulkRepository;
 import org.example.hugmeexp.domain.notification.repository.NotificationRepository;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.global.common.sse.SseService;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,9 @@ public class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+
     @Mock
     private SseService sseService;
 
@@ -87,6 +92,48 @@ public class NotificationServiceTest {
         assertFalse(capturedNotification.isRead());
     }
 
+    @Test
+    @DisplayName("여러 명에게 칭찬 알림 일괄 저장 및 SSE 전송 테스트")
+    void testSendPraiseNotifications_SavesInBatchAndSendsSSE() {
+        // given
+        User otherUser = createTestUser("otherUser", "다른유저", "010-9999-8888", 2L);
+        Notification first = Notification.of(testUser, NotificationType.PRAISE_RECEIVED,
+                NotificationType.PRAISE_RECEIVED.getDescription(), testPraiseId);
+        Notification second = Notification.of(otherUser, NotificationType.PRAISE_RECEIVED,
+                NotificationType.PRAISE_RECEIVED.getDescription(), testPraiseId);
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+
+        when(notificationRepository.findByTargetIdAndType(testPraiseId, NotificationType.PRAISE_RECEIVED))
+                .thenReturn(List.of(first, second));
+
+        // when
+        notificationService.sendPraiseNotifications(List.of(testUser, otherUser), testPraiseId);
+
+        // then
+        verify(notificationBulkRepository).saveAll(List.of(1L, 2L), NotificationType.PRAISE_RECEIVED,
+                NotificationType.PRAISE_RECEIVED.getDescription(), testPraiseId);
+        verify(notificationRepository, never()).save(any(Notification.class));
+
+        // 저장된 알림 ID 를 담아 유저별로 한 번에 전송
+        ArgumentCaptor<Map<Long, NotificationResponseDTO>> messagesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(sseService).sendNotifications(messagesCaptor.capture());
+        Map<Long, NotificationResponseDTO> messages = messagesCaptor.getValue();
+        assertEquals(List.of(testUser.getId(), otherUser.getId()), List.copyOf(messages.keySet()));
+        assertEquals(1L, messages.get(testUser.getId()).getId());
+        assertEquals(2L, messages.get(otherUser.getId()).getId());
+    }
+
+    @Test
+    @DisplayName("칭찬 알림 받을 사람이 없으면 아무것도 하지 않음")
+    void testSendPraiseNotifications_EmptyUsers() {
+        // when
+        notificationService.sendPraiseNotifications(List.of(), testPraiseId);
+
+        // then
+        verifyNoInteractions(notificationBulkRepository, notificationRepository, sseService);
+    }
+
     @Test
     @DisplayName("칭찬 알림 SSE 전송 테스트")
     void testSendPraiseNotification_SendsSSE() {
@@ -0,0 +1,126 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction;
+import org.example.hugmeexp.domain.praise.entity.Praise;
+import org.example.hugmeexp.domain.praise.entity.PraiseComment;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 칭찬 상세 조회용 댓글 이모지 반응 집계 / 반응자 일부 / 반응자 페이지 쿼리 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:praise;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("CommentEmojiReactionRepository 테스트")
+class CommentEmojiReactionRepositoryTest {
+
+    @Autowired
+    private CommentEmojiReactionRepository commentEmojiReactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Praise praise;
+    private PraiseComment first;
+    private PraiseComment second;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 8; i++) {
+            users.add(entityManager.persist(User.createUser("user" + i, "password", "유저" + i, "010-0000-000" + i)));
+        }
+        praise = entityManager.persist(Praise.builder()
+                .sender(users.get(0))
+                .content("칭찬 내용")
+                .praiseType(PraiseType.THANKS)
+                .build());
+        first = entityManager.persist(comment("첫 댓글"));
+        second = entityManager.persist(comment("두번째 댓글"));
+
+        // 첫 댓글 : ❤️ 7개, 👍 1개 / 두번째 댓글 : 👍 2개
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(reaction(first, users.get(i), "❤️", 1));
+        }
+        entityManager.persist(reaction(first, users.get(7), "👍", 2));
+        entityManager.persist(reaction(second, users.get(0), "👍", 2));
+        entityManager.persist(reaction(second, users.get(1), "👍", 2));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 / 이모지별 반응 수를 쿼리에서 묶어서 조회")
+    void countByCommentAndEmojiOfPraise() {
+        // when
+        List<Object[]> rows = commentEmojiReactionRepository.countByCommentAndEmojiOfPraise(praise.getId());
+
+        // then - [댓글 ID, 이모지, 개수], 댓글마다 먼저 달린 이모지 순
+        assertEquals(3, rows.size());
+        assertArrayEquals(new Object[]{first.getId(), "❤️", 7L}, rows.get(0));
+        assertArrayEquals(new Object[]{first.getId(), "👍", 1L}, rows.get(1));
+        assertArrayEquals(new Object[]{second.getId(), "👍", 2L}, rows.get(2));
+    }
+
+    @Test
+    @DisplayName("댓글 / 이모지별로 먼저 반응한 유저만 sampleSize 명까지 조회")
+    void findReactorSamplesByPraiseId() {
+        // when
+        List<Object[]> rows = commentEmojiReactionRepository.findReactorSamplesByPraiseId(praise.getId(), 5);
+
+        // then - ❤️ 5명 + 👍 1명 + 두번째 댓글 👍 2명
+        assertEquals(8, rows.size());
+        assertEquals(5, rows.stream().filter(row -> first.getId().equals(row[0]) && "❤️".equals(row[1])).count());
+        assertEquals("user0", rows.get(0)[3]);
+        assertEquals(users.get(0).getId(), rows.get(0)[2]);
+    }
+
+    @Test
+    @DisplayName("댓글의 한 이모지 반응자를 반응 ID 커서 이후로 조회")
+    void findReactorsByCommentIdAndEmojiCode() {
+        // given
+        List<Object[]> firstPage = commentEmojiReactionRepository.findReactorsByCommentIdAndEmojiCode(first.getId(), 1, 0L, PageRequest.of(0, 4));
+
+        // when
+        Long cursorId = (Long) firstPage.get(firstPage.size() - 1)[0];
+        List<Object[]> nextPage = commentEmojiReactionRepository.findReactorsByCommentIdAndEmojiCode(first.getId(), 1, cursorId, PageRequest.of(0, 4));
+
+        // then
+        assertEquals(4, firstPage.size());
+        assertEquals(3, nextPage.size());
+        assertEquals("user4", nextPage.get(0)[1]);
+    }
+
+    private PraiseComment comment(String content) {
+        return PraiseComment.builder()
+                .praise(praise)
+                .commentWriter(users.get(0))
+                .content(content)
+                .build();
+    }
+
+    private CommentEmojiReaction reaction(PraiseComment comment, User user, String emoji, int emojiCode) {
+        return CommentEmojiReaction.builder()
+                .comment(comment)
+                .reactorWriter(user)
+                .emoji(emoji)
+                .emojiCode(emojiCode)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.hugmeexp.domain.praise.repository;
+
+import org.example.hugmeexp.domain.praise.entity.Praise;
+import org.example.hugmeexp.domain.praise.entity.PraiseEmojiReaction;
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 칭찬 상세 조회용 게시물 이모지 반응자 일부 쿼리 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:praise-reaction;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("PraiseEmojiReactionRepository 테스트")
+class PraiseEmojiReactionRepositoryTest {
+
+    @Autowired
+    private PraiseEmojiReactionRepository praiseEmojiReactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Praise praise;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 8; i++) {
+            users.add(entityManager.persist(User.createUser("user" + i, "password", "유저" + i, "010-0000-000" + i)));
+        }
+        praise = entityManager.persist(Praise.builder()
+                .sender(users.get(0))
+                .content("칭찬 내용")
+                .praiseType(PraiseType.THANKS)
+                .build());
+
+        // ❤️ 7개, 👍 1개 (👍 는 이모지 코드가 채워지기 전의 반응)
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(reaction(users.get(i), "❤️", 1));
+        }
+        entityManager.persist(reaction(users.get(7), "👍", null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("이모지별로 먼저 반응한 유저만 sampleSize 명까지 한 번에 조회")
+    void findReactorSamplesByPraiseId() {
+        // when
+        List<Object[]> rows = praiseEmojiReactionRepository.findReactorSamplesByPraiseId(praise.getId(), 5);
+
+        // then - ❤️ 5명 + 👍 1명
+        assertEquals(6, rows.size());
+        assertEquals(5, rows.stream().filter(row -> "❤️".equals(row[0])).count());
+        assertEquals(1, rows.stream().filter(row -> "👍".equals(row[0])).count());
+        assertEquals("user0", rows.get(0)[2]);
+    }
+
+    private PraiseEmojiReaction reaction(User user, String emoji, Integer emojiCode) {
+        return PraiseEmojiReaction.builder()
+                .praise(praise)
+                .reactorWriter(user)
+                .emoji(emoji)
+                .emojiCode(emojiCode)
+                .build();
+    }
+}
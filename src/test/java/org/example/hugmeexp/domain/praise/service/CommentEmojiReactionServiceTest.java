@@ -2,6 +2,8 @@ package org.example.hugmeexp.domain.praise.service;
 
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionRequestDTO;
 import org.example.hugmeexp.domain.praise.dto.CommentEmojiReactionResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorPageResponseDTO;
+import org.example.hugmeexp.domain.praise.dto.PraiseReactorRequestDTO;
 import org.example.hugmeexp.domain.praise.dto.ReactionUserDTO;
 import org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction;
 import org.example.hugmeexp.domain.praise.entity.Praise;
@@ -19,8 +21,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +47,15 @@ class CommentEmojiReactionServiceTest {
     @Mock
     private CommentEmojiReactionMapper commentEmojiReactionMapper;
 
+    @Mock
+    private PraiseCacheService praiseCacheService;
+
+    @Mock
+    private EmojiDictionaryService emojiDictionaryService;
+
+    @Mock
+    private PraiseFeedEventService praiseFeedEventService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -102,8 +115,9 @@ class CommentEmojiReactionServiceTest {
         // mock 설정
         when(praiseRepository.existsById(praiseId)).thenReturn(true);
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmoji(comment, user, emojiValue)).thenReturn(false);
-        when(commentEmojiReactionMapper.toEntity(requestDTO, comment, user)).thenReturn(reaction);
+        when(emojiDictionaryService.intern(emojiValue)).thenReturn(1);
+        when(commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmojiCode(comment, user, 1)).thenReturn(false);
+        when(commentEmojiReactionMapper.toEntity(requestDTO, comment, user, 1)).thenReturn(reaction);
         when(commentEmojiReactionRepository.save(reaction)).thenReturn(reaction);
         
         // when
@@ -115,9 +129,11 @@ class CommentEmojiReactionServiceTest {
         // 메서드 호출 검증
         verify(praiseRepository).existsById(praiseId);
         verify(commentRepository).findById(commentId);
-        verify(commentEmojiReactionRepository).existsByCommentAndReactorWriterAndEmoji(comment, user, emojiValue);
-        verify(commentEmojiReactionMapper).toEntity(requestDTO, comment, user);
+        verify(commentEmojiReactionRepository).existsByCommentAndReactorWriterAndEmojiCode(comment, user, 1);
+        verify(commentEmojiReactionMapper).toEntity(requestDTO, comment, user, 1);
         verify(commentEmojiReactionRepository).save(reaction);
+        verify(praiseFeedEventService).publishCommentReactionAdded(eq(praiseId), eq(commentId), any(),
+                argThat(reactor -> reactor.getId().equals(1L)));
     }
 
     @Test
@@ -153,7 +169,8 @@ class CommentEmojiReactionServiceTest {
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
         
         // 중복 반응 설정 - 핵심 테스트 부분
-        when(commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmoji(comment, user, emojiValue)).thenReturn(true);
+        when(emojiDictionaryService.intern(emojiValue)).thenReturn(1);
+        when(commentEmojiReactionRepository.existsByCommentAndReactorWriterAndEmojiCode(comment, user, 1)).thenReturn(true);
         
         // then
         assertThrows(DuplicateEmojiReactionException.class, () -> {
@@ -164,7 +181,7 @@ class CommentEmojiReactionServiceTest {
         // 메서드 호출 검증
         verify(praiseRepository).existsById(praiseId);
         verify(commentRepository).findById(commentId);
-        verify(commentEmojiReactionRepository).existsByCommentAndReactorWriterAndEmoji(comment, user, emojiValue);
+        verify(commentEmojiReactionRepository).existsByCommentAndReactorWriterAndEmojiCode(comment, user, 1);
         
         // 중복 반응이므로 아래 메서드들은 호출되지 않아야 함
         verifyNoInteractions(commentEmojiReactionMapper);
@@ -194,6 +211,7 @@ class CommentEmojiReactionServiceTest {
         });
         
         // 메서드 호출 검증 - 이모지 검증에서 실패하므로 다른 메서드들은 호출되지 않아야 함
+        verifyNoInteractions(emojiDictionaryService);
         verifyNoInteractions(praiseRepository);
         verifyNoInteractions(commentRepository);
         verifyNoInteractions(commentEmojiReactionRepository);
@@ -309,4 +327,175 @@ class CommentEmojiReactionServiceTest {
         verifyNoInteractions(commentEmojiReactionRepository);
         verifyNoInteractions(commentEmojiReactionMapper);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이모지 반응 삭제 - 같은 이모지를 다른 유저도 남겼어도 본인 반응만 삭제")
+    void testDeleteCommentReaction_OwnReaction() {
+        // given
+        User user = mock(User.class);
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        CommentEmojiReaction reaction = CommentEmojiReaction.builder()
+                .id(5L)
+                .comment(comment)
+                .reactorWriter(user)
+                .emoji("😊")
+                .emojiCode(3)
+                .build();
+        when(user.getId()).thenReturn(1L);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("😊")).thenReturn(Optional.of(3));
+        when(commentEmojiReactionRepository.findByCommentAndReactorWriterAndEmoji(comment, user, 3, "😊")).thenReturn(List.of(reaction));
+
+        // when
+        commentEmojiReactionService.deleteCommentReaction(1L, 1L, "😊", user);
+
+        // then
+        verify(commentEmojiReactionRepository).delete(reaction);
+        verify(praiseRepository).addCommentReactionCount(1L, -1);
+        verify(praiseFeedEventService).publishCommentReactionRemoved(eq(1L), eq(1L), any(), any(ReactionUserDTO.class));
+    }
+
+    @Test
+    @DisplayName("이모지 반응 삭제 - 이모지 코드가 채워지기 전의 반응은 원본 이모지로 찾아서 삭제")
+    void testDeleteCommentReaction_UncodedReaction() {
+        // given
+        User user = mock(User.class);
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        CommentEmojiReaction reaction = CommentEmojiReaction.builder()
+                .id(5L)
+                .comment(comment)
+                .reactorWriter(user)
+                .emoji("🦖")
+                .build();
+        when(user.getId()).thenReturn(1L);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("🦖")).thenReturn(Optional.empty());
+        when(commentEmojiReactionRepository.findByCommentAndReactorWriterAndEmoji(comment, user, null, "🦖")).thenReturn(List.of(reaction));
+
+        // when
+        commentEmojiReactionService.deleteCommentReaction(1L, 1L, "🦖", user);
+
+        // then
+        verify(commentEmojiReactionRepository).delete(reaction);
+        verify(praiseFeedEventService).publishCommentReactionRemoved(eq(1L), eq(1L), eq("🦖"), any(ReactionUserDTO.class));
+    }
+
+    @Test
+    @DisplayName("이모지 반응 삭제 실패 - 본인이 남긴 반응이 없음")
+    void testDeleteCommentReaction_NotFound() {
+        // given
+        User user = mock(User.class);
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("😊")).thenReturn(Optional.of(3));
+        when(commentEmojiReactionRepository.findByCommentAndReactorWriterAndEmoji(comment, user, 3, "😊")).thenReturn(List.of());
+
+        // when & then
+        assertThrows(CommentEmojiReactionNotFoundException.class,
+                () -> commentEmojiReactionService.deleteCommentReaction(1L, 1L, "😊", user));
+        verify(commentEmojiReactionRepository, never()).delete(any());
+        verify(praiseRepository, never()).addCommentReactionCount(anyLong(), anyInt());
+        verifyNoInteractions(praiseFeedEventService);
+    }
+
+    @Test
+    @DisplayName("댓글 이모지 반응자 목록 커서 조회 - 다음 페이지 있음")
+    void testGetCommentReactors_HasNext() {
+        // given
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("😊").cursorId(10L).size(2).build();
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("😊")).thenReturn(Optional.of(3));
+        when(commentEmojiReactionRepository.findReactorsByCommentIdAndEmojiCode(1L, 3, 10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        new Object[]{11L, "user11", "유저11"},
+                        new Object[]{12L, "user12", "유저12"},
+                        new Object[]{13L, "user13", "유저13"}));
+
+        // when
+        PraiseReactorPageResponseDTO result = commentEmojiReactionService.getCommentReactors(1L, 1L, requestDTO);
+
+        // then
+        assertEquals(2, result.getReactedBy().size());
+        assertEquals("user11", result.getReactedBy().get(0).getUsername());
+        assertTrue(result.isHasNext());
+        assertEquals(12L, result.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("댓글 이모지 반응자 목록 커서 조회 - 마지막 페이지")
+    void testGetCommentReactors_LastPage() {
+        // given
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("😊").build();
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("😊")).thenReturn(Optional.of(3));
+        when(commentEmojiReactionRepository.findReactorsByCommentIdAndEmojiCode(1L, 3, 0L, PageRequest.of(0, 21)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "user1", "유저1"}));
+
+        // when
+        PraiseReactorPageResponseDTO result = commentEmojiReactionService.getCommentReactors(1L, 1L, requestDTO);
+
+        // then
+        assertEquals(1, result.getReactedBy().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("댓글 이모지 반응자 목록 커서 조회 - 사전에 없는 이모지는 빈 목록")
+    void testGetCommentReactors_UnknownEmoji() {
+        // given
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(1L).build())
+                .build();
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("🦖").build();
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(emojiDictionaryService.findCode("🦖")).thenReturn(Optional.empty());
+
+        // when
+        PraiseReactorPageResponseDTO result = commentEmojiReactionService.getCommentReactors(1L, 1L, requestDTO);
+
+        // then
+        assertTrue(result.getReactedBy().isEmpty());
+        assertFalse(result.isHasNext());
+        verifyNoInteractions(commentEmojiReactionRepository);
+    }
+
+    @Test
+    @DisplayName("댓글 이모지 반응자 목록 커서 조회 실패 - 댓글이 해당 칭찬에 속하지 않음")
+    void testGetCommentReactors_MismatchedPraiseComment() {
+        // given
+        PraiseComment comment = PraiseComment.builder()
+                .id(1L)
+                .praise(Praise.builder().id(2L).build())
+                .build();
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("😊").build();
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThrows(MismatchedPraiseCommentException.class,
+                () -> commentEmojiReactionService.getCommentReactors(1L, 1L, requestDTO));
+        verifyNoInteractions(commentEmojiReactionRepository);
+    }
+}
@@ -43,6 +43,12 @@ class CommentServiceTest {
     @Mock
     private CommentEmojiReactionRepository commentEmojiReactionRepository;
 
+    @Mock
+    private PraiseCacheService praiseCacheService;
+
+    @Mock
+    private PraiseFeedEventService praiseFeedEventService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -102,6 +108,9 @@ class CommentServiceTest {
         verify(praiseRepository).findById(praiseId);
         verify(commentMapper).toEntity(requestDTO, praise, commentWriter);
         verify(commentRepository).save(comment);
+        verify(praiseRepository).addCommentCount(praiseId, 1);
+        verify(praiseCacheService).evictPraise(praise);
+        verify(praiseFeedEventService).publishCommentAdded(praiseId, comment.getId());
         verify(commentMapper).toDTO(comment);
     }
 
@@ -143,6 +152,7 @@ class CommentServiceTest {
 
         PraiseComment comment = PraiseComment.builder()
                 .id(commentId)
+                .praise(Praise.builder().id(1L).build())
                 .commentWriter(commentWriter) // 댓글의 작성자를 commentWriter로 설정
                 .build();
 
@@ -158,6 +168,9 @@ class CommentServiceTest {
         verify(commentRepository).findById(commentId);
         verify(commentEmojiReactionRepository).deleteByComment(comment);
         verify(commentRepository).delete(comment);
+        verify(praiseRepository).addCommentCount(1L, -1);
+        verify(praiseCacheService).evictPraise(comment.getPraise());
+        verify(praiseFeedEventService).publishCommentRemoved(1L, commentId);
     }
 
     @Test
@@ -0,0 +1,143 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import org.example.hugmeexp.domain.praise.entity.Emoji;
+import org.example.hugmeexp.domain.praise.repository.CommentEmojiReactionRepository;
+import org.example.hugmeexp.domain.praise.repository.EmojiRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseEmojiReactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class EmojiDictionaryServiceTest {
+
+    @InjectMocks
+    private EmojiDictionaryService emojiDictionaryService;
+
+    @Mock
+    private EmojiRepository emojiRepository;
+
+    @Mock
+    private PraiseEmojiReactionRepository praiseEmojiReactionRepository;
+
+    @Mock
+    private CommentEmojiReactionRepository commentEmojiReactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("신규 이모지 등록 후 같은 이모지(Variation Selector 차이 포함)는 DB 조회 없이 같은 코드")
+    void intern_RegistersOnceAndCaches() {
+        // given
+        when(emojiRepository.findByCanonicalKey("❤")).thenReturn(Optional.empty());
+        when(emojiRepository.saveAndFlush(any(Emoji.class))).thenReturn(emoji(7, "❤", "❤️"));
+
+        // when
+        int first = emojiDictionaryService.intern("❤️");
+        int second = emojiDictionaryService.intern("❤");
+
+        // then
+        assertEquals(7, first);
+        assertEquals(7, second);
+        verify(emojiRepository, times(1)).saveAndFlush(any(Emoji.class));
+        verify(emojiRepository, times(1)).findByCanonicalKey("❤");
+        assertEquals("❤️", emojiDictionaryService.emojiOf(7));
+    }
+
+    @Test
+    @DisplayName("이미 사전에 있으면 등록하지 않고 기존 코드 사용")
+    void intern_ExistingEntry() {
+        // given
+        when(emojiRepository.findByCanonicalKey("👍")).thenReturn(Optional.of(emoji(3, "👍", "👍")));
+
+        // when
+        int code = emojiDictionaryService.intern("👍");
+
+        // then
+        assertEquals(3, code);
+        verify(emojiRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시에 등록되어 unique 키 충돌이 나면 먼저 등록된 값을 다시 조회")
+    void intern_UniqueKeyConflict() {
+        // given
+        when(emojiRepository.findByCanonicalKey("🎉"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(emoji(11, "🎉", "🎉")));
+        when(emojiRepository.saveAndFlush(any(Emoji.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_emoji_canonical_key"));
+
+        // when
+        int code = emojiDictionaryService.intern("🎉");
+
+        // then
+        assertEquals(11, code);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("충돌 후 다시 조회해도 없으면 원래 예외 전파")
+    void intern_UniqueKeyConflictWithoutEntry() {
+        // given
+        when(emojiRepository.findByCanonicalKey(anyString())).thenReturn(Optional.empty());
+        DataIntegrityViolationException conflict = new DataIntegrityViolationException("uk_emoji_canonical_key");
+        when(emojiRepository.saveAndFlush(any(Emoji.class))).thenThrow(conflict);
+
+        // when & then
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> emojiDictionaryService.intern("🔥"));
+        assertSame(conflict, thrown);
+    }
+
+    @Test
+    @DisplayName("이모지가 아닌 값은 사전 조회 없이 empty")
+    void findCode_NotEmoji() {
+        // when
+        Optional<Integer> code = emojiDictionaryService.findCode("좋아요");
+
+        // then
+        assertTrue(code.isEmpty());
+        verifyNoInteractions(emojiRepository);
+    }
+
+    @Test
+    @DisplayName("사전에 없는 이모지 조회는 등록하지 않음")
+    void findCode_NotRegistered() {
+        // given
+        when(emojiRepository.findByCanonicalKey("😀")).thenReturn(Optional.empty());
+
+        // when
+        Optional<Integer> code = emojiDictionaryService.findCode("😀");
+
+        // then
+        assertTrue(code.isEmpty());
+        verify(emojiRepository, never()).saveAndFlush(any());
+    }
+
+    private Emoji emoji(int code, String canonicalKey, String emoji) {
+        return Emoji.builder()
+                .code(code)
+                .canonicalKey(canonicalKey)
+                .emoji(emoji)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.hugmeexp.domain.praise.dto.PraiseDetailResponseDTO;
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PraiseCacheService 테스트")
+class PraiseCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PraiseReceiverRepository praiseReceiverRepository;
+
+    private PraiseCacheService praiseCacheService;
+
+    @BeforeEach
+    void setUp() {
+        praiseCacheService = new PraiseCacheService(redisTemplate, new ObjectMapper().findAndRegisterModules(), praiseReceiverRepository);
+    }
+
+    @Test
+    @DisplayName("세대 조회 - 한 번도 삭제되지 않은 키는 0")
+    void getDetailGeneration_Default() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when & then
+        assertEquals("0", praiseCacheService.getDetailGeneration(1L));
+        verify(valueOperations).get("praise:cache-gen:praise:detail:1");
+    }
+
+    @Test
+    @DisplayName("세대 조회 실패 - null 을 리턴해서 저장하지 않음")
+    void getDetailGeneration_Failure() {
+        // given
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        String generation = praiseCacheService.getDetailGeneration(1L);
+        praiseCacheService.putDetail(1L, PraiseDetailResponseDTO.builder().id(1L).build(), generation);
+
+        // then
+        assertNull(generation);
+        verify(redisTemplate).opsForValue();
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("상세 저장 - 조회 전에 읽은 세대와 같을 때만 저장하도록 세대 키와 함께 전달")
+    void putDetail_WithGeneration() {
+        // when
+        praiseCacheService.putDetail(1L, PraiseDetailResponseDTO.builder().id(1L).build(), "3");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("praise:detail:1", "praise:cache-gen:praise:detail:1")),
+                eq("3"), anyString(), eq("600000"));
+    }
+
+    @Test
+    @DisplayName("상세 삭제 - 세대를 올리고 캐시 삭제")
+    void evictDetail() {
+        // when (트랜잭션 밖이면 바로 실행)
+        praiseCacheService.evictDetail(1L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("praise:detail:1", "praise:cache-gen:praise:detail:1")),
+                eq(String.valueOf(Duration.ofDays(2).toMillis())));
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PraiseRecentSenderRedisService 테스트")
+class PraiseRecentSenderRedisServiceTest {
+
+    private static final String KEY = "praise:recent-senders:1";
+
+    @InjectMocks
+    private PraiseRecentSenderRedisService praiseRecentSenderRedisService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private PraiseReceiverRepository praiseReceiverRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보낸 유저 기록 - 트랜잭션 안에서는 커밋 후에 Redis 반영")
+    void recordSenders_AppliedAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        praiseRecentSenderRedisService.recordSenders(List.of(1L, 2L), 10L, LocalDateTime.now());
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("보낸 유저 기록 - 트랜잭션이 롤백되면 Redis 에 반영하지 않음")
+    void recordSenders_SkippedOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        praiseRecentSenderRedisService.recordSenders(List.of(1L), 10L, LocalDateTime.now());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("조회 - 칭찬 받은 적이 없으면 빈 목록을 캐시")
+    void getRecentSenderIds_CachesEmptyResult() {
+        // given
+        when(zSetOperations.reverseRange(KEY, 0, 2)).thenReturn(Set.of());
+        when(praiseReceiverRepository.findRecentSenderIdsByReceiver(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        List<Long> senderIds = praiseRecentSenderRedisService.getRecentSenderIds(1L, 3);
+
+        // then
+        assertTrue(senderIds.isEmpty());
+        verify(zSetOperations).add(eq(KEY), anyString(), eq(0.0));
+        verify(redisTemplate).expire(eq(KEY), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("조회 - 빈 목록이 캐시되어 있으면 DB 조회 없이 빈 목록")
+    void getRecentSenderIds_EmptyCacheHit() {
+        // given
+        when(zSetOperations.reverseRange(KEY, 0, 2)).thenReturn(Set.of("none"));
+
+        // when
+        List<Long> senderIds = praiseRecentSenderRedisService.getRecentSenderIds(1L, 3);
+
+        // then
+        assertTrue(senderIds.isEmpty());
+        verifyNoInteractions(praiseReceiverRepository);
+    }
+
+    @Test
+    @DisplayName("조회 - 캐시된 보낸 유저를 최신순으로 반환")
+    void getRecentSenderIds_CacheHit() {
+        // given
+        when(zSetOperations.reverseRange(KEY, 0, 2)).thenReturn(new LinkedHashSet<>(List.of("3", "2", "1")));
+
+        // when
+        List<Long> senderIds = praiseRecentSenderRedisService.getRecentSenderIds(1L, 3);
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), senderIds);
+        verifyNoInteractions(praiseReceiverRepository);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import org.example.hugmeexp.domain.praise.repository.PraiseRepository;
+import org.example.hugmeexp.global.common.service.SchemaMigrationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PraiseSchedulingConfig 테스트")
+class PraiseSchedulingConfigTest {
+
+    private static final String POPULAR_INDEX = "idx_praise_created_at_reaction_count";
+    private static final String LEGACY_POPULAR_INDEX = "idx_praise_reaction_count_created_at";
+    private static final String DAILY_STAT_UNIQUE_KEY = "uk_praise_daily_stat_receiver_date_type";
+
+    @InjectMocks
+    private PraiseSchedulingConfig praiseSchedulingConfig;
+
+    @Mock
+    private PraiseRepository praiseRepository;
+
+    @Mock
+    private PraiseStatService praiseStatService;
+
+    @Mock
+    private SchemaMigrationService schemaMigrationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("집계 백필 - 집계되지 않은 칭찬글이 있으면 어긋난 행만 보정")
+    void backfillPraiseEngagementCounts_Uncounted() {
+        // given
+        when(schemaMigrationService.findIds(anyString())).thenReturn(List.of(1L));
+
+        // when
+        praiseSchedulingConfig.backfillPraiseEngagementCounts();
+
+        // then
+        verify(praiseRepository).syncDriftedEngagementCounts();
+    }
+
+    @Test
+    @DisplayName("집계 백필 - 이미 채워져 있으면 확인 쿼리만 실행")
+    void backfillPraiseEngagementCounts_AlreadyCounted() {
+        // given
+        when(schemaMigrationService.findIds(anyString())).thenReturn(List.of());
+
+        // when
+        praiseSchedulingConfig.backfillPraiseEngagementCounts();
+
+        // then
+        verify(praiseRepository, never()).syncDriftedEngagementCounts();
+    }
+
+    @Test
+    @DisplayName("인덱스 변경 - 새 인덱스를 만들고 이전 (reaction_count, created_at) 인덱스 삭제")
+    void migratePopularPraiseIndex_FromLegacy() {
+        // given
+        when(schemaMigrationService.findIndexColumns("praise", POPULAR_INDEX)).thenReturn(List.of());
+        when(schemaMigrationService.hasIndex("praise", LEGACY_POPULAR_INDEX)).thenReturn(true);
+
+        // when
+        praiseSchedulingConfig.migratePopularPraiseIndex();
+
+        // then
+        verify(schemaMigrationService).update("CREATE INDEX " + POPULAR_INDEX + " ON praise (created_at, reaction_count)");
+        verify(schemaMigrationService).update("ALTER TABLE praise DROP INDEX " + LEGACY_POPULAR_INDEX);
+    }
+
+    @Test
+    @DisplayName("인덱스 변경 - 컬럼 순서가 다르면 다시 만듦")
+    void migratePopularPraiseIndex_WrongOrder() {
+        // given
+        when(schemaMigrationService.findIndexColumns("praise", POPULAR_INDEX)).thenReturn(List.of("reaction_count", "created_at"));
+
+        // when
+        praiseSchedulingConfig.migratePopularPraiseIndex();
+
+        // then
+        verify(schemaMigrationService).update("ALTER TABLE praise DROP INDEX " + POPULAR_INDEX);
+        verify(schemaMigrationService).update("CREATE INDEX " + POPULAR_INDEX + " ON praise (created_at, reaction_count)");
+    }
+
+    @Test
+    @DisplayName("인덱스 변경 - 이미 적용되어 있으면 아무것도 하지 않음")
+    void migratePopularPraiseIndex_AlreadyApplied() {
+        // given
+        when(schemaMigrationService.findIndexColumns("praise", POPULAR_INDEX)).thenReturn(List.of("created_at", "reaction_count"));
+
+        // when
+        praiseSchedulingConfig.migratePopularPraiseIndex();
+
+        // then
+        verify(schemaMigrationService, never()).update(anyString());
+    }
+
+    @Test
+    @DisplayName("집계 unique 키 - 나뉜 집계 행을 한 트랜잭션에서 합친 뒤 키 추가")
+    void migratePraiseDailyStatUniqueKey_MergesDuplicates() {
+        // given
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(schemaMigrationService.hasIndex("praise_daily_stat", DAILY_STAT_UNIQUE_KEY)).thenReturn(false);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+
+        // when
+        praiseSchedulingConfig.migratePraiseDailyStatUniqueKey();
+
+        // then
+        verify(schemaMigrationService).update(startsWith("UPDATE praise_daily_stat"));
+        verify(schemaMigrationService).update(startsWith("DELETE s FROM praise_daily_stat"));
+        verify(transactionManager).commit(status);
+        verify(schemaMigrationService).update(contains("ADD CONSTRAINT " + DAILY_STAT_UNIQUE_KEY));
+    }
+
+    @Test
+    @DisplayName("집계 unique 키 - 중복 삭제가 실패하면 합친 개수도 롤백하고 키는 추가하지 않음")
+    void migratePraiseDailyStatUniqueKey_RollsBackOnFailure() {
+        // given
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(schemaMigrationService.hasIndex("praise_daily_stat", DAILY_STAT_UNIQUE_KEY)).thenReturn(false);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(schemaMigrationService.update(startsWith("DELETE s FROM praise_daily_stat"))).thenThrow(new IllegalStateException("lock timeout"));
+
+        // when
+        praiseSchedulingConfig.migratePraiseDailyStatUniqueKey();
+
+        // then
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(any());
+        verify(schemaMigrationService, never()).update(contains("ADD CONSTRAINT"));
+    }
+
+    @Test
+    @DisplayName("집계 unique 키 - 이미 있으면 건너뜀")
+    void migratePraiseDailyStatUniqueKey_AlreadyApplied() {
+        // given
+        when(schemaMigrationService.hasIndex("praise_daily_stat", DAILY_STAT_UNIQUE_KEY)).thenReturn(true);
+
+        // when
+        praiseSchedulingConfig.migratePraiseDailyStatUniqueKey();
+
+        // then
+        verify(schemaMigrationService, never()).update(anyString());
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -1,24 +1,35 @@
 package org.example.hugmeexp.domain.praise.service;
 
+import org.example.hugmeexp.domain.missionGroup.entity.MissionGroup;
+import org.example.hugmeexp.domain.missionGroup.exception.MissionGroupNotFoundException;
+import org.example.hugmeexp.domain.missionGroup.repository.MissionGroupRepository;
+import org.example.hugmeexp.domain.missionGroup.repository.UserMissionGroupRepository;
 import org.example.hugmeexp.domain.notification.service.NotificationService;
 import org.example.hugmeexp.domain.praise.dto.*;
 import org.example.hugmeexp.domain.praise.entity.Praise;
 import org.example.hugmeexp.domain.praise.entity.PraiseComment;
 import org.example.hugmeexp.domain.praise.entity.PraiseEmojiReaction;
 import org.example.hugmeexp.domain.praise.entity.PraiseReceiver;
+import org.example.hugmeexp.domain.praise.enums.PraiseStatPeriod;
 import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.praise.exception.EmptyMissionGroupPraiseException;
 import org.example.hugmeexp.domain.praise.exception.PraiseNotFoundException;
+import org.example.hugmeexp.domain.praise.exception.UserNotFoundInPraiseException;
 import org.example.hugmeexp.domain.praise.mapper.PraiseMapper;
 import org.example.hugmeexp.domain.praise.repository.*;
 import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.service.UserNameIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -26,10 +37,14 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +68,9 @@ public class PraiseServiceTest {
     @Mock
     private PraiseReceiverRepository praiseReceiverRepository;
 
+    @Mock
+    private PraiseReceiverBulkRepository praiseReceiverBulkRepository;
+
     @Mock
     private CommentEmojiReactionRepository commentEmojiReactionRepository;
 
@@ -62,6 +80,33 @@ public class PraiseServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private UserNameIndexService userNameIndexService;
+
+    @Mock
+    private PraiseStatService praiseStatService;
+
+    @Mock
+    private PraiseDailyStatRepository praiseDailyStatRepository;
+
+    @Mock
+    private PraiseRecentSenderRedisService praiseRecentSenderRedisService;
+
+    @Mock
+    private MissionGroupRepository missionGroupRepository;
+
+    @Mock
+    private UserMissionGroupRepository userMissionGroupRepository;
+
+    @Mock
+    private PraiseCacheService praiseCacheService;
+
+    @Mock
+    private PraiseFeedEventService praiseFeedEventService;
+
+    @Mock
+    private EmojiDictionaryService emojiDictionaryService;
+
     @InjectMocks
     private PraiseService praiseService;
 
@@ -121,6 +166,8 @@ public class PraiseServiceTest {
                 .commentWriter(commentWriter)
                 .content(content)
                 .build();
+        // 댓글 작성 시 갱신되는 칭찬글 댓글 수 집계 반영
+        ReflectionTestUtils.setField(praise, "commentCount", praise.getCommentCount() + 1);
         return comment;
     }
 
@@ -144,6 +191,54 @@ public class PraiseServiceTest {
         assertEquals(0, result.getCommentCount());
         // emojis 필드가 null이 아닌지 확인
         assertNotNull(result.getEmojis(), "emojis 필드는 null이 아니어야 합니다");
+        // 받는 사람별 일별 집계 증가
+        verify(praiseStatService).increaseDailyStats(eq(List.of(receiver1, receiver2)), eq(PraiseType.THANKS), any(LocalDate.class));
+        // 받는 사람별 최근 칭찬 보낸 유저 목록 갱신
+        verify(praiseRecentSenderRedisService).recordSenders(List.of(receiver1.getId(), receiver2.getId()), sender.getId(), praise.getCreatedAt());
+        // 받는 사람 / 알림 일괄 저장
+        verify(praiseReceiverBulkRepository).saveAll(praise.getId(), List.of(receiver1.getId(), receiver2.getId()));
+        verify(notificationService).sendPraiseNotifications(List.of(receiver1, receiver2), praise.getId());
+        // 칭찬 피드 구독자에게 새 칭찬 전송
+        verify(praiseFeedEventService).publishPraiseCreated(result);
+    }
+
+    @Test
+    @DisplayName("칭찬 생성 시 자기 자신에게는 알림을 보내지 않는다")
+    void testCreatePraiseExcludesSenderFromNotification() {
+        // given
+        PraiseRequestDTO requestDTO = PraiseRequestDTO.builder()
+                .content("칭찬 내용")
+                .type(PraiseType.THANKS)
+                .receiverUsername(List.of(sender.getUsername(), receiver1.getUsername(), receiver1.getUsername()))
+                .build();
+        Praise praise = createTestPraise(1L, sender, requestDTO.getContent(), requestDTO.getType(), null);
+
+        when(praiseMapper.toEntity(requestDTO, sender)).thenReturn(praise);
+        when(praiseRepository.save(praise)).thenReturn(praise);
+        when(userRepository.findByUsernameIn(List.of(sender.getUsername(), receiver1.getUsername())))
+                .thenReturn(List.of(receiver1, sender));
+
+        // when
+        PraiseResponseDTO result = praiseService.createPraise(requestDTO, sender);
+
+        // then
+        // 중복 username 은 한 번만 저장되고, 요청 순서가 유지된다
+        assertEquals(2, result.getReceivers().size());
+        verify(praiseReceiverBulkRepository).saveAll(praise.getId(), List.of(sender.getId(), receiver1.getId()));
+        verify(notificationService).sendPraiseNotifications(List.of(receiver1), praise.getId());
+    }
+
+    @Test
+    @DisplayName("칭찬 생성 시 존재하지 않는 받는 사람이 있으면 예외 발생")
+    void testCreatePraiseReceiverNotFound() {
+        // given
+        PraiseRequestDTO requestDTO = createPraiseRequestDTO();
+        when(userRepository.findByUsernameIn(List.of(receiver1.getUsername(), receiver2.getUsername())))
+                .thenReturn(List.of(receiver1));
+
+        // when & then
+        assertThrows(UserNotFoundInPraiseException.class, () -> praiseService.createPraise(requestDTO, sender));
+        verifyNoInteractions(praiseReceiverBulkRepository, notificationService);
     }
 
     @Test
@@ -165,6 +260,70 @@ public class PraiseServiceTest {
         assertTrue(result.getEmojis().isEmpty(), "emojis 필드는 빈 리스트여야 합니다");
     }
 
+    @Test
+    @DisplayName("미션 그룹 전체 칭찬 생성 테스트")
+    void testCreateMissionGroupPraise() {
+        // given
+        MissionGroup missionGroup = MissionGroup.builder().id(10L).teacher(sender).name("1조").build();
+        PraiseMissionGroupRequestDTO requestDTO = PraiseMissionGroupRequestDTO.builder()
+                .content("모두 수고했어요")
+                .type(PraiseType.THANKS)
+                .build();
+
+        when(missionGroupRepository.findById(10L)).thenReturn(Optional.of(missionGroup));
+        when(userMissionGroupRepository.findUsersByMissionGroup(missionGroup)).thenReturn(List.of(receiver1, receiver2));
+        when(praiseRepository.save(any(Praise.class))).thenAnswer(invocation -> {
+            Praise praise = invocation.getArgument(0);
+            ReflectionTestUtils.setField(praise, "id", 1L);
+            return praise;
+        });
+
+        // when
+        PraiseResponseDTO result = praiseService.createMissionGroupPraise(10L, requestDTO, sender);
+
+        // then
+        assertEquals(1L, result.getId());
+        assertEquals("모두 수고했어요", result.getContent());
+        assertEquals(2, result.getReceivers().size());
+        // 그룹 멤버 단위로 한 번에 저장 / 알림
+        verify(praiseReceiverBulkRepository).saveAll(1L, List.of(receiver1.getId(), receiver2.getId()));
+        verify(praiseRecentSenderRedisService).recordSenders(List.of(receiver1.getId(), receiver2.getId()), sender.getId(), null);
+        verify(notificationService).sendPraiseNotifications(List.of(receiver1, receiver2), 1L);
+        verifyNoInteractions(praiseMapper);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 미션 그룹 칭찬 시 예외 발생")
+    void testCreateMissionGroupPraiseNotFound() {
+        // given
+        PraiseMissionGroupRequestDTO requestDTO = PraiseMissionGroupRequestDTO.builder()
+                .content("모두 수고했어요")
+                .type(PraiseType.THANKS)
+                .build();
+        when(missionGroupRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(MissionGroupNotFoundException.class, () -> praiseService.createMissionGroupPraise(99L, requestDTO, sender));
+        verifyNoInteractions(praiseReceiverBulkRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("멤버가 없는 미션 그룹 칭찬 시 예외 발생")
+    void testCreateMissionGroupPraiseEmptyGroup() {
+        // given
+        MissionGroup missionGroup = MissionGroup.builder().id(10L).teacher(sender).name("1조").build();
+        PraiseMissionGroupRequestDTO requestDTO = PraiseMissionGroupRequestDTO.builder()
+                .content("모두 수고했어요")
+                .type(PraiseType.THANKS)
+                .build();
+        when(missionGroupRepository.findById(10L)).thenReturn(Optional.of(missionGroup));
+        when(userMissionGroupRepository.findUsersByMissionGroup(missionGroup)).thenReturn(List.of());
+
+        // when & then
+        assertThrows(EmptyMissionGroupPraiseException.class, () -> praiseService.createMissionGroupPraise(10L, requestDTO, sender));
+        verify(praiseRepository, never()).save(any(Praise.class));
+    }
+
     // 칭찬 요청 DTO 생성 헬퍼 메소드
     private PraiseRequestDTO createPraiseRequestDTO() {
         return PraiseRequestDTO.builder()
@@ -178,8 +337,8 @@ public class PraiseServiceTest {
     private void setupMocksForCreatePraise(PraiseRequestDTO requestDTO, Praise praise) {
         when(praiseMapper.toEntity(requestDTO, sender)).thenReturn(praise);
         when(praiseRepository.save(praise)).thenReturn(praise);
-        when(userRepository.findByUsername(receiver1.getUsername())).thenReturn(Optional.of(receiver1));
-        when(userRepository.findByUsername(receiver2.getUsername())).thenReturn(Optional.of(receiver2));
+        when(userRepository.findByUsernameIn(List.of(receiver1.getUsername(), receiver2.getUsername())))
+                .thenReturn(List.of(receiver1, receiver2));
     }
 
     @Test
@@ -303,7 +462,7 @@ public class PraiseServiceTest {
                 .thenReturn(testData.juneComments);
 
         // 이모지 반응 조회 (이 테스트에서는 필요 없음)
-        when(praiseEmojiReactionRepository.findByPraise(any(Praise.class)))
+        when(praiseEmojiReactionRepository.findReactionSummaryByPraiseIn(anyList()))
                 .thenReturn(List.of());
     }
 
@@ -346,19 +505,12 @@ public class PraiseServiceTest {
     // 나와 관련된 칭찬만 조회하는 테스트를 위한 mock 설정
     private void setupMocksForFindByDateRangeOnlyRelatedToMe(LocalDate startDate, LocalDate endDate, 
                                                            User currentUser, TestDataForDateRange testData) {
-        // 내가 받은 칭찬 (6월)
-        when(praiseReceiverRepository.findByReceiverAndCreatedAtBetween(
-                eq(currentUser),
-                eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
-                .thenReturn(List.of(testData.juneReceivers.get(1))); // juneReceiver1 (내가 받은 칭찬)
-
-        // 내가 보낸 칭찬 (6월)
-        when(praiseRepository.findWithSenderBySenderAndCreatedAtBetween(
+        // 내가 보냈거나 받은 칭찬 (6월) - 한 번의 쿼리로 조회
+        when(praiseRepository.findRelatedToUser(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX))))
-                .thenReturn(List.of(testData.junePraises.get(0))); // junePraise1 (내가 보낸 칭찬)
+                .thenReturn(List.of(testData.junePraises.get(0), testData.junePraises.get(1))); // 내가 보낸 칭찬, 내가 받은 칭찬
 
         // 칭찬 받는 사람 리스트 매핑
         when(praiseReceiverRepository.findByPraiseIn(anyList()))
@@ -370,10 +522,82 @@ public class PraiseServiceTest {
                 .thenReturn(relatedComments);
 
         // 이모지 반응 조회 (이 테스트에서는 필요 없음)
-        when(praiseEmojiReactionRepository.findByPraise(any(Praise.class)))
+        when(praiseEmojiReactionRepository.findReactionSummaryByPraiseIn(anyList()))
                 .thenReturn(List.of());
     }
 
+    @Test
+    @DisplayName("날짜 범위 조회 시 캐시된 날짜는 DB 조회 없이 사용하고 없는 날짜만 조회 후 캐시")
+    void testFindByDateRange_UsesDayBucketCache() {
+        // given
+        User currentUser = createTestUser("currentUser", "테스트유저", "010-1111-2222", 3L);
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 3);
+
+        PraiseResponseDTO cachedPraise = PraiseResponseDTO.builder()
+                .id(1L)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 9, 0))
+                .build();
+        Praise loadedPraise = createTestPraise(2L, sender, "6월 3일 칭찬", PraiseType.THANKS, LocalDateTime.of(2025, 6, 3, 9, 0));
+
+        when(praiseCacheService.getFeedBuckets("all", List.of(startDate, startDate.plusDays(1), endDate)))
+                .thenReturn(Map.of(startDate, List.of(cachedPraise)));
+        Map<LocalDate, String> generations = Map.of(LocalDate.of(2025, 6, 2), "0", endDate, "3");
+        when(praiseCacheService.getFeedGenerations("all", List.of(LocalDate.of(2025, 6, 2), endDate))).thenReturn(generations);
+        when(praiseRepository.findByCreatedAtBetween(
+                eq(LocalDate.of(2025, 6, 2).atStartOfDay()),
+                eq(endDate.atTime(LocalTime.MAX))))
+                .thenReturn(List.of(loadedPraise));
+
+        // when
+        List<PraiseResponseDTO> result = praiseService.findByDateRange(startDate, endDate, currentUser, false);
+
+        // then
+        // 날짜 순으로 캐시된 칭찬 + DB 에서 조회한 칭찬
+        assertEquals(List.of(1L, 2L), result.stream().map(PraiseResponseDTO::getId).toList());
+
+        // 캐시에 없던 날짜만 DB 조회 전에 읽은 세대와 함께 저장 (칭찬 없는 날은 빈 목록)
+        ArgumentCaptor<Map<LocalDate, List<PraiseResponseDTO>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(praiseCacheService).putFeedBuckets(eq("all"), captor.capture(), eq(generations));
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().get(LocalDate.of(2025, 6, 2)).isEmpty());
+        assertEquals(2L, captor.getValue().get(endDate).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("칭찬 상세 조회 - 캐시에 있으면 DB 조회하지 않음")
+    void testGetPraiseDetail_CacheHit() {
+        // given
+        PraiseDetailResponseDTO cached = PraiseDetailResponseDTO.builder().id(1L).content("칭찬 내용").build();
+        when(praiseCacheService.getDetail(1L)).thenReturn(Optional.of(cached));
+
+        // when
+        PraiseDetailResponseDTO result = praiseService.getPraiseDetail(1L);
+
+        // then
+        assertSame(cached, result);
+        verifyNoInteractions(praiseRepository, praiseEmojiReactionRepository, commentEmojiReactionRepository);
+    }
+
+    @Test
+    @DisplayName("칭찬 상세 조회 - 캐시에 없으면 DB 조회 전에 읽은 세대와 함께 저장")
+    void testGetPraiseDetail_CacheMiss_PutsWithGeneration() {
+        // given
+        Praise praise = createTestPraise(1L, sender, "칭찬 내용", PraiseType.THANKS, LocalDateTime.of(2025, 6, 1, 9, 0));
+        when(praiseCacheService.getDetail(1L)).thenReturn(Optional.empty());
+        when(praiseCacheService.getDetailGeneration(1L)).thenReturn("2");
+        when(praiseRepository.findWithSenderById(1L)).thenReturn(Optional.of(praise));
+
+        // when
+        PraiseDetailResponseDTO result = praiseService.getPraiseDetail(1L);
+
+        // then
+        InOrder inOrder = inOrder(praiseCacheService, praiseRepository);
+        inOrder.verify(praiseCacheService).getDetailGeneration(1L);
+        inOrder.verify(praiseRepository).findWithSenderById(1L);
+        inOrder.verify(praiseCacheService).putDetail(1L, result, "2");
+    }
+
     @Test
     @DisplayName("날짜 범위로 나와 관련된 칭찬 조회 실패 - 데이터 없음")
     void testFindByDateRange_OnlyRelatedToMe_NoData() {
@@ -383,13 +607,7 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
 
         // mock 설정 - 데이터 없음
-        when(praiseReceiverRepository.findByReceiverAndCreatedAtBetween(
-                eq(currentUser),
-                eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
-                .thenReturn(List.of()); // 빈 리스트 반환
-
-        when(praiseRepository.findWithSenderBySenderAndCreatedAtBetween(
+        when(praiseRepository.findRelatedToUser(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX))))
@@ -411,7 +629,7 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
 
         // mock 설정 - 예외 발생
-        when(praiseReceiverRepository.findByReceiverAndCreatedAtBetween(
+        when(praiseRepository.findRelatedToUser(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX))))
@@ -433,7 +651,7 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
 
         // mock 설정 - null 반환
-        when(praiseReceiverRepository.findByReceiverAndCreatedAtBetween(
+        when(praiseRepository.findRelatedToUser(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX))))
@@ -488,21 +706,16 @@ public class PraiseServiceTest {
     // 키워드로 나와 관련된 칭찬 조회 테스트를 위한 mock 설정
     private void setupMocksForSearchByKeywordAndDate(LocalDate startDate, LocalDate endDate, 
                                                    User currentUser, String keyword, TestDataForDateRange testData) {
-        // 내가 받은 칭찬 중에서, 보낸 사람 이름 또는 받은 사람에 keyword가 포함된 칭찬 조회
-        when(praiseReceiverRepository.findRelatedPraiseByReceiverWithKeyword(
-                eq(currentUser),
-                eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
-                .thenReturn(List.of(testData.juneReceivers.get(1))); // 내가 받은 칭찬
+        // 이름 색인에서 keyword 에 해당하는 유저 ID 조회
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of(currentUser.getId()));
 
-        // 내가 보낸 칭찬 중에서, 보낸 사람 이름 또는 받은 사람에 keyword가 포함된 것 조회
-        when(praiseRepository.findMySentPraiseWithKeywordWithSender(
+        // 내가 보냈거나 받은 칭찬 중에서, 보낸 사람 이름 또는 받은 사람에 keyword가 포함된 칭찬 조회
+        when(praiseRepository.findRelatedToUserWithSenderOrReceiverIdIn(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
-                .thenReturn(List.of(testData.junePraises.get(0))); // 내가 보낸 칭찬
+                eq(List.of(currentUser.getId()))))
+                .thenReturn(List.of(testData.junePraises.get(0), testData.junePraises.get(1))); // 내가 보낸 칭찬, 내가 받은 칭찬
 
         // 칭찬 받는 사람 리스트 매핑
         when(praiseReceiverRepository.findByPraiseIn(anyList()))
@@ -513,7 +726,7 @@ public class PraiseServiceTest {
                 .thenReturn(List.of(testData.juneComments.get(0), testData.juneComments.get(1)));
 
         // 이모지 반응 조회 (이 테스트에서는 필요 없음)
-        when(praiseEmojiReactionRepository.findByPraise(any(Praise.class)))
+        when(praiseEmojiReactionRepository.findReactionSummaryByPraiseIn(anyList()))
                 .thenReturn(List.of());
     }
 
@@ -526,19 +739,15 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
         String keyword = "테스트유저";
 
-        // mock 설정 - 데이터 없음
-        when(praiseReceiverRepository.findRelatedPraiseByReceiverWithKeyword(
-                eq(currentUser),
-                eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
-                .thenReturn(List.of()); // 빈 리스트 반환
+        // 이름 색인에서 keyword 에 해당하는 유저 ID 조회
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of(currentUser.getId()));
 
-        when(praiseRepository.findMySentPraiseWithKeywordWithSender(
+        // mock 설정 - 데이터 없음
+        when(praiseRepository.findRelatedToUserWithSenderOrReceiverIdIn(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
+                eq(List.of(currentUser.getId()))))
                 .thenReturn(List.of()); // 빈 리스트 반환
 
         // when
@@ -557,12 +766,15 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
         String keyword = "테스트유저";
 
+        // 이름 색인에서 keyword 에 해당하는 유저 ID 조회
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of(currentUser.getId()));
+
         // mock 설정 - 예외 발생
-        when(praiseReceiverRepository.findRelatedPraiseByReceiverWithKeyword(
+        when(praiseRepository.findRelatedToUserWithSenderOrReceiverIdIn(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
+                eq(List.of(currentUser.getId()))))
                 .thenThrow(new RuntimeException("데이터베이스 오류"));
 
         // then
@@ -581,12 +793,15 @@ public class PraiseServiceTest {
         LocalDate endDate = LocalDate.of(2025, 6, 30);
         String keyword = "테스트유저";
 
+        // 이름 색인에서 keyword 에 해당하는 유저 ID 조회
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of(currentUser.getId()));
+
         // mock 설정 - null 반환
-        when(praiseReceiverRepository.findRelatedPraiseByReceiverWithKeyword(
+        when(praiseRepository.findRelatedToUserWithSenderOrReceiverIdIn(
                 eq(currentUser),
                 eq(startDate.atStartOfDay()),
                 eq(endDate.atTime(LocalTime.MAX)),
-                eq(keyword)))
+                eq(List.of(currentUser.getId()))))
                 .thenReturn(null); // null 반환
 
         // then
@@ -623,7 +838,7 @@ public class PraiseServiceTest {
 
         // 댓글 이모지 반응 설정
         org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction commentReaction = 
-            createCommentEmojiReaction(1L, comment, sender, "❤️");
+            createCommentEmojiReaction(9L, comment, sender, "❤️");
 
         // mock 설정
         setupMocksForGetPraiseDetail(praiseId, praise, praiseReceiver, comment, reaction, commentReaction);
@@ -652,6 +867,100 @@ public class PraiseServiceTest {
         assertEquals(1, result.getEmojiReactions().size());
         assertEquals("👍", result.getEmojiReactions().get(0).getEmoji());
         assertEquals(1, result.getEmojiReactions().get(0).getCount());
+
+        // 댓글 이모지 반응 확인
+        assertEquals(1L, result.getComments().get(0).getEmojiReactionCounts().get("❤️"));
+        assertEquals(sender.getUsername(), result.getComments().get(0).getEmojiReactions().get("❤️").get(0).getUsername());
+        assertEquals(sender.getId(), result.getComments().get(0).getEmojiReactions().get("❤️").get(0).getId());
+    }
+
+    @Test
+    @DisplayName("칭찬 상세 조회 - 반응이 많으면 이모지별 반응 수는 전체, 반응자는 일부만")
+    void testGetPraiseDetail_ReactorSample() {
+        // given
+        Long praiseId = 1L;
+        Praise praise = createTestPraise(praiseId, sender, "칭찬 내용", PraiseType.THANKS, LocalDateTime.of(2023, 1, 1, 12, 0));
+        PraiseComment comment = createTestComment(1L, praise, receiver1, "댓글 내용");
+
+        List<Object[]> sampleRows = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            sampleRows.add(new Object[]{"👍", i, "user" + i, "유저" + i});
+        }
+        List<Object[]> commentSampleRows = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            commentSampleRows.add(new Object[]{comment.getId(), "❤️", i, "user" + i, "유저" + i});
+        }
+
+        when(praiseRepository.findWithSenderById(praiseId)).thenReturn(Optional.of(praise));
+        when(praiseReceiverRepository.findWithReceiverByPraise(praise)).thenReturn(List.of());
+        when(commentService.getCommentsByPraise(praise)).thenReturn(List.of(comment));
+        when(praiseEmojiReactionRepository.countByEmojiOfPraise(praiseId))
+                .thenReturn(List.<Object[]>of(new Object[]{1, "👍", 1000L}));
+        when(praiseEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, 5)).thenReturn(sampleRows);
+        when(commentEmojiReactionRepository.countByCommentAndEmojiOfPraise(praiseId))
+                .thenReturn(List.<Object[]>of(new Object[]{comment.getId(), "❤️", 7L}));
+        when(commentEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, 5)).thenReturn(commentSampleRows);
+
+        // when
+        PraiseDetailResponseDTO result = praiseService.getPraiseDetail(praiseId);
+
+        // then
+        assertEquals(1000, result.getEmojiReactions().get(0).getCount());
+        assertEquals(5, result.getEmojiReactions().get(0).getReactedBy().size());
+        assertEquals(7L, result.getComments().get(0).getEmojiReactionCounts().get("❤️"));
+        assertEquals(5, result.getComments().get(0).getEmojiReactions().get("❤️").size());
+        verify(praiseEmojiReactionRepository, never()).findReactorsByPraiseIdAndEmojiCode(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("칭찬 이모지 반응자 목록 커서 조회 - 다음 페이지 있음")
+    void testGetPraiseReactors_HasNext() {
+        // given
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("👍").cursorId(10L).size(2).build();
+        when(praiseRepository.existsById(1L)).thenReturn(true);
+        when(emojiDictionaryService.findCode("👍")).thenReturn(Optional.of(1));
+        when(praiseEmojiReactionRepository.findReactorsByPraiseIdAndEmojiCode(1L, 1, 10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        new Object[]{11L, "user11", "유저11"},
+                        new Object[]{12L, "user12", "유저12"},
+                        new Object[]{13L, "user13", "유저13"}));
+
+        // when
+        PraiseReactorPageResponseDTO result = praiseService.getPraiseReactors(1L, requestDTO);
+
+        // then
+        assertEquals(2, result.getReactedBy().size());
+        assertTrue(result.isHasNext());
+        assertEquals(12L, result.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("칭찬 이모지 반응자 목록 커서 조회 - 사전에 없는 이모지는 빈 목록")
+    void testGetPraiseReactors_UnknownEmoji() {
+        // given
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("🦖").build();
+        when(praiseRepository.existsById(1L)).thenReturn(true);
+        when(emojiDictionaryService.findCode("🦖")).thenReturn(Optional.empty());
+
+        // when
+        PraiseReactorPageResponseDTO result = praiseService.getPraiseReactors(1L, requestDTO);
+
+        // then
+        assertTrue(result.getReactedBy().isEmpty());
+        assertFalse(result.isHasNext());
+        verifyNoInteractions(praiseEmojiReactionRepository);
+    }
+
+    @Test
+    @DisplayName("칭찬 이모지 반응자 목록 커서 조회 - 존재하지 않는 칭찬")
+    void testGetPraiseReactors_NotFound() {
+        // given
+        PraiseReactorRequestDTO requestDTO = PraiseReactorRequestDTO.builder().emoji("👍").build();
+        when(praiseRepository.existsById(999L)).thenReturn(false);
+
+        // when & then
+        assertThrows(PraiseNotFoundException.class, () -> praiseService.getPraiseReactors(999L, requestDTO));
+        verifyNoInteractions(praiseEmojiReactionRepository);
     }
 
     // 칭찬 이모지 반응 생성 헬퍼 메소드
@@ -667,6 +976,17 @@ public class PraiseServiceTest {
         return reaction;
     }
 
+    // 이모지 반응 집계 row 생성 헬퍼 메소드
+    private Object[] toReactionSummaryRow(PraiseEmojiReaction reaction) {
+        return new Object[]{
+                reaction.getPraise().getId(),
+                reaction.getEmoji(),
+                reaction.getId(),
+                reaction.getReactorWriter().getUsername(),
+                reaction.getReactorWriter().getName()
+        };
+    }
+
     // 댓글 이모지 반응 생성 헬퍼 메소드
     private org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction createCommentEmojiReaction(
             Long id, PraiseComment comment, User reactorWriter, String emoji) {
@@ -686,10 +1006,21 @@ public class PraiseServiceTest {
                                             org.example.hugmeexp.domain.praise.entity.PraiseEmojiReaction reaction,
                                             org.example.hugmeexp.domain.praise.entity.CommentEmojiReaction commentReaction) {
         when(praiseRepository.findWithSenderById(praiseId)).thenReturn(Optional.of(praise));
-        when(praiseReceiverRepository.findByPraise(praise)).thenReturn(List.of(praiseReceiver));
+        when(praiseReceiverRepository.findWithReceiverByPraise(praise)).thenReturn(List.of(praiseReceiver));
         when(commentService.getCommentsByPraise(praise)).thenReturn(List.of(comment));
-        when(praiseEmojiReactionRepository.findByPraise(praise)).thenReturn(List.of(reaction));
-        when(commentEmojiReactionRepository.findWithReactorByPraise(praise)).thenReturn(List.of(commentReaction));
+        when(praiseEmojiReactionRepository.countByEmojiOfPraise(praiseId))
+                .thenReturn(List.<Object[]>of(new Object[]{1, reaction.getEmoji(), 1L}));
+        when(praiseEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, 5))
+                .thenReturn(List.<Object[]>of(new Object[]{reaction.getEmoji(), reaction.getId(), reaction.getReactorWriter().getUsername(), reaction.getReactorWriter().getName()}));
+        when(commentEmojiReactionRepository.countByCommentAndEmojiOfPraise(praiseId))
+                .thenReturn(List.<Object[]>of(new Object[]{commentReaction.getComment().getId(), commentReaction.getEmoji(), 1L}));
+        when(commentEmojiReactionRepository.findReactorSamplesByPraiseId(praiseId, 5))
+                .thenReturn(List.<Object[]>of(new Object[]{
+                        commentReaction.getComment().getId(),
+                        commentReaction.getEmoji(),
+                        commentReaction.getReactorWriter().getId(),
+                        commentReaction.getReactorWriter().getUsername(),
+                        commentReaction.getReactorWriter().getName()}));
     }
 
     @Test
@@ -712,7 +1043,7 @@ public class PraiseServiceTest {
         Praise dummyPraise = createTestPraise(praiseId, sender, "내용", PraiseType.THANKS, LocalDateTime.now());
 
         when(praiseRepository.findWithSenderById(praiseId)).thenReturn(Optional.of(dummyPraise));
-        when(praiseReceiverRepository.findByPraise(dummyPraise)).thenReturn(List.of());
+        when(praiseReceiverRepository.findWithReceiverByPraise(dummyPraise)).thenReturn(List.of());
         when(commentService.getCommentsByPraise(dummyPraise)).thenReturn(null);
 
         // then
@@ -736,24 +1067,33 @@ public class PraiseServiceTest {
         Praise praise3 = createTestPraise(3L, sender, "칭찬3", PraiseType.THANKS, LocalDateTime.of(2025, 6, 15, 12, 0));
         Praise praise4 = createTestPraise(4L, sender, "칭찬4", PraiseType.THANKS, LocalDateTime.of(2025, 6, 20, 12, 0));
 
-        List<Praise> praises = List.of(praise1, praise2, praise3, praise4);
-
         // 이모지 반응 설정
         PraiseEmojiReaction reaction1 = createPraiseEmojiReaction(1L, praise1, sender, "👍");
         PraiseEmojiReaction reaction2 = createPraiseEmojiReaction(2L, praise2, sender, "👍");
         PraiseEmojiReaction reaction3 = createPraiseEmojiReaction(3L, praise3, sender, "👍");
         PraiseEmojiReaction reaction4 = createPraiseEmojiReaction(4L, praise3, sender, "❤️");
 
+        // 반응 수 집계 컬럼 설정 (praise4 는 반응 없음)
+        ReflectionTestUtils.setField(praise1, "reactionCount", 1L);
+        ReflectionTestUtils.setField(praise2, "reactionCount", 1L);
+        ReflectionTestUtils.setField(praise3, "reactionCount", 2L);
+
+        // 쿼리에서 반응 수 내림차순, 동률이면 ID 오름차순으로 상위 limit 개 반환
+        List<Praise> praises = List.of(praise3, praise1, praise2);
+
         // mock 설정
-        when(praiseRepository.findByCreatedAtBetween(
+        when(praiseRepository.findPopularPraises(
                 eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(PageRequest.of(0, limit))))
                 .thenReturn(praises);
 
-        when(praiseEmojiReactionRepository.findByPraise(praise1)).thenReturn(List.of(reaction1));
-        when(praiseEmojiReactionRepository.findByPraise(praise2)).thenReturn(List.of(reaction2));
-        when(praiseEmojiReactionRepository.findByPraise(praise3)).thenReturn(List.of(reaction3, reaction4));
-        when(praiseEmojiReactionRepository.findByPraise(praise4)).thenReturn(List.of());
+        // 이모지 반응 집계 조회 - 칭찬 ID, 이모지, 반응 ID, 반응자 username, 반응자 이름
+        when(praiseEmojiReactionRepository.findReactionSummaryByPraiseIn(praises)).thenReturn(List.of(
+                toReactionSummaryRow(reaction1),
+                toReactionSummaryRow(reaction2),
+                toReactionSummaryRow(reaction3),
+                toReactionSummaryRow(reaction4)));
 
         // when
         List<PraiseResponseDTO> result = praiseService.findPopularPraises(startDate, endDate, limit);
@@ -763,6 +1103,7 @@ public class PraiseServiceTest {
         assertEquals(praise3.getId(), result.get(0).getId(), "첫 번째 칭찬글은 반응 수가 가장 많은 칭찬글이어야 합니다");
         assertEquals(praise1.getId(), result.get(1).getId(), "두 번째 칭찬글은 반응 수가 두 번째로 많은 칭찬글이어야 합니다");
         assertEquals(praise2.getId(), result.get(2).getId(), "세 번째 칭찬글은 반응 수가 세 번째로 많은 칭찬글이어야 합니다");
+        assertEquals(2, result.get(0).getEmojis().size(), "첫 번째 칭찬글의 이모지 그룹은 2개여야 합니다");
     }
 
     @Test
@@ -774,9 +1115,10 @@ public class PraiseServiceTest {
         int limit = 3;
 
         // mock 설정 - 데이터 없음
-        when(praiseRepository.findByCreatedAtBetween(
+        when(praiseRepository.findPopularPraises(
                 eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(PageRequest.of(0, limit))))
                 .thenReturn(List.of()); // 빈 리스트 반환
 
         // when
@@ -795,9 +1137,10 @@ public class PraiseServiceTest {
         int limit = 3;
 
         // mock 설정 - 예외 발생
-        when(praiseRepository.findByCreatedAtBetween(
+        when(praiseRepository.findPopularPraises(
                 eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(PageRequest.of(0, limit))))
                 .thenThrow(new RuntimeException("데이터베이스 오류"));
 
         // then
@@ -816,9 +1159,10 @@ public class PraiseServiceTest {
         int limit = 3;
 
         // mock 설정 - null 반환
-        when(praiseRepository.findByCreatedAtBetween(
+        when(praiseRepository.findPopularPraises(
                 eq(startDate.atStartOfDay()),
-                eq(endDate.atTime(LocalTime.MAX))))
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(PageRequest.of(0, limit))))
                 .thenReturn(null); // null 반환
 
         // then
@@ -827,4 +1171,188 @@ public class PraiseServiceTest {
             praiseService.findPopularPraises(startDate, endDate, limit);
         }, "NullPointerException이 발생해야 합니다");
     }
+
+    @Test
+    @DisplayName("반응 수 기준으로 칭찬글 조회 - 조회 개수가 0 이하면 쿼리 없이 빈 목록")
+    void testFindPopularPraises_NonPositiveLimit() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 30);
+
+        // when
+        List<PraiseResponseDTO> zero = praiseService.findPopularPraises(startDate, endDate, 0);
+        List<PraiseResponseDTO> negative = praiseService.findPopularPraises(startDate, endDate, -1);
+
+        // then
+        assertTrue(zero.isEmpty());
+        assertTrue(negative.isEmpty());
+        verify(praiseRepository, never()).findPopularPraises(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("칭찬 피드 첫 페이지 조회 - 다음 페이지 커서 반환")
+    void testGetPraiseFeed_FirstPage() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 30);
+        PraiseFeedRequestDTO requestDTO = PraiseFeedRequestDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .size(2)
+                .build();
+
+        Praise praise3 = createTestPraise(3L, sender, "칭찬3", PraiseType.THANKS, LocalDateTime.of(2025, 6, 20, 12, 0));
+        Praise praise2 = createTestPraise(2L, sender, "칭찬2", PraiseType.THANKS, LocalDateTime.of(2025, 6, 15, 12, 0));
+        Praise praise1 = createTestPraise(1L, sender, "칭찬1", PraiseType.THANKS, LocalDateTime.of(2025, 6, 10, 12, 0));
+
+        // 첫 페이지는 조회 범위의 끝을 커서로, size + 1 개 조회
+        when(praiseRepository.findFeedPage(
+                eq(startDate.atStartOfDay()),
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(Long.MAX_VALUE),
+                eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(praise3, praise2, praise1));
+
+        // when
+        PraiseFeedResponseDTO result = praiseService.getPraiseFeed(requestDTO, sender);
+
+        // then
+        assertEquals(2, result.getPraises().size(), "요청한 size 만큼만 반환해야 합니다");
+        assertEquals(praise3.getId(), result.getPraises().get(0).getId());
+        assertEquals(praise2.getId(), result.getPraises().get(1).getId());
+        assertTrue(result.isHasNext(), "다음 페이지가 있어야 합니다");
+        assertEquals(praise2.getCreatedAt(), result.getNextCursorCreatedAt(), "다음 커서는 마지막 칭찬의 작성 시간이어야 합니다");
+        assertEquals(praise2.getId(), result.getNextCursorId(), "다음 커서는 마지막 칭찬의 ID 여야 합니다");
+    }
+
+    @Test
+    @DisplayName("칭찬 피드 마지막 페이지 조회 - 나와 관련된 칭찬 + keyword")
+    void testGetPraiseFeed_LastPageOnlyRelatedToMe() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 30);
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 6, 15, 12, 0);
+        String keyword = "수신자";
+        PraiseFeedRequestDTO requestDTO = PraiseFeedRequestDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .me(true)
+                .keyword(keyword)
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(2L)
+                .size(2)
+                .build();
+
+        Praise praise1 = createTestPraise(1L, sender, "칭찬1", PraiseType.THANKS, LocalDateTime.of(2025, 6, 10, 12, 0));
+
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of(receiver1.getId()));
+        when(praiseRepository.findMyFeedPageWithSenderOrReceiverIdIn(
+                eq(sender),
+                eq(startDate.atStartOfDay()),
+                eq(endDate.atTime(LocalTime.MAX)),
+                eq(cursorCreatedAt),
+                eq(2L),
+                eq(List.of(receiver1.getId())),
+                eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(praise1));
+
+        // when
+        PraiseFeedResponseDTO result = praiseService.getPraiseFeed(requestDTO, sender);
+
+        // then
+        assertEquals(1, result.getPraises().size());
+        assertFalse(result.isHasNext(), "마지막 페이지여야 합니다");
+        assertNull(result.getNextCursorCreatedAt());
+        assertNull(result.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("키워드와 날짜로 칭찬 조회 - 이름이 일치하는 유저가 없으면 칭찬 조회 생략")
+    void testSearchByKeywordAndDate_NoMatchingUser() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 6, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 30);
+        String keyword = "없는이름";
+
+        when(userNameIndexService.findUserIdsByKeyword(keyword)).thenReturn(List.of());
+
+        // when
+        List<PraiseResponseDTO> result = praiseService.searchByKeywordAndDate(startDate, endDate, sender, false, keyword);
+
+        // then
+        assertTrue(result.isEmpty(), "결과 리스트는 비어 있어야 합니다");
+        verifyNoInteractions(praiseRepository);
+    }
+
+    @Test
+    @DisplayName("기간별 받은 칭찬 비율 조회 - 일별 집계 합산")
+    void testGetPraiseRatio() {
+        // given
+        Long userId = receiver1.getId();
+        LocalDate today = LocalDate.now();
+
+        when(praiseDailyStatRepository.sumPraiseTypeByReceiverBetween(userId, today.minusWeeks(1), today))
+                .thenReturn(List.of(
+                        new Object[]{PraiseType.THANKS, 3L},
+                        new Object[]{PraiseType.CHEER, 1L}));
+
+        // when
+        List<PraiseRatioResponseDTO> result = praiseService.getPraiseRatio(userId, PraiseStatPeriod.WEEK);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(PraiseType.THANKS, result.get(0).getType());
+        assertEquals(75, result.get(0).getPercentage());
+        assertEquals(25, result.get(1).getPercentage());
+    }
+
+    @Test
+    @DisplayName("기간별 받은 칭찬 비율 조회 - 받은 칭찬 없음")
+    void testGetPraiseRatio_NoData() {
+        // given
+        Long userId = receiver1.getId();
+        LocalDate today = LocalDate.now();
+
+        when(praiseDailyStatRepository.sumPraiseTypeByReceiverBetween(userId, today.minusMonths(1), today))
+                .thenReturn(List.of());
+
+        // when
+        List<PraiseRatioResponseDTO> result = praiseService.getPraiseRatioForLastMonth(userId);
+
+        // then
+        assertTrue(result.isEmpty(), "결과 리스트는 비어 있어야 합니다");
+    }
+
+    @Test
+    @DisplayName("최근 칭찬 보낸 유저 조회 - 최근 보낸 순서 유지")
+    void testGetRecentPraiseSenders() {
+        // given
+        User sender2 = createTestUser("sender2", "보내는사람2", "010-7777-8888", 7L);
+        when(praiseRecentSenderRedisService.getRecentSenderIds(receiver1.getId(), 3))
+                .thenReturn(List.of(sender2.getId(), sender.getId()));
+        when(userRepository.findAllById(List.of(sender2.getId(), sender.getId())))
+                .thenReturn(List.of(sender, sender2));
+
+        // when
+        List<RecentPraiseSenderResponseDTO> result = praiseService.getRecentPraiseSenders(receiver1.getId());
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(sender2.getName(), result.get(0).getName(), "가장 최근에 보낸 유저가 먼저 와야 합니다");
+        assertEquals(sender.getName(), result.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("최근 칭찬 보낸 유저 조회 - 받은 칭찬 없음")
+    void testGetRecentPraiseSenders_NoData() {
+        // given
+        when(praiseRecentSenderRedisService.getRecentSenderIds(receiver1.getId(), 3)).thenReturn(List.of());
+
+        // when
+        List<RecentPraiseSenderResponseDTO> result = praiseService.getRecentPraiseSenders(receiver1.getId());
+
+        // then
+        assertTrue(result.isEmpty(), "결과 리스트는 비어 있어야 합니다");
+    }
 }
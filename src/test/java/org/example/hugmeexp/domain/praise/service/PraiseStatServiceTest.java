@@ -0,0 +1,123 @@
+package org.example.hugmeexp.domain.praise.service;
+
+import org.example.hugmeexp.domain.praise.enums.PraiseType;
+import org.example.hugmeexp.domain.praise.repository.PraiseDailyStatBulkRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseDailyStatRepository;
+import org.example.hugmeexp.domain.praise.repository.PraiseReceiverRepository;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("PraiseStatService 테스트")
+class PraiseStatServiceTest {
+
+    @InjectMocks
+    private PraiseStatService praiseStatService;
+
+    @Mock
+    private PraiseDailyStatRepository praiseDailyStatRepository;
+
+    @Mock
+    private PraiseDailyStatBulkRepository praiseDailyStatBulkRepository;
+
+    @Mock
+    private PraiseReceiverRepository praiseReceiverRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("집계 증가 - 받는 사람을 중복 없이 한 번의 배치로 반영")
+    void increaseDailyStats() {
+        // given
+        User receiver1 = User.createUser("receiver1", "password", "받는사람1", "010-1111-1111");
+        User receiver2 = User.createUser("receiver2", "password", "받는사람2", "010-2222-2222");
+        ReflectionTestUtils.setField(receiver1, "id", 1L);
+        ReflectionTestUtils.setField(receiver2, "id", 2L);
+        LocalDate statDate = LocalDate.of(2025, 6, 1);
+
+        // when
+        praiseStatService.increaseDailyStats(List.of(receiver1, receiver2, receiver1), PraiseType.THANKS, statDate);
+
+        // then
+        verify(praiseDailyStatBulkRepository).increaseAll(List.of(1L, 2L), statDate, PraiseType.THANKS);
+        verifyNoInteractions(praiseDailyStatRepository);
+    }
+
+    @Test
+    @DisplayName("집계 증가 - 받는 사람이 없으면 아무것도 하지 않음")
+    void increaseDailyStats_NoReceiver() {
+        // when
+        praiseStatService.increaseDailyStats(List.of(), PraiseType.THANKS, LocalDate.of(2025, 6, 1));
+
+        // then
+        verifyNoInteractions(praiseDailyStatBulkRepository);
+    }
+
+    @Test
+    @DisplayName("백필 - 집계 테이블이 비어 있으면 기존 행을 지우지 않고 upsert 로 채움")
+    void rebuildDailyStatsIfEmpty_Empty() {
+        // given
+        when(praiseDailyStatRepository.count()).thenReturn(0L);
+        when(praiseReceiverRepository.count()).thenReturn(5L);
+
+        // when
+        praiseStatService.rebuildDailyStatsIfEmpty();
+
+        // then
+        verify(praiseDailyStatBulkRepository).upsertAllFromPraises();
+        verify(praiseDailyStatRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("백필 - 이미 집계가 있으면 건너뜀")
+    void rebuildDailyStatsIfEmpty_AlreadyFilled() {
+        // given
+        when(praiseDailyStatRepository.count()).thenReturn(3L);
+
+        // when
+        praiseStatService.rebuildDailyStatsIfEmpty();
+
+        // then
+        verifyNoInteractions(praiseDailyStatBulkRepository);
+    }
+
+    @Test
+    @DisplayName("백필 - 칭찬 기록이 없으면 건너뜀")
+    void rebuildDailyStatsIfEmpty_NoPraise() {
+        // given
+        when(praiseDailyStatRepository.count()).thenReturn(0L);
+        when(praiseReceiverRepository.count()).thenReturn(0L);
+
+        // when
+        praiseStatService.rebuildDailyStatsIfEmpty();
+
+        // then
+        verifyNoInteractions(praiseDailyStatBulkRepository);
+    }
+
+    @Test
+    @DisplayName("전체 재생성 - 기존 집계를 지운 뒤 다시 계산")
+    void rebuildDailyStats() {
+        // when
+        praiseStatService.rebuildDailyStats();
+
+        // then
+        InOrder inOrder = inOrder(praiseDailyStatRepository, praiseDailyStatBulkRepository);
+        inOrder.verify(praiseDailyStatRepository).deleteAllInBatch();
+        inOrder.verify(praiseDailyStatBulkRepository).upsertAllFromPraises();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.hugmeexp.domain.praise.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmojiUtilTest {
+
+    @Test
+    @DisplayName("단일 이모지 / 피부색 / ZWJ 조합 / Variation Selector 포함 이모지는 통과")
+    void isOnlyEmoji_Valid() {
+        assertTrue(EmojiUtil.isOnlyEmoji("👍"));
+        assertTrue(EmojiUtil.isOnlyEmoji("👍🏽"));
+        assertTrue(EmojiUtil.isOnlyEmoji("👨‍👩‍👧‍👦"));
+        assertTrue(EmojiUtil.isOnlyEmoji("❤️"));
+        assertTrue(EmojiUtil.isOnlyEmoji("🇰🇷"));
+        assertTrue(EmojiUtil.isOnlyEmoji("🎉🔥"));
+    }
+
+    @Test
+    @DisplayName("빈 값 / 문자 섞인 값 / 최대 길이 초과는 실패")
+    void isOnlyEmoji_Invalid() {
+        assertFalse(EmojiUtil.isOnlyEmoji(null));
+        assertFalse(EmojiUtil.isOnlyEmoji(""));
+        assertFalse(EmojiUtil.isOnlyEmoji(" "));
+        assertFalse(EmojiUtil.isOnlyEmoji("좋아요"));
+        assertFalse(EmojiUtil.isOnlyEmoji("a👍"));
+        assertFalse(EmojiUtil.isOnlyEmoji("👍 "));
+        assertFalse(EmojiUtil.isOnlyEmoji("<script>"));
+        assertFalse(EmojiUtil.isOnlyEmoji("👍".repeat(EmojiUtil.MAX_LENGTH / 2 + 1)));
+    }
+
+    @Test
+    @DisplayName("최대 길이까지는 통과 (UTF-16 char 기준)")
+    void isOnlyEmoji_MaxLength() {
+        String emoji = "👍".repeat(EmojiUtil.MAX_LENGTH / 2);
+        assertEquals(EmojiUtil.MAX_LENGTH, emoji.length());
+        assertTrue(EmojiUtil.isOnlyEmoji(emoji));
+    }
+
+    @Test
+    @DisplayName("정규화 - Variation Selector 만 제거")
+    void canonicalize_RemovesVariationSelectors() {
+        assertEquals("❤", EmojiUtil.canonicalize("❤️"));
+        assertEquals("❤", EmojiUtil.canonicalize("❤︎"));
+        assertEquals(EmojiUtil.canonicalize("❤"), EmojiUtil.canonicalize("❤️"));
+    }
+
+    @Test
+    @DisplayName("정규화 - ZWJ / 피부색은 유지")
+    void canonicalize_KeepsZwjAndSkinTone() {
+        assertEquals("👨‍👩‍👧", EmojiUtil.canonicalize("👨‍👩‍👧"));
+        assertEquals("👍🏽", EmojiUtil.canonicalize("👍🏽"));
+        assertNotEquals(EmojiUtil.canonicalize("👍"), EmojiUtil.canonicalize("👍🏽"));
+        assertEquals("🏳‍🌈", EmojiUtil.canonicalize("🏳️‍🌈"));
+    }
+}
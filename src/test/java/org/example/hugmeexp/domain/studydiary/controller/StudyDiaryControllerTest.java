@@ -11,6 +11,8 @@ import org.example.hugmeexp.domain.studydiary.dto.request.StudyDiaryUpdateReques
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryDetailResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryMyHomeResponse;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySearchResponse;
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiarySimilarResponse;
 import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryWeekStatusResponse;
 import org.example.hugmeexp.domain.studydiary.service.StudyDiaryService;
 import org.example.hugmeexp.domain.studydiary.service.StudyDiaryRedisService;
@@ -24,9 +26,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -117,7 +122,8 @@ class StudyDiaryControllerTest {
                 createMockStudyDiaryResponse(2L, "사용자 글 2", "testuser")
         );
         
-        when(studyDiaryService.getUserStudyDiaries(eq(userId), any(Pageable.class))).thenReturn(userDiaries);
+        when(studyDiaryService.getUserStudyDiaries(eq(userId), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(userDiaries, PageRequest.of(0, 2), true));
 
         // when & then
         mockMvc.perform(get("/api/v1/studydiaries/user/{user-id}", userId)
@@ -125,10 +131,12 @@ class StudyDiaryControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("사용자 배움일기 목록을 성공적으로 조회했습니다."))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].title").value("사용자 글 1"));
+                .andExpect(jsonPath("$.data.studyDiaries").isArray())
+                .andExpect(jsonPath("$.data.studyDiaries[0].title").value("사용자 글 1"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursorId").value(2));
 
-        verify(studyDiaryService, times(1)).getUserStudyDiaries(eq(userId), any(Pageable.class));
+        verify(studyDiaryService, times(1)).getUserStudyDiaries(eq(userId), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -136,11 +144,11 @@ class StudyDiaryControllerTest {
     void searchStudyDiaries_Success() throws Exception {
         // given
         String keyword = "Spring";
-        List<StudyDiaryFindAllResponse> searchResults = Arrays.asList(
-                createMockStudyDiaryResponse(1L, "Spring Boot 학습", "author1"),
-                createMockStudyDiaryResponse(2L, "Spring Security 정리", "author2")
+        List<StudyDiarySearchResponse> searchResults = Arrays.asList(
+                createMockSearchResponse(1L, "Spring Boot 학습", "author1"),
+                createMockSearchResponse(2L, "Spring Security 정리", "author2")
         );
-        Page<StudyDiaryFindAllResponse> mockPage = new PageImpl<>(searchResults);
+        Page<StudyDiarySearchResponse> mockPage = new PageImpl<>(searchResults);
         
         when(studyDiaryService.searchStudyDiaries(eq(keyword), any(Pageable.class))).thenReturn(mockPage);
 
@@ -151,7 +159,8 @@ class StudyDiaryControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("검색을 성공적으로 완료했습니다."))
-                .andExpect(jsonPath("$.data.content").isArray());
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].snippet").value("<em>Spring</em> 테스트 내용"));
 
         verify(studyDiaryService, times(1)).searchStudyDiaries(eq(keyword), any(Pageable.class));
     }
@@ -163,7 +172,7 @@ class StudyDiaryControllerTest {
         Long diaryId = 1L;
         StudyDiaryDetailResponse mockResponse = createMockDetailResponse(diaryId);
         
-        when(studyDiaryService.getStudyDiary(diaryId)).thenReturn(mockResponse);
+        when(studyDiaryService.getStudyDiary(eq(diaryId), any())).thenReturn(mockResponse);
 
         // when & then
         mockMvc.perform(get("/api/v1/studydiaries/{id}", diaryId)
@@ -173,7 +182,31 @@ class StudyDiaryControllerTest {
                 .andExpect(jsonPath("$.message").value("배움일기를 성공적으로 조회했습니다."))
                 .andExpect(jsonPath("$.data.id").value(diaryId));
 
-        verify(studyDiaryService, times(1)).getStudyDiary(diaryId);
+        verify(studyDiaryService, times(1)).getStudyDiary(eq(diaryId), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/studydiaries/{id}/similar - 유사 배움일기 추천 성공")
+    void getSimilarStudyDiaries_Success() throws Exception {
+        // given
+        Long diaryId = 1L;
+        List<StudyDiarySimilarResponse> similarDiaries = Arrays.asList(
+                StudyDiarySimilarResponse.builder().id(2L).name("author2").title("Spring Boot 정리").similarity(0.8).build(),
+                StudyDiarySimilarResponse.builder().id(3L).name("author3").title("Spring JPA 학습").similarity(0.5).build()
+        );
+
+        when(studyDiaryService.getSimilarStudyDiaries(diaryId)).thenReturn(similarDiaries);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/studydiaries/{id}/similar", diaryId)
+                        .with(user("testuser")))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("비슷한 배움일기를 성공적으로 조회했습니다."))
+                .andExpect(jsonPath("$.data[0].id").value(2L))
+                .andExpect(jsonPath("$.data[0].similarity").value(0.8));
+
+        verify(studyDiaryService, times(1)).getSimilarStudyDiaries(diaryId);
     }
 
     @Test
@@ -286,6 +319,31 @@ class StudyDiaryControllerTest {
         verify(studyDiaryService, times(1)).saveDraft(any(StudyDiaryCreateRequest.class), any());
     }
 
+    @Test
+    @DisplayName("PUT /api/v1/studydiaries/draft/{id} - 배움일기 임시저장 자동 저장 성공")
+    void autosaveDraft_Success() throws Exception {
+        // given
+        Long draftId = 1L;
+        StudyDiaryCreateRequest request = new StudyDiaryCreateRequest();
+        request.setTitle("자동 저장 제목");
+        request.setContent("자동 저장 내용");
+
+        when(studyDiaryService.autosaveDraft(eq(draftId), any(StudyDiaryCreateRequest.class), any())).thenReturn(draftId);
+
+        // when & then
+        mockMvc.perform(put("/api/v1/studydiaries/draft/{id}", draftId)
+                        .with(user("testuser"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("성공적으로 자동 저장되었습니다."))
+                .andExpect(jsonPath("$.data").value(draftId));
+
+        verify(studyDiaryService, times(1)).autosaveDraft(eq(draftId), any(StudyDiaryCreateRequest.class), any());
+    }
+
     @Test
     @DisplayName("GET /api/v1/studydiaries/user/{user-id}/week-status - 이번 주 작성 상태 조회 성공")
     void getWeekStatus_Success() throws Exception {
@@ -382,6 +440,49 @@ class StudyDiaryControllerTest {
         verify(studyDiaryService, times(1)).toggleLike(eq(diaryId), any());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/studydiaries/{id}/like - 좋아요 여부 조회 성공")
+    void isLiked_Success() throws Exception {
+        // given
+        Long diaryId = 1L;
+        when(studyDiaryService.isLiked(eq(diaryId), any())).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/studydiaries/{id}/like", diaryId)
+                        .with(user("testuser")))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("좋아요 여부를 성공적으로 조회했습니다."))
+                .andExpect(jsonPath("$.data").value(true));
+
+        verify(studyDiaryService, times(1)).isLiked(eq(diaryId), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/studydiaries/user/{user-id}/export - 배움일기 내보내기 성공")
+    void exportStudyDiaries_Success() throws Exception {
+        // given
+        Long userId = 1L;
+        byte[] zipBytes = {0x50, 0x4B, 0x05, 0x06};
+        StreamingResponseBody body = outputStream -> outputStream.write(zipBytes);
+        when(studyDiaryService.exportStudyDiaries(eq(userId), any())).thenReturn(body);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/studydiaries/user/{user-id}/export", userId)
+                        .with(user("testuser")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"study-diaries-1.zip\""))
+                .andExpect(content().bytes(zipBytes));
+
+        verify(studyDiaryService, times(1)).exportStudyDiaries(eq(userId), any());
+    }
+
     @Test
     @DisplayName("GET /api/v1/studydiaries/my/weeklyStatus - 나의 주간 활동 상황 조회 성공")
     void getWeeklyStatus_Success() throws Exception {
@@ -421,7 +522,7 @@ class StudyDiaryControllerTest {
                 createMockStudyDiaryResponse(2L, "나의 글 2", "testuser")
         );
         
-        when(studyDiaryService.getMyStudyDiaries(any(), any(Pageable.class))).thenReturn(myDiaries);
+        when(studyDiaryService.getMyStudyDiaries(any(), any(), any(), any(Pageable.class))).thenReturn(new SliceImpl<>(myDiaries));
 
         // when & then
         mockMvc.perform(get("/api/v1/studydiaries/my/studyDiaries")
@@ -430,7 +531,7 @@ class StudyDiaryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("현재 로그인한 사용자의 배움일기 목록을 성공적으로 조회했습니다."));
 
-        verify(studyDiaryService, times(1)).getMyStudyDiaries(any(), any(Pageable.class));
+        verify(studyDiaryService, times(1)).getMyStudyDiaries(any(), any(), any(), any(Pageable.class));
     }
 
     @Test
@@ -485,6 +586,17 @@ class StudyDiaryControllerTest {
                 .build();
     }
 
+    private StudyDiarySearchResponse createMockSearchResponse(Long id, String title, String name) {
+        return StudyDiarySearchResponse.builder()
+                .id(id)
+                .name(name)
+                .title(title)
+                .snippet("<em>Spring</em> 테스트 내용")
+                .score(1.0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
     private StudyDiaryDetailResponse createMockDetailResponse(Long id) {
         return StudyDiaryDetailResponse.builder()
                 .id(id)
@@ -0,0 +1,137 @@
+package org.example.hugmeexp.domain.studydiary.repository;
+
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryContent;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownExcerptUtil;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 본문 분리(study_diary_content) 후 목록 조회가 본문 테이블을 읽지 않는지 확인
+ * 실행된 SQL 을 StatementInspector 로 모아서 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:studydiary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepositoryTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("StudyDiaryRepository 테스트")
+class StudyDiaryRepositoryTest {
+
+    private static final String CONTENT_TABLE = "study_diary_content";
+
+    @Autowired
+    private StudyDiaryRepository studyDiaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.createUser("writer", "password", "작성자", "010-0000-0000"));
+        entityManager.persist(studyDiary("첫 글", "# 첫 본문\n**굵게**", true));
+        entityManager.persist(studyDiary("두번째 글", "두번째 본문", true));
+        entityManager.persist(studyDiary("임시저장", "임시 본문", false));
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("전체 목록 - 요약만 조회하고 study_diary_content 는 읽지 않음")
+    void findSummariesByIsCreatedTrue_DoesNotReadContent() {
+        // when
+        Page<StudyDiaryFindAllResponse> page = studyDiaryRepository.findSummariesByIsCreatedTrue(PageRequest.of(0, 10));
+
+        // then
+        assertEquals(2, page.getTotalElements());
+        assertTrue(page.getContent().stream().anyMatch(diary -> "첫 본문 굵게".equals(diary.getContent())));
+        assertFalse(SqlCapture.touched(CONTENT_TABLE), SqlCapture.statements().toString());
+    }
+
+    @Test
+    @DisplayName("사용자 목록(커서) / 임시저장 목록 - study_diary_content 는 읽지 않음")
+    void userAndDraftSummaries_DoNotReadContent() {
+        // when
+        Slice<StudyDiaryFindAllResponse> slice = studyDiaryRepository.findSummarySliceByUserId(
+                user.getId(), LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, PageRequest.of(0, 10));
+        List<StudyDiaryFindAllResponse> drafts = studyDiaryRepository.findDraftSummariesByUserId(user.getId());
+
+        // then
+        assertEquals(3, slice.getNumberOfElements());
+        assertEquals(1, drafts.size());
+        assertEquals("임시 본문", drafts.get(0).getContent());
+        assertFalse(SqlCapture.touched(CONTENT_TABLE), SqlCapture.statements().toString());
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 본문에 접근할 때만 study_diary_content 조회")
+    void findById_LoadsContentLazily() {
+        // given
+        Long id = studyDiaryRepository.findSummariesByIsCreatedTrue(PageRequest.of(0, 10)).getContent().get(0).getId();
+        SqlCapture.clear();
+
+        // when
+        StudyDiary studyDiary = studyDiaryRepository.findById(id).orElseThrow();
+
+        // then
+        assertFalse(SqlCapture.touched(CONTENT_TABLE), SqlCapture.statements().toString());
+        assertNotNull(studyDiary.getContent());
+        assertTrue(SqlCapture.touched(CONTENT_TABLE));
+    }
+
+    private StudyDiary studyDiary(String title, String content, boolean created) {
+        return StudyDiary.builder()
+                .user(user)
+                .title(title)
+                .body(StudyDiaryContent.of(content, "<p>" + content + "</p>"))
+                .excerpt(MarkdownExcerptUtil.excerpt(content))
+                .isCreated(created)
+                .build();
+    }
+
+    // 실행된 SQL 수집 (테스트 전용)
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static boolean touched(String table) {
+            return STATEMENTS.stream().anyMatch(sql -> sql.contains(table));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryDraftService 테스트")
+class StudyDiaryDraftServiceTest {
+
+    private static final String DIRTY_KEY = "study_diary:draft:dirty";
+
+    @InjectMocks
+    private StudyDiaryDraftService studyDiaryDraftService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private StudyDiaryRepository studyDiaryRepository;
+
+    @Mock
+    private MarkdownHtmlCacheService markdownHtmlCacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(markdownHtmlCacheService.render(anyString())).thenAnswer(invocation -> "<p>" + invocation.getArgument(0) + "</p>");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("반영 - 반영 중 새 자동 저장이 없으면 반영 대상에서 제거")
+    void flushDirty_ClearsDirtyMark() {
+        // given
+        when(setOperations.members(DIRTY_KEY)).thenReturn(Set.of("1"));
+        when(hashOperations.entries("study_diary:draft:1")).thenReturn(draftFields("제목", "본문", "3"));
+        when(hashOperations.get("study_diary:draft:1", "version")).thenReturn("3");
+        when(studyDiaryRepository.updateDraft(anyLong(), anyString(), any(), anyString(), any())).thenReturn(1);
+
+        // when
+        int flushed = studyDiaryDraftService.flushDirty();
+
+        // then
+        assertEquals(1, flushed);
+        verify(studyDiaryRepository).updateDraft(eq(1L), eq("제목"),
+                argThat(bytes -> "본문".equals(CompressedStringConverter.decompress(bytes))),
+                anyString(),
+                argThat(bytes -> "<p>본문</p>".equals(CompressedStringConverter.decompress(bytes))));
+        verify(setOperations).remove(DIRTY_KEY, "1");
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("반영 - 반영 중 새 자동 저장이 들어오면(version 변경) 다시 반영 대상으로 표시")
+    void flushDirty_ReDirtiesWhenVersionChanged() {
+        // given
+        when(setOperations.members(DIRTY_KEY)).thenReturn(Set.of("1"));
+        when(hashOperations.entries("study_diary:draft:1")).thenReturn(draftFields("제목", "본문", "3"));
+        when(hashOperations.get("study_diary:draft:1", "version")).thenReturn("4");
+
+        // when
+        studyDiaryDraftService.flushDirty();
+
+        // then
+        var inOrder = inOrder(setOperations);
+        inOrder.verify(setOperations).remove(DIRTY_KEY, "1");
+        inOrder.verify(setOperations).add(DIRTY_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("반영 - DB 반영이 실패하면 반영 대상으로 남기고 나머지 임시저장은 계속 반영")
+    void flushDirty_KeepsDirtyMarkOnFailure() {
+        // given
+        Set<String> dirtyIds = new LinkedHashSet<>(List.of("1", "2"));
+        when(setOperations.members(DIRTY_KEY)).thenReturn(dirtyIds);
+        when(hashOperations.entries("study_diary:draft:1")).thenReturn(draftFields("제목1", "본문1", "1"));
+        when(hashOperations.entries("study_diary:draft:2")).thenReturn(draftFields("제목2", "본문2", "1"));
+        when(hashOperations.get("study_diary:draft:2", "version")).thenReturn("1");
+        when(studyDiaryRepository.updateDraft(eq(1L), anyString(), any(), anyString(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        int flushed = studyDiaryDraftService.flushDirty();
+
+        // then - 각 임시저장은 별도 트랜잭션
+        assertEquals(1, flushed);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(setOperations, never()).remove(DIRTY_KEY, "1");
+        verify(setOperations).remove(DIRTY_KEY, "2");
+    }
+
+    @Test
+    @DisplayName("반영 - 버퍼가 만료됐으면 DB 반영 없이 반영 대상에서 제거")
+    void flushDirty_ExpiredBuffer() {
+        // given
+        when(setOperations.members(DIRTY_KEY)).thenReturn(Set.of("1"));
+        when(hashOperations.entries("study_diary:draft:1")).thenReturn(Map.of());
+
+        // when
+        int flushed = studyDiaryDraftService.flushDirty();
+
+        // then
+        assertEquals(0, flushed);
+        verify(setOperations).remove(DIRTY_KEY, "1");
+        verify(studyDiaryRepository, never()).updateDraft(anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("자동 저장 - Redis 장애 시 DB 에 바로 저장")
+    void buffer_FallsBackToDbWhenRedisDown() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(hashOperations).putAll(anyString(), anyMap());
+
+        // when
+        studyDiaryDraftService.buffer(1L, 10L, "제목", "본문");
+
+        // then
+        verify(studyDiaryRepository).updateDraft(eq(1L), eq("제목"),
+                argThat(bytes -> "본문".equals(CompressedStringConverter.decompress(bytes))),
+                anyString(), any());
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("버퍼 삭제 - 트랜잭션 안에서는 커밋 후에 삭제")
+    void discard_AppliedAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        studyDiaryDraftService.discard(1L);
+
+        // then
+        verify(redisTemplate, never()).delete(anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(setOperations).remove(DIRTY_KEY, "1");
+        verify(redisTemplate).delete("study_diary:draft:1");
+    }
+
+    private Map<String, String> draftFields(String title, String content, String version) {
+        return Map.of("userId", "10", "title", title, "content", content, "version", version);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryExportRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryExportService 테스트")
+class StudyDiaryExportServiceTest {
+
+    @InjectMocks
+    private StudyDiaryExportService studyDiaryExportService;
+
+    @Mock
+    private StudyDiaryExportRepository studyDiaryExportRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("내보내기 - ZIP 의 배움일기 파일이 manifest 목록과 일치")
+    void export_EntriesMatchManifest() throws Exception {
+        // given
+        LocalDateTime first = LocalDateTime.of(2025, 7, 1, 9, 0);
+        LocalDateTime second = LocalDateTime.of(2025, 7, 3, 21, 30);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(manifestRow(1L, "첫 글", first));
+            handler.processRow(manifestRow(2L, "두번째 글", second));
+            return null;
+        }).when(studyDiaryExportRepository).streamManifestRows(eq(10L), any());
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(contentRow(1L, "첫 글", "본문 1", first));
+            handler.processRow(contentRow(2L, "두번째 글", "**본문 2**", second));
+            return null;
+        }).when(studyDiaryExportRepository).streamContentRows(eq(10L), any());
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        studyDiaryExportService.export(10L).writeTo(out);
+
+        // then
+        Map<String, String> entries = unzip(out.toByteArray());
+        JsonNode manifest = objectMapper.readTree(entries.remove("manifest.json"));
+
+        List<String> manifestFiles = new ArrayList<>();
+        manifest.get("diaries").forEach(diary -> manifestFiles.add(diary.get("file").asText()));
+        assertEquals(10L, manifest.get("userId").asLong());
+        assertEquals(List.of("diaries/20250701-1.md", "diaries/20250703-2.md"), manifestFiles);
+        assertEquals(manifestFiles, List.copyOf(entries.keySet()));
+        assertEquals("# 첫 글\n\n본문 1", entries.get("diaries/20250701-1.md"));
+        assertEquals("# 두번째 글\n\n**본문 2**", entries.get("diaries/20250703-2.md"));
+    }
+
+    @Test
+    @DisplayName("내보내기 - 두 조회를 하나의 읽기 전용 REPEATABLE_READ 트랜잭션에서 실행")
+    void export_UsesSingleRepeatableReadTransaction() throws Exception {
+        // when
+        studyDiaryExportService.export(10L).writeTo(new ByteArrayOutputStream());
+
+        // then
+        verify(transactionManager, times(1)).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+        verify(transactionManager).commit(any());
+        var inOrder = inOrder(studyDiaryExportRepository);
+        inOrder.verify(studyDiaryExportRepository).streamManifestRows(eq(10L), any());
+        inOrder.verify(studyDiaryExportRepository).streamContentRows(eq(10L), any());
+    }
+
+    @Test
+    @DisplayName("내보내기 - 조회 실패 시 트랜잭션 롤백 후 예외 전파")
+    void export_FailurePropagates() {
+        // given
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(studyDiaryExportRepository).streamContentRows(eq(10L), any());
+
+        // when & then
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> studyDiaryExportService.export(10L).writeTo(new ByteArrayOutputStream()));
+        verify(transactionManager).rollback(any());
+    }
+
+    private ResultSet manifestRow(long id, String title, LocalDateTime createdAt) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("studydiary_id")).thenReturn(id);
+        when(rs.getString("title")).thenReturn(title);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        when(rs.getTimestamp("modified_at")).thenReturn(Timestamp.valueOf(createdAt));
+        return rs;
+    }
+
+    private ResultSet contentRow(long id, String title, String content, LocalDateTime createdAt) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("studydiary_id")).thenReturn(id);
+        when(rs.getString("title")).thenReturn(title);
+        when(rs.getBytes("content")).thenReturn(CompressedStringConverter.compress(content));
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        return rs;
+    }
+
+    private Map<String, String> unzip(byte[] bytes) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
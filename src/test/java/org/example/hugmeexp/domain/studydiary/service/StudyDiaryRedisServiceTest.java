@@ -0,0 +1,234 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryFindAllResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryRedisService 테스트")
+class StudyDiaryRedisServiceTest {
+
+    @InjectMocks
+    private StudyDiaryRedisService studyDiaryRedisService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private StudyDiaryRepository studyDiaryRepository;
+
+    private LocalDate weekStart;
+    private String rankingKey;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+        rankingKey = "study_diary:popular:weekly:" + weekStart;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("순위 추가 - 트랜잭션 안에서는 커밋 후에 반영")
+    void addToWeeklyRanking_AppliedAfterCommit() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, LocalDateTime.now());
+        when(redisTemplate.hasKey("study_diary:popular:weekly:ready:" + weekStart)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        studyDiaryRedisService.addToWeeklyRanking(studyDiary);
+
+        // then - 커밋 전에는 Redis 에 쓰지 않음
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(zSetOperations).add(eq(rankingKey), eq("10"), anyDouble());
+    }
+
+    @Test
+    @DisplayName("순위 추가 - 롤백되면 반영하지 않음")
+    void addToWeeklyRanking_NotAppliedOnRollback() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, LocalDateTime.now());
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        studyDiaryRedisService.addToWeeklyRanking(studyDiary);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("좋아요 score 증감 - 트랜잭션 안에서는 커밋 후에 반영")
+    void incrementWeeklyScore_AppliedAfterCommit() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, LocalDateTime.now());
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        when(zSetOperations.score(rankingKey, "10")).thenReturn(3.0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        studyDiaryRedisService.incrementWeeklyScore(studyDiary, -1);
+
+        // then
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(zSetOperations).incrementScore(rankingKey, "10", -1);
+    }
+
+    @Test
+    @DisplayName("순위 제거 - 트랜잭션 밖에서는 바로 반영")
+    void removeFromWeeklyRanking_OutsideTransaction() {
+        // when
+        studyDiaryRedisService.removeFromWeeklyRanking(10L);
+
+        // then
+        verify(zSetOperations).remove(rankingKey, "10");
+    }
+
+    @Test
+    @DisplayName("인기 목록 조회 - Redis 장애 시 이번 주 [월요일, 다음 주 월요일) 범위로 DB 조회")
+    void getCachedWeeklyPopularDiaries_FallsBackToHalfOpenRange() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10);
+        Page<StudyDiaryFindAllResponse> fallback = new PageImpl<>(List.of(), pageable, 0);
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(studyDiaryRepository.findPopularSummariesBetween(any(), any(), any())).thenReturn(fallback);
+
+        // when
+        Page<StudyDiaryFindAllResponse> result = studyDiaryRedisService.getCachedWeeklyPopularDiaries(pageable);
+
+        // then
+        assertSame(fallback, result);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(studyDiaryRepository).findPopularSummariesBetween(
+                eq(weekStart.atStartOfDay()), eq(weekStart.plusWeeks(1).atStartOfDay()), pageableCaptor.capture());
+        assertEquals(1, pageableCaptor.getValue().getPageNumber());
+        assertEquals(10, pageableCaptor.getValue().getPageSize());
+    }
+
+    @Test
+    @DisplayName("순위 생성 - 임시 키에 채운 뒤 MULTI 안에서 RENAME 으로 교체")
+    @SuppressWarnings("unchecked")
+    void rebuildWeeklyRanking_RenamesTempKey() {
+        // given
+        LocalDateTime createdAt = weekStart.atTime(9, 0);
+        List<Object[]> rows = Collections.singletonList(new Object[]{10L, 2, createdAt});
+        when(studyDiaryRepository.findWeeklyRankingScores(weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay()))
+                .thenReturn(rows);
+
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        ZSetOperations<String, String> pipelineZSet = mock(ZSetOperations.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(operations.opsForZSet()).thenReturn(pipelineZSet);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        studyDiaryRedisService.rebuildWeeklyRanking(weekStart);
+
+        // then - 파이프라인에서 임시 키에만 채움
+        ArgumentCaptor<SessionCallback<Object>> pipelineCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(pipelineCaptor.capture());
+        pipelineCaptor.getValue().execute(operations);
+
+        ArgumentCaptor<String> tempKeyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(pipelineZSet).add(tempKeyCaptor.capture(), eq("10"), anyDouble());
+        String tempKey = tempKeyCaptor.getValue();
+        assertNotEquals(rankingKey, tempKey);
+        assertTrue(tempKey.startsWith(rankingKey));
+
+        // then - MULTI 안에서 교체 + ready 표시
+        ArgumentCaptor<SessionCallback<Object>> swapCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).execute(swapCaptor.capture());
+        swapCaptor.getValue().execute(operations);
+
+        var inOrder = inOrder(operations, valueOperations);
+        inOrder.verify(operations).multi();
+        inOrder.verify(operations).rename(tempKey, rankingKey);
+        inOrder.verify(valueOperations).set(eq("study_diary:popular:weekly:ready:" + weekStart), eq("1"), any(Duration.class));
+        inOrder.verify(operations).exec();
+        verify(operations, never()).delete(rankingKey);
+    }
+
+    @Test
+    @DisplayName("순위 생성 - 이번 주 배움일기가 없으면 기존 순위를 지우고 ready 표시")
+    @SuppressWarnings("unchecked")
+    void rebuildWeeklyRanking_NoRows() {
+        // given
+        when(studyDiaryRepository.findWeeklyRankingScores(any(), any())).thenReturn(List.of());
+
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        studyDiaryRedisService.rebuildWeeklyRanking(weekStart);
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        ArgumentCaptor<SessionCallback<Object>> swapCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).execute(swapCaptor.capture());
+        swapCaptor.getValue().execute(operations);
+
+        verify(operations).multi();
+        verify(operations).delete(rankingKey);
+        verify(operations, never()).rename(anyString(), anyString());
+        verify(operations).exec();
+    }
+
+    private StudyDiary createStudyDiary(Long id, LocalDateTime createdAt) {
+        StudyDiary studyDiary = mock(StudyDiary.class);
+        when(studyDiary.getId()).thenReturn(id);
+        when(studyDiary.isCreated()).thenReturn(true);
+        when(studyDiary.getCreatedAt()).thenReturn(createdAt);
+        when(studyDiary.getLikeCount()).thenReturn(3);
+        return studyDiary;
+    }
+}
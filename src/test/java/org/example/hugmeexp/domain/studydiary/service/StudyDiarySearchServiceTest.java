@@ -0,0 +1,96 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermBulkRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryTermSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyDiarySearchService 테스트")
+class StudyDiarySearchServiceTest {
+
+    @InjectMocks
+    private StudyDiarySearchService studyDiarySearchService;
+
+    @Mock private StudyDiaryTermRepository studyDiaryTermRepository;
+    @Mock private StudyDiaryTermBulkRepository studyDiaryTermBulkRepository;
+    @Mock private StudyDiaryTermSearchRepository studyDiaryTermSearchRepository;
+    @Mock private StudyDiaryRepository studyDiaryRepository;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("시작 시 재생성 - 색인이 비어 있으면 한 트랜잭션에서 재생성")
+    void rebuildIfEmpty_Rebuilds() {
+        // given
+        when(studyDiaryTermRepository.count()).thenReturn(0L);
+        when(studyDiaryRepository.count()).thenReturn(3L);
+        when(studyDiaryRepository.findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        studyDiarySearchService.rebuildIfEmpty();
+
+        // then
+        verify(studyDiaryTermRepository).deleteAllInBatch();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("시작 시 재생성 - 이미 색인이 있으면 건너뜀")
+    void rebuildIfEmpty_AlreadyIndexed() {
+        // given
+        when(studyDiaryTermRepository.count()).thenReturn(10L);
+
+        // when
+        studyDiarySearchService.rebuildIfEmpty();
+
+        // then
+        verify(studyDiaryTermRepository, never()).deleteAllInBatch();
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("시작 시 재생성 - 다른 서버와 동시에 재생성하다 실패해도 서버 시작을 막지 않음")
+    void rebuildIfEmpty_FailureDoesNotPropagate() {
+        // given
+        when(studyDiaryTermRepository.count()).thenReturn(0L);
+        when(studyDiaryRepository.count()).thenReturn(3L);
+        doThrow(new DeadlockLoserDataAccessException("deadlock", null)).when(studyDiaryTermRepository).deleteAllInBatch();
+
+        // when & then
+        assertDoesNotThrow(() -> studyDiarySearchService.rebuildIfEmpty());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("검색 - 전체 문서 수는 postings 가 아닌 발행된 배움일기 수를 재사용")
+    void search_ReusesDocumentCount() {
+        // given
+        when(studyDiaryRepository.countByIsCreatedTrue()).thenReturn(100L);
+
+        // when
+        studyDiarySearchService.search("스프링 부트", PageRequest.of(0, 10));
+        studyDiarySearchService.search("자바", PageRequest.of(0, 10));
+
+        // then
+        verify(studyDiaryRepository, times(1)).countByIsCreatedTrue();
+    }
+}
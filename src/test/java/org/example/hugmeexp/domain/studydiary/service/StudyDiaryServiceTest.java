@@ -0,0 +1,323 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import org.example.hugmeexp.domain.notification.service.NotificationService;
+import org.example.hugmeexp.domain.studydiary.dto.request.CommentCreateRequest;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryComment;
+import org.example.hugmeexp.domain.studydiary.exception.InvalidStudyDiaryCursorException;
+import org.example.hugmeexp.domain.studydiary.exception.UnauthorizedAccessException;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryCommentRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLegacyContentRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLikeRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.util.CompressedStringConverter;
+import org.example.hugmeexp.domain.studydiary.util.MarkdownRenderer;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.example.hugmeexp.domain.user.enums.UserRole;
+import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryService 테스트")
+class StudyDiaryServiceTest {
+
+    @InjectMocks
+    private StudyDiaryService studyDiaryService;
+
+    @Mock private UserRepository userRepository;
+    @Mock private StudyDiaryRepository studyDiaryRepository;
+    @Mock private StudyDiaryCommentRepository studyDiaryCommentRepository;
+    @Mock private StudyDiaryLikeRepository studyDiaryLikeRepository;
+    @Mock private NotificationService notificationService;
+    @Mock private StudyDiarySearchService studyDiarySearchService;
+    @Mock private StudyDiarySimilarityService studyDiarySimilarityService;
+    @Mock private StudyDiaryLikeRedisService studyDiaryLikeRedisService;
+    @Mock private StudyDiaryRedisService studyDiaryRedisService;
+    @Mock private StudyDiaryUserStatService studyDiaryUserStatService;
+    @Mock private MarkdownHtmlCacheService markdownHtmlCacheService;
+    @Mock private StudyDiaryExportService studyDiaryExportService;
+    @Mock private StudyDiaryDraftService studyDiaryDraftService;
+    @Mock private StudyDiaryViewCountService studyDiaryViewCountService;
+    @Mock private StudyDiaryLegacyContentRepository studyDiaryLegacyContentRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("요약 백필 - 요약이 비어 있는 배움일기에 마크다운을 제거한 요약 저장")
+    void backfillExcerpts_FillsExcerpt() {
+        // given
+        when(studyDiaryRepository.findContentsWithoutExcerpt(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "# 제목\n**본문**"), row(2L, null)));
+
+        // when
+        int filled = studyDiaryService.backfillExcerpts();
+
+        // then
+        assertEquals(2, filled);
+        verify(studyDiaryRepository).updateExcerpt(1L, "제목 본문");
+        verify(studyDiaryRepository).updateExcerpt(2L, "");
+        verify(studyDiaryRepository, times(1)).findContentsWithoutExcerpt(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("요약 백필 - 배치가 가득 차면 마지막 ID 이후부터 다음 배치 조회")
+    void backfillExcerpts_ContinuesAfterLastId() {
+        // given
+        List<Object[]> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            fullBatch.add(row(id, "본문" + id));
+        }
+        when(studyDiaryRepository.findContentsWithoutExcerpt(eq(0L), any(Pageable.class))).thenReturn(fullBatch);
+        when(studyDiaryRepository.findContentsWithoutExcerpt(eq(500L), any(Pageable.class))).thenReturn(List.of(row(501L, "끝")));
+
+        // when
+        int filled = studyDiaryService.backfillExcerpts();
+
+        // then
+        assertEquals(501, filled);
+        verify(studyDiaryRepository).updateExcerpt(501L, "끝");
+        verify(studyDiaryRepository, times(2)).findContentsWithoutExcerpt(anyLong(), any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("요약 백필 - 채울 배움일기가 없으면 저장하지 않음")
+    void backfillExcerpts_NothingToFill() {
+        // given
+        when(studyDiaryRepository.findContentsWithoutExcerpt(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        int filled = studyDiaryService.backfillExcerpts();
+
+        // then
+        assertEquals(0, filled);
+        verify(studyDiaryRepository, never()).updateExcerpt(anyLong(), anyString());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("본문 이전 - 배치마다 별도 트랜잭션으로 커밋")
+    void migrateLegacyContents_CommitsPerBatch() {
+        // given
+        List<Object[]> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            fullBatch.add(new Object[]{id, "본문" + id, "<p>본문" + id + "</p>"});
+        }
+        StudyDiary legacy = mock(StudyDiary.class);
+        when(legacy.getId()).thenReturn(501L);
+        when(studyDiaryLegacyContentRepository.findLegacyContents(0L, 500)).thenReturn(fullBatch);
+        when(studyDiaryLegacyContentRepository.findLegacyContents(500L, 500))
+                .thenReturn(List.<Object[]>of(new Object[]{501L, "끝", "<p>끝</p>"}));
+        when(studyDiaryRepository.findByBodyIsNullAndIdInOrderByIdAsc(any())).thenReturn(List.of()).thenReturn(List.of(legacy));
+
+        // when
+        int migrated = studyDiaryService.migrateLegacyContents();
+
+        // then
+        assertEquals(501, migrated);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(legacy).updateContent("끝");
+        verify(legacy).updateRenderedHtml("<p>끝</p>");
+        verify(studyDiaryLegacyContentRepository).clearLegacyContents(List.of(501L));
+    }
+
+    @Test
+    @DisplayName("본문 이전 - 배치가 실패하면 그 배치만 롤백 (앞 배치는 커밋된 상태로 유지)")
+    void migrateLegacyContents_RollsBackFailedBatchOnly() {
+        // given
+        List<Object[]> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            fullBatch.add(new Object[]{id, "본문", null});
+        }
+        when(studyDiaryLegacyContentRepository.findLegacyContents(0L, 500)).thenReturn(fullBatch);
+        when(studyDiaryLegacyContentRepository.findLegacyContents(500L, 500))
+                .thenReturn(List.<Object[]>of(new Object[]{501L, "끝", null}));
+        doNothing().doThrow(new IllegalStateException("db down"))
+                .when(studyDiaryLegacyContentRepository).clearLegacyContents(any());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> studyDiaryService.migrateLegacyContents());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("HTML 백필 - 본문 ID 로 압축한 HTML 을 저장하고 배치마다 커밋")
+    void backfillRenderedHtml_CommitsPerBatch() {
+        // given
+        List<Object[]> fullBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            fullBatch.add(row(id, "본문" + id));
+        }
+        when(studyDiaryRepository.findBodiesWithoutRenderedHtml(eq(0L), any(Pageable.class))).thenReturn(fullBatch);
+        when(studyDiaryRepository.findBodiesWithoutRenderedHtml(eq(500L), any(Pageable.class))).thenReturn(List.of(row(501L, "**끝**")));
+
+        // when
+        int filled = studyDiaryService.backfillRenderedHtml();
+
+        // then
+        assertEquals(501, filled);
+        verify(studyDiaryRepository).updateRenderedHtml(eq(501L),
+                argThat(html -> MarkdownRenderer.render("**끝**").equals(CompressedStringConverter.decompress(html))));
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("HTML 백필 - 채울 본문이 없으면 트랜잭션을 열지 않음")
+    void backfillRenderedHtml_NothingToFill() {
+        // given
+        when(studyDiaryRepository.findBodiesWithoutRenderedHtml(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        int filled = studyDiaryService.backfillRenderedHtml();
+
+        // then
+        assertEquals(0, filled);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 배움일기 댓글 수 1 증가")
+    void createComment_IncreasesCommentCount() {
+        // given
+        User writer = user(1L, UserRole.USER);
+        User commenter = user(2L, UserRole.USER);
+        StudyDiary studyDiary = studyDiary(writer);
+        when(studyDiaryRepository.findById(10L)).thenReturn(Optional.of(studyDiary));
+        when(userRepository.findByUsername("commenter")).thenReturn(Optional.of(commenter));
+
+        // when
+        studyDiaryService.createComment(10L, CommentCreateRequest.builder().content("댓글").build(), userDetails("commenter"));
+
+        // then
+        verify(studyDiaryCommentRepository).save(any(StudyDiaryComment.class));
+        verify(studyDiaryRepository).addCommentCount(10L, 1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 배움일기 댓글 수 1 감소")
+    void deleteComment_DecreasesCommentCount() {
+        // given
+        User writer = user(1L, UserRole.USER);
+        User commenter = user(2L, UserRole.USER);
+        StudyDiary studyDiary = studyDiary(writer);
+        StudyDiaryComment comment = comment(commenter);
+        when(userRepository.findByUsername("commenter")).thenReturn(Optional.of(commenter));
+        when(studyDiaryRepository.findById(10L)).thenReturn(Optional.of(studyDiary));
+        when(studyDiaryCommentRepository.findById(100L)).thenReturn(Optional.of(comment));
+
+        // when
+        studyDiaryService.deleteComment(10L, 100L, userDetails("commenter"));
+
+        // then
+        verify(studyDiaryCommentRepository).delete(comment);
+        verify(studyDiaryRepository).addCommentCount(10L, -1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 권한이 없으면 댓글 수 변경 없음")
+    void deleteComment_UnauthorizedKeepsCommentCount() {
+        // given
+        User writer = user(1L, UserRole.USER);
+        User other = user(3L, UserRole.USER);
+        StudyDiary studyDiary = studyDiary(writer);
+        StudyDiaryComment comment = comment(user(2L, UserRole.USER));
+        when(userRepository.findByUsername("other")).thenReturn(Optional.of(other));
+        when(studyDiaryRepository.findById(10L)).thenReturn(Optional.of(studyDiary));
+        when(studyDiaryCommentRepository.findById(100L)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThrows(UnauthorizedAccessException.class,
+                () -> studyDiaryService.deleteComment(10L, 100L, userDetails("other")));
+        verify(studyDiaryCommentRepository, never()).delete(any());
+        verify(studyDiaryRepository, never()).addCommentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("사용자 목록 - 커서로 다음 페이지 조회")
+    void getUserStudyDiaries_WithCursor() {
+        // given
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 7, 1, 9, 0);
+        User writer = user(1L, UserRole.USER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(writer));
+
+        // when
+        studyDiaryService.getUserStudyDiaries(1L, cursorCreatedAt, 30L, PageRequest.of(0, 10));
+
+        // then
+        verify(studyDiaryRepository).findSummarySliceByUserId(1L, cursorCreatedAt, 30L, PageRequest.of(0, 10));
+    }
+
+    @Test
+    @DisplayName("사용자 목록 - 커서 작성일만 보내면 400")
+    void getUserStudyDiaries_CursorWithoutId() {
+        assertThrows(InvalidStudyDiaryCursorException.class, () -> studyDiaryService.getUserStudyDiaries(
+                1L, LocalDateTime.of(2025, 7, 1, 9, 0), null, PageRequest.of(0, 10)));
+        verifyNoInteractions(studyDiaryRepository);
+    }
+
+    @Test
+    @DisplayName("나의 글 목록 - page 번호로 조회하면 400")
+    void getMyStudyDiaries_RejectsPageNumber() {
+        assertThrows(InvalidStudyDiaryCursorException.class, () -> studyDiaryService.getMyStudyDiaries(
+                userDetails("writer"), null, null, PageRequest.of(2, 10)));
+        verifyNoInteractions(studyDiaryRepository);
+    }
+
+    private Object[] row(Long id, String content) {
+        return new Object[]{id, content};
+    }
+
+    private User user(Long id, UserRole role) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        when(user.getRole()).thenReturn(role);
+        return user;
+    }
+
+    private StudyDiary studyDiary(User writer) {
+        StudyDiary studyDiary = mock(StudyDiary.class);
+        when(studyDiary.getUser()).thenReturn(writer);
+        when(studyDiary.getTitle()).thenReturn("제목");
+        return studyDiary;
+    }
+
+    private StudyDiaryComment comment(User commenter) {
+        StudyDiaryComment comment = mock(StudyDiaryComment.class);
+        when(comment.getUser()).thenReturn(commenter);
+        return comment;
+    }
+
+    private UserDetails userDetails(String username) {
+        UserDetails userDetails = mock(UserDetails.class);
+        when(userDetails.getUsername()).thenReturn(username);
+        return userDetails;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLshBucketBulkRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryLshBucketRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiarySignatureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyDiarySimilarityService 테스트")
+class StudyDiarySimilarityServiceTest {
+
+    @InjectMocks
+    private StudyDiarySimilarityService studyDiarySimilarityService;
+
+    @Mock private StudyDiarySignatureRepository studyDiarySignatureRepository;
+    @Mock private StudyDiaryLshBucketRepository studyDiaryLshBucketRepository;
+    @Mock private StudyDiaryLshBucketBulkRepository studyDiaryLshBucketBulkRepository;
+    @Mock private StudyDiaryRepository studyDiaryRepository;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("시작 시 재생성 - 서명은 upsert 로 저장 (다른 서버가 먼저 저장해도 키 중복 없음)")
+    void rebuildIfEmpty_UpsertsSignatures() {
+        // given
+        StudyDiary studyDiary = mock(StudyDiary.class);
+        when(studyDiary.getId()).thenReturn(1L);
+        when(studyDiary.getTitle()).thenReturn("스프링 트랜잭션");
+        when(studyDiary.getContent()).thenReturn("전파 속성 정리");
+        when(studyDiarySignatureRepository.count()).thenReturn(0L);
+        when(studyDiaryRepository.count()).thenReturn(1L);
+        when(studyDiaryRepository.findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(studyDiary));
+        when(studyDiaryRepository.findByIsCreatedTrueAndIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        studyDiarySimilarityService.rebuildIfEmpty();
+
+        // then
+        verify(studyDiarySignatureRepository).upsert(eq(1L), any(byte[].class));
+        verify(studyDiarySignatureRepository, never()).save(any());
+        verify(studyDiaryLshBucketBulkRepository).saveAll(eq(1L), any(long[].class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("시작 시 재생성 - 이미 서명이 있으면 건너뜀")
+    void rebuildIfEmpty_AlreadyIndexed() {
+        // given
+        when(studyDiarySignatureRepository.count()).thenReturn(5L);
+
+        // when
+        studyDiarySimilarityService.rebuildIfEmpty();
+
+        // then
+        verify(studyDiarySignatureRepository, never()).deleteAllInBatch();
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("시작 시 재생성 - 실패해도 서버 시작을 막지 않음")
+    void rebuildIfEmpty_FailureDoesNotPropagate() {
+        // given
+        when(studyDiarySignatureRepository.count()).thenReturn(0L);
+        when(studyDiaryRepository.count()).thenReturn(1L);
+        doThrow(new DuplicateKeyException("duplicate")).when(studyDiaryLshBucketRepository).deleteAllInBatch();
+
+        // when & then
+        assertDoesNotThrow(() -> studyDiarySimilarityService.rebuildIfEmpty());
+        verify(transactionManager).rollback(any());
+    }
+}
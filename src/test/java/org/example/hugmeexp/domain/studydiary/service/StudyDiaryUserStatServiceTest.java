@@ -0,0 +1,233 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import org.example.hugmeexp.domain.studydiary.dto.response.StudyDiaryWeekStatusResponse;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiary;
+import org.example.hugmeexp.domain.studydiary.entity.StudyDiaryUserStat;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryRepository;
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryUserStatRepository;
+import org.example.hugmeexp.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryUserStatService 테스트")
+class StudyDiaryUserStatServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @InjectMocks
+    private StudyDiaryUserStatService studyDiaryUserStatService;
+
+    @Mock
+    private StudyDiaryUserStatRepository studyDiaryUserStatRepository;
+
+    @Mock
+    private StudyDiaryRepository studyDiaryRepository;
+
+    private LocalDate today;
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        today = LocalDate.now();
+        weekStart = today.with(DayOfWeek.MONDAY);
+    }
+
+    @Test
+    @DisplayName("작성 - 지난 주 통계는 요일 / 오늘 작성 수를 초기화하고 반영")
+    void recordCreated_RollsOverWeek() {
+        // given
+        StudyDiaryUserStat stat = StudyDiaryUserStat.builder()
+                .userId(USER_ID)
+                .totalDiaryCount(5)
+                .totalLikeCount(10)
+                .weekStart(weekStart.minusWeeks(1))
+                .weekBitmap(0b1111111)
+                .todayDate(today.minusDays(7))
+                .todayDiaryCount(3)
+                .build();
+        StudyDiary studyDiary = createStudyDiary(10L, true, today.atTime(9, 0), 0);
+
+        when(studyDiaryUserStatRepository.existsById(USER_ID)).thenReturn(true);
+        when(studyDiaryUserStatRepository.findForUpdate(USER_ID)).thenReturn(Optional.of(stat));
+
+        // when
+        studyDiaryUserStatService.recordCreated(studyDiary);
+
+        // then
+        assertEquals(6, stat.getTotalDiaryCount());
+        assertEquals(1, stat.getTodayDiaryCount(today));
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            assertEquals(dayOfWeek == today.getDayOfWeek(), stat.isWritten(dayOfWeek, weekStart));
+        }
+        verify(studyDiaryUserStatRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("작성 - 통계가 없으면 DB 집계로 생성하고 추가 반영하지 않음")
+    void recordCreated_InsertsWhenAbsent() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, true, today.atTime(9, 0), 0);
+
+        when(studyDiaryUserStatRepository.existsById(USER_ID)).thenReturn(false);
+        when(studyDiaryRepository.sumStatsByUserId(USER_ID)).thenReturn(Collections.singletonList(new Object[]{3L, 7L}));
+        when(studyDiaryRepository.findCreatedAtsByUserIdBetween(eq(USER_ID), any(), any(), any()))
+                .thenReturn(List.of(today.atTime(9, 0)));
+        when(studyDiaryUserStatRepository.insertIfAbsent(any())).thenReturn(1);
+
+        // when
+        studyDiaryUserStatService.recordCreated(studyDiary);
+
+        // then
+        ArgumentCaptor<StudyDiaryUserStat> captor = ArgumentCaptor.forClass(StudyDiaryUserStat.class);
+        verify(studyDiaryUserStatRepository).insertIfAbsent(captor.capture());
+        assertEquals(3, captor.getValue().getTotalDiaryCount());
+        assertEquals(7, captor.getValue().getTotalLikeCount());
+        assertTrue(captor.getValue().isWritten(today.getDayOfWeek(), weekStart));
+        verify(studyDiaryUserStatRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("작성 - 동시에 다른 요청이 통계를 먼저 생성했으면 생성된 행에 반영")
+    void recordCreated_AppliesToConcurrentlyInsertedRow() {
+        // given
+        StudyDiaryUserStat stat = StudyDiaryUserStat.builder()
+                .userId(USER_ID)
+                .totalDiaryCount(2)
+                .weekStart(weekStart)
+                .todayDate(today)
+                .build();
+        StudyDiary studyDiary = createStudyDiary(10L, true, today.atTime(9, 0), 0);
+
+        when(studyDiaryUserStatRepository.existsById(USER_ID)).thenReturn(false);
+        when(studyDiaryRepository.sumStatsByUserId(USER_ID)).thenReturn(Collections.singletonList(new Object[]{2L, 0L}));
+        when(studyDiaryUserStatRepository.insertIfAbsent(any())).thenReturn(0);
+        when(studyDiaryUserStatRepository.findForUpdate(USER_ID)).thenReturn(Optional.of(stat));
+
+        // when
+        studyDiaryUserStatService.recordCreated(studyDiary);
+
+        // then
+        assertEquals(3, stat.getTotalDiaryCount());
+        assertEquals(1, stat.getTodayDiaryCount(today));
+    }
+
+    @Test
+    @DisplayName("삭제 - 작성 수 / 좋아요 수를 빼고 이번 주 요일을 다시 계산")
+    void recordDeleted_Success() {
+        // given
+        StudyDiaryUserStat stat = StudyDiaryUserStat.builder()
+                .userId(USER_ID)
+                .totalDiaryCount(4)
+                .totalLikeCount(10)
+                .build();
+        stat.resetWeek(List.of(today.atTime(9, 0)), weekStart, today);
+        StudyDiary studyDiary = createStudyDiary(10L, true, today.atTime(9, 0), 3);
+
+        when(studyDiaryUserStatRepository.existsById(USER_ID)).thenReturn(true);
+        when(studyDiaryUserStatRepository.findForUpdate(USER_ID)).thenReturn(Optional.of(stat));
+        when(studyDiaryRepository.findCreatedAtsByUserIdBetween(eq(USER_ID), any(), any(), eq(10L))).thenReturn(List.of());
+
+        // when
+        studyDiaryUserStatService.recordDeleted(studyDiary);
+
+        // then
+        assertEquals(3, stat.getTotalDiaryCount());
+        assertEquals(7, stat.getTotalLikeCount());
+        assertFalse(stat.isWritten(today.getDayOfWeek(), weekStart));
+        assertEquals(0, stat.getTodayDiaryCount(today));
+    }
+
+    @Test
+    @DisplayName("삭제 - 통계가 없으면 잠금 조회하지 않음")
+    void recordDeleted_NoStat() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, true, today.atTime(9, 0), 3);
+        when(studyDiaryUserStatRepository.existsById(USER_ID)).thenReturn(false);
+
+        // when
+        studyDiaryUserStatService.recordDeleted(studyDiary);
+
+        // then
+        verify(studyDiaryUserStatRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("삭제 - 임시저장은 통계에 반영하지 않음")
+    void recordDeleted_Draft() {
+        // given
+        StudyDiary studyDiary = createStudyDiary(10L, false, today.atTime(9, 0), 0);
+
+        // when
+        studyDiaryUserStatService.recordDeleted(studyDiary);
+
+        // then
+        verifyNoInteractions(studyDiaryUserStatRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 - 발행된 배움일기만 받은 좋아요 수 증감")
+    void addLikes_Success() {
+        // given
+        StudyDiary published = createStudyDiary(10L, true, today.atTime(9, 0), 0);
+        StudyDiary draft = createStudyDiary(11L, false, today.atTime(9, 0), 0);
+
+        // when
+        studyDiaryUserStatService.addLikes(published, 1);
+        studyDiaryUserStatService.addLikes(published, -1);
+        studyDiaryUserStatService.addLikes(draft, 1);
+
+        // then
+        verify(studyDiaryUserStatRepository).addTotalLikeCount(USER_ID, 1);
+        verify(studyDiaryUserStatRepository).addTotalLikeCount(USER_ID, -1);
+        verifyNoMoreInteractions(studyDiaryUserStatRepository);
+    }
+
+    @Test
+    @DisplayName("주간 활동 상황 - 통계가 없으면 저장하지 않고 DB 집계로 응답")
+    void getWeekStatus_WithoutStat() {
+        // given
+        when(studyDiaryUserStatRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(studyDiaryRepository.sumStatsByUserId(USER_ID)).thenReturn(Collections.singletonList(new Object[]{1L, 4L}));
+        when(studyDiaryRepository.findCreatedAtsByUserIdBetween(eq(USER_ID), any(), any(), any()))
+                .thenReturn(List.of(today.atTime(9, 0)));
+
+        // when
+        StudyDiaryWeekStatusResponse response = studyDiaryUserStatService.getWeekStatus(USER_ID);
+
+        // then
+        assertEquals(4, response.getTotalLike());
+        assertEquals(1, response.getTodayStudyDiaryNum());
+        verify(studyDiaryUserStatRepository, never()).save(any());
+        verify(studyDiaryUserStatRepository, never()).insertIfAbsent(any());
+    }
+
+    private StudyDiary createStudyDiary(Long id, boolean created, LocalDateTime createdAt, int likeCount) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(USER_ID);
+
+        StudyDiary studyDiary = mock(StudyDiary.class);
+        when(studyDiary.getId()).thenReturn(id);
+        when(studyDiary.getUser()).thenReturn(user);
+        when(studyDiary.isCreated()).thenReturn(created);
+        when(studyDiary.getCreatedAt()).thenReturn(createdAt);
+        when(studyDiary.getLikeCount()).thenReturn(likeCount);
+        return studyDiary;
+    }
+}
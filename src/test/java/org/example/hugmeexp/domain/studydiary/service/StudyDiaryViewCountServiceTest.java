@@ -0,0 +1,130 @@
+package org.example.hugmeexp.domain.studydiary.service;
+
+import org.example.hugmeexp.domain.studydiary.repository.StudyDiaryViewCountBulkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyDiaryViewCountService 테스트")
+class StudyDiaryViewCountServiceTest {
+
+    @InjectMocks
+    private StudyDiaryViewCountService studyDiaryViewCountService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    @Mock
+    private StudyDiaryViewCountBulkRepository studyDiaryViewCountBulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(hyperLogLogOperations.size(anyString())).thenReturn(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("반영 - 조회수와 순 방문자 수를 일괄 반영하고 반영한 항목은 제거")
+    void flush_RemovesFlushedEntries() {
+        // given
+        studyDiaryViewCountService.recordView(1L, "a");
+        studyDiaryViewCountService.recordView(1L, "b");
+        studyDiaryViewCountService.recordView(2L, null);
+
+        // when
+        int flushed = studyDiaryViewCountService.flush();
+
+        // then
+        assertEquals(2, flushed);
+        verify(studyDiaryViewCountBulkRepository).addViewCounts(argThat(viewCounts ->
+                viewCounts.size() == 2
+                        && viewCounts.get(1L)[0] == 2 && viewCounts.get(1L)[1] == 3
+                        && viewCounts.get(2L)[0] == 1));
+        assertEquals(0, studyDiaryViewCountService.getPendingViews(1L));
+
+        // 남은 항목이 없으므로 다음 반영은 DB 쓰기 없음
+        assertEquals(0, studyDiaryViewCountService.flush());
+        verify(studyDiaryViewCountBulkRepository, times(1)).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영 - 반영 중에 들어온 조회는 누락되지 않고 다음 반영에 포함")
+    void flush_KeepsViewsRecordedDuringFlush() {
+        // given
+        studyDiaryViewCountService.recordView(1L, null);
+        studyDiaryViewCountService.recordView(1L, null);
+        doAnswer(invocation -> {
+            // DB 반영 중에 조회 2건 추가
+            studyDiaryViewCountService.recordView(1L, null);
+            studyDiaryViewCountService.recordView(1L, null);
+            return null;
+        }).doNothing().when(studyDiaryViewCountBulkRepository).addViewCounts(anyMap());
+
+        // when
+        studyDiaryViewCountService.flush();
+
+        // then
+        assertEquals(2, studyDiaryViewCountService.getPendingViews(1L));
+
+        // when - 다음 반영
+        studyDiaryViewCountService.flush();
+
+        // then
+        verify(studyDiaryViewCountBulkRepository, times(2)).addViewCounts(argThat(viewCounts -> viewCounts.get(1L)[0] == 2));
+        assertEquals(0, studyDiaryViewCountService.getPendingViews(1L));
+    }
+
+    @Test
+    @DisplayName("반영 - DB 반영이 실패하면 조회수를 그대로 남김")
+    void flush_KeepsViewsOnFailure() {
+        // given
+        studyDiaryViewCountService.recordView(1L, null);
+        doThrow(new IllegalStateException("db down")).when(studyDiaryViewCountBulkRepository).addViewCounts(anyMap());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> studyDiaryViewCountService.flush());
+        assertEquals(1, studyDiaryViewCountService.getPendingViews(1L));
+    }
+
+    @Test
+    @DisplayName("삭제 - 트랜잭션 안에서는 커밋 후에 조회수 / 순 방문자 정리")
+    void evict_AppliedAfterCommit() {
+        // given
+        studyDiaryViewCountService.recordView(1L, null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        studyDiaryViewCountService.evict(1L);
+
+        // then
+        assertEquals(1, studyDiaryViewCountService.getPendingViews(1L));
+        verify(redisTemplate, never()).delete(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(0, studyDiaryViewCountService.getPendingViews(1L));
+        verify(redisTemplate).delete("study_diary:viewers:1");
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompressedStringConverter 테스트")
+class CompressedStringConverterTest {
+
+    private final CompressedStringConverter converter = new CompressedStringConverter();
+
+    @Test
+    @DisplayName("압축 후 복원하면 원래 문자열 (한글, 이모지, 빈 문자열 포함)")
+    void roundTrip() {
+        for (String text : new String[]{"", "a", "# 오늘의 배움 😀\n\n**굵게** `code`", "반복 ".repeat(10_000)}) {
+            assertEquals(text, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(text)));
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 본문도 복원")
+    void roundTrip_LargerThanBuffer() {
+        // given - 압축이 잘 되지 않는 본문
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append((char) ('가' + random.nextInt(2_000)));
+        }
+        String text = sb.toString();
+
+        // when
+        byte[] compressed = CompressedStringConverter.compress(text);
+
+        // then
+        assertEquals(text, CompressedStringConverter.decompress(compressed));
+    }
+
+    @Test
+    @DisplayName("반복이 많은 본문은 원래보다 작게 저장")
+    void compress_ShrinksRepetitiveText() {
+        String text = "<p>배움일기 본문</p>\n".repeat(1_000);
+
+        assertTrue(CompressedStringConverter.compress(text).length < text.getBytes(StandardCharsets.UTF_8).length / 3);
+    }
+
+    @Test
+    @DisplayName("null 은 그대로 null")
+    void nullValue() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("잘린 압축 데이터는 예외")
+    void decompress_Truncated() {
+        // given
+        byte[] compressed = CompressedStringConverter.compress("잘린 본문 ".repeat(1_000));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> CompressedStringConverter.decompress(truncated));
+    }
+
+    @Test
+    @DisplayName("압축 형식이 아닌 데이터는 예외")
+    void decompress_Invalid() {
+        // given
+        byte[] plain = "압축되지 않은 본문".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> CompressedStringConverter.decompress(plain));
+    }
+}
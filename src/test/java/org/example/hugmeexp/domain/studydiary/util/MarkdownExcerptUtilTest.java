@@ -0,0 +1,67 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MarkdownExcerptUtil 테스트")
+class MarkdownExcerptUtilTest {
+
+    @Test
+    @DisplayName("빈 본문은 빈 문자열")
+    void excerpt_Blank() {
+        assertEquals("", MarkdownExcerptUtil.excerpt(null));
+        assertEquals("", MarkdownExcerptUtil.excerpt(" \n\t"));
+    }
+
+    @Test
+    @DisplayName("제목 / 목록 / 인용 / 강조 기호 제거, 공백은 하나로")
+    void excerpt_StripsMarkdown() {
+        // when
+        String excerpt = MarkdownExcerptUtil.excerpt("# 제목\n\n- **굵게**\n> _인용_\n1. `코드`  끝");
+
+        // then
+        assertEquals("제목 굵게 인용 코드 끝", excerpt);
+    }
+
+    @Test
+    @DisplayName("링크 / 이미지는 텍스트만, 코드 블록 / HTML 태그는 제거")
+    void excerpt_LinksImagesCodeBlocks() {
+        // when
+        String excerpt = MarkdownExcerptUtil.excerpt("[문서](http://a.com) ![그림](/i.png)\n```java\nint a;\n```\n<b>태그</b>");
+
+        // then
+        assertEquals("문서 그림 태그", excerpt);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 코드 블록은 끝까지 제거")
+    void excerpt_UnclosedCodeBlock() {
+        assertEquals("본문", MarkdownExcerptUtil.excerpt("본문\n```\nint a;"));
+    }
+
+    @Test
+    @DisplayName("최대 길이로 자름")
+    void excerpt_TruncatesToMaxLength() {
+        // when
+        String excerpt = MarkdownExcerptUtil.excerpt("가".repeat(MarkdownExcerptUtil.MAX_LENGTH + 50));
+
+        // then
+        assertEquals("가".repeat(MarkdownExcerptUtil.MAX_LENGTH), excerpt);
+    }
+
+    @Test
+    @DisplayName("자르는 위치가 서로게이트 쌍 중간이면 이모지 앞에서 자름")
+    void excerpt_DoesNotSplitSurrogatePair() {
+        // given
+        String markdown = "a".repeat(MarkdownExcerptUtil.MAX_LENGTH - 1) + "😀" + "b".repeat(10);
+
+        // when
+        String excerpt = MarkdownExcerptUtil.excerpt(markdown);
+
+        // then
+        assertEquals("a".repeat(MarkdownExcerptUtil.MAX_LENGTH - 1), excerpt);
+        assertFalse(Character.isHighSurrogate(excerpt.charAt(excerpt.length() - 1)));
+    }
+}
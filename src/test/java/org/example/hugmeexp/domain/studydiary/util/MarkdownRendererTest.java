@@ -0,0 +1,128 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MarkdownRenderer 테스트")
+class MarkdownRendererTest {
+
+    @Test
+    @DisplayName("빈 본문은 빈 문자열")
+    void render_Blank() {
+        assertEquals("", MarkdownRenderer.render(null));
+        assertEquals("", MarkdownRenderer.render("  \n "));
+    }
+
+    @Test
+    @DisplayName("HTML 태그 / 속성 문자는 이스케이프")
+    void render_EscapesHtml() {
+        // when
+        String html = MarkdownRenderer.render("<script>alert('x')</script> & \"q\"");
+
+        // then
+        assertEquals("<p>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;q&quot;</p>\n", html);
+    }
+
+    @Test
+    @DisplayName("링크 텍스트 / 이미지 alt 도 이스케이프")
+    void render_EscapesLinkTextAndAlt() {
+        // when
+        String html = MarkdownRenderer.render("[<b>x</b>](/a) ![\"><img>](/i.png)");
+
+        // then
+        assertEquals("<p><a href=\"/a\">&lt;b&gt;x&lt;/b&gt;</a> <img src=\"/i.png\" alt=\"&quot;&gt;&lt;img&gt;\" /></p>\n", html);
+    }
+
+    @Test
+    @DisplayName("javascript: / data: 주소는 # 으로 대체")
+    void render_NeutralisesUnsafeUrls() {
+        assertEquals("<p><a href=\"#\">x</a></p>\n", MarkdownRenderer.render("[x](javascript:alert(1))"));
+        assertEquals("<p><a href=\"#\">x</a></p>\n", MarkdownRenderer.render("[x]( JaVaScRiPt:alert(1) )"));
+        assertEquals("<p><img src=\"#\" alt=\"i\" /></p>\n", MarkdownRenderer.render("![i](data:text/html;base64,PHNjcmlwdD4=)"));
+    }
+
+    @Test
+    @DisplayName("http / 상대 주소는 그대로, 주소 안의 따옴표는 이스케이프")
+    void render_KeepsSafeUrls() {
+        assertEquals("<p><a href=\"https://example.com/a?b=1&amp;c=2\">x</a></p>\n",
+                MarkdownRenderer.render("[x](https://example.com/a?b=1&c=2)"));
+        assertEquals("<p><a href=\"/study-diary/1&quot;onclick=&quot;x\">x</a></p>\n",
+                MarkdownRenderer.render("[x](/study-diary/1\"onclick=\"x)"));
+    }
+
+    @Test
+    @DisplayName("주소 안의 괄호 쌍은 주소에 포함")
+    void render_LinkWithParentheses() {
+        assertEquals("<p><a href=\"http://x.com/a_(b)\">a</a></p>\n", MarkdownRenderer.render("[a](http://x.com/a_(b))"));
+        assertEquals("<p><a href=\"http://x.com/a\">a</a> (b)</p>\n", MarkdownRenderer.render("[a](http://x.com/a) (b)"));
+    }
+
+    @Test
+    @DisplayName("제목 1~6 단계, 닫는 # 제거")
+    void render_Headings() {
+        // when
+        String html = MarkdownRenderer.render("# 제목 #\n### 소제목\n###### 여섯\n####### 일곱");
+
+        // then
+        assertEquals("<h1>제목</h1>\n<h3>소제목</h3>\n<h6>여섯</h6>\n<p>####### 일곱</p>\n", html);
+    }
+
+    @Test
+    @DisplayName("순서 없는 / 있는 목록")
+    void render_Lists() {
+        // when
+        String html = MarkdownRenderer.render("- a\n* **b**\n\n1. c\n2) d");
+
+        // then
+        assertEquals("<ul>\n<li>a</li>\n<li><strong>b</strong></li>\n</ul>\n<ol>\n<li>c</li>\n<li>d</li>\n</ol>\n", html);
+    }
+
+    @Test
+    @DisplayName("코드 블록 - 안쪽은 마크다운 변환 없이 이스케이프")
+    void render_FencedCode() {
+        // when
+        String html = MarkdownRenderer.render("```java\nif (a < b) { **x** }\n```\n본문");
+
+        // then
+        assertEquals("<pre><code class=\"language-java\">if (a &lt; b) { **x** }\n</code></pre>\n<p>본문</p>\n", html);
+    }
+
+    @Test
+    @DisplayName("닫는 펜스가 없으면 끝까지 코드 블록")
+    void render_UnclosedFence() {
+        assertEquals("<pre><code>a\n&lt;b&gt;\n</code></pre>\n", MarkdownRenderer.render("~~~\na\n<b>"));
+    }
+
+    @Test
+    @DisplayName("인라인 코드 / 취소선 / 인용")
+    void render_InlineCodeStrikeQuote() {
+        assertEquals("<p><code>&lt;a&gt;</code> <del>x</del></p>\n", MarkdownRenderer.render("`<a>` ~~x~~"));
+        assertEquals("<blockquote>\n<p>인용</p>\n</blockquote>\n", MarkdownRenderer.render("> 인용"));
+    }
+
+    @Test
+    @DisplayName("굵게 / 기울임 중첩")
+    void render_Emphasis() {
+        assertEquals("<p><em><strong>both</strong></em></p>\n", MarkdownRenderer.render("***both***"));
+        assertEquals("<p><strong>bold <em>it</em></strong></p>\n", MarkdownRenderer.render("**bold *it***"));
+        assertEquals("<p><em>a <strong>b</strong> c</em></p>\n", MarkdownRenderer.render("*a **b** c*"));
+        assertEquals("<p><em><strong>a</strong> b</em></p>\n", MarkdownRenderer.render("***a** b*"));
+        assertEquals("<p><strong><em>a</em> b</strong></p>\n", MarkdownRenderer.render("***a* b**"));
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 강조 기호 / 단어 중간 '_' 는 그대로")
+    void render_UnmatchedEmphasis() {
+        assertEquals("<p>***x</p>\n", MarkdownRenderer.render("***x"));
+        assertEquals("<p>snake_case_name</p>\n", MarkdownRenderer.render("snake_case_name"));
+    }
+
+    @Test
+    @DisplayName("같은 본문은 같은 해시")
+    void contentHash_SameContent() {
+        assertEquals(MarkdownRenderer.contentHash("a"), MarkdownRenderer.contentHash("a"));
+        assertNotEquals(MarkdownRenderer.contentHash("a"), MarkdownRenderer.contentHash("b"));
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.hugmeexp.domain.studydiary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StudyDiaryTokenizer 테스트")
+class StudyDiaryTokenizerTest {
+
+    @Test
+    @DisplayName("빈 문자열은 term 없음")
+    void tokenize_Blank() {
+        assertTrue(StudyDiaryTokenizer.tokenize(null).isEmpty());
+        assertTrue(StudyDiaryTokenizer.tokenize("  \n ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("한글은 음절 2-gram, 한 글자는 1-gram")
+    void tokenize_Hangul() {
+        assertEquals(List.of("스프", "프링"), StudyDiaryTokenizer.tokenize("스프링"));
+        assertEquals(List.of("봄"), StudyDiaryTokenizer.tokenize("봄"));
+    }
+
+    @Test
+    @DisplayName("영문/숫자는 소문자 단어, 한 글자 단어는 제외")
+    void tokenize_Words() {
+        assertEquals(List.of("spring", "boot", "35"), StudyDiaryTokenizer.tokenize("Spring a BOOT 35"));
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 각각 분리, 마크다운 기호는 구분자")
+    void tokenize_MixedAndSymbols() {
+        assertEquals(List.of("jpa", "에서"), StudyDiaryTokenizer.tokenize("JPA에서"));
+        assertEquals(List.of("java", "코드", "드블", "블록"), StudyDiaryTokenizer.tokenize("# `java` **코드블록**"));
+    }
+
+    @Test
+    @DisplayName("조합형(NFD) 한글도 완성형과 같은 term")
+    void tokenize_NormalizesHangul() {
+        String decomposed = java.text.Normalizer.normalize("자바", java.text.Normalizer.Form.NFD);
+
+        assertEquals(List.of("자바"), StudyDiaryTokenizer.tokenize(decomposed));
+    }
+
+    @Test
+    @DisplayName("긴 단어는 컬럼 길이에 맞춰 자름")
+    void tokenize_TruncatesLongWord() {
+        String longWord = "a".repeat(40);
+
+        assertEquals(List.of("a".repeat(StudyDiaryTokenizer.MAX_TERM_LENGTH)), StudyDiaryTokenizer.tokenize(longWord));
+    }
+
+    @Test
+    @DisplayName("출현 횟수 집계")
+    void termFrequencies() {
+        Map<String, Integer> frequencies = StudyDiaryTokenizer.termFrequencies("spring 스프링 Spring");
+
+        assertEquals(Map.of("spring", 2, "스프", 1, "프링", 1), frequencies);
+    }
+
+    @Test
+    @DisplayName("검색어 term 은 중복 제거, 입력 순서 유지")
+    void queryTerms() {
+        Set<String> terms = StudyDiaryTokenizer.queryTerms("jpa 스프링 JPA");
+
+        assertEquals(List.of("jpa", "스프", "프링"), List.copyOf(terms));
+    }
+
+    @Test
+    @DisplayName("스니펫 - 검색어 강조, 마크다운 기호 제거")
+    void snippet_Highlights() {
+        String snippet = StudyDiaryTokenizer.snippet("## 오늘은 **Spring** 공부", "spring");
+
+        assertEquals("오늘은 <em>Spring</em> 공부", snippet);
+    }
+
+    @Test
+    @DisplayName("스니펫 - 본문은 HTML 이스케이프")
+    void snippet_EscapesHtml() {
+        String snippet = StudyDiaryTokenizer.snippet("<b onclick=\"x\"> & 자바", "자바");
+
+        assertEquals("&lt;b onclick=&quot;x&quot; &amp; <em>자바</em>", snippet);
+    }
+
+    @Test
+    @DisplayName("스니펫 - 검색어가 뒤쪽에 있으면 앞뒤를 잘라서 ... 표시")
+    void snippet_CutsAroundMatch() {
+        String content = "가".repeat(100) + " 검색어 " + "나".repeat(200);
+
+        String snippet = StudyDiaryTokenizer.snippet(content, "검색어");
+
+        assertTrue(snippet.startsWith("..."));
+        assertTrue(snippet.endsWith("..."));
+        assertTrue(snippet.contains("<em>검색어</em>"));
+    }
+
+    @Test
+    @DisplayName("스니펫 - 검색어가 없으면 앞부분")
+    void snippet_NoMatch() {
+        assertEquals("본문", StudyDiaryTokenizer.snippet("본문", "없음"));
+        assertEquals("", StudyDiaryTokenizer.snippet(null, "없음"));
+    }
+}
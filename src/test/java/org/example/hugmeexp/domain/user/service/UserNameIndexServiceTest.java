@@ -0,0 +1,85 @@
+package org.example.hugmeexp.domain.user.service;
+
+import org.example.hugmeexp.domain.user.entity.User;
+import org.example.hugmeexp.domain.user.entity.UserNameGram;
+import org.example.hugmeexp.domain.user.repository.UserNameGramBulkRepository;
+import org.example.hugmeexp.domain.user.repository.UserNameGramRepository;
+import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.util.NameNGramUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserNameIndexService 테스트")
+class UserNameIndexServiceTest {
+
+    @InjectMocks
+    private UserNameIndexService userNameIndexService;
+
+    @Mock
+    private UserNameGramRepository userNameGramRepository;
+
+    @Mock
+    private UserNameGramBulkRepository userNameGramBulkRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("전체 색인 재생성 - 모든 유저의 gram 을 한 번의 배치로 저장")
+    void rebuildAll_SavesOnce() {
+        // given
+        User first = createUser(1L, "user1", "김철수");
+        User second = createUser(2L, "user2", "이영희");
+        when(userRepository.findAll()).thenReturn(List.of(first, second));
+
+        // when
+        int rebuilt = userNameIndexService.rebuildAll();
+
+        // then
+        assertEquals(2, rebuilt);
+        verify(userNameGramRepository).deleteAllInBatch();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserNameGram>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userNameGramBulkRepository, times(1)).saveAll(captor.capture());
+        int expected = NameNGramUtil.indexGrams("김철수").size() + NameNGramUtil.indexGrams("이영희").size();
+        assertEquals(expected, captor.getValue().size());
+        assertTrue(captor.getValue().stream().anyMatch(gram -> gram.getUserId().equals(2L)));
+        verify(userNameGramRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("유저 색인 - 기존 gram 을 지우고 배치로 저장")
+    void indexUser() {
+        // given
+        User user = createUser(1L, "user1", "김철수");
+
+        // when
+        userNameIndexService.indexUser(user);
+
+        // then
+        verify(userNameGramRepository).deleteByUserId(1L);
+        verify(userNameGramBulkRepository).saveAll(argThat(grams ->
+                grams.size() == NameNGramUtil.indexGrams("김철수").size()
+                        && grams.stream().allMatch(gram -> gram.getUserId().equals(1L))));
+    }
+
+    private User createUser(Long id, String username, String name) {
+        User user = User.createUser(username, "password", name, "010-0000-000" + id);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.hugmeexp.domain.user.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NameNGramUtil Test")
+class NameNGramUtilTest {
+
+    @Test
+    @DisplayName("색인 gram 은 음절 1-gram, 2-gram 이다")
+    void indexGramsContainsSyllableGrams() {
+        Set<String> grams = NameNGramUtil.indexGrams("김철수");
+
+        assertEquals(Set.of("김", "철", "수", "김철", "철수"), grams);
+    }
+
+    @Test
+    @DisplayName("검색 gram 은 1글자면 1-gram, 2글자 이상이면 2-gram 이다")
+    void queryGramsUsesUnigramOrBigrams() {
+        assertEquals(Set.of("철"), NameNGramUtil.queryGrams("철"));
+        assertEquals(Set.of("김철", "철수"), NameNGramUtil.queryGrams("김 철수"));
+        assertTrue(NameNGramUtil.queryGrams("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("자모가 분리된 입력과 영문 대소문자를 정규화한다")
+    void normalizeComposesJamoAndLowercases() {
+        // '김' 을 자모 분리(NFD) 형태로 입력
+        String decomposed = "\u1100\u1175\u11B7";
+
+        assertEquals("김", NameNGramUtil.normalize(decomposed));
+        assertEquals("tomkim", NameNGramUtil.normalize("Tom Kim"));
+    }
+
+    @Test
+    @DisplayName("후보 이름이 검색어를 실제로 포함하는지 확인한다")
+    void matchesChecksContainment() {
+        assertTrue(NameNGramUtil.matches("김철수", "철수"));
+        assertFalse(NameNGramUtil.matches("철수김철", "김철수"));
+    }
+}
@@ -4,6 +4,7 @@ import org.example.hugmeexp.domain.user.entity.User;
 import org.example.hugmeexp.domain.user.exception.PhoneNumberDuplicatedException;
 import org.example.hugmeexp.domain.user.exception.UsernameDuplicatedException;
 import org.example.hugmeexp.domain.user.repository.UserRepository;
+import org.example.hugmeexp.domain.user.service.UserNameIndexService;
 import org.example.hugmeexp.global.infra.auth.dto.request.RegisterRequest;
 import org.example.hugmeexp.global.infra.auth.service.CredentialService;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +29,9 @@ class CredentialServiceRegisterTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserNameIndexService userNameIndexService;
+
     @InjectMocks
     private CredentialService credentialService;
 
@@ -54,6 +58,7 @@ class CredentialServiceRegisterTest {
         assertThat(savedUser.getPassword()).isEqualTo("encodedPassword123!");
 
         verify(userRepository).save(any(User.class));
+        verify(userNameIndexService).indexUser(savedUser);
     }
 
     @Test